@@ -0,0 +1,138 @@
+package com.nhnacademy.workanalysis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력으로 사용할 현실적인 월간 출결 데이터와 Gemini 응답 본문을 만듭니다.
+ * <p>
+ * 같은 일수에 대해 항상 같은 데이터가 나오도록 고정 시드를 사용합니다.
+ * 8일 이상이면 모든 근태 코드(1~8)가 최소 한 번씩 포함되고, 나머지 날은 실제 분포와 비슷하게
+ * 출근이 대부분이고 지각/외근/연차 등이 섞이도록 가중치를 둡니다.
+ * </p>
+ */
+public final class AttendanceFixtures {
+
+    /**
+     * 벤치마크 대상 연월
+     */
+    public static final int YEAR = 2025;
+    public static final int MONTH = 5;
+
+    private static final long SEED = 20250501L;
+    private static final long[] WEIGHTED_CODES = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 2, 2, 4, 4, 5, 6, 7, 3};
+
+    private AttendanceFixtures() {
+    }
+
+    /**
+     * 1일부터 {@code days}일까지의 출결 요약을 만듭니다.
+     *
+     * @param days 일수 (1~31)
+     * @return 날짜순 출결 요약 목록
+     */
+    public static List<AttendanceSummaryDto> summaries(int days) {
+        Random random = new Random(SEED + days);
+        List<Long> codes = new ArrayList<>();
+        for (long code = 1; code <= 8 && codes.size() < days; code++) {
+            codes.add(code);
+        }
+        while (codes.size() < days) {
+            codes.add(WEIGHTED_CODES[random.nextInt(WEIGHTED_CODES.length)]);
+        }
+        Collections.shuffle(codes, random);
+
+        List<AttendanceSummaryDto> summaries = new ArrayList<>(days);
+        for (int day = 1; day <= days; day++) {
+            summaries.add(summary(LocalDate.of(YEAR, MONTH, day), codes.get(day - 1), random));
+        }
+        return summaries;
+    }
+
+    /**
+     * 출결 요약의 근태 코드별 일수를 PDF 생성기 입력 형태로 집계합니다.
+     *
+     * @param days 일수 (1~31)
+     * @return 근태 코드별 일수 (코드 오름차순)
+     */
+    public static Map<Long, Long> statusCounts(int days) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        summaries(days).stream()
+                .map(AttendanceSummaryDto::getCode)
+                .sorted()
+                .forEach(code -> counts.merge(code, 1L, Long::sum));
+        return counts;
+    }
+
+    /**
+     * 해당 일수의 리포트를 분석한 것과 비슷한 길이의 Gemini 응답 JSON 본문을 만듭니다.
+     * 실제 응답처럼 텍스트를 여러 파트로 나누고 토큰 사용량과 모델 버전을 포함합니다.
+     *
+     * @param days 일수 (1~31)
+     * @return UTF-8 JSON 바이트
+     */
+    public static byte[] geminiResponse(int days) {
+        List<Map<String, Object>> parts = new ArrayList<>();
+        parts.add(Map.of("text", String.format("## %d년 %d월 근태 분석 요약%n%n", YEAR, MONTH)));
+        for (AttendanceSummaryDto s : summaries(days)) {
+            parts.add(Map.of("text", String.format(
+                    "- %d일: 상태 코드 %d, 근무 %d시간. 출퇴근 패턴이 이전 주와 비교해 안정적이며 특이 사항은 없습니다.%n",
+                    s.getDayOfMonth(), s.getCode(), s.getHoursWorked())));
+        }
+        parts.add(Map.of("text", "\n### 종합 의견\n지각과 결근 빈도를 고려할 때 전반적인 근태는 양호합니다.\n"));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", parts),
+                "finishReason", "STOP",
+                "index", 0)));
+        body.put("usageMetadata", Map.of(
+                "promptTokenCount", 40 + days * 25,
+                "candidatesTokenCount", 60 + days * 40,
+                "totalTokenCount", 100 + days * 65));
+        body.put("modelVersion", "gemini-2.0-flash");
+        try {
+            return new ObjectMapper().writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IllegalStateException("Gemini 응답 픽스처 생성 실패", e);
+        }
+    }
+
+    private static AttendanceSummaryDto summary(LocalDate date, long code, Random random) {
+        LocalDateTime in = null;
+        LocalDateTime out = null;
+        int hours = 0;
+        switch ((int) code) {
+            case 1, 4 -> {
+                in = date.atTime(LocalTime.of(8, 30 + random.nextInt(25)));
+                out = date.atTime(LocalTime.of(18, random.nextInt(60)));
+            }
+            case 2 -> {
+                in = date.atTime(LocalTime.of(9, 5 + random.nextInt(50)));
+                out = date.atTime(LocalTime.of(18, 30 + random.nextInt(30)));
+            }
+            case 7 -> {
+                in = date.atTime(LocalTime.of(13, random.nextInt(30)));
+                out = date.atTime(LocalTime.of(18, random.nextInt(30)));
+            }
+            default -> {
+                // 결근, 연차, 질병, 상(喪)은 출퇴근 기록이 없습니다.
+            }
+        }
+        if (in != null) {
+            hours = out.getHour() - in.getHour();
+        }
+        return new AttendanceSummaryDto(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hours, in, out, code);
+    }
+}
@@ -0,0 +1,47 @@
+package com.nhnacademy.workanalysis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * 벤치마크 실행 진입점입니다.
+ * <p>
+ * JMH 명령행 옵션을 그대로 받으며, 할당량({@code gc.alloc.rate.norm})을 함께 비교할 수 있도록
+ * {@code -prof gc}를 지정하지 않아도 GC 프로파일러를 항상 추가합니다.
+ * </p>
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar                      # 전체 실행
+ * java -jar benchmarks/target/benchmarks.jar PdfReport -p days=31 # 특정 벤치마크/입력만 실행
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        boolean gcProfiled = commandLine.getProfilers().stream()
+                .anyMatch(p -> "gc".equals(p.getKlass()) || GCProfiler.class.getName().equals(p.getKlass()));
+        if (!gcProfiled) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
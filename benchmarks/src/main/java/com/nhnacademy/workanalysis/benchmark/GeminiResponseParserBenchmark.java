@@ -0,0 +1,50 @@
+package com.nhnacademy.workanalysis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiResponseParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 응답 본문에서 분석 텍스트와 토큰 사용량을 추출하는 {@link GeminiResponseParser#parse}를 측정합니다.
+ * (기존 {@code AiChatApiClient.extractText}를 대체한 스트리밍 파서)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeminiResponseParserBenchmark {
+
+    @Param({"1", "7", "15", "31"})
+    private int days;
+
+    private GeminiResponseParser parser;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        parser = new GeminiResponseParser(new ObjectMapper());
+        body = AttendanceFixtures.geminiResponse(days);
+    }
+
+    @Benchmark
+    public GeminiCompletion parse() throws IOException {
+        return parser.parse(new ByteArrayInputStream(body));
+    }
+}
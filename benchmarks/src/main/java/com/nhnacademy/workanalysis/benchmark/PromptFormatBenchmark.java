@@ -0,0 +1,57 @@
+package com.nhnacademy.workanalysis.benchmark;
+
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월간 리포트 프롬프트 구성({@link ReportTaskAssembler#assemble})을 측정합니다.
+ * <p>
+ * 출결 요약을 근무 기록으로 변환하고 요일을 계산한 뒤 Gemini 프롬프트 문자열로 포맷하는 과정
+ * (기존 {@code AiChatServiceImpl.formatRecordsToPrompt})이 포함됩니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptFormatBenchmark {
+
+    @Param({"1", "7", "15", "31"})
+    private int days;
+
+    private ReportTaskAssembler assembler;
+
+    @Setup
+    public void setUp() {
+        List<AttendanceSummaryDto> summaries = AttendanceFixtures.summaries(days);
+        PageResponse<AttendanceSummaryDto> page = new PageResponse<>(summaries, 1, summaries.size(), summaries.size(), 0);
+        assembler = new ReportTaskAssembler(mbNo -> page, new PipelineMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public AnalysisTask assemble() {
+        return assembler.assemble(AnalysisType.MONTHLY_REPORT, 1L, "홍길동",
+                AttendanceFixtures.YEAR, AttendanceFixtures.MONTH, true);
+    }
+}
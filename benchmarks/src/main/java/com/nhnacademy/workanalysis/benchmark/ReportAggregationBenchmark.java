@@ -0,0 +1,50 @@
+package com.nhnacademy.workanalysis.benchmark;
+
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
+import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
+import com.nhnacademy.workanalysis.service.report.impl.ReportServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReportServiceImpl#generateAttendanceReport}의 연월 필터링과 근태 코드별 {@code groupingBy} 집계,
+ * 요약 텍스트 생성을 측정합니다. 출결 서비스 호출은 미리 만든 응답을 돌려주는 스텁으로 대체합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportAggregationBenchmark {
+
+    @Param({"1", "7", "15", "31"})
+    private int days;
+
+    private ReportServiceImpl reportService;
+
+    @Setup
+    public void setUp() {
+        List<AttendanceSummaryDto> summaries = AttendanceFixtures.summaries(days);
+        PageResponse<AttendanceSummaryDto> page = new PageResponse<>(summaries, 1, summaries.size(), summaries.size(), 0);
+        reportService = new ReportServiceImpl(mbNo -> page);
+    }
+
+    @Benchmark
+    public AttendanceReportDto aggregate() {
+        return reportService.generateAttendanceReport(1L, AttendanceFixtures.YEAR, AttendanceFixtures.MONTH);
+    }
+}
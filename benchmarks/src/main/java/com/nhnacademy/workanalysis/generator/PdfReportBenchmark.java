@@ -0,0 +1,76 @@
+package com.nhnacademy.workanalysis.generator;
+
+import com.lowagie.text.Image;
+import com.nhnacademy.workanalysis.benchmark.AttendanceFixtures;
+import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PdfReportGenerator}의 PDF 전체 생성과 막대/도넛 차트 렌더링을 각각 측정합니다.
+ * <p>
+ * 차트 렌더링 메서드는 패키지 범위이므로 같은 패키지에 둡니다.
+ * 한글 폰트({@code font/NotoSansKR-Regular.ttf})가 클래스패스에 있어야 하며, 없으면 설정 단계에서 실패합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PdfReportBenchmark {
+
+    @Param({"1", "7", "15", "31"})
+    private int days;
+
+    private PdfReportGenerator generator;
+    private Map<Long, Long> statusCounts;
+    private AttendanceReportDto report;
+
+    @Setup
+    public void setUp() throws Exception {
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+        if (!resourceLoader.getResource("classpath:font/NotoSansKR-Regular.ttf").exists()) {
+            throw new IllegalStateException("classpath:font/NotoSansKR-Regular.ttf 폰트가 필요합니다. "
+                    + "benchmarks/src/main/resources/font/ 에 폰트를 두고 다시 빌드하세요.");
+        }
+        generator = new PdfReportGenerator(resourceLoader, new PipelineMetrics(new SimpleMeterRegistry()));
+        // 차트 단독 측정에 필요한 AWT 폰트를 미리 등록합니다.
+        generator.loadFonts();
+        statusCounts = AttendanceFixtures.statusCounts(days);
+        report = new AttendanceReportDto(statusCounts, "", AttendanceFixtures.YEAR, AttendanceFixtures.MONTH);
+    }
+
+    @Benchmark
+    public byte[] generatePdf() {
+        return generator.generateAttendancePdf(report, "홍길동", AttendanceFixtures.YEAR, AttendanceFixtures.MONTH);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Image barChart() throws Exception {
+        return generator.createBarChartImage(statusCounts);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Image doughnutChart() throws Exception {
+        return generator.createDoughnutChartImage(statusCounts);
+    }
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# 빠른 기동 빌드: Spring AOT 처리 → jar 추출 → 학습 실행으로 AppCDS 아카이브 생성
+#
+#   scripts/fast-startup.sh            # 빌드 + 아카이브 생성
+#   SKIP_BUILD=1 scripts/fast-startup.sh  # 이미 -Pfast-startup으로 패키징된 jar로 아카이브만 다시 생성
+#
+# 학습 실행은 Config Server/Eureka 없이 내장 H2로 컨텍스트를 refresh까지만 띄운 뒤 종료하므로 오프라인에서 동작합니다.
+# AOT 처리는 Eureka 클라이언트를 포함한 채 빌드하므로(운영 실행에서 등록/조회 필요), 디스커버리는 학습 실행의 JVM 인자로만 끕니다.
+# 아카이브는 같은 JDK, 같은 jar 경로(target/fast-startup)에서만 유효합니다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR_NAME=work-analysis-0.0.1-SNAPSHOT.jar
+OUT_DIR=target/fast-startup
+ARCHIVE="$OUT_DIR/app.jsa"
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+  ./mvnw -B -Pfast-startup package -DskipTests
+fi
+
+rm -rf "$OUT_DIR"
+java -Djarmode=tools -jar "target/$JAR_NAME" extract --destination "$OUT_DIR"
+
+# AOT 빌드에서는 eureka.client.enabled가 빌드 시점에 고정되므로 등록/레지스트리 조회도 함께 끔
+OFFLINE_JVM_ARGS=(
+  -Dspring.cloud.config.enabled=false
+  -Deureka.client.enabled=false
+  -Deureka.client.register-with-eureka=false
+  -Deureka.client.fetch-registry=false
+)
+
+OFFLINE_ARGS=(
+  --spring.profiles.active=fast-startup
+  --spring.datasource.url=jdbc:h2:mem:startup
+  --spring.jpa.hibernate.ddl-auto=create-drop
+  --gemini.api.key=startup
+  --report.precompute.enabled=false
+  --server.port=0
+)
+
+echo "▶ AppCDS 학습 실행"
+java -XX:ArchiveClassesAtExit="$ARCHIVE" \
+  -Dspring.aot.enabled=true \
+  -Dspring.context.exit=onRefresh \
+  "${OFFLINE_JVM_ARGS[@]}" \
+  -jar "$OUT_DIR/$JAR_NAME" "${OFFLINE_ARGS[@]}"
+
+echo "✅ 아카이브 생성: $ARCHIVE"
+echo "실행:"
+echo "  java -XX:SharedArchiveFile=$ARCHIVE -Dspring.aot.enabled=true -jar $OUT_DIR/$JAR_NAME --spring.profiles.active=fast-startup"
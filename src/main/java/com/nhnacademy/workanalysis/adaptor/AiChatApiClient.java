@@ -1,38 +1,81 @@
 package com.nhnacademy.workanalysis.adaptor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiApiKeyPool;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCallExecutor;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiHedgeBudget;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiLatencyTracker;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiResponseParser;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiRetryPolicy;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiTimeoutContext;
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
 import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
 import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
 import com.nhnacademy.workanalysis.exception.TextNotFoundException;
+import com.nhnacademy.workanalysis.logging.MdcContext;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import com.nhnacademy.workanalysis.profiling.RequestAllocations;
+import com.nhnacademy.workanalysis.timing.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Gemini API를 호출하는 클라이언트 컴포넌트입니다.
  * 멀티턴 대화 메시지를 기반으로 AI 분석 요청을 수행합니다.
+ * <p>
+ * 읽기 타임아웃은 {@link GeminiLatencyTracker}가 관측한 지연 분포로부터 요청마다 도출되며,
+ * 멱등한 리포트 생성 호출은 p95 지연을 넘기면 헤징 요청을 한 번 더 보낼 수 있습니다.
+ * 429/5xx 응답은 {@link GeminiRetryPolicy}에 따라 재시도하며, 호출마다 {@link GeminiApiKeyPool}에서 키를 선택합니다.
+ * 응답 본문은 문자열로 읽지 않고 {@link GeminiResponseParser}가 스트림에서 바로 파싱합니다.
+ * 요청 처리 시한({@link RequestDeadline})이 있으면 타임아웃과 재시도 대기를 남은 시간 안으로 제한합니다.
+ * </p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AiChatApiClient {
 
-    @Value("${gemini.api.key}")
-    private String apiKey;
+    @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1beta}")
+    private String baseUrl;
+
+    @Value("${gemini.model:gemini-2.0-flash}")
+    private String model;
+
+    @Value("${gemini.hedge.enabled:true}")
+    private boolean hedgingEnabled;
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper=new ObjectMapper();
+    private final GeminiLatencyTracker latencyTracker;
+    private final GeminiHedgeBudget hedgeBudget;
+    private final GeminiCallExecutor callExecutor;
+    private final GeminiApiKeyPool apiKeyPool;
+    private final GeminiRetryPolicy retryPolicy;
+    private final GeminiResponseParser responseParser;
+    private final PipelineMetrics pipelineMetrics;
 
     /**
      * Gemini 2.0 Flash 모델을 이용하여 분석 요청을 수행합니다.
@@ -44,68 +87,304 @@ public class AiChatApiClient {
      * @see {기존 하드코딩 방식의 url 입력 방식에서 {@link UriComponentsBuilder}방식으로 변경 인코딩 오류 방지 및 가독성 증가}
      */
     public GeminiAnalysisResponse call(List<MessageDto> messages, Long memberNo) {
-        String url = UriComponentsBuilder
-                .fromUriString("https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent")
-                .queryParam("key", apiKey)
-                .build()
-                .toUriString();
+        return call(messages, memberNo, false);
+    }
+
+    /**
+     * Gemini 분석 요청을 수행합니다.
+     * {@code hedgeable}이 {@code true}이면 p95 지연을 넘긴 경우 헤징 예산 안에서 동일한 요청을 한 번 더 보내고
+     * 먼저 성공한 응답을 사용합니다. 재시도해도 결과가 같은 멱등 호출(리포트 생성)에만 사용해야 합니다.
+     *
+     * @param messages  이전까지의 대화 이력 + 유저의 현재 질문
+     * @param memberNo  분석 대상 사원 번호
+     * @param hedgeable 헤징 요청 허용 여부
+     * @return GeminiAnalysisResponse 분석 응답 결과 (성공 또는 실패 메시지 포함)
+     */
+    public GeminiAnalysisResponse call(List<MessageDto> messages, Long memberNo, boolean hedgeable) {
+        return call(messages, memberNo, hedgeable, completion -> { });
+    }
 
+    /**
+     * Gemini 분석 요청을 수행하고, 응답을 받으면 토큰 사용량 등이 담긴 {@link GeminiCompletion}을 리스너에 전달합니다.
+     * 호출이 실패하여 실패 메시지를 반환하는 경우에는 리스너가 호출되지 않습니다.
+     *
+     * @param messages        이전까지의 대화 이력 + 유저의 현재 질문
+     * @param memberNo        분석 대상 사원 번호
+     * @param hedgeable       헤징 요청 허용 여부
+     * @param usageListener   응답 수신 시 호출되는 리스너
+     * @return GeminiAnalysisResponse 분석 응답 결과 (성공 또는 실패 메시지 포함)
+     */
+    public GeminiAnalysisResponse call(List<MessageDto> messages, Long memberNo, boolean hedgeable,
+                                       Consumer<GeminiCompletion> usageListener) {
         List<Map<String, Object>> partsList = messages.stream()
                 .map(m -> Map.of("role", m.getRole(), "parts", List.of(Map.of("text", m.getContent()))))
                 .toList();
 
         Map<String, Object> body = Map.of("contents", partsList);
+        int promptChars = messages.stream().mapToInt(m -> m.getContent().length()).sum();
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            String json = response.getBody();
-            String text = extractText(json);
+            GeminiCompletion completion = hedgeable && hedgingEnabled
+                    ? exchangeHedged(entity, promptChars)
+                    : exchangeWithRetry(entity, promptChars);
+            if (completion == null) {
+                return new GeminiAnalysisResponse(memberNo, "⚠️ 분석 결과 파싱 실패");
+            }
 
-            log.info("✅ Gemini API 응답 수신 - 상태: {}", response.getStatusCode());
-            return new GeminiAnalysisResponse(memberNo, text);
+            if (completion.getFinishReason() != null && !"STOP".equals(completion.getFinishReason())) {
+                log.warn("⚠️ Gemini 응답이 정상 종료되지 않음 - finishReason: {}", completion.getFinishReason());
+            }
+            log.debug("📦 Gemini 토큰 사용량 - prompt: {}, candidates: {}, total: {}",
+                    completion.getPromptTokenCount(), completion.getCandidatesTokenCount(), completion.getTotalTokenCount());
+            notifyUsage(usageListener, completion.getModel() != null ? completion : completion.withModel(model));
+            return new GeminiAnalysisResponse(memberNo, completion.getText());
         } catch (HttpStatusCodeException e) {
             log.error("❌ Gemini API 호출 실패 - HTTP 오류: {}", e.getMessage(), e);
             return new GeminiAnalysisResponse(memberNo, "❌ Gemini 호출 실패 - 상태 코드: " + e.getStatusCode());
         } catch (TextNotFoundException e) {
             log.error("❌ 분석 텍스트 누락 - {}", e.getMessage());
             return new GeminiAnalysisResponse(memberNo, "❌ 분석 결과를 찾을 수 없습니다.");
+        } catch (DeadlineExceededException e) {
+            // 호출자가 이미 응답을 기다리지 않으므로 실패 메시지 대신 504로 응답합니다.
+            throw e;
         } catch (Throwable e) {
             log.error("❌ 예기치 못한 오류 발생: {}", e.getMessage(), e);
             return new GeminiAnalysisResponse(memberNo, "❌ 시스템 오류: " + e.getMessage());
         }
     }
 
+    /**
+     * 키 풀에서 키를 선택해 Gemini API를 호출하고, 429/5xx 응답은 재시도 정책에 따라 다시 시도합니다.
+     * <p>
+     * 429 응답을 받은 키는 {@code Retry-After}만큼 쿨다운되며, 다른 키가 사용 가능하면 대기 없이 그 키로 재시도합니다.
+     * 모든 키가 쿨다운 중이면 가장 먼저 풀리는 키를 기다리되, 최대 대기 시간을 넘으면 429로 실패합니다.
+     * </p>
+     *
+     * @param entity      요청 본문과 헤더
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return Gemini 응답
+     */
+    private GeminiCompletion exchangeWithRetry(HttpEntity<Map<String, Object>> entity, int promptChars) {
+        retryPolicy.onCall();
+        for (int attempt = 1; ; attempt++) {
+            try (GeminiApiKeyPool.Lease lease = apiKeyPool.acquire()) {
+                if (!lease.availableIn().isZero()) {
+                    if (!retryPolicy.canWait(lease.availableIn()) || !RequestDeadline.allows(lease.availableIn())) {
+                        throw HttpClientErrorException.create("사용 가능한 Gemini API 키가 없습니다.",
+                                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null);
+                    }
+                    sleep(lease.availableIn());
+                }
+                try {
+                    lease.markSent();
+                    GeminiCompletion completion = exchange(endpointUrl(lease.key()), entity, promptChars);
+                    apiKeyPool.onSuccess(lease);
+                    return completion;
+                } catch (HttpStatusCodeException e) {
+                    if (!retryPolicy.isRetryable(e.getStatusCode())) {
+                        throw e;
+                    }
+                    Optional<Duration> retryAfter = retryPolicy.retryAfter(e);
+                    Duration backoff = retryPolicy.backoff(attempt);
+                    Duration wait;
+                    if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        apiKeyPool.onRateLimited(lease, retryAfter.orElse(backoff));
+                        // 쿼터는 키 단위이므로 다른 키가 있으면 바로 재시도하고, 대기는 다음 키 선택 시 결정합니다.
+                        wait = apiKeyPool.size() > 1 ? Duration.ZERO : max(retryAfter.orElse(Duration.ZERO), backoff);
+                    } else {
+                        apiKeyPool.onFailure(lease);
+                        wait = max(retryAfter.orElse(Duration.ZERO), backoff);
+                    }
+                    if (!RequestDeadline.allows(wait) || !retryPolicy.canRetry(attempt, wait)) {
+                        throw e;
+                    }
+                    log.warn("🔁 Gemini 호출 재시도 - 시도={}, 상태={}, 키={}, 대기={}ms",
+                            attempt, e.getStatusCode(), lease.maskedKey(), wait.toMillis());
+                    sleep(wait);
+                } catch (ResourceAccessException e) {
+                    apiKeyPool.onFailure(lease);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용량 기록 실패가 분석 응답 반환을 막지 않도록 리스너 예외는 로그만 남깁니다.
+     */
+    private static void notifyUsage(Consumer<GeminiCompletion> usageListener, GeminiCompletion completion) {
+        try {
+            usageListener.accept(completion);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Gemini 사용량 기록 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private String endpointUrl(String apiKey) {
+        return UriComponentsBuilder
+                .fromUriString(baseUrl + "/models/" + model + ":generateContent")
+                .queryParam("key", apiKey)
+                .build()
+                .toUriString();
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static void sleep(Duration wait) {
+        if (wait.isZero() || wait.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini 재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 관측 지연 기반 읽기 타임아웃을 적용하여 Gemini API를 한 번 호출하고 지연 시간을 기록합니다.
+     * 타임아웃으로 실패한 호출은 타임아웃 값을 지연으로 기록하여 타임아웃이 과도하게 줄어들지 않도록 합니다.
+     * 요청 처리 시한({@link RequestDeadline})이 있으면 타임아웃을 남은 시간 이하로 줄이며,
+     * 줄어든 타임아웃으로 실패한 호출은 지연 표본으로 기록하지 않고 {@link DeadlineExceededException}으로 변환합니다.
+     * 지연 시간은 응답 본문 파싱이 끝난 시점까지를 기준으로 합니다.
+     *
+     * @param url         호출 URL
+     * @param entity      요청 본문과 헤더
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return 파싱된 Gemini 응답
+     */
+    private GeminiCompletion exchange(String url, HttpEntity<Map<String, Object>> entity, int promptChars) {
+        Duration observedTimeout = latencyTracker.readTimeout(model, promptChars);
+        RequestDeadline.check("Gemini 호출");
+        Duration readTimeout = max(RequestDeadline.clamp(observedTimeout), Duration.ofMillis(1));
+        boolean clamped = readTimeout.compareTo(observedTimeout) < 0;
+        long start = System.nanoTime();
+        GeminiTimeoutContext.set(readTimeout);
+        try {
+            GeminiCompletion completion = restTemplate.execute(
+                    url,
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(entity),
+                    completionExtractor()
+            );
+            latencyTracker.record(model, promptChars, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return completion;
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof SocketTimeoutException && clamped) {
+                throw new DeadlineExceededException("요청 처리 시한 안에 Gemini 응답을 받지 못했습니다.", e);
+            }
+            if (e.getCause() instanceof SocketTimeoutException) {
+                log.warn("⏱️ Gemini 응답 타임아웃 - 적용 타임아웃: {}ms", readTimeout.toMillis());
+                latencyTracker.record(model, promptChars, readTimeout.toMillis());
+            }
+            throw e;
+        } finally {
+            GeminiTimeoutContext.clear();
+        }
+    }
 
     /**
-     * Gemini 응답 JSON에서 분석 결과 텍스트를 추출합니다.
-     * 예상 경로: /candidates/0/content/parts/0/text
+     * 원 요청을 보낸 뒤 p95 지연 안에 응답이 없으면 헤징 요청을 추가로 보내고, 먼저 성공한 응답을 반환합니다.
+     * 지연 표본이 부족하거나 헤징 예산이 없으면 원 요청의 결과만 기다립니다.
      *
-     * @param json Gemini API의 원시 JSON 응답 문자열
-     * @return 분석된 텍스트 결과
+     * @param entity      요청 본문과 헤더
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return 먼저 성공한 Gemini 응답
      */
-    private String extractText(String json) {
+    private GeminiCompletion exchangeHedged(HttpEntity<Map<String, Object>> entity, int promptChars) {
+        Optional<Duration> hedgeDelay = latencyTracker.hedgeDelay(model, promptChars);
+        if (hedgeDelay.isEmpty()) {
+            return exchangeWithRetry(entity, promptChars);
+        }
+        hedgeBudget.onRequest();
+
+        CompletableFuture<GeminiCompletion> primary = callExecutor.submit(
+                MdcContext.propagate(RequestAllocations.propagate(RequestTimings.propagate(RequestDeadline.propagate(
+                        () -> exchangeWithRetry(entity, promptChars))))));
         try {
-            JsonNode root = objectMapper.readTree(json);
-            String text = root.at("/candidates/0/content/parts/0/text").asText(null);
-            if (text == null) {
-                log.error("⚠️ 분석 결과 누락 - 응답에 텍스트 필드가 존재하지 않음");
-                throw new TextNotFoundException("응답 JSON에 분석 결과 텍스트가 없습니다.");
+            return primary.get(hedgeDelay.get().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!hedgeBudget.tryAcquire()) {
+                log.debug("헤징 예산 부족 - 원 요청 결과를 기다립니다.");
+                return await(primary);
             }
-            log.debug("📦 Gemini 응답 텍스트 추출 성공");
-            return text;
-        } catch (HttpStatusCodeException | JsonProcessingException e) {
-            log.warn("⚠️ Gemini 응답 파싱 실패: {}", e.getMessage(), e);
-            return "⚠️ 분석 결과 파싱 실패";
+            log.info("⏱️ Gemini 헤징 요청 전송 - p95 지연 {}ms 초과", hedgeDelay.get().toMillis());
+            CompletableFuture<GeminiCompletion> hedge = callExecutor.submit(
+                    MdcContext.propagate(RequestAllocations.propagate(RequestTimings.propagate(RequestDeadline.propagate(
+                            () -> exchangeWithRetry(entity, promptChars))))));
+            return await(firstSuccessful(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini 호출 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 두 요청 중 먼저 성공한 결과로 완료되는 Future를 만듭니다. 둘 다 실패하면 마지막 예외로 완료됩니다.
+     */
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> candidate : List.of(first, second)) {
+            candidate.whenComplete((value, ex) -> {
+                if (ex == null) {
+                    winner.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(ex);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini 호출 대기 중 인터럽트 발생", e);
         }
     }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    /**
+     * 응답 본문 스트림을 {@link GeminiResponseParser}로 바로 파싱하는 추출기를 만듭니다.
+     * 4xx/5xx 응답은 추출기 호출 전에 {@link HttpStatusCodeException}으로 변환됩니다.
+     * 본문을 스트림에서 읽으며 파싱하므로 {@code response_parse} 단계 시간에는 본문 수신 시간이 포함됩니다.
+     *
+     * @return Gemini 응답 추출기, 응답 JSON 형식이 올바르지 않으면 {@code null}을 반환
+     */
+    private ResponseExtractor<GeminiCompletion> completionExtractor() {
+        return response -> {
+            log.debug("✅ Gemini API 응답 수신 - 상태: {}", response.getStatusCode());
+            try {
+                GeminiCompletion completion = pipelineMetrics.time("gemini", "response_parse",
+                        () -> responseParser.parse(response.getBody()));
+                log.debug("📦 Gemini 응답 텍스트 추출 성공");
+                return completion;
+            } catch (JsonProcessingException e) {
+                log.warn("⚠️ Gemini 응답 파싱 실패: {}", e.getMessage(), e);
+                return null;
+            }
+        };
+    }
 }
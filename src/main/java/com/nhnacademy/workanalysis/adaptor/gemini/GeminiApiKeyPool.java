@@ -0,0 +1,257 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 Gemini API 키에 호출을 분산하는 키 풀입니다.
+ * <p>
+ * 각 키의 진행 중 요청 수, 분당 요청 수(쿼터), 연속 실패 횟수와 쿨다운 만료 시각을 추적합니다.
+ * 호출 시에는 쿨다운 중이 아니고 쿼터가 남아 있는 키 중 진행 중 요청이 가장 적은 키를 선택합니다.
+ * 선택한 키의 쿼터는 동시에 선택되는 다른 호출이 보도록 임대 시점에 미리 차감하고, 요청을 보내지 않고 반납된
+ * 임대({@link Lease#markSent()} 호출 전 종료, 예: 대기 시간이 길어 로컬에서 429로 끝낸 경우)는 반납 시 되돌립니다.
+ * {@code gemini.api.keys}가 비어 있으면 기존 단일 키({@code gemini.api.key})만 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GeminiApiKeyPool {
+
+    private static final Duration QUOTA_WINDOW = Duration.ofMinutes(1);
+
+    private final List<KeyState> keys;
+    private final int requestsPerMinute;
+    private final int failureThreshold;
+    private final Duration failureCooldown;
+    private final Clock clock = Clock.systemUTC();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public GeminiApiKeyPool(@Value("${gemini.api.key}") String apiKey,
+                            @Value("${gemini.api.keys:}") String apiKeys,
+                            @Value("${gemini.api.key-requests-per-minute:0}") int requestsPerMinute,
+                            @Value("${gemini.api.key-failure-threshold:3}") int failureThreshold,
+                            @Value("${gemini.api.key-failure-cooldown-ms:30000}") long failureCooldownMs) {
+        List<String> pooled = Arrays.stream(apiKeys.split(","))
+                .map(String::trim)
+                .filter(k -> !k.isEmpty())
+                .distinct()
+                .toList();
+        this.keys = (pooled.isEmpty() ? List.of(apiKey) : pooled).stream()
+                .map(KeyState::new)
+                .toList();
+        this.requestsPerMinute = requestsPerMinute;
+        this.failureThreshold = failureThreshold;
+        this.failureCooldown = Duration.ofMillis(failureCooldownMs);
+        log.info("🔑 Gemini API 키 풀 구성 - 키 {}개, 키당 분당 요청 상한={}", keys.size(),
+                requestsPerMinute > 0 ? requestsPerMinute : "무제한");
+    }
+
+    /**
+     * 호출에 사용할 키를 선택합니다.
+     * <p>
+     * 사용 가능한 키가 없으면 가장 먼저 사용 가능해지는 키와 남은 대기 시간을 반환하며,
+     * 대기 여부는 호출자가 재시도 정책에 따라 결정합니다.
+     * </p>
+     *
+     * @return 선택된 키 임대 정보
+     */
+    public Lease acquire() {
+        long now = clock.millis();
+        int start = Math.floorMod(cursor.getAndIncrement(), keys.size());
+        KeyState best = null;
+        KeyState soonest = null;
+        long soonestAt = Long.MAX_VALUE;
+        for (int i = 0; i < keys.size(); i++) {
+            KeyState state = keys.get((start + i) % keys.size());
+            long availableAt = state.availableAt(now);
+            if (availableAt <= now) {
+                if (best == null || state.inFlight() < best.inFlight()) {
+                    best = state;
+                }
+            } else if (availableAt < soonestAt) {
+                soonest = state;
+                soonestAt = availableAt;
+            }
+        }
+        if (best != null) {
+            return new Lease(best, Duration.ZERO, best.begin(now));
+        }
+        return new Lease(soonest, Duration.ofMillis(soonestAt - now), soonest.begin(soonestAt));
+    }
+
+    /**
+     * 호출이 성공했음을 기록합니다. 연속 실패 횟수가 초기화됩니다.
+     *
+     * @param lease 호출에 사용한 키 임대 정보
+     */
+    public void onSuccess(Lease lease) {
+        lease.state.succeeded();
+    }
+
+    /**
+     * 호출이 429(쿼터 초과)로 거절되었음을 기록하고 키를 쿨다운 상태로 전환합니다.
+     *
+     * @param lease      호출에 사용한 키 임대 정보
+     * @param retryAfter 서버가 지정한 재시도 대기 시간
+     */
+    public void onRateLimited(Lease lease, Duration retryAfter) {
+        lease.state.coolDown(clock.millis() + retryAfter.toMillis());
+        log.warn("🚦 Gemini API 키 쿼터 초과 - key={}, 쿨다운={}ms", lease.maskedKey(), retryAfter.toMillis());
+    }
+
+    /**
+     * 호출이 서버 오류 또는 I/O 오류로 실패했음을 기록합니다.
+     * 연속 실패가 임계값에 도달하면 일정 시간 동안 해당 키를 사용하지 않습니다.
+     *
+     * @param lease 호출에 사용한 키 임대 정보
+     */
+    public void onFailure(Lease lease) {
+        if (lease.state.failed() >= failureThreshold) {
+            lease.state.coolDown(clock.millis() + failureCooldown.toMillis());
+            log.warn("🩺 Gemini API 키 연속 실패로 일시 제외 - key={}, 쿨다운={}ms",
+                    lease.maskedKey(), failureCooldown.toMillis());
+        }
+    }
+
+    /**
+     * 풀에 등록된 키 개수를 반환합니다.
+     *
+     * @return 키 개수
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 키 한 개를 호출에 사용하는 동안의 임대 정보입니다. 호출이 끝나면 반드시 {@link #close()}해야 합니다.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final KeyState state;
+        private final Duration availableIn;
+        private final long quotaWindow;
+        private boolean sent;
+        private boolean closed;
+
+        private Lease(KeyState state, Duration availableIn, long quotaWindow) {
+            this.state = state;
+            this.availableIn = availableIn;
+            this.quotaWindow = quotaWindow;
+        }
+
+        /**
+         * 이 키로 요청을 실제로 보냈음을 기록합니다. 호출하지 않고 {@link #close()}하면 차감한 쿼터를 되돌립니다.
+         */
+        public void markSent() {
+            sent = true;
+        }
+
+        /**
+         * @return 호출에 사용할 API 키
+         */
+        public String key() {
+            return state.key;
+        }
+
+        /**
+         * @return 키가 사용 가능해질 때까지 남은 시간, 즉시 사용 가능하면 {@link Duration#ZERO}
+         */
+        public Duration availableIn() {
+            return availableIn;
+        }
+
+        /**
+         * @return 로그 출력용으로 마지막 4자리만 남긴 키
+         */
+        public String maskedKey() {
+            String key = state.key;
+            return key.length() <= 4 ? "****" : "****" + key.substring(key.length() - 4);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                state.end(sent ? -1 : quotaWindow);
+            }
+        }
+    }
+
+    /**
+     * 키 한 개의 상태(진행 중 요청 수, 쿼터 윈도우, 쿨다운)를 보관합니다.
+     */
+    private final class KeyState {
+
+        private final String key;
+        private int inFlight;
+        private long cooldownUntil;
+        private long windowStart;
+        private int windowCount;
+        private int consecutiveFailures;
+
+        private KeyState(String key) {
+            this.key = key;
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * 쿨다운과 분당 쿼터를 고려하여 이 키를 사용할 수 있는 가장 이른 시각을 계산합니다.
+         */
+        synchronized long availableAt(long now) {
+            long at = Math.max(now, cooldownUntil);
+            if (requestsPerMinute > 0 && windowCount >= requestsPerMinute && now - windowStart < QUOTA_WINDOW.toMillis()) {
+                at = Math.max(at, windowStart + QUOTA_WINDOW.toMillis());
+            }
+            return at;
+        }
+
+        /**
+         * 임대를 시작하며 쿼터 한 건을 차감합니다.
+         *
+         * @return 차감한 쿼터 윈도우의 시작 시각
+         */
+        synchronized long begin(long at) {
+            if (at - windowStart >= QUOTA_WINDOW.toMillis()) {
+                windowStart = at;
+                windowCount = 0;
+            }
+            windowCount++;
+            inFlight++;
+            return windowStart;
+        }
+
+        /**
+         * 임대를 마칩니다. 요청을 보내지 않은 임대는 차감한 윈도우가 아직 진행 중일 때 쿼터를 되돌립니다.
+         *
+         * @param refundWindow 쿼터를 되돌릴 윈도우 시작 시각, 되돌리지 않으면 -1
+         */
+        synchronized void end(long refundWindow) {
+            inFlight--;
+            if (refundWindow == windowStart && windowCount > 0) {
+                windowCount--;
+            }
+        }
+
+        synchronized void succeeded() {
+            consecutiveFailures = 0;
+        }
+
+        synchronized int failed() {
+            return ++consecutiveFailures;
+        }
+
+        synchronized void coolDown(long until) {
+            cooldownUntil = Math.max(cooldownUntil, until);
+        }
+    }
+}
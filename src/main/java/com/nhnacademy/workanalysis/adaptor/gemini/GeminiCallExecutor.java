@@ -0,0 +1,54 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 헤징 대상 Gemini 호출(원 요청 + 헤징 요청)을 병렬로 실행하는 전용 실행기입니다.
+ * <p>
+ * Tomcat 워커 스레드와 분리된 고정 크기 풀을 사용하며, 큐가 가득 차면 호출 스레드에서 직접 실행합니다.
+ * {@link java.util.concurrent.Executor} 빈으로 노출하지 않아 Spring Boot 기본 태스크 실행기 구성에 영향을 주지 않습니다.
+ * </p>
+ */
+@Component
+public class GeminiCallExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public GeminiCallExecutor(@Value("${gemini.hedge.pool-size:16}") int poolSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gemini-call-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 작업을 비동기로 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과를 담은 {@link CompletableFuture}
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Gemini generateContent 응답에서 추출한 결과입니다.
+ * 모든 후보(candidate)와 파트(part)의 텍스트를 이어 붙인 본문과 종료 사유, 토큰 사용량을 포함합니다.
+ */
+@Value
+public class GeminiCompletion {
+
+    /**
+     * 모든 후보/파트의 텍스트를 순서대로 이어 붙인 응답 본문
+     */
+    String text;
+
+    /**
+     * 첫 번째 후보의 종료 사유 (예: STOP, MAX_TOKENS, SAFETY)
+     */
+    String finishReason;
+
+    /**
+     * 프롬프트 토큰 수 (usageMetadata.promptTokenCount)
+     */
+    Integer promptTokenCount;
+
+    /**
+     * 응답 토큰 수 (usageMetadata.candidatesTokenCount)
+     */
+    Integer candidatesTokenCount;
+
+    /**
+     * 전체 토큰 수 (usageMetadata.totalTokenCount)
+     */
+    Integer totalTokenCount;
+
+    /**
+     * 응답을 생성한 모델 버전 (modelVersion), 응답에 없으면 호출한 모델 이름
+     */
+    @With
+    String model;
+}
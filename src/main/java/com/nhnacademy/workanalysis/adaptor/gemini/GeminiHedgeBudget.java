@@ -0,0 +1,17 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헤징 요청에 사용되는 {@link GeminiRequestBudget}입니다.
+ * 헤징 가능한 호출 수 대비 {@code gemini.hedge.budget-ratio} 비율까지만 헤징 요청을 허용합니다.
+ */
+@Component
+public class GeminiHedgeBudget extends GeminiRequestBudget {
+
+    public GeminiHedgeBudget(@Value("${gemini.hedge.budget-ratio:0.05}") double ratio,
+                             @Value("${gemini.hedge.max-burst:5}") int maxBurst) {
+        super(ratio, maxBurst);
+    }
+}
@@ -0,0 +1,174 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gemini 호출 지연 시간을 모델 및 프롬프트 크기 구간별 히스토그램으로 추적하는 컴포넌트입니다.
+ * <p>
+ * 관측된 지연 분포로부터 요청별 읽기 타임아웃(p99 × 배수)과 헤징 지연(p95)을 도출합니다.
+ * 표본이 부족한 구간은 설정된 최대 타임아웃을 그대로 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GeminiLatencyTracker {
+
+    /**
+     * 프롬프트 크기 구간의 상한(문자 수)입니다. 마지막 상한을 넘으면 가장 큰 구간으로 분류됩니다.
+     */
+    private static final int[] PROMPT_SIZE_LIMITS = {1_000, 4_000, 16_000};
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final Duration minReadTimeout;
+    private final Duration maxReadTimeout;
+    private final double timeoutMultiplier;
+    private final int minSamples;
+
+    public GeminiLatencyTracker(@Value("${gemini.timeout.min-read-ms:3000}") long minReadTimeoutMs,
+                                @Value("${gemini.timeout.max-read-ms:30000}") long maxReadTimeoutMs,
+                                @Value("${gemini.timeout.multiplier:2.0}") double timeoutMultiplier,
+                                @Value("${gemini.timeout.min-samples:20}") int minSamples) {
+        this.minReadTimeout = Duration.ofMillis(minReadTimeoutMs);
+        this.maxReadTimeout = Duration.ofMillis(maxReadTimeoutMs);
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Gemini 호출 한 건의 지연 시간을 기록합니다.
+     *
+     * @param model       호출한 모델 이름
+     * @param promptChars 프롬프트 전체 문자 수
+     * @param latencyMs   응답까지 걸린 시간(ms)
+     */
+    public void record(String model, int promptChars, long latencyMs) {
+        histograms.computeIfAbsent(key(model, promptChars), k -> new LatencyHistogram())
+                .record(latencyMs);
+    }
+
+    /**
+     * 관측된 p99 지연에 배수를 곱해 읽기 타임아웃을 계산합니다.
+     * 결과는 최소/최대 타임아웃 범위로 제한됩니다.
+     *
+     * @param model       호출할 모델 이름
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return 이번 호출에 적용할 읽기 타임아웃
+     */
+    public Duration readTimeout(String model, int promptChars) {
+        LatencyHistogram histogram = histograms.get(key(model, promptChars));
+        if (histogram == null || histogram.count() < minSamples) {
+            return maxReadTimeout;
+        }
+        long derived = (long) (histogram.percentile(0.99) * timeoutMultiplier);
+        long clamped = Math.clamp(derived, minReadTimeout.toMillis(), maxReadTimeout.toMillis());
+        return Duration.ofMillis(clamped);
+    }
+
+    /**
+     * 헤징 요청을 보내기 전 기다릴 시간(p95 지연)을 반환합니다.
+     *
+     * @param model       호출할 모델 이름
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return p95 지연, 표본이 부족하면 빈 값
+     */
+    public Optional<Duration> hedgeDelay(String model, int promptChars) {
+        LatencyHistogram histogram = histograms.get(key(model, promptChars));
+        if (histogram == null || histogram.count() < minSamples) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(histogram.percentile(0.95)));
+    }
+
+    private String key(String model, int promptChars) {
+        return model + ":" + promptSizeBucket(promptChars);
+    }
+
+    /**
+     * 프롬프트 문자 수를 구간 인덱스로 변환합니다.
+     *
+     * @param promptChars 프롬프트 전체 문자 수
+     * @return 구간 인덱스 (0부터 시작)
+     */
+    static int promptSizeBucket(int promptChars) {
+        for (int i = 0; i < PROMPT_SIZE_LIMITS.length; i++) {
+            if (promptChars <= PROMPT_SIZE_LIMITS[i]) {
+                return i;
+            }
+        }
+        return PROMPT_SIZE_LIMITS.length;
+    }
+
+    /**
+     * 지수 간격 버킷으로 구성된 지연 시간 히스토그램입니다.
+     * <p>
+     * 누적 표본이 윈도우 크기에 도달하면 모든 버킷을 절반으로 줄여
+     * 오래된 관측치의 영향이 점차 줄어들도록 합니다.
+     * </p>
+     */
+    static final class LatencyHistogram {
+
+        private static final long MIN_BOUND_MS = 10;
+        private static final long MAX_BOUND_MS = 120_000;
+        private static final double GROWTH = 1.25;
+        private static final int DECAY_WINDOW = 512;
+        private static final long[] UPPER_BOUNDS = buildBounds();
+
+        private final long[] counts = new long[UPPER_BOUNDS.length];
+        private long total;
+
+        private static long[] buildBounds() {
+            int size = (int) Math.ceil(Math.log((double) MAX_BOUND_MS / MIN_BOUND_MS) / Math.log(GROWTH)) + 1;
+            long[] bounds = new long[size];
+            double bound = MIN_BOUND_MS;
+            for (int i = 0; i < size; i++) {
+                bounds[i] = Math.min((long) Math.ceil(bound), MAX_BOUND_MS);
+                bound *= GROWTH;
+            }
+            return bounds;
+        }
+
+        synchronized void record(long latencyMs) {
+            counts[bucketOf(latencyMs)]++;
+            if (++total >= DECAY_WINDOW) {
+                total = 0;
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] >>= 1;
+                    total += counts[i];
+                }
+            }
+        }
+
+        synchronized long count() {
+            return total;
+        }
+
+        synchronized long percentile(double quantile) {
+            long threshold = (long) Math.ceil(total * quantile);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= threshold) {
+                    return UPPER_BOUNDS[i];
+                }
+            }
+            return MAX_BOUND_MS;
+        }
+
+        private static int bucketOf(long latencyMs) {
+            for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+                if (latencyMs <= UPPER_BOUNDS[i]) {
+                    return i;
+                }
+            }
+            return UPPER_BOUNDS.length - 1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+/**
+ * 추가 Gemini 호출(헤징, 재시도)로 인한 쿼터 사용량을 제한하는 토큰 버킷입니다.
+ * <p>
+ * 대상 호출이 한 번 발생할 때마다 {@code ratio}만큼 토큰이 적립되고,
+ * 추가 요청 한 건은 토큰 1개를 소모합니다. 따라서 추가 요청 수는
+ * 전체 호출 수 × ratio + burst 를 넘지 않습니다.
+ * 버킷은 가득 찬 상태로 시작하므로, 배포 직후 첫 호출들도 burst 범위 안에서 재시도와 헤징을 쓸 수 있습니다.
+ * </p>
+ */
+public class GeminiRequestBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public GeminiRequestBudget(double ratio, int maxBurst) {
+        this.ratio = ratio;
+        this.maxTokens = maxBurst;
+        this.tokens = maxBurst;
+    }
+
+    /**
+     * 대상 호출이 시작되었음을 알리고 토큰을 적립합니다.
+     */
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 추가 요청 한 건에 필요한 토큰을 확보합니다.
+     *
+     * @return 토큰을 확보했다면 {@code true}, 예산이 부족하면 {@code false}
+     */
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
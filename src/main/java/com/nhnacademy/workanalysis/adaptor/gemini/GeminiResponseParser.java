@@ -0,0 +1,158 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.exception.TextNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Gemini generateContent 응답을 트리로 만들지 않고 스트리밍 방식으로 파싱하는 컴포넌트입니다.
+ * <p>
+ * 응답 본문을 입력 스트림에서 바로 읽으며, 한 번의 순회로 다음 값을 추출합니다.
+ * <ul>
+ *     <li>{@code candidates[*].content.parts[*].text} - 모든 후보/파트의 텍스트를 순서대로 연결</li>
+ *     <li>{@code candidates[0].finishReason}</li>
+ *     <li>{@code usageMetadata}의 프롬프트/응답/전체 토큰 수</li>
+ *     <li>{@code modelVersion}</li>
+ * </ul>
+ * 그 외 필드는 값을 만들지 않고 건너뛰므로, 호출당 할당량은 응답 텍스트 크기에 비례합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GeminiResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public GeminiResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 응답 본문 스트림을 파싱합니다.
+     *
+     * @param body Gemini 응답 본문 스트림
+     * @return 추출된 텍스트, 종료 사유, 토큰 사용량
+     * @throws IOException           JSON 형식이 올바르지 않거나 스트림을 읽을 수 없는 경우
+     * @throws TextNotFoundException 응답에 텍스트 파트가 하나도 없는 경우
+     */
+    public GeminiCompletion parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            Accumulator acc = new Accumulator();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Gemini 응답이 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "candidates" -> readCandidates(parser, acc);
+                    case "usageMetadata" -> readUsage(parser, acc);
+                    case "modelVersion" -> acc.model = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (acc.text == null) {
+                log.error("⚠️ 분석 결과 누락 - 응답에 텍스트 필드가 존재하지 않음 (finishReason={})", acc.finishReason);
+                throw new TextNotFoundException("응답 JSON에 분석 결과 텍스트가 없습니다.");
+            }
+            return new GeminiCompletion(acc.text.toString(), acc.finishReason,
+                    acc.promptTokens, acc.candidatesTokens, acc.totalTokens, acc.model);
+        }
+    }
+
+    private void readCandidates(JsonParser parser, Accumulator acc) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "content" -> readContent(parser, acc);
+                    case "finishReason" -> {
+                        if (acc.finishReason == null) {
+                            acc.finishReason = parser.getValueAsString();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readContent(JsonParser parser, Accumulator acc) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("parts".equals(field) && value == JsonToken.START_ARRAY) {
+                readParts(parser, acc);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readParts(JsonParser parser, Accumulator acc) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("text".equals(field) && value == JsonToken.VALUE_STRING) {
+                    // 문자열 객체를 만들지 않고 파서 버퍼에서 바로 복사합니다.
+                    acc.appendText(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readUsage(JsonParser parser, Accumulator acc) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "promptTokenCount" -> acc.promptTokens = parser.getValueAsInt();
+                case "candidatesTokenCount" -> acc.candidatesTokens = parser.getValueAsInt();
+                case "totalTokenCount" -> acc.totalTokens = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 파싱 도중 값을 모으는 임시 상태입니다.
+     */
+    private static final class Accumulator {
+        private StringBuilder text;
+        private String finishReason;
+        private Integer promptTokens;
+        private Integer candidatesTokens;
+        private Integer totalTokens;
+        private String model;
+
+        private void appendText(char[] buffer, int offset, int length) {
+            if (text == null) {
+                text = new StringBuilder(Math.max(length, 16));
+            }
+            text.append(buffer, offset, length);
+        }
+    }
+}
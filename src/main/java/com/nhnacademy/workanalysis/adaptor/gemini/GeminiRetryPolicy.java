@@ -0,0 +1,128 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini 호출 실패 시 재시도 여부와 대기 시간을 결정하는 정책입니다.
+ * <p>
+ * 429 및 5xx 응답만 재시도하며, 대기 시간은 지수 백오프에 full jitter를 적용해 계산합니다.
+ * 응답에 {@code Retry-After} 헤더(또는 Gemini 오류 본문의 {@code retryDelay})가 있으면 그 이상 대기합니다.
+ * 재시도 요청 수는 {@link GeminiRequestBudget}으로 전체 호출 대비 일정 비율 이내로 제한됩니다.
+ * </p>
+ */
+@Component
+public class GeminiRetryPolicy {
+
+    private static final Pattern RETRY_DELAY = Pattern.compile("\"retryDelay\"\\s*:\\s*\"(\\d+(?:\\.\\d+)?)s\"");
+
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long maxWaitMs;
+    private final GeminiRequestBudget budget;
+
+    public GeminiRetryPolicy(@Value("${gemini.retry.max-attempts:3}") int maxAttempts,
+                             @Value("${gemini.retry.base-backoff-ms:500}") long baseBackoffMs,
+                             @Value("${gemini.retry.max-backoff-ms:8000}") long maxBackoffMs,
+                             @Value("${gemini.retry.max-wait-ms:20000}") long maxWaitMs,
+                             @Value("${gemini.retry.budget-ratio:0.2}") double budgetRatio,
+                             @Value("${gemini.retry.max-burst:10}") int maxBurst) {
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.maxWaitMs = maxWaitMs;
+        this.budget = new GeminiRequestBudget(budgetRatio, maxBurst);
+    }
+
+    /**
+     * 새 호출이 시작되었음을 알리고 재시도 예산을 적립합니다.
+     */
+    public void onCall() {
+        budget.onRequest();
+    }
+
+    /**
+     * 재시도 대상 상태 코드인지 판단합니다.
+     *
+     * @param status HTTP 상태 코드
+     * @return 429 또는 5xx이면 {@code true}
+     */
+    public boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+
+    /**
+     * 실패한 시도 이후 다시 시도할 수 있는지 판단하고, 가능하다면 재시도 예산을 소모합니다.
+     *
+     * @param attempt 방금 실패한 시도 번호 (1부터 시작)
+     * @param wait    재시도 전 대기해야 할 시간
+     * @return 재시도 가능하면 {@code true}
+     */
+    public boolean canRetry(int attempt, Duration wait) {
+        return attempt < maxAttempts && wait.toMillis() <= maxWaitMs && budget.tryAcquire();
+    }
+
+    /**
+     * 재시도 예산과 무관하게, 주어진 시간만큼 대기해도 되는지 판단합니다.
+     *
+     * @param wait 대기해야 할 시간
+     * @return 최대 대기 시간 이내이면 {@code true}
+     */
+    public boolean canWait(Duration wait) {
+        return wait.toMillis() <= maxWaitMs;
+    }
+
+    /**
+     * 지수 백오프에 full jitter를 적용한 대기 시간을 계산합니다.
+     *
+     * @param attempt 방금 실패한 시도 번호 (1부터 시작)
+     * @return 대기 시간
+     */
+    public Duration backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    /**
+     * 오류 응답에서 서버가 요구한 재시도 대기 시간을 읽습니다.
+     * {@code Retry-After} 헤더(초 또는 HTTP-date)를 우선하고, 없으면 Gemini 오류 본문의 {@code retryDelay}를 사용합니다.
+     *
+     * @param e HTTP 오류 예외
+     * @return 서버가 지정한 대기 시간
+     */
+    public Optional<Duration> retryAfter(HttpStatusCodeException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value != null && !value.isBlank()) {
+            try {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+            } catch (NumberFormatException ignored) {
+                try {
+                    ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                    Duration wait = Duration.between(ZonedDateTime.now(at.getZone()), at);
+                    return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+                } catch (DateTimeParseException ignoredDate) {
+                    // 형식을 알 수 없는 헤더는 무시하고 본문을 확인합니다.
+                }
+            }
+        }
+        Matcher matcher = RETRY_DELAY.matcher(e.getResponseBodyAsString());
+        if (matcher.find()) {
+            return Optional.of(Duration.ofMillis((long) (Double.parseDouble(matcher.group(1)) * 1000)));
+        }
+        return Optional.empty();
+    }
+}
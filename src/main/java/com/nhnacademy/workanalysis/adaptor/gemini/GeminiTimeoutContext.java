@@ -0,0 +1,43 @@
+package com.nhnacademy.workanalysis.adaptor.gemini;
+
+import java.time.Duration;
+
+/**
+ * 현재 스레드에서 수행 중인 Gemini 호출의 읽기 타임아웃을 보관하는 컨텍스트입니다.
+ * <p>
+ * {@link com.nhnacademy.workanalysis.config.RestTemplateConfig}의 HttpContext 팩토리가 이 값을 읽어
+ * 요청 단위로 응답 타임아웃을 적용합니다. 값이 없으면 RestTemplate 기본 타임아웃이 사용됩니다.
+ * </p>
+ */
+public final class GeminiTimeoutContext {
+
+    private static final ThreadLocal<Duration> READ_TIMEOUT = new ThreadLocal<>();
+
+    private GeminiTimeoutContext() {
+    }
+
+    /**
+     * 현재 스레드의 다음 Gemini 호출에 적용할 읽기 타임아웃을 지정합니다.
+     *
+     * @param readTimeout 읽기 타임아웃
+     */
+    public static void set(Duration readTimeout) {
+        READ_TIMEOUT.set(readTimeout);
+    }
+
+    /**
+     * 현재 스레드에 지정된 읽기 타임아웃을 반환합니다.
+     *
+     * @return 읽기 타임아웃, 지정되지 않았다면 {@code null}
+     */
+    public static Duration get() {
+        return READ_TIMEOUT.get();
+    }
+
+    /**
+     * 현재 스레드에 지정된 읽기 타임아웃을 제거합니다.
+     */
+    public static void clear() {
+        READ_TIMEOUT.remove();
+    }
+}
@@ -0,0 +1,251 @@
+package com.nhnacademy.workanalysis.adaptor.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Feign 호출 대상 인스턴스별 지연 시간(Peak EWMA)과 진행 중 요청 수를 추적하는 로드밸런서 라이프사이클입니다.
+ * <p>
+ * 응답 시간이 현재 평균보다 길면 즉시 그 값으로 올리고(peak), 짧으면 경과 시간에 따라 지수 가중 평균으로 천천히 내립니다.
+ * 실패한 요청은 {@code loadbalancer.peak-ewma.failure-penalty-ms} 이상의 지연으로 기록하여 해당 인스턴스를 피하게 합니다.
+ * 요청이 없는 동안에는 평균이 감쇠하므로, 한 번 느렸던 인스턴스도 시간이 지나면 다시 시도됩니다.
+ * </p>
+ * <p>
+ * 인스턴스별 평균 지연({@code loadbalancer.instance.latency.ewma}), 진행 중 요청 수({@code loadbalancer.instance.inflight}),
+ * 선택 횟수({@code loadbalancer.choices})를 Micrometer로 노출합니다.
+ * </p>
+ * <p>
+ * 배포나 스케일 조정으로 인스턴스가 바뀌어도 추적 상태와 메트릭이 계속 늘지 않도록,
+ * 로드밸런서가 받은 현재 인스턴스 목록에서 빠졌거나 진행 중 요청 없이
+ * {@code loadbalancer.peak-ewma.idle-ttl-ms}(기본 10분) 넘게 쓰이지 않은 인스턴스는 통계와 메트릭을 함께 제거합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    /**
+     * 관측값이 없는 인스턴스의 최소 지연으로, 새 인스턴스에도 진행 중 요청 수에 비례한 비용을 부여합니다.
+     */
+    private static final long MIN_RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final long idleTtlNanos;
+
+    public InstanceLatencyTracker(MeterRegistry meterRegistry,
+                                  @Value("${loadbalancer.peak-ewma.decay-ms:10000}") long decayMs,
+                                  @Value("${loadbalancer.peak-ewma.failure-penalty-ms:5000}") long failurePenaltyMs,
+                                  @Value("${loadbalancer.peak-ewma.idle-ttl-ms:600000}") long idleTtlMs) {
+        this.meterRegistry = meterRegistry;
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMs);
+        this.failurePenaltyNanos = TimeUnit.MILLISECONDS.toNanos(failurePenaltyMs);
+        this.idleTtlNanos = TimeUnit.MILLISECONDS.toNanos(idleTtlMs);
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // 인스턴스 선택 전에는 기록할 정보가 없습니다.
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || lbResponse.getServer() == null) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(System.nanoTime());
+        }
+        statsOf(lbResponse.getServer()).begin();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || lbResponse == null || lbResponse.getServer() == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long startedAt = completionContext.getLoadBalancerRequest() != null
+                && completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext timed
+                ? timed.getRequestStartTime() : 0;
+        long rtt = startedAt > 0 ? now - startedAt : 0;
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            rtt = Math.max(rtt, failurePenaltyNanos);
+        }
+        // 목록에서 빠져 제거된 인스턴스의 늦은 완료로 통계와 메트릭을 다시 만들지 않습니다.
+        InstanceStats instanceStats = stats.get(key(lbResponse.getServer()));
+        if (instanceStats != null) {
+            instanceStats.end(rtt, now, decayNanos);
+        }
+    }
+
+    /**
+     * 인스턴스를 선택하는 비용(감쇠된 평균 지연 × (진행 중 요청 수 + 1))을 계산합니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return 선택 비용 (낮을수록 우선)
+     */
+    public double cost(ServiceInstance instance) {
+        return statsOf(instance).cost(System.nanoTime(), decayNanos);
+    }
+
+    /**
+     * 로드밸런서가 인스턴스를 선택했음을 기록합니다.
+     *
+     * @param instance 선택된 인스턴스
+     */
+    public void recordChoice(ServiceInstance instance) {
+        statsOf(instance).choices.increment();
+    }
+
+    /**
+     * 서비스의 현재 인스턴스 목록에 없는 인스턴스와, 진행 중 요청 없이 유휴 기간을 넘긴 인스턴스의 통계와 메트릭을 제거합니다.
+     * 유휴 기간은 모든 서비스의 인스턴스에 적용됩니다.
+     *
+     * @param serviceId 서비스 ID
+     * @param instances 로드밸런서가 받은 현재 인스턴스 목록
+     */
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Set<String> current = instances.stream().map(InstanceLatencyTracker::key).collect(Collectors.toSet());
+        long now = System.nanoTime();
+        stats.forEach((key, instanceStats) -> {
+            boolean removed = instanceStats.serviceId.equals(serviceId) && !current.contains(key);
+            if (removed || instanceStats.idleLongerThan(now, idleTtlNanos)) {
+                evict(key, instanceStats, removed ? "목록에서 제외" : "유휴");
+            }
+        });
+    }
+
+    private void evict(String key, InstanceStats instanceStats, String reason) {
+        if (stats.remove(key, instanceStats)) {
+            instanceStats.meters.forEach(meterRegistry::remove);
+            log.debug("로드밸런서 인스턴스 추적 종료 - {} ({})", key, reason);
+        }
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> {
+            InstanceStats created = new InstanceStats(instance.getServiceId(), System.nanoTime());
+            created.meters.add(Gauge.builder("loadbalancer.instance.latency.ewma", created,
+                            s -> s.ewmaMillis(System.nanoTime(), decayNanos))
+                    .description("인스턴스별 Peak EWMA 지연 시간(ms)")
+                    .tag("service", instance.getServiceId())
+                    .tag("instance", address(instance))
+                    .register(meterRegistry));
+            created.meters.add(Gauge.builder("loadbalancer.instance.inflight", created, InstanceStats::inFlight)
+                    .description("인스턴스별 진행 중 요청 수")
+                    .tag("service", instance.getServiceId())
+                    .tag("instance", address(instance))
+                    .register(meterRegistry));
+            created.choices = Counter.builder("loadbalancer.choices")
+                    .description("Peak EWMA 로드밸런서가 인스턴스를 선택한 횟수")
+                    .tag("service", instance.getServiceId())
+                    .tag("instance", address(instance))
+                    .register(meterRegistry);
+            created.meters.add(created.choices);
+            log.debug("로드밸런서 인스턴스 추적 시작 - {}", key);
+            return created;
+        });
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + address(instance);
+    }
+
+    private static String address(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * 인스턴스 한 개의 Peak EWMA 지연과 진행 중 요청 수입니다.
+     */
+    static final class InstanceStats {
+
+        private final String serviceId;
+        private final List<Meter> meters = new ArrayList<>(3);
+        private Counter choices;
+        private double ewmaNanos;
+        private long lastUpdateNanos;
+        private long lastUsedNanos;
+        private int inFlight;
+
+        InstanceStats(String serviceId, long now) {
+            this.serviceId = serviceId;
+            this.lastUsedNanos = now;
+        }
+
+        synchronized void begin() {
+            inFlight++;
+            lastUsedNanos = System.nanoTime();
+        }
+
+        synchronized void end(long rttNanos, long now, double decayNanos) {
+            inFlight = Math.max(0, inFlight - 1);
+            lastUsedNanos = now;
+            if (rttNanos > ewmaNanos) {
+                ewmaNanos = rttNanos;
+            } else {
+                double weight = Math.exp(-(now - lastUpdateNanos) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        }
+
+        synchronized double cost(long now, double decayNanos) {
+            return Math.max(decayed(now, decayNanos), MIN_RTT_NANOS) * (inFlight + 1);
+        }
+
+        synchronized double ewmaMillis(long now, double decayNanos) {
+            return decayed(now, decayNanos) / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * 진행 중 요청이 없고 마지막 요청 이후 유휴 기간이 지났는지 확인합니다. 유휴 기간이 0 이하면 제거하지 않습니다.
+         */
+        synchronized boolean idleLongerThan(long now, long idleTtlNanos) {
+            return idleTtlNanos > 0 && inFlight == 0 && now - lastUsedNanos > idleTtlNanos;
+        }
+
+        /**
+         * 진행 중 요청이 없으면 마지막 관측 이후 경과 시간만큼 평균을 감쇠시킵니다.
+         */
+        private double decayed(long now, double decayNanos) {
+            if (inFlight > 0 || ewmaNanos == 0) {
+                return ewmaNanos;
+            }
+            return ewmaNanos * Math.exp(-(now - lastUpdateNanos) / decayNanos);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.workanalysis.adaptor.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Peak EWMA 비용과 power-of-two-choices로 인스턴스를 선택하는 로드밸런서입니다.
+ * <p>
+ * 후보 중 임의의 두 인스턴스를 고른 뒤 {@link InstanceLatencyTracker}의 비용
+ * (지연 평균 × (진행 중 요청 수 + 1))이 낮은 쪽을 선택합니다.
+ * 모든 요청을 가장 빠른 인스턴스로 몰지 않으면서 느린 인스턴스는 점차 덜 선택됩니다.
+ * 선택할 때마다 현재 인스턴스 목록을 트래커에 알려 사라진 인스턴스의 통계와 메트릭을 정리합니다.
+ * </p>
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final InstanceLatencyTracker latencyTracker;
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                String serviceId,
+                                InstanceLatencyTracker latencyTracker) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.latencyTracker = latencyTracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        latencyTracker.retain(serviceId, instances);
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스 없음 - service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        ServiceInstance chosen;
+        if (instances.size() == 1) {
+            chosen = instances.get(0);
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(instances.size());
+            int second = random.nextInt(instances.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            ServiceInstance a = instances.get(first);
+            ServiceInstance b = instances.get(second);
+            chosen = latencyTracker.cost(a) <= latencyTracker.cost(b) ? a : b;
+        }
+        latencyTracker.recordChoice(chosen);
+        return new DefaultResponse(chosen);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.workanalysis.config;
+
+import com.nhnacademy.workanalysis.executor.AsyncTimeoutInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 실행기 풀에서 완료되는 비동기 요청({@code CompletableFuture} 반환)의 시간 초과 설정입니다.
+ * <p>
+ * 설정하지 않으면 컨테이너 기본값(Tomcat 30초)이 적용되어 처리 시한 안에 끝날 Gemini 호출도 503으로 끊기므로,
+ * 처리 시한이 있는 요청은 {@link AsyncTimeoutInterceptor}가 남은 시간에 맞추고,
+ * 시한이 없는 요청은 Gemini 최대 재시도(30초 × 3회 + 재시도 대기)를 넘는 {@code request.async.default-timeout-ms}(기본 120초)를 사용합니다.
+ * </p>
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final long defaultTimeoutMs;
+    private final long graceMs;
+
+    public AsyncRequestConfig(MeterRegistry meterRegistry,
+                              @Value("${request.async.default-timeout-ms:120000}") long defaultTimeoutMs,
+                              @Value("${request.async.grace-ms:5000}") long graceMs) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.graceMs = graceMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(defaultTimeoutMs);
+        configurer.registerDeferredResultInterceptors(new AsyncTimeoutInterceptor(Duration.ofMillis(graceMs), meterRegistry));
+    }
+}
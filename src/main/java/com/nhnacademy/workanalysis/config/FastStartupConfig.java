@@ -0,0 +1,31 @@
+package com.nhnacademy.workanalysis.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code fast-startup} 프로필의 지연 초기화({@code spring.main.lazy-initialization=true})에서 제외할 빈을 지정합니다.
+ * <p>
+ * 지연 초기화는 Feign 프록시, PDF 생성기, Gemini 클라이언트처럼 첫 요청 전에는 필요 없는 빈의 생성을 미루지만,
+ * DB 연결과 JPA 메타모델은 기동 중에 준비되어야 DB 장애가 준비 상태 실패로 드러나고 첫 요청이 느려지지 않습니다.
+ * EntityManagerFactory는 {@code bootstrap-mode=deferred}로 백그라운드 스레드에서 생성되므로 기동을 막지 않습니다.
+ * {@code @Scheduled} 빈(클러스터 하트비트, 리포트 사전 생성)은 Spring Boot가 자동으로 제외합니다.
+ * </p>
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    /**
+     * @return DataSource와 EntityManagerFactory를 즉시 초기화하도록 하는 필터
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter readinessCriticalBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.workanalysis.config;
+
+import com.nhnacademy.workanalysis.adaptor.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 클라이언트(member-service, work-entry-service)의 인스턴스 선택 전략 설정 클래스입니다.
+ * 기본 라운드 로빈 대신 지연 시간 기반 Peak EWMA 로드밸런서를 사용하며,
+ * {@code loadbalancer.peak-ewma.enabled=false}이면 Spring Cloud 기본 전략을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loadbalancer.peak-ewma.enabled", havingValue = "true", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.workanalysis.config;
+
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.timing.DbTimingSessionListener;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * GraalVM native-image 빌드({@code -Pnative})에서 정적 분석으로 찾을 수 없는 리플렉션, 프록시, 리소스 사용을 등록합니다.
+ * <p>
+ * 힌트는 AOT 처리 시점에만 계산되며 JVM 실행에는 영향이 없습니다.
+ * PDF 차트 렌더링(AWT)과 한글 폰트 처리는 JDK 네이티브 라이브러리(libawt, libfontmanager)가 JNI로 필드와 메서드를 읽으므로,
+ * 그 대상 클래스도 {@link RuntimeHints#jni()}로 여기서 등록합니다. 별도의 추적 에이전트 결과는 저장소에 두지 않으며,
+ * 렌더링 코드가 바뀌어 네이티브 실행에서 누락이 보이면 에이전트 출력으로 확인한 클래스를 이 목록에 추가합니다 (README 참고).
+ * </p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageHintsConfig.AnalysisRuntimeHints.class)
+public class NativeImageHintsConfig {
+
+    /**
+     * 이 서비스의 native-image 힌트 등록기입니다.
+     */
+    static class AnalysisRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.nhnacademy.workanalysis";
+
+        /**
+         * BufferedImage에 도형과 글자를 그릴 때 libawt/libfontmanager가 JNI로 접근하는 JDK 클래스
+         */
+        private static final String[] AWT_JNI_TYPES = {
+                "java.awt.AlphaComposite", "java.awt.Color", "java.awt.Rectangle",
+                "java.awt.geom.AffineTransform", "java.awt.geom.GeneralPath", "java.awt.geom.Path2D",
+                "java.awt.geom.Path2D$Float", "java.awt.geom.Point2D$Float", "java.awt.geom.Rectangle2D$Float",
+                "java.awt.image.BufferedImage", "java.awt.image.ColorModel", "java.awt.image.DirectColorModel",
+                "java.awt.image.IndexColorModel", "java.awt.image.Raster", "java.awt.image.SampleModel",
+                "java.awt.image.SinglePixelPackedSampleModel",
+                "sun.awt.SunHints", "sun.awt.image.BufImgSurfaceData", "sun.awt.image.BufImgSurfaceData$ICMColorData",
+                "sun.awt.image.ByteComponentRaster", "sun.awt.image.BytePackedRaster",
+                "sun.awt.image.ImageRepresentation", "sun.awt.image.IntegerComponentRaster",
+                "sun.java2d.Disposer", "sun.java2d.InvalidPipeException", "sun.java2d.NullSurfaceData",
+                "sun.java2d.SunGraphics2D", "sun.java2d.SurfaceData",
+                "sun.java2d.loops.Blit", "sun.java2d.loops.BlitBg", "sun.java2d.loops.CompositeType",
+                "sun.java2d.loops.DrawGlyphList", "sun.java2d.loops.DrawGlyphListAA", "sun.java2d.loops.DrawGlyphListLCD",
+                "sun.java2d.loops.DrawLine", "sun.java2d.loops.DrawParallelogram", "sun.java2d.loops.DrawPath",
+                "sun.java2d.loops.DrawPolygons", "sun.java2d.loops.DrawRect", "sun.java2d.loops.FillParallelogram",
+                "sun.java2d.loops.FillPath", "sun.java2d.loops.FillRect", "sun.java2d.loops.FillSpans",
+                "sun.java2d.loops.GraphicsPrimitive", "sun.java2d.loops.GraphicsPrimitiveMgr",
+                "sun.java2d.loops.MaskBlit", "sun.java2d.loops.MaskFill", "sun.java2d.loops.ScaledBlit",
+                "sun.java2d.loops.SurfaceType", "sun.java2d.loops.TransformHelper", "sun.java2d.loops.XORComposite",
+                "sun.java2d.pipe.Region", "sun.java2d.pipe.RegionIterator", "sun.java2d.pipe.ShapeSpanIterator",
+                "sun.java2d.pipe.SpanClipRenderer",
+                "sun.font.CharToGlyphMapper", "sun.font.FileFont", "sun.font.FileFontStrike", "sun.font.Font2D",
+                "sun.font.FontConfigManager$FcCompFont", "sun.font.FontConfigManager$FontConfigFont",
+                "sun.font.FontConfigManager$FontConfigInfo", "sun.font.FontStrike", "sun.font.FreetypeFontScaler",
+                "sun.font.GlyphLayout$GVData", "sun.font.GlyphList", "sun.font.PhysicalStrike",
+                "sun.font.StrikeMetrics", "sun.font.SunLayoutEngine", "sun.font.TrueTypeFont"
+        };
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Jackson 직렬화/역직렬화 대상 DTO: Lombok이 만든 생성자, 접근자, 빌더까지 포함
+            for (Class<?> dto : scan(BASE_PACKAGE + ".dto", ".*", classLoader)) {
+                bindingRegistrar.registerReflectionHints(hints.reflection(), dto);
+            }
+
+            // QueryDSL Q-타입: 경로 메타데이터가 엔티티 필드의 애너테이션을 리플렉션으로 조회
+            for (Class<?> qType : scan(BASE_PACKAGE + ".entity", ".*\\.Q[A-Z]\\w*", classLoader)) {
+                hints.reflection().registerType(qType, MemberCategory.PUBLIC_FIELDS,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                String entity = qType.getName().replaceFirst("\\.Q(\\w+)$", ".$1");
+                if (ClassUtils.isPresent(entity, classLoader)) {
+                    hints.reflection().registerType(ClassUtils.resolveClassName(entity, classLoader),
+                            MemberCategory.DECLARED_FIELDS);
+                }
+            }
+
+            // Feign 클라이언트: JDK 동적 프록시와 Contract가 읽는 메서드 애너테이션
+            for (Class<?> client : new Class<?>[]{MemberServiceClient.class, WorkEntryClient.class}) {
+                hints.proxies().registerJdkProxy(client);
+                hints.reflection().registerType(client, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Hibernate 세션 리스너: 클래스 이름 설정으로 세션마다 리플렉션으로 생성
+            hints.reflection().registerType(DbTimingSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // PDF: 한글 폰트, OpenPDF 기본 폰트(Helvetica AFM)와 오류 메시지 리소스
+            hints.resources().registerPattern("font/*.ttf");
+            hints.resources().registerPattern("com/lowagie/text/pdf/fonts/*");
+            hints.resources().registerPattern("com/lowagie/text/error_messages/*");
+
+            registerAwtHints(hints);
+        }
+
+        /**
+         * 차트 렌더링(AWT)과 한글 폰트 등록에 필요한 JNI, 리플렉션, 리소스 힌트를 등록합니다.
+         *
+         * @param hints 힌트 등록 대상
+         */
+        private static void registerAwtHints(RuntimeHints hints) {
+            for (String type : AWT_JNI_TYPES) {
+                hints.jni().registerType(TypeReference.of(type), MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            // 안티앨리어싱 렌더러: sun.java2d.renderer 속성의 클래스 이름으로 리플렉션 생성
+            hints.reflection().registerType(TypeReference.of("sun.java2d.marlin.DMarlinRenderingEngine"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerResourceBundle("sun.awt.resources.awt");
+        }
+
+        private static Iterable<Class<?>> scan(String basePackage, String classNameRegex, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(classNameRegex)));
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .toList();
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.nhnacademy.workanalysis.config;
 
 import com.nhnacademy.traceloggermodule.config.FeignTraceInterceptor;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiTimeoutContext;
+import com.nhnacademy.workanalysis.deadline.DeadlineFeignCapability;
+import com.nhnacademy.workanalysis.deadline.DeadlineFeignInterceptor;
+import com.nhnacademy.workanalysis.timing.ServerTimingRestTemplateInterceptor;
+import feign.Capability;
 import feign.RequestInterceptor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate 설정 클래스입니다.
  * Spring Boot 3.4 이상에서는 HttpComponentsClientHttpRequestFactory로 타임아웃을 설정합니다.
@@ -16,26 +28,61 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${gemini.timeout.connect-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${gemini.timeout.max-read-ms:30000}")
+    private long maxReadTimeoutMs;
+
     /**
      * 커넥션 타임아웃 및 읽기 타임아웃을 포함한 RestTemplate 빈 등록
+     * <p>
+     * 읽기 타임아웃은 기본적으로 최대값이 적용되며, {@link GeminiTimeoutContext}에 값이 지정된 경우
+     * 해당 요청에 한해 관측 지연 기반으로 도출된 타임아웃이 적용됩니다.
+     * {@code Server-Timing} 수집이 활성화되어 있으면 호출 시간을 기록하는 인터셉터를 등록합니다.
+     * </p>
      *
+     * @param serverTimingInterceptor Server-Timing 인터셉터 (비활성화 시 없음)
      * @return 설정된 RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(ObjectProvider<ServerTimingRestTemplateInterceptor> serverTimingInterceptor) {
         log.info("📡 RestTemplate Bean 생성 시작 (타임아웃 설정 포함)");
 
         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(30000);  // 연결 시도 제한 (30초)
-        factory.setReadTimeout(30000);     // 응답 대기 시간 제한 (30초)
+        factory.setConnectTimeout((int) connectTimeoutMs);  // 연결 시도 제한
+        factory.setReadTimeout((int) maxReadTimeoutMs);     // 응답 대기 시간 상한
+        factory.setHttpContextFactory((method, uri) -> adaptiveHttpContext());
 
         RestTemplate restTemplate = new RestTemplate(factory);
+        serverTimingInterceptor.ifAvailable(restTemplate.getInterceptors()::add);
 
-        log.debug("🔧 HttpComponentsClientHttpRequestFactory 설정 완료");
+        log.debug("🔧 HttpComponentsClientHttpRequestFactory 설정 완료 - connect={}ms, read(max)={}ms",
+                connectTimeoutMs, maxReadTimeoutMs);
         log.info("✅ RestTemplate Bean 등록 완료");
 
         return restTemplate;
     }
+
+    /**
+     * 현재 스레드에 지정된 Gemini 읽기 타임아웃이 있으면 요청 단위 RequestConfig를 담은 HttpContext를 생성합니다.
+     *
+     * @return 요청 단위 HttpContext, 지정된 타임아웃이 없으면 {@code null} (기본 설정 사용)
+     */
+    @SuppressWarnings("deprecation")
+    private HttpClientContext adaptiveHttpContext() {
+        Duration readTimeout = GeminiTimeoutContext.get();
+        if (readTimeout == null) {
+            return null;
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build());
+        return context;
+    }
+
     /**
      * Feign Client 요청에 대한 공통 인터셉터 빈을 등록합니다.
      * <p>
@@ -50,4 +97,24 @@ public class RestTemplateConfig {
     public RequestInterceptor feignTraceInterceptor() {
         return new FeignTraceInterceptor();
     }
+
+    /**
+     * Feign 요청에 남은 처리 시간을 헤더로 전달하는 인터셉터 빈을 등록합니다.
+     *
+     * @return {@link DeadlineFeignInterceptor} 인스턴스
+     */
+    @Bean
+    public RequestInterceptor deadlineFeignInterceptor() {
+        return new DeadlineFeignInterceptor();
+    }
+
+    /**
+     * Feign 호출 타임아웃을 요청 처리 시한까지 남은 시간으로 줄이는 Capability 빈을 등록합니다.
+     *
+     * @return {@link DeadlineFeignCapability} 인스턴스
+     */
+    @Bean
+    public Capability deadlineFeignCapability() {
+        return new DeadlineFeignCapability();
+    }
 }
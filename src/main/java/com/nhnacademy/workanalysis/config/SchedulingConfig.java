@@ -0,0 +1,12 @@
+package com.nhnacademy.workanalysis.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 리포트 사전 생성 등 정기 작업을 위한 스케줄링 설정 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
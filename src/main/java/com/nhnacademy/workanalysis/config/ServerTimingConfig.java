@@ -0,0 +1,55 @@
+package com.nhnacademy.workanalysis.config;
+
+import com.nhnacademy.workanalysis.timing.DbTimingSessionListener;
+import com.nhnacademy.workanalysis.timing.RequestTimings;
+import com.nhnacademy.workanalysis.timing.ServerTimingFeignCapability;
+import com.nhnacademy.workanalysis.timing.ServerTimingRestTemplateInterceptor;
+import feign.Capability;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code Server-Timing} 응답 헤더에 들어갈 요청 단위 타이밍({@link RequestTimings})을 수집하는 설정입니다.
+ * <p>
+ * Feign 호출은 대상 서비스 이름으로, Gemini RestTemplate 호출은 {@code gemini}로, JPA 문장 실행과 커넥션 획득은 {@code db}, {@code db-pool}로 기록됩니다.
+ * {@code server-timing.enabled=false}이면 수집용 빈과 Hibernate 세션 리스너가 모두 등록되지 않습니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    /**
+     * Feign 호출 시간을 기록하는 Capability 빈을 등록합니다.
+     *
+     * @return {@link ServerTimingFeignCapability} 인스턴스
+     */
+    @Bean
+    public Capability serverTimingFeignCapability() {
+        return new ServerTimingFeignCapability();
+    }
+
+    /**
+     * Gemini RestTemplate 호출 시간을 기록하는 인터셉터 빈을 등록합니다.
+     *
+     * @return {@link ServerTimingRestTemplateInterceptor} 인스턴스
+     */
+    @Bean
+    public ServerTimingRestTemplateInterceptor serverTimingRestTemplateInterceptor() {
+        return new ServerTimingRestTemplateInterceptor("gemini");
+    }
+
+    /**
+     * 모든 Hibernate 세션에 {@link DbTimingSessionListener}를 등록합니다.
+     *
+     * @return Hibernate 설정 커스터마이저
+     */
+    @Bean
+    public HibernatePropertiesCustomizer serverTimingHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                DbTimingSessionListener.class.getName());
+    }
+}
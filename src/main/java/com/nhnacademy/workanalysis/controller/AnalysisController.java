@@ -7,8 +7,12 @@ import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
 import com.nhnacademy.workanalysis.exception.GlobalAdviceHandler;
 import com.nhnacademy.workanalysis.exception.ThreadTitleEmptyException;
 import com.nhnacademy.workanalysis.exception.WorkEntryRecordNotFoundException;
+import com.nhnacademy.workanalysis.executor.WorkloadExecutors;
 import com.nhnacademy.workanalysis.generator.PdfReportGenerator;
+import com.nhnacademy.workanalysis.logging.LogPayloads;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
 import com.nhnacademy.workanalysis.service.AiChatService;
+import com.nhnacademy.workanalysis.service.history.HistoryLongPoller;
 import com.nhnacademy.workanalysis.service.report.ReportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +27,15 @@ import org.springframework.web.server.ResponseStatusException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Gemini 기반의 AI 분석 및 대화 히스토리를 관리하는 컨트롤러입니다.
+ * <p>
+ * AI 분석, 리포트 생성, PDF 다운로드는 {@link WorkloadExecutors}의 전용 풀에서 비동기로 처리하여
+ * 원격 호출 대기와 PDF 렌더링이 Tomcat 워커 스레드를 점유하지 않도록 합니다.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/v1/analysis")
@@ -37,18 +47,24 @@ public class AnalysisController {
     private final ReportService reportService;
     private final PdfReportGenerator pdfReportGenerator;
     private final MemberServiceClient memberServiceClient;
+    private final PipelineMetrics pipelineMetrics;
+    private final WorkloadExecutors workloadExecutors;
+    private final HistoryLongPoller historyLongPoller;
+
     /**
      * 사용자의 프롬프트 메시지를 기반으로 Gemini 분석을 요청합니다.
      *
      * @param request 분석 요청 메시지
-     * @return 분석 결과
+     * @return I/O 풀에서 완료되는 분석 결과
      */
     @PostMapping("/customs")
-    public ResponseEntity<GeminiAnalysisResponse> analyzeWithPrompt(@RequestBody @Valid GeminiAnalysisRequest request) {
+    public CompletableFuture<ResponseEntity<GeminiAnalysisResponse>> analyzeWithPrompt(@RequestBody @Valid GeminiAnalysisRequest request) {
         log.info("🔍 [분석 요청] mbNo={}, message count={}", request.getMemberNo(), request.getMessages().size());
-        GeminiAnalysisResponse result = aiChatService.analyze(request);
-        log.info("✅ [분석 완료] 응답 길이={}자", result.getFullText().length());
-        return ResponseEntity.ok(result);
+        return workloadExecutors.supplyIo(() -> {
+            GeminiAnalysisResponse result = aiChatService.analyze(request);
+            log.info("✅ [분석 완료] 응답 길이={}자", result.getFullText().length());
+            return ResponseEntity.ok(result);
+        });
     }
 
     /**
@@ -102,15 +118,17 @@ public class AnalysisController {
     }
 
     /**
-     * 특정 회원의 전체 쓰레드 목록을 조회합니다.
+     * 특정 회원의 전체 쓰레드 목록을 메시지 수, 마지막 활동 시각, 마지막 메시지 미리보기와 함께 조회합니다.
      *
      * @param mbNo 회원 번호
+     * @param sort 정렬 기준 ({@code createdAt} 기본값, {@code lastActivity})
      * @return 쓰레드 목록
      */
     @GetMapping("/members/{mbNo}/threads")
-    public ResponseEntity<List<AiChatThreadDto>> getThreads(@PathVariable Long mbNo) {
-        log.info("📋 [쓰레드 목록 조회] mbNo={}", mbNo);
-        List<AiChatThreadDto> threadList = aiChatService.getThreadsByMember(mbNo);
+    public ResponseEntity<List<AiChatThreadDto>> getThreads(@PathVariable Long mbNo,
+                                                            @RequestParam(defaultValue = "createdAt") String sort) {
+        log.info("📋 [쓰레드 목록 조회] mbNo={}, sort={}", mbNo, sort);
+        List<AiChatThreadDto> threadList = aiChatService.getThreadsByMember(mbNo, ThreadSort.from(sort));
         log.debug("📦 조회된 쓰레드 수={}", threadList.size());
         return ResponseEntity.ok(threadList);
     }
@@ -129,6 +147,41 @@ public class AnalysisController {
         return ResponseEntity.ok(dtoList);
     }
 
+    /**
+     * 클라이언트가 마지막으로 받은 메시지(커서) 이후에 저장된 대화 히스토리만 조회합니다.
+     * <p>
+     * 새 메시지가 없고 {@code wait}가 0보다 크면 최대 그 시간(초)만큼 새 메시지를 기다렸다가 응답합니다(롱 폴링).
+     * 대기 중에는 요청 스레드를 점유하지 않으며, 시간이 다 되면 빈 목록과 원래 커서를 돌려줍니다.
+     * </p>
+     *
+     * 요청 예시: {@code GET /api/v1/analysis/histories/1/delta?after=98&wait=20}
+     *
+     * 응답 예시 (200 OK):
+     * {
+     *   "threadId": 1,
+     *   "histories": [
+     *     { "historyId": 99, "role": "user", "content": "오늘 근무 기록 알려줘", "createdAt": "2025-05-22T13:35:00" }
+     *   ],
+     *   "cursor": 99,
+     *   "hasMore": false
+     * }
+     *
+     * @param threadId 쓰레드 ID
+     * @param after    마지막으로 받은 historyId (처음이면 0)
+     * @param limit    최대 조회 개수 (1~100)
+     * @param wait     새 메시지를 기다릴 최대 시간(초), 0이면 기다리지 않음
+     * @return 커서 이후의 히스토리(오래된 순)와 다음 요청에 사용할 커서
+     */
+    @GetMapping("/histories/{threadId}/delta")
+    public CompletableFuture<ResponseEntity<AiChatHistoryDeltaDto>> getHistoryDelta(
+            @PathVariable Long threadId,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+        log.debug("🔄 [히스토리 증분 조회] threadId={}, after={}, wait={}s", threadId, after, wait);
+        return historyLongPoller.poll(threadId, after, limit, wait).thenApply(ResponseEntity::ok);
+    }
+
     /**
      * 새로운 대화 메시지를 저장합니다.
      *
@@ -153,11 +206,12 @@ public class AnalysisController {
     @PostMapping("/histories")
     public ResponseEntity<AiChatHistoryDto> saveMessage(@RequestBody @Valid AiChatHistorySaveRequest request) {
         try {
-            // 👉 content 값 실제 확인
-            log.info("💬 [요청 파라미터] threadId={}, role={}, content={}",
-                    request.getThreadId(), request.getRole(), request.getContent());
+            log.info("💬 [요청 파라미터] threadId={}, role={}, 길이={}자",
+                    request.getThreadId(), request.getRole(), request.getContent().length());
+            log.debug("💬 [요청 본문] {}", LogPayloads.preview(request.getContent()));
 
-            AiChatHistoryDto saved = aiChatService.saveHistory(request.getThreadId(), request.getRole(), request.getContent());
+            AiChatHistoryDto saved = aiChatService.saveHistory(
+                    request.getThreadId(), request.getRole(), request.getContent(), request.getUsageId());
             log.debug("💾 [대화 저장 완료] historyId={}", saved.getHistoryId());
             return ResponseEntity.ok(saved);
         } catch (IllegalArgumentException e) {
@@ -177,24 +231,27 @@ public class AnalysisController {
      * HTTP 404 응답으로 반환됩니다.
      *
      * @param request 리포트 요청에 필요한 조건(mbNo, year, month, 상태코드)을 담은 DTO
-     * @return 생성된 분석 결과를 포함한 응답(JSON 형식)
+     * @return I/O 풀에서 완료되는 분석 결과를 포함한 응답(JSON 형식)
      */
 
     @PostMapping("/reports")
-    public ResponseEntity<GeminiAnalysisResponse> generateAttendanceReport(@RequestBody @Valid ReportRequestDto request) {
-        // 1. 사원 정보 확인 (FeignClient 통해 요약 조회)
-        try {
-            MemberInfoResponse member = memberServiceClient.getMemberByNo(request.getMbNo(), "summary");
-        } catch (Exception e) {
-            log.warn("해당 사원을 찾을 수 없습니다: mbNo={}", request.getMbNo());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 사원을 찾을 수 없습니다.");
-        }
+    public CompletableFuture<ResponseEntity<GeminiAnalysisResponse>> generateAttendanceReport(@RequestBody @Valid ReportRequestDto request) {
+        return workloadExecutors.supplyIo(() -> {
+            // 1. 사원 정보 확인 (FeignClient 통해 요약 조회)
+            try {
+                pipelineMetrics.time("reports", "member_check",
+                        () -> memberServiceClient.getMemberByNo(request.getMbNo(), "summary"));
+            } catch (Exception e) {
+                log.warn("해당 사원을 찾을 수 없습니다: mbNo={}", request.getMbNo());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 사원을 찾을 수 없습니다.");
+            }
 
-        // 2. 리포트 생성
-        GeminiAnalysisResponse response = aiChatService.generateReport(request);
+            // 2. 리포트 생성
+            GeminiAnalysisResponse response = aiChatService.generateReport(request);
 
-        // 3. 응답 반환
-        return ResponseEntity.ok(response);
+            // 3. 응답 반환
+            return ResponseEntity.ok(response);
+        });
     }
 
 
@@ -203,22 +260,30 @@ public class AnalysisController {
 
     /**
      * 특정 사원의 특정 월 근태 데이터를 기반으로 PDF 리포트를 생성하여 다운로드합니다.
+     * 사원·출결 조회는 I/O 풀에서, PDF 렌더링은 CPU 풀에서 실행합니다.
      *
      * @param mbNo 사원 번호
      * @param year 리포트 생성 연도
      * @param month 리포트 생성 월
-     * @return PDF 파일 바이트 및 응답 헤더 포함한 ResponseEntity
+     * @return CPU 풀에서 완료되는 PDF 파일 바이트 및 응답 헤더 포함한 ResponseEntity
      */
     @GetMapping("/reports/pdf")
-    public ResponseEntity<byte[]> downloadPdf(@RequestParam Long mbNo, @RequestParam int year, @RequestParam int month) {
-        // 사원 정보 조회
-        MemberInfoResponse member = memberServiceClient.getMemberByNo(mbNo, "summary");
+    public CompletableFuture<ResponseEntity<byte[]>> downloadPdf(@RequestParam Long mbNo, @RequestParam int year, @RequestParam int month) {
+        return workloadExecutors.supplyIo(() -> {
+            // 사원 정보 조회
+            MemberInfoResponse member = pipelineMetrics.time("pdf", "member_lookup",
+                    () -> memberServiceClient.getMemberByNo(mbNo, "summary"));
 
+            // 리포트 생성 (실제 summary 내부에 포함된 날짜 기준으로 PDF 제목 지정)
+            AttendanceReportDto reportDto = pipelineMetrics.time("pdf", "attendance_summary",
+                    () -> reportService.generateAttendanceReport(mbNo, year, month));
 
-        // 리포트 생성 (실제 summary 내부에 포함된 날짜 기준으로 PDF 제목 지정)
-        AttendanceReportDto reportDto = reportService.generateAttendanceReport(mbNo, year, month);
+            // PDF 생성은 요청 컨텍스트가 살아 있는 이 작업 안에서 CPU 풀에 넘김
+            return workloadExecutors.supplyCpu(() -> pdfResponse(member, reportDto));
+        }).thenCompose(Function.identity());
+    }
 
-        // PDF 생성
+    private ResponseEntity<byte[]> pdfResponse(MemberInfoResponse member, AttendanceReportDto reportDto) {
         byte[] pdfData = pdfReportGenerator.generateAttendancePdf(reportDto, member.getName(), reportDto.getYear(), reportDto.getMonth());
 
         // 파일명 생성: OOO_근무_리포트_2025-05.pdf
@@ -0,0 +1,374 @@
+package com.nhnacademy.workanalysis.datagen;
+
+import com.nhnacademy.workanalysis.entity.AiChatThread;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@code ai_chat_thread}, {@code ai_chat_history} 테이블에 대량의 합성 대화 데이터를 적재합니다.
+ * <p>
+ * JPA를 거치지 않고 JDBC로 직접 넣으며, 식별자는 현재 최댓값 다음부터 직접 부여해 부모 쓰레드와 메시지를 한 번에 씁니다.
+ * 적재 방식은 두 가지입니다.
+ * </p>
+ * <ul>
+ *     <li>기본: JDBC 배치 INSERT ({@code datagen.batch-size} 단위로 한 트랜잭션). MySQL은 JDBC URL에
+ *     {@code rewriteBatchedStatements=true}를 주어야 다중 행 INSERT로 전송됩니다.</li>
+ *     <li>{@code datagen.load-data=true} (MySQL 전용): 임시 TSV 파일에 쓴 뒤 {@code LOAD DATA LOCAL INFILE}로 적재.
+ *     JDBC URL에 {@code allowLoadLocalInfile=true}, 서버에 {@code local_infile=ON}이 필요합니다.</li>
+ * </ul>
+ * <p>
+ * 사원마다 {@code seed}와 사원 번호로 난수를 초기화하므로 같은 설정이면 적재 범위를 나눠 실행해도 같은 데이터가 만들어집니다.
+ * 시각은 {@code datagen.end-date} 0시를 기준으로 과거 {@code datagen.days}일 안에 고르게 분포합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class ChatDatasetGenerator {
+
+    private static final String INSERT_THREAD =
+            "INSERT INTO ai_chat_thread (thread_id, mb_no, title, created_at, message_count, last_activity_at, last_message_preview)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO ai_chat_history (history_id, thread_id, role, content, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final long PROGRESS_ROWS = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SyntheticChatContent content;
+    private final long seed;
+    private final long memberStart;
+    private final int members;
+    private final int days;
+    private final LocalDate endDate;
+    private final int batchSize;
+    private final boolean loadData;
+    private final int loadDataChunkRows;
+
+    public ChatDatasetGenerator(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${datagen.seed:20250601}") long seed,
+                                @Value("${datagen.member-start:1}") long memberStart,
+                                @Value("${datagen.members:100000}") int members,
+                                @Value("${datagen.days:365}") int days,
+                                @Value("${datagen.end-date:}") String endDate,
+                                @Value("${datagen.threads.alpha:1.2}") double threadAlpha,
+                                @Value("${datagen.threads.max:2000}") int maxThreads,
+                                @Value("${datagen.histories.median:8}") double historyMedian,
+                                @Value("${datagen.histories.sigma:1.0}") double historySigma,
+                                @Value("${datagen.histories.max:600}") int maxHistories,
+                                @Value("${datagen.ai-message.median-chars:1200}") double aiMedianChars,
+                                @Value("${datagen.ai-message.max-chars:8000}") int aiMaxChars,
+                                @Value("${datagen.batch-size:1000}") int batchSize,
+                                @Value("${datagen.load-data:false}") boolean loadData,
+                                @Value("${datagen.load-data-chunk-rows:200000}") int loadDataChunkRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.content = new SyntheticChatContent(threadAlpha, maxThreads, historyMedian, historySigma,
+                maxHistories, aiMedianChars, aiMaxChars);
+        this.seed = seed;
+        this.memberStart = memberStart;
+        this.members = members;
+        this.days = days;
+        this.endDate = endDate.isBlank() ? LocalDate.now() : LocalDate.parse(endDate);
+        this.batchSize = batchSize;
+        this.loadData = loadData;
+        this.loadDataChunkRows = loadDataChunkRows;
+    }
+
+    /**
+     * 설정된 사원 범위의 쓰레드와 메시지를 생성해 적재합니다.
+     *
+     * @return 적재한 행 수와 소요 시간
+     */
+    public Result generate() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        boolean mysql = product != null && product.toLowerCase().contains("mysql");
+        if (loadData && !mysql) {
+            throw new IllegalStateException("datagen.load-data는 MySQL에서만 사용할 수 있습니다. 현재 DB: " + product);
+        }
+
+        long nextThreadId = maxId("ai_chat_thread", "thread_id") + 1;
+        long nextHistoryId = maxId("ai_chat_history", "history_id") + 1;
+        LocalDateTime end = endDate.atStartOfDay();
+        long spanSeconds = Duration.ofDays(days).toSeconds();
+
+        log.info("🧪 합성 대화 데이터 적재 시작 - DB: {}, 방식: {}, 사원: {}~{}, 시작 ID: thread={}, history={}",
+                product, loadData ? "LOAD DATA" : "JDBC batch", memberStart, memberStart + members - 1,
+                nextThreadId, nextHistoryId);
+        long startedAt = System.nanoTime();
+        long nextProgress = PROGRESS_ROWS;
+
+        List<Message> messages = new ArrayList<>();
+        try (RowSink sink = loadData ? new LoadDataSink() : new BatchSink()) {
+            for (long mbNo = memberStart; mbNo < memberStart + members; mbNo++) {
+                Random random = new Random(seed * 31 + mbNo);
+                int threadCount = content.threadCount(random);
+                for (int t = 0; t < threadCount; t++) {
+                    long threadId = nextThreadId++;
+                    LocalDateTime createdAt = end.minusSeconds((long) (random.nextDouble() * spanSeconds));
+                    String title = content.title(random);
+
+                    // 쓰레드 행에 요약 컬럼을 함께 쓰기 위해 메시지를 먼저 만들어 둠 (난수 소비 순서는 그대로)
+                    messages.clear();
+                    LocalDateTime at = createdAt;
+                    int historyCount = content.historyCount(random);
+                    for (int h = 0; h < historyCount; h++) {
+                        boolean user = h % 2 == 0;
+                        at = at.plusSeconds(user ? 30 + random.nextInt(600) : 2 + random.nextInt(20));
+                        messages.add(new Message(nextHistoryId++, user ? "user" : "ai",
+                                user ? content.userMessage(random) : content.aiMessage(random), at));
+                    }
+
+                    Message last = messages.isEmpty() ? null : messages.getLast();
+                    sink.thread(threadId, mbNo, title, createdAt, messages.size(), at,
+                            last != null ? AiChatThread.preview(last.content()) : null);
+                    for (Message message : messages) {
+                        sink.history(message.historyId(), threadId, message.role(), message.content(), message.at());
+                    }
+                }
+                if (sink.histories() >= nextProgress) {
+                    log.info("🧪 적재 진행 - 사원 {}까지, thread {}건, history {}건, {}초 경과", mbNo,
+                            sink.threads(), sink.histories(), Duration.ofNanos(System.nanoTime() - startedAt).toSeconds());
+                    nextProgress += PROGRESS_ROWS;
+                }
+            }
+            sink.flush();
+
+            if (!mysql) {
+                restartIdentity("ai_chat_thread", "thread_id", nextThreadId);
+                restartIdentity("ai_chat_history", "history_id", nextHistoryId);
+            }
+            Result result = new Result(sink.threads(), sink.histories(), Duration.ofNanos(System.nanoTime() - startedAt));
+            log.info("✅ 합성 대화 데이터 적재 완료 - thread {}건, history {}건, {}초 ({} rows/s)", result.threads,
+                    result.histories, result.elapsed.toSeconds(), result.rowsPerSecond());
+            return result;
+        }
+    }
+
+    private long maxId(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 식별자를 직접 넣으면 H2의 IDENTITY 시퀀스는 따라오지 않으므로 다음 값을 맞춰 둡니다 (MySQL은 자동 조정).
+     */
+    private void restartIdentity(String table, String column, long next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    /**
+     * 쓰레드 행보다 먼저 만들어 두는 합성 메시지입니다.
+     */
+    private record Message(long historyId, String role, String content, LocalDateTime at) {
+    }
+
+    /**
+     * 적재 결과입니다.
+     *
+     * @param threads 적재한 쓰레드 수
+     * @param histories 적재한 메시지 수
+     * @param elapsed 소요 시간
+     */
+    public record Result(long threads, long histories, Duration elapsed) {
+
+        long rowsPerSecond() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return (threads + histories) * 1000 / millis;
+        }
+    }
+
+    /**
+     * 생성된 행을 받아 DB에 쓰는 대상입니다. 쓰레드는 항상 그 메시지보다 먼저 전달되며,
+     * 한 번에 적재되는 묶음 안에서도 쓰레드를 먼저 씁니다.
+     */
+    private abstract static class RowSink implements AutoCloseable {
+
+        private long threads;
+        private long histories;
+
+        final void thread(long threadId, long mbNo, String title, LocalDateTime createdAt,
+                          long messageCount, LocalDateTime lastActivityAt, String lastMessagePreview) {
+            threads++;
+            addThread(threadId, mbNo, title, createdAt, messageCount, lastActivityAt, lastMessagePreview);
+        }
+
+        final void history(long historyId, long threadId, String role, String content, LocalDateTime createdAt) {
+            histories++;
+            addHistory(historyId, threadId, role, content, createdAt);
+        }
+
+        long threads() {
+            return threads;
+        }
+
+        long histories() {
+            return histories;
+        }
+
+        abstract void addThread(long threadId, long mbNo, String title, LocalDateTime createdAt,
+                                long messageCount, LocalDateTime lastActivityAt, String lastMessagePreview);
+
+        abstract void addHistory(long historyId, long threadId, String role, String content, LocalDateTime createdAt);
+
+        abstract void flush();
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * JDBC 배치 INSERT. 메시지가 {@code batchSize}개 모이면 쌓인 쓰레드와 함께 한 트랜잭션으로 씁니다.
+     */
+    private final class BatchSink extends RowSink {
+
+        private final List<Object[]> threadRows = new ArrayList<>();
+        private final List<Object[]> historyRows = new ArrayList<>();
+
+        @Override
+        void addThread(long threadId, long mbNo, String title, LocalDateTime createdAt,
+                       long messageCount, LocalDateTime lastActivityAt, String lastMessagePreview) {
+            threadRows.add(new Object[]{threadId, mbNo, title, Timestamp.valueOf(createdAt),
+                    messageCount, Timestamp.valueOf(lastActivityAt), lastMessagePreview});
+        }
+
+        @Override
+        void addHistory(long historyId, long threadId, String role, String content, LocalDateTime createdAt) {
+            historyRows.add(new Object[]{historyId, threadId, role, content, Timestamp.valueOf(createdAt)});
+            if (historyRows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        void flush() {
+            if (threadRows.isEmpty() && historyRows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!threadRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_THREAD, threadRows);
+                }
+                if (!historyRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_HISTORY, historyRows);
+                }
+            });
+            threadRows.clear();
+            historyRows.clear();
+        }
+    }
+
+    /**
+     * MySQL {@code LOAD DATA LOCAL INFILE}. 메시지 {@code loadDataChunkRows}개마다 임시 TSV 파일 두 개를 적재하고 지웁니다.
+     * 본문의 역슬래시, 탭, 줄바꿈은 MySQL 기본 이스케이프({@code \})로 바꿔 씁니다.
+     */
+    private final class LoadDataSink extends RowSink {
+
+        private Path threadFile;
+        private Path historyFile;
+        private BufferedWriter threadWriter;
+        private BufferedWriter historyWriter;
+        private int chunkHistories;
+
+        LoadDataSink() {
+            open();
+        }
+
+        @Override
+        void addThread(long threadId, long mbNo, String title, LocalDateTime createdAt,
+                       long messageCount, LocalDateTime lastActivityAt, String lastMessagePreview) {
+            write(threadWriter, threadId + "\t" + mbNo + "\t" + escape(title) + "\t" + Timestamp.valueOf(createdAt)
+                    + "\t" + messageCount + "\t" + Timestamp.valueOf(lastActivityAt)
+                    + "\t" + (lastMessagePreview != null ? escape(lastMessagePreview) : "\\N") + "\n");
+        }
+
+        @Override
+        void addHistory(long historyId, long threadId, String role, String content, LocalDateTime createdAt) {
+            write(historyWriter, historyId + "\t" + threadId + "\t" + role + "\t" + escape(content) + "\t"
+                    + Timestamp.valueOf(createdAt) + "\n");
+            if (++chunkHistories >= loadDataChunkRows) {
+                flush();
+            }
+        }
+
+        @Override
+        void flush() {
+            try {
+                threadWriter.close();
+                historyWriter.close();
+                load(threadFile, "ai_chat_thread", "(thread_id, mb_no, title, created_at, message_count, last_activity_at, last_message_preview)");
+                load(historyFile, "ai_chat_history", "(history_id, thread_id, role, content, created_at)");
+                Files.deleteIfExists(threadFile);
+                Files.deleteIfExists(historyFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException("LOAD DATA 임시 파일 처리 실패", e);
+            }
+            chunkHistories = 0;
+            open();
+        }
+
+        @Override
+        public void close() {
+            try {
+                threadWriter.close();
+                historyWriter.close();
+                Files.deleteIfExists(threadFile);
+                Files.deleteIfExists(historyFile);
+            } catch (IOException e) {
+                log.warn("LOAD DATA 임시 파일 정리 실패: {}", e.getMessage());
+            }
+        }
+
+        private void open() {
+            try {
+                threadFile = Files.createTempFile("datagen-thread-", ".tsv");
+                historyFile = Files.createTempFile("datagen-history-", ".tsv");
+                threadWriter = Files.newBufferedWriter(threadFile, StandardCharsets.UTF_8);
+                historyWriter = Files.newBufferedWriter(historyFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("LOAD DATA 임시 파일 생성 실패", e);
+            }
+        }
+
+        private void load(Path file, String table, String columns) {
+            jdbcTemplate.execute("LOAD DATA LOCAL INFILE '" + file.toAbsolutePath().toString().replace('\\', '/')
+                    + "' INTO TABLE " + table + " CHARACTER SET utf8mb4"
+                    + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' " + columns);
+        }
+
+        private void write(BufferedWriter writer, String line) {
+            try {
+                writer.write(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException("LOAD DATA 임시 파일 쓰기 실패", e);
+            }
+        }
+
+        private String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.nhnacademy.workanalysis.datagen;
+
+import com.nhnacademy.workanalysis.repository.AiChatHistoryRepository;
+import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 적재된 데이터에 대해 대화 쓰레드/히스토리 조회 경로의 지연을 반복 측정합니다.
+ * <p>
+ * 측정 대상은 파생 쿼리({@code findTop100ByThreadThreadIdOrderByCreatedAtDesc}, {@code findByMbNoOrderByCreatedAtDesc})와
+ * QueryDSL 커스텀 리포지토리({@code findHistoriesByThreadIdDesc}, {@code findThreadsByMbNoDesc},
+ * {@code findThreadsByMbNoOrderByLastActivity})입니다.
+ * 각 쿼리는 두 가지 키 집합으로 실행합니다.
+ * </p>
+ * <ul>
+ *     <li>{@code sampled}: 고정 시드로 고른 기존 쓰레드와 그 쓰레드의 사원. 쓰레드가 많은 사원이 더 자주 뽑혀 실제 조회 분포와 비슷합니다.</li>
+ *     <li>{@code heaviest}: 메시지가 가장 많은 쓰레드, 쓰레드가 가장 많은 사원 (최악의 경우)</li>
+ * </ul>
+ * <p>
+ * 호출마다 새 읽기 전용 트랜잭션에서 실행해 영속성 컨텍스트 캐시가 결과에 섞이지 않게 하며,
+ * 워밍업 회차를 버린 뒤 측정 회차의 백분위 지연과 평균 반환 행 수를 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class ChatQueryBenchmark {
+
+    private final AiChatThreadRepository threadRepository;
+    private final AiChatHistoryRepository historyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long seed;
+    private final int samples;
+    private final int warmupRounds;
+    private final int measureRounds;
+
+    public ChatQueryBenchmark(AiChatThreadRepository threadRepository,
+                              AiChatHistoryRepository historyRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${datagen.seed:20250601}") long seed,
+                              @Value("${datagen.bench.samples:200}") int samples,
+                              @Value("${datagen.bench.warmup-rounds:1}") int warmupRounds,
+                              @Value("${datagen.bench.measure-rounds:3}") int measureRounds) {
+        this.threadRepository = threadRepository;
+        this.historyRepository = historyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.seed = seed;
+        this.samples = samples;
+        this.warmupRounds = warmupRounds;
+        this.measureRounds = measureRounds;
+    }
+
+    /**
+     * 모든 조회 경로를 측정하고 결과 표를 로그로 남깁니다.
+     *
+     * @return 쿼리/키 집합별 측정 결과
+     */
+    public List<QueryStats> run() {
+        Long minThreadId = jdbcTemplate.queryForObject("SELECT MIN(thread_id) FROM ai_chat_thread", Long.class);
+        Long maxThreadId = jdbcTemplate.queryForObject("SELECT MAX(thread_id) FROM ai_chat_thread", Long.class);
+        if (minThreadId == null || maxThreadId == null) {
+            log.warn("⚠️ 측정할 대화 쓰레드가 없습니다. datagen.load=true로 먼저 데이터를 적재하세요.");
+            return List.of();
+        }
+
+        Random random = new Random(seed);
+        List<Long> sampledThreads = new ArrayList<>(samples);
+        List<Long> sampledMembers = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            long probe = minThreadId + (long) (random.nextDouble() * (maxThreadId - minThreadId + 1));
+            jdbcTemplate.query("SELECT thread_id, mb_no FROM ai_chat_thread WHERE thread_id >= ? ORDER BY thread_id LIMIT 1",
+                    rs -> {
+                        sampledThreads.add(rs.getLong(1));
+                        sampledMembers.add(rs.getLong(2));
+                    }, probe);
+        }
+        long heaviestThread = jdbcTemplate.queryForList(
+                        "SELECT thread_id FROM ai_chat_history GROUP BY thread_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class)
+                .stream().findFirst().orElse(minThreadId);
+        long heaviestMember = jdbcTemplate.queryForList(
+                        "SELECT mb_no FROM ai_chat_thread GROUP BY mb_no ORDER BY COUNT(*) DESC LIMIT 1", Long.class)
+                .getFirst();
+        List<Long> heaviestThreads = Collections.nCopies(Math.min(samples, 50), heaviestThread);
+        List<Long> heaviestMembers = Collections.nCopies(Math.min(samples, 50), heaviestMember);
+        log.info("🧪 조회 벤치마크 시작 - 표본 {}개, 최다 메시지 쓰레드: {}, 최다 쓰레드 사원: {}",
+                sampledThreads.size(), heaviestThread, heaviestMember);
+
+        List<QueryStats> results = new ArrayList<>();
+        for (KeySet keySet : List.of(new KeySet("sampled", sampledThreads, sampledMembers),
+                new KeySet("heaviest", heaviestThreads, heaviestMembers))) {
+            results.add(measure("history.findTop100ByThreadThreadIdOrderByCreatedAtDesc", keySet.name, keySet.threads,
+                    id -> historyRepository.findTop100ByThreadThreadIdOrderByCreatedAtDesc(id).size()));
+            results.add(measure("history.findHistoriesByThreadIdDesc", keySet.name, keySet.threads,
+                    id -> historyRepository.findHistoriesByThreadIdDesc(id).size()));
+            results.add(measure("thread.findByMbNoOrderByCreatedAtDesc", keySet.name, keySet.members,
+                    mbNo -> threadRepository.findByMbNoOrderByCreatedAtDesc(mbNo).size()));
+            results.add(measure("thread.findThreadsByMbNoDesc", keySet.name, keySet.members,
+                    mbNo -> threadRepository.findThreadsByMbNoDesc(mbNo).size()));
+            results.add(measure("thread.findThreadsByMbNoDesc(limit 20)", keySet.name, keySet.members,
+                    mbNo -> threadRepository.findThreadsByMbNoDesc(mbNo, 20).size()));
+            results.add(measure("thread.findThreadsByMbNoOrderByLastActivity", keySet.name, keySet.members,
+                    mbNo -> threadRepository.findThreadsByMbNoOrderByLastActivity(mbNo).size()));
+        }
+
+        StringBuilder table = new StringBuilder(String.format("%n%-56s %-9s %6s %9s %9s %9s %9s %9s %9s%n",
+                "query", "keys", "calls", "avg rows", "mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        results.forEach(r -> table.append(String.format("%-56s %-9s %6d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                r.getQuery(), r.getKeys(), r.getCalls(), r.getAvgRows(), r.getMeanMs(), r.getP50Ms(), r.getP95Ms(),
+                r.getP99Ms(), r.getMaxMs())));
+        log.info("📊 조회 벤치마크 결과{}", table);
+        return results;
+    }
+
+    private QueryStats measure(String query, String keys, List<Long> ids, Function<Long, Integer> call) {
+        for (int round = 0; round < warmupRounds; round++) {
+            ids.forEach(id -> execute(call, id));
+        }
+
+        long[] nanos = new long[ids.size() * measureRounds];
+        long rows = 0;
+        int n = 0;
+        for (int round = 0; round < measureRounds; round++) {
+            for (Long id : ids) {
+                long start = System.nanoTime();
+                rows += execute(call, id);
+                nanos[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        double mean = Arrays.stream(nanos).average().orElse(0);
+        return new QueryStats(query, keys, n, n == 0 ? 0 : (double) rows / n, mean / 1e6,
+                percentile(nanos, 50), percentile(nanos, 95), percentile(nanos, 99),
+                n == 0 ? 0 : nanos[n - 1] / 1e6);
+    }
+
+    private int execute(Function<Long, Integer> call, Long id) {
+        Integer rows = transactionTemplate.execute(status -> call.apply(id));
+        return rows == null ? 0 : rows;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1e6;
+    }
+
+    private record KeySet(String name, List<Long> threads, List<Long> members) {
+    }
+
+    /**
+     * 쿼리 하나의 측정 결과입니다.
+     */
+    @lombok.Value
+    public static class QueryStats {
+        String query;
+        String keys;
+        int calls;
+        double avgRows;
+        double meanMs;
+        double p50Ms;
+        double p95Ms;
+        double p99Ms;
+        double maxMs;
+    }
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.workanalysis.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code datagen} 프로필로 실행했을 때 합성 데이터 적재와 조회 벤치마크를 차례로 수행하고 종료합니다.
+ * <pre>
+ * java -jar work-analysis.jar --spring.profiles.active=datagen --datagen.members=1000000
+ * java -jar work-analysis.jar --spring.profiles.active=datagen --datagen.load=false   # 벤치마크만 다시 실행
+ * </pre>
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGenerationRunner implements ApplicationRunner {
+
+    private final ChatDatasetGenerator generator;
+    private final ChatQueryBenchmark benchmark;
+    private final ApplicationContext applicationContext;
+
+    @Value("${datagen.load:true}")
+    private boolean load;
+
+    @Value("${datagen.bench:true}")
+    private boolean bench;
+
+    @Value("${datagen.exit-on-complete:true}")
+    private boolean exitOnComplete;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (load) {
+            generator.generate();
+        }
+        if (bench) {
+            benchmark.run();
+        }
+        if (exitOnComplete) {
+            log.info("🧪 datagen 작업 완료 - 애플리케이션을 종료합니다.");
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
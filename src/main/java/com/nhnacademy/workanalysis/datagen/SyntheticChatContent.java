@@ -0,0 +1,132 @@
+package com.nhnacademy.workanalysis.datagen;
+
+import java.util.Random;
+
+/**
+ * 합성 대화 데이터의 분포와 본문을 만듭니다.
+ * <p>
+ * 실제 사용 패턴처럼 소수의 사원이 대부분의 쓰레드를 만들도록 사원별 쓰레드 수는 파레토 분포,
+ * 쓰레드별 메시지 수는 로그정규 분포를 따릅니다. AI 응답은 Gemini 응답과 비슷한 길이의 한국어 마크다운이며,
+ * 사용자 메시지는 짧은 질문입니다. 같은 {@link Random} 상태에서는 항상 같은 값을 만듭니다.
+ * </p>
+ */
+public class SyntheticChatContent {
+
+    private static final String[] TOPICS = {
+            "지각", "조퇴", "연차", "외근", "출장", "야근", "주말 근무", "출근 시간", "퇴근 시간", "근무 시간",
+            "휴가 계획", "근태 코드", "월간 리포트", "재택 근무", "반차"
+    };
+    private static final String[] QUESTIONS = {
+            "%s 현황을 알려주세요.",
+            "이번 달 %s 패턴이 지난달과 어떻게 다른가요?",
+            "%s 관련해서 개선할 점이 있을까요?",
+            "팀 평균과 비교했을 때 제 %s 수준은 어떤가요?",
+            "최근 3개월 %s 추이를 요약해 주세요.",
+            "%s 때문에 리포트 점수가 낮아졌나요?"
+    };
+    private static final String[] SENTENCES = {
+            "최근 4주간의 출근 기록을 보면 평균 출근 시각은 8시 47분으로 팀 평균보다 약 6분 빠릅니다.",
+            "지각은 월요일과 금요일에 집중되어 있으며, 전체 지각 중 62%가 해당 요일에 발생했습니다.",
+            "외근 일수는 지난달 대비 2일 증가했지만 외근 후 복귀 기록이 누락된 날은 없습니다.",
+            "야근이 3일 연속으로 이어진 주가 두 번 있어 업무량 조정이 필요해 보입니다.",
+            "연차 사용률은 42%로 연간 권장 사용 속도보다 다소 느린 편입니다.",
+            "주말 근무는 한 차례 있었고, 대체 휴무가 같은 달 안에 사용되었습니다.",
+            "출퇴근 시각의 편차가 크지 않아 근무 패턴은 전반적으로 안정적입니다.",
+            "반차 사용이 오후에 몰려 있어 오후 회의 일정과의 충돌 여부를 확인하는 것이 좋겠습니다.",
+            "결근 기록은 없으며 질병 휴가는 증빙 서류와 함께 정상 처리되었습니다.",
+            "재택 근무일의 평균 근무 시간은 사무실 근무일보다 18분 길게 기록되었습니다.",
+            "월말 마감 주간에는 퇴근 시각이 평균 1시간 12분 늦어지는 경향이 있습니다.",
+            "지난 분기와 비교하면 지각 횟수는 5회에서 2회로 줄어 개선 추세가 뚜렷합니다.",
+            "출장 기간 동안의 근무 시간은 이동 시간을 포함해 일 평균 9.4시간으로 집계되었습니다.",
+            "근태 코드 변경 이력이 두 건 있으며 모두 관리자 승인 후 반영되었습니다.",
+            "다음 달에는 연차를 분산해서 사용하면 월말 업무 집중도를 낮출 수 있습니다."
+    };
+    private static final String[] HEADINGS = {
+            "## 근태 분석 요약", "### 주요 지표", "### 요일별 패턴", "### 개선 제안", "### 종합 의견"
+    };
+
+    private final double threadAlpha;
+    private final int maxThreads;
+    private final double historyMedian;
+    private final double historySigma;
+    private final int maxHistories;
+    private final double aiMedianChars;
+    private final int aiMaxChars;
+
+    /**
+     * @param threadAlpha 사원별 쓰레드 수 파레토 분포의 형상 모수 (작을수록 편중이 심함)
+     * @param maxThreads 사원 한 명의 최대 쓰레드 수
+     * @param historyMedian 쓰레드별 메시지 수의 중앙값
+     * @param historySigma 쓰레드별 메시지 수 로그정규 분포의 σ
+     * @param maxHistories 쓰레드 하나의 최대 메시지 수
+     * @param aiMedianChars AI 응답 길이(문자 수)의 중앙값
+     * @param aiMaxChars AI 응답의 최대 길이(문자 수)
+     */
+    public SyntheticChatContent(double threadAlpha, int maxThreads, double historyMedian, double historySigma,
+                                int maxHistories, double aiMedianChars, int aiMaxChars) {
+        this.threadAlpha = threadAlpha;
+        this.maxThreads = maxThreads;
+        this.historyMedian = historyMedian;
+        this.historySigma = historySigma;
+        this.maxHistories = maxHistories;
+        this.aiMedianChars = aiMedianChars;
+        this.aiMaxChars = aiMaxChars;
+    }
+
+    /**
+     * @param random 난수 생성기
+     * @return 사원 한 명의 쓰레드 수 (1 이상)
+     */
+    public int threadCount(Random random) {
+        double u = 1.0 - random.nextDouble();
+        return (int) Math.min(maxThreads, Math.floor(Math.pow(u, -1.0 / threadAlpha)));
+    }
+
+    /**
+     * @param random 난수 생성기
+     * @return 쓰레드 하나의 메시지 수 (1 이상)
+     */
+    public int historyCount(Random random) {
+        long count = Math.round(historyMedian * Math.exp(historySigma * random.nextGaussian()));
+        return (int) Math.max(1, Math.min(maxHistories, count));
+    }
+
+    /**
+     * @param random 난수 생성기
+     * @return 쓰레드 제목
+     */
+    public String title(Random random) {
+        return TOPICS[random.nextInt(TOPICS.length)] + " 관련 문의 " + (1 + random.nextInt(999));
+    }
+
+    /**
+     * @param random 난수 생성기
+     * @return 사용자 질문 (수십 자)
+     */
+    public String userMessage(Random random) {
+        return String.format(QUESTIONS[random.nextInt(QUESTIONS.length)], TOPICS[random.nextInt(TOPICS.length)]);
+    }
+
+    /**
+     * 제목과 목록이 섞인 마크다운 AI 응답을 만듭니다. 길이는 로그정규 분포를 따르며 {@code aiMaxChars}를 넘지 않습니다.
+     *
+     * @param random 난수 생성기
+     * @return AI 응답 본문
+     */
+    public String aiMessage(Random random) {
+        int target = (int) Math.min(aiMaxChars, Math.max(80, aiMedianChars * Math.exp(0.6 * random.nextGaussian())));
+        StringBuilder text = new StringBuilder(target + 128);
+        int heading = 0;
+        while (text.length() < target) {
+            if (text.length() == 0 || random.nextInt(5) == 0) {
+                text.append(HEADINGS[heading++ % HEADINGS.length]).append("\n\n");
+            }
+            text.append(random.nextBoolean() ? "- " : "")
+                    .append(SENTENCES[random.nextInt(SENTENCES.length)]).append('\n');
+        }
+        if (text.length() > aiMaxChars) {
+            text.setLength(aiMaxChars);
+        }
+        return text.toString();
+    }
+}
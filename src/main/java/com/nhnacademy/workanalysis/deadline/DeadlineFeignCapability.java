@@ -0,0 +1,54 @@
+package com.nhnacademy.workanalysis.deadline;
+
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign 클라이언트의 연결/읽기 타임아웃을 요청 처리 시한까지 남은 시간 이하로 줄이는 Capability입니다.
+ * <p>
+ * 시한이 이미 지났으면 호출하지 않고 {@link DeadlineExceededException}을 던지며,
+ * 줄어든 타임아웃으로 인해 I/O 오류가 나고 그 사이 시한이 지났다면 같은 예외로 변환합니다.
+ * 로드밸런서 클라이언트를 감싸므로 인스턴스 선택 후 실제 호출에 적용됩니다.
+ * </p>
+ */
+public class DeadlineFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            if (RequestDeadline.remaining().isEmpty()) {
+                return client.execute(request, options);
+            }
+            String target = targetName(request);
+            RequestDeadline.check(target + " 호출");
+            try {
+                return client.execute(request, tighten(options));
+            } catch (IOException e) {
+                if (RequestDeadline.isExpired()) {
+                    throw new DeadlineExceededException(
+                            "요청 처리 시한 안에 " + target + " 응답을 받지 못했습니다.", e);
+                }
+                throw e;
+            }
+        };
+    }
+
+    private static String targetName(Request request) {
+        return request.requestTemplate() != null && request.requestTemplate().feignTarget() != null
+                ? request.requestTemplate().feignTarget().name()
+                : request.url();
+    }
+
+    private static Request.Options tighten(Request.Options options) {
+        long connect = RequestDeadline.clamp(Duration.ofMillis(options.connectTimeoutMillis())).toMillis();
+        long read = RequestDeadline.clamp(Duration.ofMillis(options.readTimeoutMillis())).toMillis();
+        return new Request.Options(Math.max(1, connect), TimeUnit.MILLISECONDS,
+                Math.max(1, read), TimeUnit.MILLISECONDS, options.isFollowRedirects());
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.workanalysis.deadline;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Feign 요청에 남은 처리 시간을 {@value RequestDeadline#HEADER} 헤더로 전달하는 인터셉터입니다.
+ * 하위 서비스는 이 값을 자신의 처리 시한으로 사용하여 응답이 버려질 작업을 일찍 중단할 수 있습니다.
+ */
+public class DeadlineFeignInterceptor implements RequestInterceptor {
+
+    @Override
+    public void apply(RequestTemplate template) {
+        RequestDeadline.remaining().ifPresent(left ->
+                template.header(RequestDeadline.HEADER, String.valueOf(Math.max(1, left.toMillis()))));
+    }
+}
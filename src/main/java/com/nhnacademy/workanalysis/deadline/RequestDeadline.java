@@ -0,0 +1,124 @@
+package com.nhnacademy.workanalysis.deadline;
+
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 처리 시한(deadline)을 보관하는 컨텍스트입니다.
+ * <p>
+ * {@link RequestDeadlineFilter}가 요청 헤더 또는 엔드포인트별 기본값으로 시한을 지정하며,
+ * Feign/Gemini 호출은 남은 시간으로 타임아웃을 줄이고 시한이 지나면 작업을 시작하지 않습니다.
+ * 시한이 지정되지 않은 스레드(배치 작업 등)에서는 모든 메서드가 제한 없이 동작합니다.
+ * 시한은 {@link System#nanoTime()} 기준으로 저장되어 시스템 시계 변경의 영향을 받지 않습니다.
+ * </p>
+ */
+public final class RequestDeadline {
+
+    /**
+     * 요청에 남은 처리 시간(ms)을 주고받는 헤더 이름입니다.
+     */
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * 현재 시각부터 주어진 시간 뒤를 처리 시한으로 지정합니다.
+     *
+     * @param budget 처리에 허용된 시간
+     */
+    public static void start(Duration budget) {
+        DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * 현재 스레드에 지정된 처리 시한을 제거합니다.
+     */
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * 처리 시한까지 남은 시간을 반환합니다.
+     *
+     * @return 남은 시간 (시한이 지났으면 0), 시한이 없으면 빈 값
+     */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+    }
+
+    /**
+     * @return 처리 시한이 지정되어 있고 이미 지났으면 {@code true}
+     */
+    public static boolean isExpired() {
+        return remaining().map(Duration::isZero).orElse(false);
+    }
+
+    /**
+     * 주어진 시간만큼 기다린 뒤에도 처리 시한이 남아 있는지 확인합니다.
+     *
+     * @param wait 대기할 시간
+     * @return 대기 후에도 시간이 남으면 {@code true}, 시한이 없으면 항상 {@code true}
+     */
+    public static boolean allows(Duration wait) {
+        return remaining().map(left -> left.compareTo(wait) > 0).orElse(true);
+    }
+
+    /**
+     * 타임아웃을 남은 처리 시간 이하로 줄입니다.
+     *
+     * @param timeout 원래 타임아웃
+     * @return 원래 타임아웃과 남은 시간 중 짧은 값
+     */
+    public static Duration clamp(Duration timeout) {
+        return remaining().filter(left -> left.compareTo(timeout) < 0).orElse(timeout);
+    }
+
+    /**
+     * 처리 시한이 지났으면 다음 단계를 시작하지 않도록 예외를 던집니다.
+     *
+     * @param stage 시작하려는 작업 이름 (로그 및 응답 메시지용)
+     * @throws DeadlineExceededException 처리 시한이 지난 경우
+     */
+    public static void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException("요청 처리 시한이 지나 " + stage + " 작업을 중단했습니다.");
+        }
+    }
+
+    /**
+     * 현재 스레드의 처리 시한을 다른 스레드에서 실행될 작업에 전달합니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @param <T>  결과 타입
+     * @return 실행 동안 같은 처리 시한이 적용되는 작업
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = DEADLINE_NANOS.get();
+            DEADLINE_NANOS.set(deadline);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    DEADLINE_NANOS.remove();
+                } else {
+                    DEADLINE_NANOS.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.nhnacademy.workanalysis.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 요청마다 처리 시한({@link RequestDeadline})을 지정하는 필터입니다.
+ * <p>
+ * 호출자가 {@value RequestDeadline#HEADER} 헤더로 남은 시간을 보내면 그 값을 사용하고(최대 {@code request.deadline.max-ms}),
+ * 없으면 엔드포인트별 기본값을 사용합니다. 기본값이 0인 엔드포인트는 처리 시한을 두지 않습니다.
+ * 헤더 값이 0 이하이면 호출자의 시한이 이미 지난 것이므로 처리하지 않고 바로 504로 응답합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration reportsBudget;
+    private final Duration customsBudget;
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+
+    public RequestDeadlineFilter(@Value("${request.deadline.reports-ms:20000}") long reportsMs,
+                                 @Value("${request.deadline.customs-ms:25000}") long customsMs,
+                                 @Value("${request.deadline.default-ms:0}") long defaultMs,
+                                 @Value("${request.deadline.max-ms:60000}") long maxMs) {
+        this.reportsBudget = Duration.ofMillis(reportsMs);
+        this.customsBudget = Duration.ofMillis(customsMs);
+        this.defaultBudget = Duration.ofMillis(defaultMs);
+        this.maxBudget = Duration.ofMillis(maxMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Optional<Duration> requested = requestedBudget(request);
+        if (requested.isPresent() && !requested.get().isPositive()) {
+            log.debug("⌛ 처리 시한이 이미 지난 요청 거절 - {}: {}ms", RequestDeadline.HEADER, requested.get().toMillis());
+            reject(response);
+            return;
+        }
+        Duration budget = requested.orElseGet(() -> endpointBudget(request.getRequestURI()));
+        if (!budget.isPositive()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestDeadline.start(budget);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    /**
+     * 요청 헤더 또는 엔드포인트 기본값으로 처리 시간을 결정합니다.
+     *
+     * @param request HTTP 요청
+     * @return 처리에 허용할 시간, 0이면 시한 없음 (헤더 값이 0 이하이면 그 값)
+     */
+    Duration resolveBudget(HttpServletRequest request) {
+        return requestedBudget(request).orElseGet(() -> endpointBudget(request.getRequestURI()));
+    }
+
+    /**
+     * 호출자가 헤더로 보낸 남은 시간을 읽습니다.
+     *
+     * @param request HTTP 요청
+     * @return 최대값으로 제한한 남은 시간 (0 이하일 수 있음), 헤더가 없거나 형식이 잘못되면 빈 값
+     */
+    private Optional<Duration> requestedBudget(HttpServletRequest request) {
+        String header = request.getHeader(RequestDeadline.HEADER);
+        if (header == null || header.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+            return Optional.of(requested.compareTo(maxBudget) > 0 ? maxBudget : requested);
+        } catch (NumberFormatException e) {
+            log.debug("처리 시한 헤더 형식 오류 - {}: {}", RequestDeadline.HEADER, header);
+            return Optional.empty();
+        }
+    }
+
+    private Duration endpointBudget(String uri) {
+        if (uri.endsWith("/reports") || uri.endsWith("/reports/pdf")) {
+            return reportsBudget;
+        }
+        if (uri.endsWith("/customs")) {
+            return customsBudget;
+        }
+        return defaultBudget;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청 처리 시한이 이미 지났습니다.");
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.workanalysis.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 클라이언트가 마지막으로 받은 메시지 이후의 대화 히스토리만 전달하는 DTO 클래스입니다.
+ * 다음 요청의 {@code after}에는 {@link #cursor}를 그대로 보내면 됩니다.
+ */
+@Value
+public class AiChatHistoryDeltaDto {
+
+    /**
+     * 조회한 쓰레드 ID입니다.
+     */
+    @NotNull
+    Long threadId;
+
+    /**
+     * 커서 이후에 저장된 메시지입니다. 오래된 순(historyId 오름차순)으로 정렬됩니다.
+     */
+    @NotNull
+    List<AiChatHistoryDto> histories;
+
+    /**
+     * 이번 응답까지 받은 마지막 historyId입니다. 새 메시지가 없으면 요청한 커서와 같습니다.
+     */
+    @NotNull
+    Long cursor;
+
+    /**
+     * 한 번에 돌려줄 수 있는 개수를 넘어 아직 받지 않은 메시지가 남아 있으면 {@code true}입니다.
+     */
+    boolean hasMore;
+}
@@ -12,6 +12,9 @@ import lombok.*;
  * - threadId: 대화가 소속될 쓰레드 ID
  * - role: 메시지를 보낸 주체 (예: "user", "AI")
  * - content: 메시지 본문 텍스트
+ *
+ * 선택 입력값:
+ * - usageId: AI 응답을 저장할 때, 분석 응답에 포함된 토큰 사용량 기록 ID
  */
 @Data
 @NoArgsConstructor
@@ -38,4 +41,10 @@ public class AiChatHistorySaveRequest {
      */
     @NotBlank(message = "메시지 내용은 필수입니다.")
     private String content;
+
+    /**
+     * 이 AI 응답을 만든 Gemini 호출의 토큰 사용량 기록 ID입니다.
+     * 분석 응답의 usageId를 그대로 전달하며, 없으면 사용량 기록을 연결하지 않습니다.
+     */
+    private Long usageId;
 }
@@ -40,4 +40,21 @@ public class AiChatThreadDto {
     @NotNull
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime createdAt;
+
+    /**
+     * 쓰레드에 저장된 메시지 수입니다.
+     */
+    long messageCount;
+
+    /**
+     * 마지막 메시지 저장 일시입니다. 메시지가 없으면 생성 일시와 같습니다.
+     */
+    @NotNull
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime lastActivityAt;
+
+    /**
+     * 마지막 메시지 미리보기입니다. 줄바꿈을 공백으로 바꾸고 100자에서 자릅니다. 메시지가 없으면 {@code null}입니다.
+     */
+    String lastMessagePreview;
 }
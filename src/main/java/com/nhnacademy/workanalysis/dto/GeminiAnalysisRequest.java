@@ -34,5 +34,17 @@ public class GeminiAnalysisRequest {
      */
     private List<WorkRecordDto> workRecords;
 
+    /**
+     * 분석 요청이 발생한 대화 쓰레드 ID입니다. (선택)
+     * 지정하면 토큰 사용량이 해당 쓰레드 및 이후 저장되는 AI 응답 히스토리와 연결됩니다.
+     */
+    private Long threadId;
+
+    /**
+     * AI(Gemini) 분석을 명시적으로 요청하는지 여부입니다. (선택)
+     * 지정하지 않으면 근무 기록으로 계산 가능한 정형 질문은 Gemini 호출 없이 규칙 기반으로 응답합니다.
+     */
+    private Boolean useAi;
+
 
 }
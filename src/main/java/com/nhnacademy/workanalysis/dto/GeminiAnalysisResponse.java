@@ -1,15 +1,17 @@
 package com.nhnacademy.workanalysis.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.Value;
+import lombok.With;
 
 /**
  * Gemini 분석 요청에 대한 응답 결과를 담는 DTO 클래스입니다.
  */
 @Value
+@AllArgsConstructor
 public class GeminiAnalysisResponse {
 
     /**
@@ -24,4 +26,17 @@ public class GeminiAnalysisResponse {
      */
     @NotBlank
      String fullText;
+
+    /**
+     * 이 응답을 만든 Gemini 호출의 토큰 사용량 기록 ID입니다.
+     * AI 응답을 히스토리로 저장할 때 함께 보내면 사용량 기록이 해당 히스토리와 연결됩니다.
+     * 캐시나 저장된 리포트에서 가져온 응답처럼 Gemini를 호출하지 않았으면 null이며 응답 본문에 포함되지 않습니다.
+     */
+    @With
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+     Long usageId;
+
+    public GeminiAnalysisResponse(Long memberNo, String fullText) {
+        this(memberNo, fullText, null);
+    }
 }
@@ -25,4 +25,10 @@ public class ReportRequestDto {
 
     @NotEmpty(message = "상태 코드 리스트는 비어 있을 수 없습니다.")
     private List<String> statusCodes;
+
+    /**
+     * AI(Gemini) 분석을 명시적으로 요청하는지 여부입니다. (선택)
+     * 지정하지 않으면 표준 월간 요약을 Gemini 호출 없이 규칙 기반으로 생성합니다.
+     */
+    private Boolean useAi;
 }
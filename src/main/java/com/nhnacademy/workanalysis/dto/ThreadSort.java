@@ -0,0 +1,40 @@
+package com.nhnacademy.workanalysis.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쓰레드 목록 정렬 기준입니다. 요청 파라미터 {@code sort}의 값과 대응합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThreadSort {
+
+    /**
+     * 생성일 내림차순 (기본값)
+     */
+    CREATED_AT("createdAt"),
+
+    /**
+     * 마지막 메시지 시각 내림차순
+     */
+    LAST_ACTIVITY("lastActivity");
+
+    private final String parameter;
+
+    /**
+     * 요청 파라미터 값으로 정렬 기준을 찾습니다.
+     *
+     * @param parameter {@code createdAt} 또는 {@code lastActivity}
+     * @return 정렬 기준
+     * @throws IllegalArgumentException 지원하지 않는 값일 경우
+     */
+    public static ThreadSort from(String parameter) {
+        for (ThreadSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. sort=" + parameter);
+    }
+}
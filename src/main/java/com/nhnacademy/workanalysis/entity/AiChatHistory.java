@@ -20,11 +20,15 @@ import java.time.LocalDateTime;
  * - content: 메시지 본문 (Lob, 길이 제한 없음)
  * - created_at: 생성 시간
  * - thread_id: 소속 쓰레드 (ManyToOne 관계)
+ * <p>
+ * (thread_id, history_id) 인덱스는 커서 이후 메시지만 조회하는 증분 동기화에 사용됩니다.
  */
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "ai_chat_history")
+@Table(name = "ai_chat_history", indexes = {
+        @Index(name = "idx_chat_history_thread_history", columnList = "thread_id, history_id")
+})
 public class AiChatHistory {
 
     @Id
@@ -20,14 +20,25 @@ import java.util.List;
  * - title: 사용자가 지정한 쓰레드 제목
  * - mb_no: 해당 쓰레드를 소유한 사원 번호
  * - created_at: 쓰레드 생성 시간
+ * - message_count, last_activity_at, last_message_preview: 목록 화면용 요약 (메시지 저장 시 함께 갱신)
  * - histories: 쓰레드에 속한 전체 대화 메시지 목록 (OneToMany)
+ *
+ * 요약 컬럼은 쓰레드 목록에서 쓰레드마다 히스토리를 다시 조회하지 않도록 비정규화한 값입니다.
+ * 컬럼이 추가되기 전에 만들어진 쓰레드는 message_count가 비어 있으며, 기동 시 한 번 채워집니다.
  */
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "ai_chat_thread")
+@Table(name = "ai_chat_thread", indexes = {
+        @Index(name = "idx_chat_thread_member_activity", columnList = "mb_no, last_activity_at")
+})
 public class AiChatThread {
 
+    /**
+     * 마지막 메시지 미리보기 최대 길이 (말줄임표 제외)
+     */
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "thread_id")
@@ -43,6 +54,15 @@ public class AiChatThread {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "message_count")
+    private Long messageCount;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH + 1)
+    private String lastMessagePreview;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "thread", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AiChatHistory> histories = new ArrayList<>();
 
@@ -51,13 +71,43 @@ public class AiChatThread {
         AiChatThread thread = new AiChatThread();
         thread.mbNo = mbNo;
         thread.title = title;
+        thread.messageCount = 0L;
         return thread;
     }
 
-    // createdAt 자동 세팅
+    // createdAt 자동 세팅, 메시지가 없는 쓰레드의 마지막 활동 시각은 생성 시각
     @PrePersist
     private void setCreatedAt() {
         this.createdAt = LocalDateTime.now();
+        if (this.lastActivityAt == null) {
+            this.lastActivityAt = this.createdAt;
+        }
+    }
+
+    // 요약 재계산 (요약 컬럼이 비어 있는 기존 쓰레드용)
+    public void applySummary(long messageCount, LocalDateTime lastMessageAt, String lastMessageContent) {
+        this.messageCount = messageCount;
+        this.lastActivityAt = lastMessageAt != null ? lastMessageAt : this.createdAt;
+        this.lastMessagePreview = preview(lastMessageContent);
+    }
+
+    /**
+     * 메시지 본문을 목록에 보여줄 한 줄 미리보기로 줄입니다.
+     * 연속된 공백과 줄바꿈은 공백 하나로 바꾸고, {@value #PREVIEW_LENGTH}자를 넘으면 잘라서 말줄임표를 붙입니다.
+     *
+     * @param content 메시지 본문
+     * @return 미리보기, 본문이 없으면 {@code null}
+     */
+    public static String preview(String content) {
+        if (content == null) {
+            return null;
+        }
+        String line = content.strip().replaceAll("\\s+", " ");
+        if (line.length() <= PREVIEW_LENGTH) {
+            return line;
+        }
+        int end = Character.isHighSurrogate(line.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return line.substring(0, end) + "…";
     }
 
     // 제목 수정
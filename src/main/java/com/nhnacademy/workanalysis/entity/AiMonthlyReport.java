@@ -0,0 +1,77 @@
+package com.nhnacademy.workanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gemini로 생성한 사원별 월간 리포트를 저장하는 JPA 엔티티 클래스입니다.
+ * <p>
+ * 야간 사전 생성 작업 또는 실시간 리포트 요청에서 생성된 결과가 저장되며,
+ * 같은 사원/연월의 리포트 요청은 저장된 결과를 그대로 반환합니다.
+ * 리포트 생성에 사용한 근무 기록의 해시를 함께 보관하여, 이후 출결 정보가 수정되면 저장된 리포트를 사용하지 않습니다.
+ * <p>
+ * 주요 컬럼:
+ * - report_id: 기본 키 (자동 생성)
+ * - mb_no, report_year, report_month: 리포트 대상 (유니크)
+ * - full_text: 리포트 본문
+ * - data_version: 리포트 생성에 사용한 근무 기록 해시
+ * - created_at: 생성(갱신) 시간
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "ai_monthly_report", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_report_member_month", columnNames = {"mb_no", "report_year", "report_month"})
+})
+public class AiMonthlyReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "report_id")
+    private Long reportId;
+
+    @Column(name = "mb_no", nullable = false)
+    private Long mbNo;
+
+    @Column(name = "report_year", nullable = false)
+    private int year;
+
+    @Column(name = "report_month", nullable = false)
+    private int month;
+
+    @Lob
+    @Column(name = "full_text", nullable = false, columnDefinition = "TEXT")
+    private String fullText;
+
+    @Column(name = "data_version", nullable = false)
+    private int dataVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 생성 메서드
+    public static AiMonthlyReport of(Long mbNo, int year, int month, String fullText, int dataVersion) {
+        AiMonthlyReport report = new AiMonthlyReport();
+        report.mbNo = mbNo;
+        report.year = year;
+        report.month = month;
+        report.fullText = fullText;
+        report.dataVersion = dataVersion;
+        return report;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void setCreatedAt() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 리포트 갱신
+    public void update(String fullText, int dataVersion) {
+        this.fullText = fullText;
+        this.dataVersion = dataVersion;
+    }
+}
@@ -0,0 +1,89 @@
+package com.nhnacademy.workanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gemini 호출 한 건의 토큰 사용량을 저장하는 JPA 엔티티 클래스입니다.
+ * <p>
+ * 호출을 발생시킨 사원, 엔드포인트, 모델과 함께 저장되며,
+ * 대화 쓰레드에서 발생한 호출은 쓰레드 ID와 AI 응답 히스토리 ID로 연결됩니다.
+ * 쓰레드가 삭제되어도 사용량 집계가 유지되도록 연관관계 대신 식별자만 보관합니다.
+ * <p>
+ * 주요 컬럼:
+ * - usage_id: 기본 키 (자동 생성)
+ * - mb_no: 호출한 사원 번호
+ * - endpoint: 호출 경로 구분 (customs, reports)
+ * - model: 응답을 생성한 모델
+ * - prompt_tokens / candidates_tokens / total_tokens: usageMetadata 토큰 수
+ * - thread_id, history_id: 연결된 쓰레드 및 히스토리 (nullable)
+ * - created_at: 기록 시간
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "ai_token_usage", indexes = {
+        @Index(name = "idx_token_usage_member_created", columnList = "mb_no, created_at"),
+        @Index(name = "idx_token_usage_thread", columnList = "thread_id, history_id")
+})
+public class AiTokenUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "usage_id")
+    private Long usageId;
+
+    @Column(name = "mb_no", nullable = false)
+    private Long mbNo;
+
+    @Column(name = "endpoint", nullable = false, length = 20)
+    private String endpoint;
+
+    @Column(name = "model", nullable = false, length = 50)
+    private String model;
+
+    @Column(name = "prompt_tokens", nullable = false)
+    private int promptTokens;
+
+    @Column(name = "candidates_tokens", nullable = false)
+    private int candidatesTokens;
+
+    @Column(name = "total_tokens", nullable = false)
+    private int totalTokens;
+
+    @Column(name = "thread_id")
+    private Long threadId;
+
+    @Column(name = "history_id")
+    private Long historyId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 생성 메서드
+    public static AiTokenUsage of(Long mbNo, Long threadId, String endpoint, String model,
+                                  int promptTokens, int candidatesTokens, int totalTokens) {
+        AiTokenUsage usage = new AiTokenUsage();
+        usage.mbNo = mbNo;
+        usage.threadId = threadId;
+        usage.endpoint = endpoint;
+        usage.model = model;
+        usage.promptTokens = promptTokens;
+        usage.candidatesTokens = candidatesTokens;
+        usage.totalTokens = totalTokens;
+        return usage;
+    }
+
+    @PrePersist
+    private void setCreatedAt() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 응답 히스토리 연결
+    public void linkHistory(Long historyId) {
+        this.historyId = historyId;
+    }
+}
@@ -0,0 +1,46 @@
+package com.nhnacademy.workanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 중인 analysis-service 인스턴스의 하트비트를 저장하는 JPA 엔티티 클래스입니다.
+ * <p>
+ * 각 인스턴스는 주기적으로 하트비트 시각을 갱신하며, 일정 시간 동안 갱신되지 않은 노드는
+ * 장애로 간주되어 샤드 배정에서 제외됩니다.
+ * <p>
+ * 주요 컬럼:
+ * - node_id: 인스턴스 식별자
+ * - started_at: 최초 등록 시간
+ * - heartbeat_at: 마지막 하트비트 시간
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "cluster_node", indexes = {
+        @Index(name = "idx_cluster_node_heartbeat", columnList = "heartbeat_at")
+})
+public class ClusterNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    // 생성 메서드
+    public static ClusterNode of(String nodeId, LocalDateTime now) {
+        ClusterNode node = new ClusterNode();
+        node.nodeId = nodeId;
+        node.startedAt = now;
+        node.heartbeatAt = now;
+        return node;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.workanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스가 공유하는 이름 있는 임대(lease)를 저장하는 JPA 엔티티 클래스입니다.
+ * <p>
+ * 임대는 만료 시각까지 한 인스턴스만 보유할 수 있으며, 획득과 갱신은
+ * "보유자가 자신이거나 만료된 경우에만 갱신"하는 조건부 UPDATE로 수행됩니다.
+ * 리더 선출 등 인스턴스 간 조정에 사용됩니다.
+ * <p>
+ * 주요 컬럼:
+ * - lease_name: 임대 이름 (예: scheduler-leader)
+ * - owner_id: 현재 보유 인스턴스 식별자
+ * - expires_at: 만료 시간
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "distributed_lease")
+public class DistributedLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String leaseName;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 생성 메서드
+    public static DistributedLease of(String leaseName, String ownerId, LocalDateTime expiresAt) {
+        DistributedLease lease = new DistributedLease();
+        lease.leaseName = leaseName;
+        lease.ownerId = ownerId;
+        lease.expiresAt = expiresAt;
+        return lease;
+    }
+}
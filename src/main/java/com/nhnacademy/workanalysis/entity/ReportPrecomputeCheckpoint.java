@@ -0,0 +1,123 @@
+package com.nhnacademy.workanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 월간 리포트 사전 생성 작업의 진행 상황을 저장하는 JPA 엔티티 클래스입니다.
+ * <p>
+ * 회원 목록을 페이지 단위로 처리할 때마다 다음에 처리할 페이지를 기록하여,
+ * 작업이 중단되거나 시간 창이 끝나도 다음 실행에서 이어서 처리할 수 있도록 합니다.
+ * <p>
+ * 주요 컬럼:
+ * - job_key: 작업 식별자 (예: monthly-report:2025-05)
+ * - next_page: 다음에 처리할 회원 목록 페이지 (0부터 시작)
+ * - processed / skipped / failed: 생성 완료, 생략, 실패 사원 수
+ * - failed_members: 실패 후 아직 재시도에 성공하지 못한 사원 번호 (쉼표 구분, 다음 실행에서 먼저 재시도)
+ * - completed: 모든 페이지 처리 완료 여부
+ * - updated_at: 마지막 갱신 시간
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "report_precompute_checkpoint")
+public class ReportPrecomputeCheckpoint {
+
+    @Id
+    @Column(name = "job_key", length = 50)
+    private String jobKey;
+
+    @Column(name = "next_page", nullable = false)
+    private int nextPage;
+
+    @Column(name = "processed", nullable = false)
+    private int processed;
+
+    @Column(name = "skipped", nullable = false)
+    private int skipped;
+
+    @Column(name = "failed", nullable = false)
+    private int failed;
+
+    @Lob
+    @Getter(AccessLevel.NONE)
+    @Column(name = "failed_members")
+    private String failedMembers;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 생성 메서드
+    public static ReportPrecomputeCheckpoint start(String jobKey) {
+        ReportPrecomputeCheckpoint checkpoint = new ReportPrecomputeCheckpoint();
+        checkpoint.jobKey = jobKey;
+        return checkpoint;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void setUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 한 페이지 처리 결과 반영 (실패한 사원은 재시도 대상으로 기록)
+    public void advance(int processed, int skipped, List<Long> failedMemberNos) {
+        this.nextPage++;
+        this.processed += processed;
+        this.skipped += skipped;
+        this.failed += failedMemberNos.size();
+        List<Long> pending = getFailedMemberNos();
+        pending.addAll(failedMemberNos);
+        setFailedMemberNos(pending);
+    }
+
+    // 재시도에 성공한 사원 반영 (생성 또는 생략)
+    public void resolveFailed(Long mbNo, boolean generated) {
+        List<Long> pending = getFailedMemberNos();
+        if (!pending.remove(mbNo)) {
+            return;
+        }
+        setFailedMemberNos(pending);
+        this.failed--;
+        if (generated) {
+            this.processed++;
+        } else {
+            this.skipped++;
+        }
+    }
+
+    // 재시도 대상 사원 번호
+    public List<Long> getFailedMemberNos() {
+        if (failedMembers == null || failedMembers.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(failedMembers.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public boolean hasFailedMembers() {
+        return failedMembers != null && !failedMembers.isBlank();
+    }
+
+    private void setFailedMemberNos(List<Long> mbNos) {
+        this.failedMembers = mbNos.isEmpty() ? null
+                : mbNos.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    // 모든 페이지 처리 완료
+    public void complete() {
+        this.completed = true;
+    }
+}
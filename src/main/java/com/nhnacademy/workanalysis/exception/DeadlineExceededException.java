@@ -0,0 +1,14 @@
+package com.nhnacademy.workanalysis.exception;
+
+/**
+ * 요청 처리 시한(deadline)이 지나 남은 작업을 중단할 때 발생하는 예외입니다.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.nhnacademy.workanalysis.exception;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -17,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 전역 예외 처리 클래스입니다.
@@ -196,6 +198,32 @@ public class GlobalAdviceHandler {
                 .body("해당번호에 맴버는 존재하지 않습니다ㅣ" + ex.getMessage());
     }
 
+    /**
+     * 사원의 일일 토큰 예산을 모두 사용한 경우 예외를 처리합니다.
+     *
+     * @param ex {@link TokenBudgetExceededException}
+     * @return 429 Too Many Requests
+     */
+    @ExceptionHandler(TokenBudgetExceededException.class)
+    public ResponseEntity<String> handleTokenBudgetExceededException(TokenBudgetExceededException ex) {
+        log.warn("🚫 토큰 예산 초과: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ex.getMessage());
+    }
+
+    /**
+     * 요청 처리 시한이 지나 작업을 중단한 경우 예외를 처리합니다.
+     *
+     * @param ex {@link DeadlineExceededException}
+     * @return 504 Gateway Timeout
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<String> handleDeadlineExceededException(DeadlineExceededException ex) {
+        log.warn("⌛ 요청 처리 시한 초과: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ex.getMessage());
+    }
+
     /**
      * PDF 리포트 생성 중 오류 발생 시 예외를 처리합니다.
      *
@@ -209,6 +237,19 @@ public class GlobalAdviceHandler {
                 .body("PDF 리포트를 생성하는 중 오류가 발생했습니다: " + ex.getMessage());
     }
 
+    /**
+     * 분석 실행기 풀의 대기열이 가득 차 작업을 받을 수 없는 경우 예외를 처리합니다.
+     *
+     * @param ex {@link RejectedExecutionException}
+     * @return 503 Service Unavailable
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("🧵 분석 실행기 포화: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
 
     /**
      * 그 외 모든 예외 처리 핸들러입니다.
@@ -0,0 +1,10 @@
+package com.nhnacademy.workanalysis.exception;
+
+/**
+ * 사원의 일일 Gemini 토큰 예산을 모두 사용한 상태에서 분석을 요청할 때 발생하는 예외입니다.
+ */
+public class TokenBudgetExceededException extends RuntimeException {
+    public TokenBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.workanalysis.executor;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 실행기 풀에서 처리되는 비동기 요청의 시간 초과를 요청 처리 시한에 맞추고, 시간 초과 시 남은 작업을 취소하는 인터셉터입니다.
+ * <p>
+ * 처리 시한({@link RequestDeadline})이 있는 요청은 남은 시간에 {@code grace}를 더한 만큼 기다립니다.
+ * 시한이 지나면 작업이 스스로 {@code DeadlineExceededException}으로 끝나 504로 응답하므로, 컨테이너 시간 초과는 그보다 늦게 둡니다.
+ * 시한이 없는 요청은 기본 시간 초과({@code request.async.default-timeout-ms})를 따릅니다.
+ * 시간 초과되면 요청의 {@link RequestTaskGroup}을 취소하여 응답을 받을 수 없는 작업이 Gemini를 다시 호출하지 않게 합니다.
+ * </p>
+ */
+@Slf4j
+public class AsyncTimeoutInterceptor implements DeferredResultProcessingInterceptor {
+
+    private final Duration grace;
+    private final Counter timeouts;
+
+    public AsyncTimeoutInterceptor(Duration grace, MeterRegistry meterRegistry) {
+        this.grace = grace;
+        this.timeouts = Counter.builder("analysis.async.timeouts")
+                .description("Async requests that timed out and had their pool tasks cancelled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            RequestDeadline.remaining().ifPresent(left -> asyncWebRequest.setTimeout(left.plus(grace).toMillis()));
+        }
+    }
+
+    @Override
+    public <T> boolean handleTimeout(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        timeouts.increment();
+        RequestTaskGroup group = RequestTaskGroup.of(request);
+        int cancelled = group != null ? group.cancel() : 0;
+        log.warn("⌛ 비동기 요청 시간 초과 - uri: {}, 취소한 작업: {}", request.getDescription(false), cancelled);
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.nhnacademy.workanalysis.executor;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 한 HTTP 요청이 {@link WorkloadExecutors}에 제출한 작업 묶음입니다.
+ * <p>
+ * 요청 스레드에서 처음 작업을 제출할 때 요청 속성에 만들어지고, 풀 스레드에서 실행되는 작업에 전달되므로
+ * 작업 안에서 다시 제출한 작업(예: I/O 풀 작업이 넘기는 PDF 렌더링)도 같은 묶음에 속합니다.
+ * 비동기 요청이 시간 초과되면 {@link #cancel()}으로 아직 시작하지 않은 작업은 실행하지 않고,
+ * 실행 중인 작업은 인터럽트하여 Gemini 재시도 대기 등에서 멈추게 합니다.
+ * </p>
+ */
+public final class RequestTaskGroup {
+
+    static final String ATTRIBUTE = RequestTaskGroup.class.getName();
+
+    private static final ThreadLocal<RequestTaskGroup> CURRENT = new ThreadLocal<>();
+
+    private final Set<CompletableFuture<?>> futures = ConcurrentHashMap.newKeySet();
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    /**
+     * 현재 스레드가 속한 작업 묶음을 반환합니다. 풀 스레드에서는 전달받은 묶음을, 요청 스레드에서는 요청 속성의 묶음을 사용합니다.
+     *
+     * @return 작업 묶음, 요청과 관계없는 스레드면 {@code null}
+     */
+    static RequestTaskGroup current() {
+        RequestTaskGroup group = CURRENT.get();
+        if (group != null) {
+            return group;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        group = (RequestTaskGroup) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (group == null) {
+            group = new RequestTaskGroup();
+            attributes.setAttribute(ATTRIBUTE, group, RequestAttributes.SCOPE_REQUEST);
+        }
+        return group;
+    }
+
+    /**
+     * 요청에 만들어진 작업 묶음을 찾습니다.
+     *
+     * @param attributes 요청 속성
+     * @return 작업 묶음, 요청이 작업을 제출하지 않았으면 {@code null}
+     */
+    public static RequestTaskGroup of(RequestAttributes attributes) {
+        return (RequestTaskGroup) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 작업을 이 묶음 안에서 실행되도록 감쌉니다. 묶음이 이미 취소되었으면 작업을 시작하지 않습니다.
+     */
+    <T> Supplier<T> bind(Supplier<T> task) {
+        return () -> {
+            RequestTaskGroup previous = CURRENT.get();
+            Thread thread = Thread.currentThread();
+            CURRENT.set(this);
+            running.add(thread);
+            try {
+                if (cancelled) {
+                    throw new CancellationException("요청이 시간 초과되어 작업을 시작하지 않습니다.");
+                }
+                return task.get();
+            } finally {
+                synchronized (this) {
+                    running.remove(thread);
+                    // 작업이 끝난 뒤 도착한 취소 인터럽트가 다음 작업에 남지 않도록 지움
+                    if (cancelled) {
+                        Thread.interrupted();
+                    }
+                }
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 제출한 작업의 결과를 묶음에 등록합니다. 이미 취소된 묶음이면 바로 취소합니다.
+     */
+    void register(CompletableFuture<?> future) {
+        futures.add(future);
+        future.whenComplete((result, ex) -> futures.remove(future));
+        if (cancelled) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * 묶음의 모든 작업을 취소합니다. 시작하지 않은 작업은 실행되지 않고, 실행 중인 작업의 스레드는 인터럽트됩니다.
+     *
+     * @return 취소한 작업 수
+     */
+    public int cancel() {
+        cancelled = true;
+        int count = 0;
+        for (CompletableFuture<?> future : futures) {
+            if (future.cancel(false)) {
+                count++;
+            }
+        }
+        synchronized (this) {
+            running.forEach(Thread::interrupt);
+        }
+        return count;
+    }
+
+    /**
+     * @return 취소되었으면 {@code true}
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
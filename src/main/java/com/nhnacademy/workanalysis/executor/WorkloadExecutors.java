@@ -0,0 +1,150 @@
+package com.nhnacademy.workanalysis.executor;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import com.nhnacademy.workanalysis.logging.MdcContext;
+import com.nhnacademy.workanalysis.profiling.RequestAllocations;
+import com.nhnacademy.workanalysis.timing.RequestTimings;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 분석 요청의 무거운 작업을 Tomcat 워커 스레드에서 분리해 실행하는 전용 실행기 모음입니다.
+ * <p>
+ * CPU 풀은 PDF 차트 렌더링처럼 계산이 대부분인 작업용이며 기본 크기가 CPU 코어 수입니다.
+ * I/O 풀은 Gemini·Feign 호출처럼 원격 응답을 기다리는 작업용이며 코어 수와 무관하게 더 크게 둡니다.
+ * 두 풀 모두 큐가 가득 차면 {@link java.util.concurrent.RejectedExecutionException}을 던지며, 전역 예외 처리기가 503으로 응답합니다.
+ * 호출 스레드에서 대신 실행하면 다시 워커 스레드를 점유하게 되므로 그렇게 하지 않습니다.
+ * </p>
+ * 작업에는 제출한 스레드의 처리 시한({@link RequestDeadline}), 타이밍 컨텍스트({@link RequestTimings}), 할당량 집계({@link RequestAllocations})가 전달되며,
+ * 요청이 제출한 작업은 {@link RequestTaskGroup}에 묶여 비동기 요청이 시간 초과되면 함께 취소됩니다.
+ * 풀별 스레드 수·큐 길이·완료 수·실행 시간은 {@code executor.*} 지표({@code name} 태그), 사용률은 {@code analysis.executor.utilization{pool}}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class WorkloadExecutors {
+
+    public static final String CPU = "analysis-cpu";
+    public static final String IO = "analysis-io";
+
+    private final ThreadPoolExecutor cpuPool;
+    private final ThreadPoolExecutor ioPool;
+    private final ExecutorService cpu;
+    private final ExecutorService io;
+
+    public WorkloadExecutors(MeterRegistry meterRegistry,
+                             @Value("${executor.cpu.pool-size:0}") int cpuPoolSize,
+                             @Value("${executor.cpu.queue-capacity:32}") int cpuQueueCapacity,
+                             @Value("${executor.io.pool-size:64}") int ioPoolSize,
+                             @Value("${executor.io.queue-capacity:128}") int ioQueueCapacity) {
+        int cpuSize = cpuPoolSize > 0 ? cpuPoolSize : Runtime.getRuntime().availableProcessors();
+        this.cpuPool = newPool(CPU, cpuSize, cpuQueueCapacity);
+        this.ioPool = newPool(IO, ioPoolSize, ioQueueCapacity);
+        this.cpu = monitor(meterRegistry, cpuPool, CPU);
+        this.io = monitor(meterRegistry, ioPool, IO);
+        log.info("🧵 분석 실행기 구성 - cpu: {}스레드/큐 {}, io: {}스레드/큐 {}",
+                cpuSize, cpuQueueCapacity, ioPoolSize, ioQueueCapacity);
+    }
+
+    /**
+     * 계산 위주 작업을 CPU 풀에서 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과를 담은 {@link CompletableFuture}
+     * @throws java.util.concurrent.RejectedExecutionException CPU 풀의 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> supplyCpu(Supplier<T> task) {
+        return submit(task, cpu);
+    }
+
+    /**
+     * 원격 호출을 기다리는 작업을 I/O 풀에서 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과를 담은 {@link CompletableFuture}
+     * @throws java.util.concurrent.RejectedExecutionException I/O 풀의 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> supplyIo(Supplier<T> task) {
+        return submit(task, io);
+    }
+
+    /**
+     * 현재 스레드의 요청 컨텍스트(처리 시한, 타이밍, 작업 묶음)로 I/O 풀에 작업을 제출하는 함수를 준비합니다.
+     * 반환된 함수는 어느 스레드에서 몇 번 호출하든 준비한 시점의 요청 작업으로 제출하므로,
+     * 다른 요청의 스레드가 완료할 수 있는 신호에 이어서 작업을 제출할 때 사용합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T>  결과 타입
+     * @return 호출할 때마다 작업을 I/O 풀에 제출하는 함수
+     */
+    public <T> Supplier<CompletableFuture<T>> prepareIo(Supplier<T> task) {
+        return prepare(task, io);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cpuPool.shutdownNow();
+        ioPool.shutdownNow();
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> task, ExecutorService pool) {
+        return prepare(task, pool).get();
+    }
+
+    private static <T> Supplier<CompletableFuture<T>> prepare(Supplier<T> task, ExecutorService pool) {
+        RequestTaskGroup group = RequestTaskGroup.current();
+        if (group == null) {
+            Supplier<T> propagated = propagate(task);
+            return () -> CompletableFuture.supplyAsync(propagated, pool);
+        }
+        Supplier<T> propagated = propagate(group.bind(task));
+        return () -> {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(propagated, pool);
+            group.register(future);
+            return future;
+        };
+    }
+
+    private static <T> Supplier<T> propagate(Supplier<T> task) {
+        return MdcContext.propagate(
+                RequestAllocations.propagate(RequestTimings.propagate(RequestDeadline.propagate(task))));
+    }
+
+    private static ThreadPoolExecutor newPool(String name, int size, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ExecutorService monitor(MeterRegistry meterRegistry, ThreadPoolExecutor pool, String name) {
+        Gauge.builder("analysis.executor.utilization", pool,
+                        p -> (double) p.getActiveCount() / p.getMaximumPoolSize())
+                .description("Fraction of the pool's threads currently running a task")
+                .tag("pool", name)
+                .register(meterRegistry);
+        return ExecutorServiceMetrics.monitor(meterRegistry, pool, name, Tags.empty());
+    }
+}
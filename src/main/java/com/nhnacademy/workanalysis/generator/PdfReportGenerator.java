@@ -9,6 +9,8 @@ import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
 import com.nhnacademy.workanalysis.exception.PdfReportGenerationException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import com.nhnacademy.workanalysis.timing.RequestTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -26,34 +28,100 @@ import java.util.Map;
 public class PdfReportGenerator {
 
     private static final String DEFAULT_FONT_PATH = "classpath:font/NotoSansKR-Regular.ttf";
+    private static final String PIPELINE = "pdf";
     private final ResourceLoader resourceLoader;
-    private java.awt.Font awtKoreanFont; // AWT용 폰트 (차트용)
+    private final PipelineMetrics pipelineMetrics;
+    private volatile BaseFont baseFont; // iText용 폰트, 한 번만 로드하여 재사용
+    private volatile java.awt.Font awtKoreanFont; // AWT용 폰트 (차트용)
 
-    public PdfReportGenerator(ResourceLoader resourceLoader) {
+    public PdfReportGenerator(ResourceLoader resourceLoader, PipelineMetrics pipelineMetrics) {
         this.resourceLoader = resourceLoader;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
+    /**
+     * 근태 리포트 PDF를 생성합니다.
+     * 폰트 로드, 차트 렌더링, PDF 작성 단계의 처리 시간과 생성된 PDF 크기는 {@link PipelineMetrics}에 기록되며,
+     * 전체 생성 시간은 요청의 {@code Server-Timing} 헤더에 {@code render} 항목으로 포함됩니다.
+     *
+     * @param reportDto  근태 요약 데이터
+     * @param memberName 사원 이름
+     * @param year       리포트 연도
+     * @param month      리포트 월
+     * @return PDF 바이트
+     * @throws PdfReportGenerationException PDF 생성에 실패한 경우
+     */
     public byte[] generateAttendancePdf(AttendanceReportDto reportDto, String memberName, int year, int month) {
+        long start = System.nanoTime();
+        try {
+            // 📌 폰트 로드 (BaseFont + AWT Font 등록)
+            BaseFont baseFont = pipelineMetrics.time(PIPELINE, "font_load", this::loadFonts);
+
+            // 차트 렌더링
+            List<Image> charts = pipelineMetrics.time(PIPELINE, "chart_render", () -> {
+                Image barChart = createBarChartImage(reportDto.getStatusCountMap());
+                barChart.scaleToFit(520f, 240f);
+                Image doughnutChart = createDoughnutChartImage(reportDto.getStatusCountMap());
+                doughnutChart.scaleToFit(480f, 250f);
+                return List.of(barChart, doughnutChart);
+            });
+
+            byte[] pdf = pipelineMetrics.time(PIPELINE, "pdf_write",
+                    () -> writeDocument(reportDto, memberName, year, month, baseFont, charts));
+            pipelineMetrics.recordPdfBytes(pdf.length);
+            return pdf;
+
+        } catch (Exception e) {
+            log.error("❌ PDF 리포트 생성 실패: 사용자={}, 연도={}, 월={}, 원인={}", memberName, year, month, e.getMessage(), e);
+            throw new PdfReportGenerationException("PDF 리포트 생성 중 오류 발생", e);
+        } finally {
+            RequestTimings.record("render", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 한글 폰트로 iText용 BaseFont를 만들고, 차트용 AWT 폰트를 등록합니다.
+     * 폰트는 처음 호출될 때 메모리로 한 번만 읽어 두고 이후 렌더링에서는 재사용하므로
+     * 임시 파일을 만들거나 AWT에 폰트를 다시 등록하지 않습니다.
+     * 차트 렌더링 메서드와 함께 벤치마크에서 단계별로 측정할 수 있도록 패키지 범위로 둡니다.
+     *
+     * @return iText용 BaseFont
+     * @throws Exception 폰트 파일을 읽거나 생성하지 못한 경우
+     */
+    BaseFont loadFonts() throws Exception {
+        BaseFont loaded = baseFont;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (baseFont == null) {
+                byte[] fontBytes;
+                try (InputStream is = resourceLoader.getResource(DEFAULT_FONT_PATH).getInputStream()) {
+                    fontBytes = is.readAllBytes();
+                }
+
+                // AWT용 java.awt.Font 등록 (baseFont보다 먼저 기록하여 baseFont가 보이면 AWT 폰트도 보이도록 함)
+                java.awt.Font awtFont = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT,
+                        new ByteArrayInputStream(fontBytes)).deriveFont(14f);
+                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(awtFont);
+                awtKoreanFont = awtFont;
+
+                // iText용 BaseFont (이름의 .ttf 확장자로 TrueType 형식을 판단함)
+                baseFont = BaseFont.createFont("NotoSansKR-Regular.ttf", BaseFont.IDENTITY_H, BaseFont.EMBEDDED,
+                        false, fontBytes, null);
+                log.info("🔤 PDF 한글 폰트 로드 완료 - 크기={}bytes", fontBytes.length);
+            }
+            return baseFont;
+        }
+    }
+
+    private byte[] writeDocument(AttendanceReportDto reportDto, String memberName, int year, int month,
+                                 BaseFont baseFont, List<Image> charts) throws IOException {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4, 20, 20, 20, 20);
             PdfWriter.getInstance(document, out);
             document.open();
 
-            // 📌 폰트 로드 (BaseFont + AWT Font 등록)
-            Resource fontResource = resourceLoader.getResource(DEFAULT_FONT_PATH);
-            File tempFontFile = File.createTempFile("tempFont", ".ttf");
-            try (InputStream is = fontResource.getInputStream();
-                 OutputStream os = new FileOutputStream(tempFontFile)) {
-                is.transferTo(os);
-            }
-
-            // iText용 BaseFont
-            BaseFont baseFont = BaseFont.createFont(tempFontFile.getAbsolutePath(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
-
-            // AWT용 java.awt.Font 등록
-            awtKoreanFont = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, tempFontFile).deriveFont(14f);
-            GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(awtKoreanFont);
-
             // 제목
             Font titleFont = new Font(baseFont, 18, Font.BOLD);
             Paragraph title = new Paragraph(String.format("근태 리포트 %d년 %02d월 (%s 사원)", year, month, memberName), titleFont);
@@ -76,20 +144,12 @@ public class PdfReportGenerator {
             document.add(summaryTable);
 
             // 차트 추가
-            Image barChart = createBarChartImage(reportDto.getStatusCountMap());
-            barChart.scaleToFit(520f, 240f);
-            document.add(barChart);
-
-            Image doughnutChart = createDoughnutChartImage(reportDto.getStatusCountMap());
-            doughnutChart.scaleToFit(480f, 250f);
-            document.add(doughnutChart);
+            for (Image chart : charts) {
+                document.add(chart);
+            }
 
             document.close();
             return out.toByteArray();
-
-        } catch (Exception e) {
-            log.error("❌ PDF 리포트 생성 실패: 사용자={}, 연도={}, 월={}, 원인={}", memberName, year, month, e.getMessage(), e);
-            throw new PdfReportGenerationException("PDF 리포트 생성 중 오류 발생", e);
         }
     }
 
@@ -139,7 +199,7 @@ public class PdfReportGenerator {
     }
 
 
-    private Image createBarChartImage(Map<Long, Long> codeCountMap) throws Exception {
+    Image createBarChartImage(Map<Long, Long> codeCountMap) throws Exception {
         int width = 720, height = 270;
         BufferedImage chart = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g = chart.createGraphics();
@@ -193,7 +253,7 @@ public class PdfReportGenerator {
         return Image.getInstance(chart, null);
     }
 
-    private Image createDoughnutChartImage(Map<Long, Long> codeCountMap) throws Exception {
+    Image createDoughnutChartImage(Map<Long, Long> codeCountMap) throws Exception {
         int width = 720, height = 350;
         BufferedImage chart = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g = chart.createGraphics();
@@ -0,0 +1,192 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 엔드포인트 묶음({@link EndpointGroup})별로 적응형 동시 처리 한도({@link GradientLimit})를 적용합니다.
+ * <p>
+ * 한도를 넘는 요청은 대기시키지 않고 바로 거절하므로, 과부하 시 요청이 Tomcat 대기열에 쌓였다가 한꺼번에 시간 초과되지 않습니다.
+ * 묶음들은 요청 스레드, CPU, Gemini 쿼터를 함께 쓰므로 우선순위를 둡니다.
+ * 더 높은 우선순위 묶음이 최근 {@code concurrency-limit.saturation-hold-ms} 안에 한도에 도달했다면,
+ * 낮은 묶음은 자기 한도의 {@code concurrency-limit.yield.<묶음>} 비율까지만 받습니다
+ * (기본: 리포트 0.5, PDF 0.25). 대화 요청이 몰리면 PDF 내보내기가 먼저 줄어드는 구조입니다.
+ * </p>
+ * 지표: {@code analysis.concurrency.limit}, {@code analysis.concurrency.inflight} (게이지),
+ * {@code analysis.concurrency.rejected} (카운터, {@code reason}=limit|priority). 모두 {@code group} 태그를 가집니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimiter {
+
+    static final String REASON_LIMIT = "limit";
+    static final String REASON_PRIORITY = "priority";
+
+    private final Map<EndpointGroup, GroupState> states = new EnumMap<>(EndpointGroup.class);
+    private final long saturationHoldNanos;
+    private final int minRetryAfterSeconds;
+    private final int maxRetryAfterSeconds;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+                                      @Value("${concurrency-limit.min-limit:2}") int minLimit,
+                                      @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+                                      @Value("${concurrency-limit.window-ms:1000}") long windowMs,
+                                      @Value("${concurrency-limit.min-samples:10}") int minSamples,
+                                      @Value("${concurrency-limit.saturation-hold-ms:1000}") long saturationHoldMs,
+                                      @Value("${concurrency-limit.yield.report:0.5}") double reportYield,
+                                      @Value("${concurrency-limit.yield.pdf:0.25}") double pdfYield,
+                                      @Value("${concurrency-limit.retry-after.min-seconds:1}") int minRetryAfterSeconds,
+                                      @Value("${concurrency-limit.retry-after.max-seconds:30}") int maxRetryAfterSeconds) {
+        this.saturationHoldNanos = TimeUnit.MILLISECONDS.toNanos(saturationHoldMs);
+        this.minRetryAfterSeconds = minRetryAfterSeconds;
+        this.maxRetryAfterSeconds = maxRetryAfterSeconds;
+        Map<EndpointGroup, Double> yields = Map.of(EndpointGroup.CHAT, 1.0, EndpointGroup.REPORT, reportYield, EndpointGroup.PDF, pdfYield);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            GroupState state = new GroupState(new GradientLimit(initialLimit, minLimit, maxLimit, windowMs, minSamples),
+                    yields.get(group),
+                    rejectedCounter(meterRegistry, group, REASON_LIMIT),
+                    rejectedCounter(meterRegistry, group, REASON_PRIORITY));
+            Gauge.builder("analysis.concurrency.limit", state.limit, GradientLimit::getLimit)
+                    .description("Adaptive concurrency limit of the endpoint group")
+                    .tag("group", group.getTag())
+                    .register(meterRegistry);
+            Gauge.builder("analysis.concurrency.inflight", state.inflight, AtomicInteger::get)
+                    .description("Requests in flight for the endpoint group")
+                    .tag("group", group.getTag())
+                    .register(meterRegistry);
+            states.put(group, state);
+        }
+    }
+
+    /**
+     * 요청 하나를 처리할 자리를 확보합니다.
+     *
+     * @param group 엔드포인트 묶음
+     * @return 확보한 자리 (처리가 끝나면 반드시 {@link Permit#release()}), 한도 초과 시 {@code null}
+     */
+    public Permit tryAcquire(EndpointGroup group) {
+        GroupState state = states.get(group);
+        long now = System.nanoTime();
+        int limit = state.limit.getLimit();
+        boolean yielding = higherPrioritySaturated(group, now);
+        int effectiveLimit = yielding ? Math.max(1, (int) (limit * state.yieldRatio)) : limit;
+
+        while (true) {
+            int current = state.inflight.get();
+            if (current >= effectiveLimit) {
+                if (current >= limit) {
+                    state.lastSaturated = now;
+                }
+                (yielding && current < limit ? state.rejectedByPriority : state.rejectedByLimit).increment();
+                log.debug("🚦 동시 처리 한도 초과로 거절 - group={}, inflight={}, limit={}, effective={}",
+                        group.getTag(), current, limit, effectiveLimit);
+                return null;
+            }
+            if (state.inflight.compareAndSet(current, current + 1)) {
+                if (current + 1 >= limit) {
+                    state.lastSaturated = now;
+                }
+                return new Permit(state, now, current + 1);
+            }
+        }
+    }
+
+    /**
+     * 거절 응답의 {@code Retry-After}(초)를 계산합니다. 해당 묶음의 평균 응답 시간을 올림하여 최소/최대값 사이로 맞춥니다.
+     *
+     * @param group 엔드포인트 묶음
+     * @return 재시도까지 기다릴 초
+     */
+    public int retryAfterSeconds(EndpointGroup group) {
+        long seconds = (long) Math.ceil(states.get(group).limit.getLongRttNanos() / 1e9);
+        return (int) Math.max(minRetryAfterSeconds, Math.min(maxRetryAfterSeconds, seconds));
+    }
+
+    /**
+     * @param group 엔드포인트 묶음
+     * @return 현재 적응형 한도
+     */
+    public int getLimit(EndpointGroup group) {
+        return states.get(group).limit.getLimit();
+    }
+
+    private boolean higherPrioritySaturated(EndpointGroup group, long now) {
+        for (EndpointGroup higher : EndpointGroup.values()) {
+            if (higher == group) {
+                return false;
+            }
+            long lastSaturated = states.get(higher).lastSaturated;
+            if (lastSaturated != 0 && now - lastSaturated < saturationHoldNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, EndpointGroup group, String reason) {
+        return Counter.builder("analysis.concurrency.rejected")
+                .description("Requests shed by the adaptive concurrency limiter")
+                .tag("group", group.getTag())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 확보한 처리 자리입니다. 처리가 끝나면 응답 시간을 한도 계산에 반영하고 자리를 반납합니다.
+     */
+    public static final class Permit {
+
+        private final GroupState state;
+        private final long start;
+        private final int inflight;
+        private boolean released;
+
+        private Permit(GroupState state, long start, int inflight) {
+            this.state = state;
+            this.start = start;
+            this.inflight = inflight;
+        }
+
+        /**
+         * 자리를 반납합니다. 여러 번 호출해도 한 번만 반영됩니다.
+         */
+        public synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            long now = System.nanoTime();
+            state.limit.onSample(now - start, inflight, now);
+            state.inflight.decrementAndGet();
+        }
+    }
+
+    private static final class GroupState {
+
+        private final GradientLimit limit;
+        private final double yieldRatio;
+        private final Counter rejectedByLimit;
+        private final Counter rejectedByPriority;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile long lastSaturated;
+
+        private GroupState(GradientLimit limit, double yieldRatio, Counter rejectedByLimit, Counter rejectedByPriority) {
+            this.limit = limit;
+            this.yieldRatio = yieldRatio;
+            this.rejectedByLimit = rejectedByLimit;
+            this.rejectedByPriority = rejectedByPriority;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동시 처리 한도를 따로 두는 분석 엔드포인트 묶음입니다. 선언 순서가 우선순위입니다(앞일수록 높음).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EndpointGroup {
+
+    /**
+     * AI 대화 ({@code POST /customs}) - 사용자가 화면에서 기다리는 요청
+     */
+    CHAT("chat", "POST", "/customs"),
+
+    /**
+     * 월간 리포트 분석 ({@code POST /reports})
+     */
+    REPORT("report", "POST", "/reports"),
+
+    /**
+     * PDF 내보내기 ({@code GET /reports/pdf}) - 나중에 다시 받아도 되는 요청
+     */
+    PDF("pdf", "GET", "/reports/pdf");
+
+    private static final String BASE_PATH = "/api/v1/analysis";
+
+    private final String tag;
+    private final String method;
+    private final String path;
+
+    /**
+     * 요청이 속한 묶음을 찾습니다.
+     *
+     * @param request HTTP 요청
+     * @return 해당 묶음, 한도 대상이 아니면 {@code null}
+     */
+    public static EndpointGroup resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointGroup group : values()) {
+            if (group.method.equals(request.getMethod()) && uri.equals(BASE_PATH + group.path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
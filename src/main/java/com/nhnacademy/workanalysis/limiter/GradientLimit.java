@@ -0,0 +1,103 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 시간의 기울기(장기 평균 대비 최근 응답 시간)로 동시 처리 한도를 조정하는 적응형 한도입니다.
+ * <p>
+ * Netflix concurrency-limits의 Gradient2 방식을 따릅니다. 일정 구간(최소 {@code windowNanos}, 최소 {@code minSamples}건)의
+ * 평균 응답 시간을 단기 값으로, 구간 평균의 지수 이동 평균(최근 약 60구간)을 장기 값으로 두고
+ * <pre>
+ * gradient = clamp(tolerance × 장기 / 단기, 0.5, 1.0)
+ * 새 한도   = 한도 × gradient + √한도          (√한도는 대기열 여유분)
+ * 한도      = 한도 × (1 - smoothing) + 새 한도 × smoothing
+ * </pre>
+ * 로 갱신합니다. 응답 시간이 늘면 한도가 줄고, 응답 시간이 장기 평균 근처이면 √한도만큼씩 늘어납니다.
+ * 구간 최소값을 쓰면 캐시 적중이나 규칙 기반 응답처럼 Gemini를 거치지 않는 빠른 요청 한 건이 나머지 요청의 대기 시간을 가리므로,
+ * 구간의 모든 요청을 반영하는 평균을 씁니다. 원래 오래 걸리는 요청 몇 건으로 인한 흔들림은 {@code TOLERANCE}(1.5배)와
+ * 한도 평활화({@code SMOOTHING})가 흡수합니다.
+ * 구간 중 최대 동시 처리 수가 한도의 절반에 못 미치면(부하가 한도보다 훨씬 낮으면) 한도를 올리지 않습니다.
+ * 장기 평균이 단기 값의 2배를 넘으면 부하가 풀린 것으로 보고 장기 평균을 빠르게 낮춰 한도가 다시 오를 수 있게 합니다.
+ * </p>
+ */
+public class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 60;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final int minSamples;
+
+    private double limit;
+    private double longRttNanos;
+
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, long windowMillis, int minSamples) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.minSamples = minSamples;
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * @return 현재 동시 처리 한도
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return 장기 평균 응답 시간(구간 평균 응답 시간의 이동 평균, ns), 아직 표본이 없으면 0
+     */
+    public synchronized long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    /**
+     * 처리가 끝난 요청 하나의 응답 시간을 반영합니다.
+     *
+     * @param rttNanos 요청 처리 시간
+     * @param inflight 이 요청을 시작할 때의 동시 처리 수 (자신 포함)
+     * @param now      현재 시각 ({@link System#nanoTime()})
+     */
+    public synchronized void onSample(long rttNanos, int inflight, long now) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflight);
+        if (windowSamples < minSamples || now - windowStart < windowNanos) {
+            return;
+        }
+        update(Math.max(1.0, (double) windowRttSum / windowSamples), windowMaxInflight);
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+    }
+
+    private void update(double shortRtt, int maxInflight) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) * 2 / (LONG_WINDOW + 1);
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (maxInflight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
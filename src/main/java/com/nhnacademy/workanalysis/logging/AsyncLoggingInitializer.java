@@ -0,0 +1,103 @@
+package com.nhnacademy.workanalysis.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.logging.LoggingApplicationListener;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Spring Boot가 logback을 설정한 직후, 로거에 붙은 동기 어펜더를 {@link AsyncAppender}로 감쌉니다.
+ * <p>
+ * 어펜더는 공용 설정({@code logback-shared.xml})에 정의되어 있어 이름을 알 수 없으므로 XML 대신 코드로 감쌉니다.
+ * 로그 호출 스레드는 이벤트를 큐에 넣기만 하고, 파일/콘솔 쓰기는 어펜더별 작업 스레드가 처리합니다.
+ * </p>
+ * <ul>
+ *     <li>{@code logging.async.queue-size}(기본 8192): 어펜더별 링 버퍼 크기</li>
+ *     <li>{@code logging.async.discarding-threshold}(기본 큐의 1/5): 남은 용량이 이 값 아래면 INFO 이하 이벤트를 버림</li>
+ *     <li>{@code logging.async.never-block}(기본 true): 큐가 가득 차면 기다리지 않고 버림</li>
+ *     <li>{@code logging.async.include-caller-data}(기본 false): 호출 위치(%line 등) 수집 여부</li>
+ *     <li>{@code logging.rate-limit.per-second}(기본 50, 0이면 끔), {@code logging.rate-limit.burst}(기본 200):
+ *     {@link LoggerRateLimitFilter} 로거별 속도 제한</li>
+ *     <li>{@code logging.payload.max-chars}(기본 200), {@code logging.payload.sample-every}(기본 100): {@link LogPayloads} 본문 축약</li>
+ * </ul>
+ * 테스트처럼 한 JVM에서 여러 번 초기화되어도 이미 감싼 어펜더와 등록된 필터는 다시 처리하지 않습니다.
+ * {@code META-INF/spring.factories}로 등록되며 {@code logging.async.enabled=false}이면 아무것도 하지 않습니다.
+ */
+public class AsyncLoggingInitializer implements ApplicationListener<ApplicationEnvironmentPreparedEvent>, Ordered {
+
+    static final String ASYNC_PREFIX = "ASYNC-";
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        ConfigurableEnvironment env = event.getEnvironment();
+        LogPayloads.configure(env.getProperty("logging.payload.max-chars", Integer.class, 200),
+                env.getProperty("logging.payload.sample-every", Integer.class, 100));
+
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)
+                || !env.getProperty("logging.async.enabled", Boolean.class, true)) {
+            return;
+        }
+
+        int queueSize = env.getProperty("logging.async.queue-size", Integer.class, 8192);
+        wrapAppenders(context, queueSize,
+                env.getProperty("logging.async.discarding-threshold", Integer.class, queueSize / 5),
+                env.getProperty("logging.async.never-block", Boolean.class, true),
+                env.getProperty("logging.async.include-caller-data", Boolean.class, false));
+
+        double perSecond = env.getProperty("logging.rate-limit.per-second", Double.class, 50.0);
+        if (perSecond > 0 && context.getTurboFilterList().stream().noneMatch(f -> f instanceof LoggerRateLimitFilter)) {
+            LoggerRateLimitFilter filter = new LoggerRateLimitFilter(perSecond,
+                    env.getProperty("logging.rate-limit.burst", Integer.class, 200));
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+    }
+
+    /**
+     * 모든 로거의 동기 어펜더를 같은 설정의 {@link AsyncAppender}로 교체합니다.
+     * 비동기 어펜더를 먼저 붙인 뒤 기존 어펜더를 떼므로 교체 중인 이벤트가 누락되지 않습니다.
+     */
+    static void wrapAppenders(LoggerContext context, int queueSize, int discardingThreshold,
+                              boolean neverBlock, boolean includeCallerData) {
+        for (Logger logger : context.getLoggerList()) {
+            List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+            for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+                Appender<ILoggingEvent> appender = it.next();
+                if (!(appender instanceof AsyncAppender)) {
+                    appenders.add(appender);
+                }
+            }
+            for (Appender<ILoggingEvent> appender : appenders) {
+                AsyncAppender async = new AsyncAppender();
+                async.setContext(context);
+                async.setName(ASYNC_PREFIX + appender.getName());
+                async.setQueueSize(queueSize);
+                async.setDiscardingThreshold(discardingThreshold);
+                async.setNeverBlock(neverBlock);
+                async.setIncludeCallerData(includeCallerData);
+                async.addAppender(appender);
+                async.start();
+
+                logger.addAppender(async);
+                logger.detachAppender(appender);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LoggingApplicationListener.DEFAULT_ORDER + 1;
+    }
+}
@@ -0,0 +1,63 @@
+package com.nhnacademy.workanalysis.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그에 남기는 메시지 본문, 프롬프트, LLM 응답처럼 길이가 큰 값을 제한된 크기로 바꿉니다.
+ * <p>
+ * {@link #preview(CharSequence)}가 돌려주는 객체는 로그가 실제로 출력될 때({@code toString()} 호출 시)만 문자열을 만들므로,
+ * 레벨이 꺼져 있으면 비용이 들지 않습니다.
+ * </p>
+ * <ul>
+ *     <li>{@code maxChars} 이하: 그대로 출력</li>
+ *     <li>초과: {@code sampleEvery}번에 한 번만 앞부분을 {@code maxChars}자까지 출력하고, 나머지는 길이만 출력</li>
+ * </ul>
+ * 설정은 {@link AsyncLoggingInitializer}가 {@code logging.payload.*} 값으로 적용합니다.
+ */
+public final class LogPayloads {
+
+    private static volatile int maxChars = 200;
+    private static volatile int sampleEvery = 100;
+    private static final AtomicLong LARGE_PAYLOADS = new AtomicLong();
+
+    private LogPayloads() {
+    }
+
+    /**
+     * @param maxChars 그대로 출력할 최대 길이 (0이면 항상 길이만 출력)
+     * @param sampleEvery 긴 본문의 앞부분을 출력할 간격 (1이면 매번)
+     */
+    static void configure(int maxChars, int sampleEvery) {
+        LogPayloads.maxChars = Math.max(0, maxChars);
+        LogPayloads.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    /**
+     * 로그 인자로 사용할 크기 제한 표현을 만듭니다.
+     *
+     * @param payload 원본 문자열 (null 허용)
+     * @return {@code toString()} 시 제한된 문자열을 돌려주는 객체
+     */
+    public static Object preview(CharSequence payload) {
+        return new Preview(payload);
+    }
+
+    private record Preview(CharSequence payload) {
+
+        @Override
+        public String toString() {
+            if (payload == null) {
+                return "null";
+            }
+            int length = payload.length();
+            int limit = maxChars;
+            if (length <= limit) {
+                return payload.toString();
+            }
+            if (limit > 0 && LARGE_PAYLOADS.getAndIncrement() % sampleEvery == 0) {
+                return payload.subSequence(0, limit) + "…(총 " + length + "자)";
+            }
+            return "(" + length + "자 생략)";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.workanalysis.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로거별 초당 로그 건수를 제한하는 logback TurboFilter입니다.
+ * <p>
+ * 로거마다 토큰 버킷({@code permitsPerSecond}, 최대 {@code burst})을 두고, 토큰이 없으면 INFO 이하 이벤트를 버립니다.
+ * WARN/ERROR와 현재 레벨에서 꺼진 이벤트는 건드리지 않습니다.
+ * 버려진 건수는 다음에 통과하는 이벤트 직전에 이 클래스의 로거로 한 줄 요약합니다.
+ * </p>
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private static final org.slf4j.Logger SUMMARY = LoggerFactory.getLogger(LoggerRateLimitFilter.class);
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerSecond 로거별 초당 허용 건수
+     * @param burst 순간적으로 허용하는 최대 건수
+     */
+    public LoggerRateLimitFilter(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        setName("logger-rate-limit");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || logger.getName().equals(SUMMARY.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        Bucket bucket = buckets.computeIfAbsent(logger.getName(), name -> new Bucket(burst));
+        long suppressed = bucket.tryAcquire(System.nanoTime(), permitsPerSecond, burst);
+        if (suppressed < 0) {
+            return FilterReply.DENY;
+        }
+        if (suppressed > 0) {
+            SUMMARY.info("🔇 로그 속도 제한 - logger: {}, 생략된 이벤트: {}건", logger.getName(), suppressed);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private long suppressed;
+
+        Bucket(double tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * @return 토큰이 없으면 -1, 있으면 직전까지 버려진 건수 (0 이상)
+         */
+        synchronized long tryAcquire(long now, double permitsPerSecond, double burst) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * permitsPerSecond);
+            refilledAt = now;
+            if (tokens < 1) {
+                suppressed++;
+                return -1;
+            }
+            tokens -= 1;
+            long dropped = suppressed;
+            suppressed = 0;
+            return dropped;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.nhnacademy.workanalysis.logging;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드의 SLF4J MDC(traceId 등)를 분석 실행기 풀이나 헤징 스레드로 넘기는 작업에 전달합니다.
+ * <p>
+ * 풀 스레드는 요청 스레드의 MDC를 물려받지 않으므로, 작업을 제출하는 시점에 MDC를 복사해 두고
+ * 작업 실행 중에만 설정한 뒤 이전 값으로 되돌립니다. MDC가 비어 있으면 작업을 그대로 실행합니다.
+ * </p>
+ */
+public final class MdcContext {
+
+    private MdcContext() {
+    }
+
+    /**
+     * 현재 스레드의 MDC를 작업에 전달합니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @param <T>  결과 타입
+     * @return MDC를 설정한 채 실행하는 작업, MDC가 비어 있으면 원래 작업
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Map<String, String> captured = MDC.getCopyOfContextMap();
+        if (captured == null || captured.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(captured);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
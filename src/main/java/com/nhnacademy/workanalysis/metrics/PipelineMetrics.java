@@ -0,0 +1,133 @@
+package com.nhnacademy.workanalysis.metrics;
+
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 리포트/분석/PDF 파이프라인의 단계별 처리 시간과 페이로드 크기를 Micrometer로 기록합니다.
+ * <p>
+ * 단계 시간은 {@code analysis.pipeline.stage} 타이머에 {@code pipeline}, {@code stage}, {@code outcome} 태그로 기록되며,
+ * 백분위 히스토그램을 함께 발행하므로 인스턴스를 합산한 p95/p99를 조회할 수 있습니다.
+ * 결과({@code outcome})는 {@code success}, {@code error}, 요청 처리 시한 초과 시 {@code timeout} 중 하나입니다.
+ * 프롬프트/응답 문자 수와 PDF 바이트 수는 분포 요약으로 기록합니다.
+ * </p>
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String TIMEOUT = "timeout";
+
+    private static final String STAGE_TIMER = "analysis.pipeline.stage";
+
+    private final MeterRegistry meterRegistry;
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 단계를 실행하고, 실행 시간을 성공/실패 결과와 함께 기록합니다.
+     *
+     * @param pipeline 파이프라인 이름 (예: reports, customs, pdf)
+     * @param stage    단계 이름 (예: member_lookup, gemini)
+     * @param call     실행할 단계
+     * @param <T>      결과 타입
+     * @param <E>      단계가 던지는 검사 예외 타입
+     * @return 단계 실행 결과
+     * @throws E 단계가 던진 예외 (그대로 전파)
+     */
+    public <T, E extends Exception> T time(String pipeline, String stage, StageCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = call.run();
+            outcome = SUCCESS;
+            return result;
+        } catch (DeadlineExceededException e) {
+            outcome = TIMEOUT;
+            throw e;
+        } finally {
+            record(pipeline, stage, outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 호출자가 결과를 직접 판정한 단계의 실행 시간을 기록합니다.
+     * 예외 없이 실패 응답을 반환하는 단계(예: Gemini 실패 메시지)에 사용합니다.
+     *
+     * @param pipeline     파이프라인 이름
+     * @param stage        단계 이름
+     * @param outcome      결과 ({@link #SUCCESS}, {@link #ERROR}, {@link #TIMEOUT})
+     * @param elapsedNanos 실행 시간(나노초)
+     */
+    public void record(String pipeline, String stage, String outcome, long elapsedNanos) {
+        Timer.builder(STAGE_TIMER)
+                .description("리포트/분석 파이프라인 단계별 처리 시간")
+                .tag("pipeline", pipeline)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+
+    /**
+     * Gemini에 보낸 프롬프트 전체 문자 수를 기록합니다.
+     *
+     * @param pipeline 파이프라인 이름
+     * @param chars    프롬프트 문자 수
+     */
+    public void recordPromptChars(String pipeline, long chars) {
+        summary("analysis.prompt.size", "Gemini 프롬프트 문자 수", "characters", pipeline, 1_000_000).record(chars);
+    }
+
+    /**
+     * Gemini 응답 텍스트의 문자 수를 기록합니다.
+     *
+     * @param pipeline 파이프라인 이름
+     * @param chars    응답 문자 수
+     */
+    public void recordResponseChars(String pipeline, long chars) {
+        summary("analysis.response.size", "Gemini 응답 문자 수", "characters", pipeline, 100_000).record(chars);
+    }
+
+    /**
+     * 생성한 PDF 파일의 바이트 수를 기록합니다.
+     *
+     * @param bytes PDF 크기(바이트)
+     */
+    public void recordPdfBytes(long bytes) {
+        summary("report.pdf.size", "생성한 PDF 리포트 크기", "bytes", "pdf", 20_000_000).record(bytes);
+    }
+
+    private DistributionSummary summary(String name, String description, String unit, String pipeline, double max) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tag("pipeline", pipeline)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(max)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시간을 측정할 단계입니다. 검사 예외를 그대로 던질 수 있습니다.
+     *
+     * @param <T> 결과 타입
+     * @param <E> 검사 예외 타입
+     */
+    @FunctionalInterface
+    public interface StageCall<T, E extends Exception> {
+        T run() throws E;
+    }
+}
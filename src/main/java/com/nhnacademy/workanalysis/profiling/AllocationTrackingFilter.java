@@ -0,0 +1,152 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청마다 요청이 할당한 힙 바이트와 사용한 CPU 시간을 엔드포인트별로 기록하는 필터입니다.
+ * <p>
+ * {@code ThreadMXBean.getCurrentThreadAllocatedBytes()}와 {@code getCurrentThreadCpuTime()}의 전후 차이를
+ * {@code http.server.requests.allocated}(바이트), {@code http.server.requests.cpu} 지표에 {@code method}, {@code uri} 태그로 남기고,
+ * 할당량은 {@link GcPauseAttribution}에도 전달합니다. {@code uri}는 Spring MVC가 매칭한 경로 패턴입니다.
+ * </p>
+ * <p>
+ * 요청 스레드뿐 아니라 {@link RequestAllocations}로 전달된 작업(분석 실행기 풀로 넘긴 AI 분석·리포트·PDF 처리, 헤징된 Gemini 호출)을
+ * 실행한 스레드의 측정값도 합산합니다. 비동기로 처리되는 요청은 결과를 쓰는 비동기 디스패치까지 포함하여 응답이 끝난 시점에 기록하며,
+ * 그 뒤에 끝나는 작업(시간 초과로 취소된 작업 등)의 할당은 포함되지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 6)
+@ConditionalOnProperty(name = "profiling.allocation.enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/";
+    private static final String TALLY_ATTRIBUTE = AllocationTrackingFilter.class.getName() + ".TALLY";
+
+    private final MeterRegistry meterRegistry;
+    private final GcPauseAttribution gcPauseAttribution;
+    private final boolean cpuTimeSupported;
+
+    public AllocationTrackingFilter(MeterRegistry meterRegistry, GcPauseAttribution gcPauseAttribution) {
+        this.meterRegistry = meterRegistry;
+        this.gcPauseAttribution = gcPauseAttribution;
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threadMXBean.isThreadAllocatedMemorySupported() && !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            log.warn("⚠️ 이 JVM은 스레드별 할당량 측정을 지원하지 않습니다. 요청별 할당 지표가 0으로 기록됩니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + PATH_PREFIX);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean resumed = isAsyncDispatch(request) && request.getAttribute(TALLY_ATTRIBUTE) instanceof RequestAllocations.Tally;
+        RequestAllocations.Tally tally;
+        if (resumed) {
+            tally = (RequestAllocations.Tally) request.getAttribute(TALLY_ATTRIBUTE);
+            RequestAllocations.resume(tally);
+        } else {
+            tally = RequestAllocations.start();
+        }
+        long allocatedBefore = RequestAllocations.allocatedBytes();
+        long cpuBefore = RequestAllocations.cpuNanos();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tally.add(RequestAllocations.allocatedBytes() - allocatedBefore, RequestAllocations.cpuNanos() - cpuBefore);
+            RequestAllocations.clear();
+            if (request.isAsyncStarted()) {
+                request.setAttribute(TALLY_ATTRIBUTE, tally);
+                if (!resumed) {
+                    request.getAsyncContext().addListener(new RecordOnCompletion(this, request, tally));
+                }
+            } else if (!resumed) {
+                record(request, tally);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestAllocations.Tally tally) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long allocated = tally.allocatedBytes();
+
+        DistributionSummary.builder("http.server.requests.allocated")
+                .description("Heap bytes allocated while handling the request, including executor pool tasks")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(allocated);
+        if (cpuTimeSupported) {
+            Timer.builder("http.server.requests.cpu")
+                    .description("CPU time spent handling the request, including executor pool tasks")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(tally.cpuNanos(), TimeUnit.NANOSECONDS);
+        }
+        gcPauseAttribution.recordAllocation(uri, allocated);
+    }
+
+    /**
+     * 비동기로 처리되는 요청은 결과를 쓰는 비동기 디스패치가 끝나고 응답이 완료된 시점에 기록합니다.
+     */
+    private record RecordOnCompletion(AllocationTrackingFilter filter, HttpServletRequest request,
+                                      RequestAllocations.Tally tally) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            filter.record(request, tally);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // 시간 초과 후에도 오류 응답이 완료되면 onComplete에서 기록됨
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // 오류 응답이 완료되면 onComplete에서 기록됨
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GC 일시 정지 시간을 직전 GC 이후 힙을 할당한 엔드포인트별로 나누어 {@code jvm.gc.pause.attributed} 카운터(초)에 누적합니다.
+ * <p>
+ * {@link AllocationTrackingFilter}가 요청마다 기록한 할당량과, GC 직전 힙 사용량에서 직전 GC 직후 사용량을 뺀 전체 할당량을 비교해
+ * 각 엔드포인트의 비율만큼 정지 시간을 나눕니다. 요청과 관계없는 스레드(스케줄러, 사전 워밍업 등)의 할당은 {@code uri=other}로 집계됩니다.
+ * 힙 사용량 차이로 추정한 값이므로 절대값보다 엔드포인트 간 비교에 사용합니다.
+ * </p>
+ * 동시 수행 단계(G1 Concurrent GC, ZGC/Shenandoah Cycles)는 애플리케이션을 멈추지 않으므로 제외합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "profiling.allocation.enabled", havingValue = "true", matchIfMissing = true)
+public class GcPauseAttribution {
+
+    static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LongAdder> allocatedSinceGc = new ConcurrentHashMap<>();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener listener = this::handleNotification;
+    private long heapUsedAfterLastGc;
+
+    public GcPauseAttribution(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void register() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener,
+                        n -> GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType()), null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    @PreDestroy
+    void unregister() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+                // 이미 제거됨
+            }
+        }
+        emitters.clear();
+    }
+
+    /**
+     * 요청 하나가 할당한 바이트 수를 다음 GC까지 누적합니다.
+     *
+     * @param uri 요청 URI 패턴
+     * @param bytes 할당 바이트 수
+     */
+    public void recordAllocation(String uri, long bytes) {
+        if (bytes > 0) {
+            allocatedSinceGc.computeIfAbsent(uri, k -> new LongAdder()).add(bytes);
+        }
+    }
+
+    /**
+     * 정지 시간을 누적된 엔드포인트별 할당 비율로 나누어 기록하고 누적값을 초기화합니다.
+     *
+     * @param pauseMillis GC 정지 시간(ms)
+     * @param heapAllocated 직전 GC 이후 전체 힙 할당량 추정치(바이트)
+     */
+    synchronized void attribute(long pauseMillis, long heapAllocated) {
+        Map<String, Long> snapshot = new HashMap<>();
+        allocatedSinceGc.forEach((uri, adder) -> {
+            long bytes = adder.sumThenReset();
+            if (bytes > 0) {
+                snapshot.put(uri, bytes);
+            }
+        });
+        long attributed = snapshot.values().stream().mapToLong(Long::longValue).sum();
+        long total = Math.max(heapAllocated, attributed);
+        if (total <= 0 || pauseMillis <= 0) {
+            return;
+        }
+        double pauseSeconds = pauseMillis / 1000.0;
+        snapshot.forEach((uri, bytes) -> counter(uri).increment(pauseSeconds * bytes / total));
+        if (total > attributed) {
+            counter(OTHER).increment(pauseSeconds * (total - attributed) / total);
+        }
+    }
+
+    private Counter counter(String uri) {
+        return Counter.builder("jvm.gc.pause.attributed")
+                .description("GC pause time attributed to endpoints by their share of heap allocation")
+                .baseUnit("seconds")
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        String name = info.getGcName();
+        if ("No GC".equals(info.getGcCause()) || name.endsWith("Cycles") || "G1 Concurrent GC".equals(name)) {
+            return;
+        }
+        GcInfo gcInfo = info.getGcInfo();
+        long before = used(gcInfo.getMemoryUsageBeforeGc());
+        long after = used(gcInfo.getMemoryUsageAfterGc());
+        long allocated;
+        synchronized (this) {
+            allocated = Math.max(0, before - heapUsedAfterLastGc);
+            heapUsedAfterLastGc = after;
+        }
+        attribute(gcInfo.getDuration(), allocated);
+    }
+
+    private static long used(Map<String, MemoryUsage> pools) {
+        return pools.values().stream().mapToLong(MemoryUsage::getUsed).sum();
+    }
+}
@@ -0,0 +1,229 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 운영 중인 인스턴스에서 Java Flight Recorder 기록을 시작/중지하고 {@code .jfr} 파일을 내려받는 Actuator 엔드포인트입니다.
+ * <ul>
+ *     <li>{@code GET /actuator/jfr}: 진행 중인 기록과 보관된 파일 목록</li>
+ *     <li>{@code POST /actuator/jfr} {@code {"durationSeconds":60, "maxSizeMb":50, "settings":"profile"}}: 기록 시작</li>
+ *     <li>{@code DELETE /actuator/jfr}: 진행 중인 기록을 멈추고 파일로 저장</li>
+ *     <li>{@code GET /actuator/jfr/{file}}: 저장된 기록 파일 다운로드</li>
+ * </ul>
+ * <p>
+ * 한 번에 하나의 기록만 허용하며, 기록 시간과 크기는 요청값과 관계없이
+ * {@code profiling.jfr.max-duration-seconds}(기본 300), {@code profiling.jfr.max-size-mb}(기본 200)를 넘지 않습니다.
+ * 기록 시간이 끝나면 JFR이 스스로 멈추고 파일을 씁니다. 파일은 {@code profiling.jfr.directory}에
+ * 최근 {@code profiling.jfr.retained-files}개(기본 3)만 보관합니다.
+ * </p>
+ * 노출하려면 {@code management.endpoints.web.exposure.include}에 {@code jfr}를 추가합니다 (관리 포트에서만 노출 권장).
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    static final int STATUS_CONFLICT = 409;
+
+    private static final Pattern FILE_NAME = Pattern.compile("analysis-\\d{8}-\\d{6}\\.jfr");
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final List<String> SETTINGS = List.of("profile", "default");
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int retainedFiles;
+
+    private Recording recording;
+    private Path recordingFile;
+
+    public JfrRecordingEndpoint(@Value("${profiling.jfr.directory:${java.io.tmpdir}/analysis-jfr}") String directory,
+                                @Value("${profiling.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                                @Value("${profiling.jfr.max-size-mb:200}") long maxSizeMb,
+                                @Value("${profiling.jfr.retained-files:3}") int retainedFiles) {
+        this.directory = Path.of(directory);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.retainedFiles = Math.max(1, retainedFiles);
+    }
+
+    /**
+     * @return 진행 중(또는 마지막) 기록의 상태와 보관된 파일 목록
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", recording == null ? null : describe(recording, recordingFile));
+        status.put("files", files().stream().map(file -> {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("name", file.getFileName().toString());
+            info.put("sizeBytes", size(file));
+            return info;
+        }).toList());
+        return status;
+    }
+
+    /**
+     * 새 기록을 시작합니다. 이미 진행 중인 기록이 있으면 409를 반환합니다.
+     *
+     * @param durationSeconds 기록 시간(초), 생략 시 최대값
+     * @param maxSizeMb 최대 크기(MB), 생략 시 최대값
+     * @param settings JFR 설정 이름 ({@code profile}: 할당/락 샘플 포함, {@code default}: 오버헤드 최소), 생략 시 {@code profile}
+     * @return 시작된 기록 정보
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Integer durationSeconds,
+                                                                       @Nullable Integer maxSizeMb,
+                                                                       @Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(describe(recording, recordingFile), STATUS_CONFLICT);
+        }
+        String settingsName = settings == null ? "profile" : settings;
+        if (!SETTINGS.contains(settingsName)) {
+            return new WebEndpointResponse<>(Map.of("error", "settings는 " + SETTINGS + " 중 하나여야 합니다."),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        Duration duration = durationSeconds == null || durationSeconds <= 0
+                ? maxDuration : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+        long maxSize = maxSizeMb == null || maxSizeMb <= 0 ? maxSizeBytes : Math.min(maxSizeMb * 1024L * 1024L, maxSizeBytes);
+        try {
+            Files.createDirectories(directory);
+            pruneFiles(retainedFiles - 1);
+            Path file = directory.resolve("analysis-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+
+            Recording newRecording = new Recording(Configuration.getConfiguration(settingsName));
+            newRecording.setName(file.getFileName().toString());
+            newRecording.setDuration(duration);
+            newRecording.setMaxSize(maxSize);
+            newRecording.setToDisk(true);
+            newRecording.setDestination(file);
+            newRecording.start();
+
+            closeFinished();
+            recording = newRecording;
+            recordingFile = file;
+            log.info("🎥 JFR 기록 시작 - 파일: {}, 설정: {}, 기록 시간: {}초, 최대 크기: {}MB", file, settingsName,
+                    duration.toSeconds(), maxSize / 1024 / 1024);
+            return new WebEndpointResponse<>(describe(recording, recordingFile), WebEndpointResponse.STATUS_OK);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 기록을 시작할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 진행 중인 기록을 멈추고 파일로 저장합니다. 진행 중인 기록이 없으면 404를 반환합니다.
+     *
+     * @return 멈춘 기록 정보
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.stop();
+        log.info("🎥 JFR 기록 중지 - 파일: {} ({}바이트)", recordingFile, size(recordingFile));
+        return new WebEndpointResponse<>(describe(recording, recordingFile), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * 저장된 기록 파일을 내려받습니다. 아직 기록 중인 파일은 409, 없는 파일은 404를 반환합니다.
+     *
+     * @param file 파일 이름 ({@code analysis-yyyyMMdd-HHmmss.jfr})
+     * @return 파일 스트림
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download(@Selector String file) {
+        if (!FILE_NAME.matcher(file).matches()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path path = directory.resolve(file);
+        if (recording != null && path.equals(recordingFile) && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+        if (!Files.isRegularFile(path)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(path), WebEndpointResponse.STATUS_OK);
+    }
+
+    private Map<String, Object> describe(Recording target, Path file) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("name", file.getFileName().toString());
+        info.put("state", target.getState().name());
+        info.put("startTime", target.getStartTime());
+        info.put("durationSeconds", target.getDuration() == null ? null : target.getDuration().toSeconds());
+        info.put("maxSizeBytes", target.getMaxSize());
+        info.put("sizeBytes", target.getState() == RecordingState.RUNNING ? target.getSize() : size(file));
+        return info;
+    }
+
+    /**
+     * 기록 시간이 끝나 스스로 멈춘 이전 기록의 자원을 해제합니다.
+     */
+    private void closeFinished() {
+        if (recording != null && recording.getState() != RecordingState.RUNNING) {
+            recording.close();
+        }
+    }
+
+    private void pruneFiles(int keep) throws IOException {
+        List<Path> files = files();
+        for (int i = keep; i < files.size(); i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    /**
+     * @return 보관된 기록 파일 (최신순)
+     */
+    private List<Path> files() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(p -> FILE_NAME.matcher(p.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 요청 한 건이 여러 스레드에서 할당한 힙 바이트와 사용한 CPU 시간을 모으는 요청 단위 집계입니다.
+ * <p>
+ * {@link AllocationTrackingFilter}가 요청 시작 시 집계를 열고, 분석 실행기 풀이나 헤징 스레드로 넘기는 작업은
+ * {@link #propagate(Supplier)}로 감싸 작업을 실행한 스레드의 할당량과 CPU 시간을 같은 집계에 더합니다.
+ * 집계가 없는 스레드(기능 비활성화, 배치 작업 등)에서는 작업을 그대로 실행하므로 ThreadLocal 조회 한 번 외의 비용이 없습니다.
+ * </p>
+ */
+public final class RequestAllocations {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = THREAD_MX_BEAN.isThreadAllocatedMemorySupported();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private RequestAllocations() {
+    }
+
+    /**
+     * 현재 스레드에서 새 집계를 시작합니다.
+     *
+     * @return 시작한 집계
+     */
+    static Tally start() {
+        Tally tally = new Tally();
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    /**
+     * 이전에 시작한 집계를 현재 스레드에 다시 연결합니다. 비동기 요청이 결과를 쓰는 디스패치에서 이어 쓰기 위해 사용합니다.
+     *
+     * @param tally 이어 쓸 집계
+     */
+    static void resume(Tally tally) {
+        CURRENT.set(tally);
+    }
+
+    /**
+     * 현재 스레드의 집계를 제거합니다.
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 집계를 작업에 전달합니다. 작업을 실행한 스레드의 할당량과 CPU 시간이 집계에 더해집니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @param <T>  결과 타입
+     * @return 집계를 전달하는 작업, 집계가 없으면 원래 작업
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Tally tally = CURRENT.get();
+        if (tally == null) {
+            return task;
+        }
+        return () -> {
+            Tally previous = CURRENT.get();
+            CURRENT.set(tally);
+            long allocatedBefore = allocatedBytes();
+            long cpuBefore = cpuNanos();
+            try {
+                return task.get();
+            } finally {
+                tally.add(allocatedBytes() - allocatedBefore, cpuNanos() - cpuBefore);
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return 현재 스레드가 지금까지 할당한 힙 바이트, 측정을 지원하지 않으면 0
+     */
+    static long allocatedBytes() {
+        return ALLOCATION_SUPPORTED && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()
+                ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * @return 현재 스레드가 지금까지 사용한 CPU 시간(나노초), 측정을 지원하지 않으면 0
+     */
+    static long cpuNanos() {
+        return CPU_TIME_SUPPORTED && THREAD_MX_BEAN.isThreadCpuTimeEnabled() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * 요청 한 건의 할당 바이트와 CPU 시간 합계입니다. 여러 스레드에서 동시에 더해집니다.
+     */
+    static final class Tally {
+
+        private final AtomicLong allocatedBytes = new AtomicLong();
+        private final AtomicLong cpuNanos = new AtomicLong();
+
+        void add(long allocated, long cpu) {
+            allocatedBytes.addAndGet(Math.max(0, allocated));
+            cpuNanos.addAndGet(Math.max(0, cpu));
+        }
+
+        long allocatedBytes() {
+            return allocatedBytes.get();
+        }
+
+        long cpuNanos() {
+            return cpuNanos.get();
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.nhnacademy.workanalysis.repository;
 
 import com.nhnacademy.workanalysis.entity.AiChatThread;
 import com.nhnacademy.workanalysis.repository.custom.AiChatThreadRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
 import java.util.List;
+import java.util.Optional;
 
 /**
  * AI 분석 쓰레드(AiChatThread) 엔티티에 대한 데이터 접근을 처리하는 JPA 레포지토리 인터페이스입니다.
@@ -19,4 +23,14 @@ public interface AiChatThreadRepository extends JpaRepository<AiChatThread, Long
      * @return 해당 사원의 전체 쓰레드 목록 (최신순 정렬)
      */
     List<AiChatThread> findByMbNoOrderByCreatedAtDesc(Long mbNo);
+
+    /**
+     * 쓰레드를 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회합니다. 잠금은 트랜잭션이 끝날 때까지 유지됩니다.
+     * 같은 쓰레드에 메시지를 저장하는 트랜잭션을 차례로 실행하여 historyId 순서와 커밋 순서를 맞추는 데 사용합니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @return 잠금을 잡은 쓰레드
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AiChatThread> findWithLockByThreadId(Long threadId);
 }
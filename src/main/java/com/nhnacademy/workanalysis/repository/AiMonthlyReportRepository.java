@@ -0,0 +1,22 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.AiMonthlyReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 월간 리포트(AiMonthlyReport) 엔티티에 대한 JPA 리포지토리입니다.
+ */
+public interface AiMonthlyReportRepository extends JpaRepository<AiMonthlyReport, Long> {
+
+    /**
+     * 사원의 특정 연월 리포트를 조회합니다.
+     *
+     * @param mbNo  사원 번호
+     * @param year  연도
+     * @param month 월
+     * @return 저장된 리포트
+     */
+    Optional<AiMonthlyReport> findByMbNoAndYearAndMonth(Long mbNo, int year, int month);
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.AiTokenUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gemini 토큰 사용량(AiTokenUsage) 엔티티에 대한 JPA 리포지토리입니다.
+ */
+public interface AiTokenUsageRepository extends JpaRepository<AiTokenUsage, Long> {
+
+    /**
+     * 특정 시각 이후 사원이 사용한 전체 토큰 수를 합산합니다. 지정한 엔드포인트의 사용량은 제외합니다.
+     *
+     * @param mbNo             사원 번호
+     * @param from             집계 시작 시각 (포함)
+     * @param excludedEndpoint 합산에서 제외할 엔드포인트 (예: 사원이 요청하지 않은 사전 생성)
+     * @return 전체 토큰 수 합계, 사용 기록이 없으면 0
+     */
+    @Query("select coalesce(sum(u.totalTokens), 0) from AiTokenUsage u"
+            + " where u.mbNo = :mbNo and u.createdAt >= :from and u.endpoint <> :excludedEndpoint")
+    long sumTotalTokensSince(@Param("mbNo") Long mbNo, @Param("from") LocalDateTime from,
+                             @Param("excludedEndpoint") String excludedEndpoint);
+}
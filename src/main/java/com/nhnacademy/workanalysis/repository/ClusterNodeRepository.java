@@ -0,0 +1,45 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인스턴스 하트비트(ClusterNode) 엔티티에 대한 JPA 리포지토리입니다.
+ */
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    /**
+     * 노드의 하트비트 시각을 갱신합니다.
+     *
+     * @param nodeId 노드 식별자
+     * @param now    현재 시각
+     * @return 갱신된 행 수 (등록되지 않은 노드이면 0)
+     */
+    @Modifying
+    @Query("update ClusterNode n set n.heartbeatAt = :now where n.nodeId = :nodeId")
+    int touch(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 기준 시각 이후 하트비트를 보낸 노드를 식별자 순으로 조회합니다.
+     *
+     * @param since 기준 시각 (미포함)
+     * @return 살아 있는 노드 목록
+     */
+    List<ClusterNode> findByHeartbeatAtAfterOrderByNodeIdAsc(LocalDateTime since);
+
+    /**
+     * 기준 시각 이전에 마지막 하트비트를 보낸 노드를 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from ClusterNode n where n.heartbeatAt < :before")
+    int deleteByHeartbeatAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.DistributedLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분산 임대(DistributedLease) 엔티티에 대한 JPA 리포지토리입니다.
+ */
+public interface DistributedLeaseRepository extends JpaRepository<DistributedLease, String> {
+
+    /**
+     * 임대를 보유 중이거나 임대가 만료된 경우에만 보유자와 만료 시각을 갱신합니다.
+     *
+     * @param leaseName 임대 이름
+     * @param ownerId   획득하려는 인스턴스 식별자
+     * @param now       현재 시각
+     * @param expiresAt 새 만료 시각
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Modifying
+    @Query("update DistributedLease l set l.ownerId = :ownerId, l.expiresAt = :expiresAt " +
+            "where l.leaseName = :leaseName and (l.ownerId = :ownerId or l.expiresAt < :now)")
+    int tryAcquire(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId,
+                   @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 보유 중인 임대를 즉시 만료시킵니다.
+     *
+     * @param leaseName 임대 이름
+     * @param ownerId   보유 인스턴스 식별자
+     * @param now       현재 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("update DistributedLease l set l.expiresAt = :now where l.leaseName = :leaseName and l.ownerId = :ownerId")
+    int release(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId, @Param("now") LocalDateTime now);
+
+    /**
+     * 기준 시각 이전에 만료된 임대를 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from DistributedLease l where l.expiresAt < :before")
+    int deleteByExpiresAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.ReportPrecomputeCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 리포트 사전 생성 체크포인트(ReportPrecomputeCheckpoint) 엔티티에 대한 JPA 리포지토리입니다.
+ */
+public interface ReportPrecomputeCheckpointRepository extends JpaRepository<ReportPrecomputeCheckpoint, String> {
+}
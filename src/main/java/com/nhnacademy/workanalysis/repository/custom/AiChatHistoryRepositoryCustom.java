@@ -17,4 +17,14 @@ public interface AiChatHistoryRepositoryCustom {
      * @return 해당 쓰레드에 속한 히스토리 리스트 (최신순 정렬)
      */
     List<AiChatHistory> findHistoriesByThreadIdDesc(Long threadId);
+
+    /**
+     * 특정 쓰레드에서 주어진 히스토리 ID 이후에 저장된 대화 히스토리를 오래된 순으로 조회합니다.
+     *
+     * @param threadId       조회할 쓰레드 ID
+     * @param afterHistoryId 이 ID보다 큰 히스토리만 조회 (처음부터 받으려면 0)
+     * @param limit          최대 조회 개수
+     * @return 히스토리 리스트 (historyId 오름차순 정렬)
+     */
+    List<AiChatHistory> findHistoriesAfter(Long threadId, Long afterHistoryId, int limit);
 }
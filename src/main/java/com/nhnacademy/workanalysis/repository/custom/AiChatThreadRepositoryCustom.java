@@ -2,6 +2,7 @@ package com.nhnacademy.workanalysis.repository.custom;
 
 import com.nhnacademy.workanalysis.entity.AiChatThread;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,4 +27,34 @@ public interface AiChatThreadRepositoryCustom {
      * @return 해당 사원의 쓰레드 목록 (최신순, 최대 limit개)
      */
     List<AiChatThread> findThreadsByMbNoDesc(Long mbNo, int limit);
+
+    /**
+     * 특정 사원의 전체 쓰레드를 마지막 활동 시각 기준 내림차순으로 조회합니다.
+     * 마지막 활동 시각이 같으면 나중에 만든 쓰레드가 먼저 옵니다.
+     *
+     * @param mbNo 사원 번호
+     * @return 해당 사원의 전체 쓰레드 목록 (최근 활동순)
+     */
+    List<AiChatThread> findThreadsByMbNoOrderByLastActivity(Long mbNo);
+
+    /**
+     * 쓰레드에 메시지가 저장되었음을 요약 컬럼에 반영합니다.
+     * 엔티티를 읽지 않고 한 번의 UPDATE로 메시지 수를 늘리므로 동시에 저장되어도 개수가 빠지지 않습니다.
+     * 마지막 활동 시각과 미리보기는 이 메시지가 기존 마지막 활동보다 늦거나 같을 때만 바꿉니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @param at       메시지 저장 시각
+     * @param preview  마지막 메시지 미리보기
+     * @return 갱신된 행 수
+     */
+    long recordMessage(Long threadId, LocalDateTime at, String preview);
+
+    /**
+     * 요약 컬럼이 비어 있는 쓰레드를 최대 batchSize개 골라 히스토리로부터 요약을 채웁니다.
+     * 고른 쓰레드는 트랜잭션이 끝날 때까지 쓰기 잠금을 유지하므로 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param batchSize 한 번에 채울 최대 쓰레드 수
+     * @return 요약을 채운 쓰레드 수
+     */
+    int backfillSummaries(int batchSize);
 }
@@ -35,4 +35,26 @@ public class AiChatHistoryRepositoryImpl implements AiChatHistoryRepositoryCusto
                 .orderBy(aiChatHistory.createdAt.desc())
                 .fetch();
     }
+
+    /**
+     * 쓰레드 ID와 히스토리 ID 범위 조건으로 커서 이후의 히스토리를 조회합니다.
+     * historyId는 저장 순서대로 증가하므로 생성 시각이 같은 메시지도 빠짐없이 이어서 받을 수 있습니다.
+     *
+     * @param threadId       조회할 쓰레드 ID
+     * @param afterHistoryId 이 ID보다 큰 히스토리만 조회
+     * @param limit          최대 조회 개수
+     * @return 커서 이후의 대화 히스토리 리스트
+     */
+    @Override
+    public List<AiChatHistory> findHistoriesAfter(Long threadId, Long afterHistoryId, int limit) {
+        QAiChatHistory aiChatHistory = QAiChatHistory.aiChatHistory;
+
+        return queryFactory
+                .selectFrom(aiChatHistory)
+                .where(aiChatHistory.thread.threadId.eq(threadId),
+                        aiChatHistory.historyId.gt(afterHistoryId))
+                .orderBy(aiChatHistory.historyId.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
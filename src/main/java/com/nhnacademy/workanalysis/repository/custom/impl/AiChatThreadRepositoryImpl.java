@@ -1,13 +1,26 @@
 package com.nhnacademy.workanalysis.repository.custom.impl;
 
+import com.nhnacademy.workanalysis.entity.AiChatHistory;
 import com.nhnacademy.workanalysis.entity.AiChatThread;
+import com.nhnacademy.workanalysis.entity.QAiChatHistory;
 import com.nhnacademy.workanalysis.entity.QAiChatThread;
 import com.nhnacademy.workanalysis.repository.custom.AiChatThreadRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * QueryDSL 기반 AI 분석 쓰레드 커스텀 리포지토리 구현 클래스입니다.
@@ -53,4 +66,106 @@ public class AiChatThreadRepositoryImpl implements AiChatThreadRepositoryCustom
                 .limit(limit)
                 .fetch();
     }
+
+    /**
+     * 사원 번호 기준 전체 쓰레드를 마지막 활동 시각 내림차순으로 조회합니다.
+     * (mb_no, last_activity_at) 인덱스를 사용합니다.
+     *
+     * @param mbNo 사원 번호
+     * @return 해당 사원의 쓰레드 목록 (최근 활동순)
+     */
+    @Override
+    public List<AiChatThread> findThreadsByMbNoOrderByLastActivity(Long mbNo) {
+        QAiChatThread thread = QAiChatThread.aiChatThread;
+
+        return queryFactory
+                .selectFrom(thread)
+                .where(thread.mbNo.eq(mbNo))
+                .orderBy(thread.lastActivityAt.desc().nullsLast(), thread.threadId.desc())
+                .fetch();
+    }
+
+    /**
+     * 메시지 수를 1 늘리고, 저장 시각이 현재 마지막 활동 시각보다 이르지 않을 때만 마지막 활동 시각과 미리보기를 바꿉니다.
+     * 먼저 저장된 메시지의 갱신이 늦게 도착해도 최신 미리보기를 덮어쓰지 않습니다.
+     * 아직 요약이 채워지지 않은 쓰레드는 메시지 수가 NULL로 남아 요약 채우기에서 다시 계산됩니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @param at       메시지 저장 시각
+     * @param preview  마지막 메시지 미리보기
+     * @return 갱신된 행 수
+     */
+    @Override
+    public long recordMessage(Long threadId, LocalDateTime at, String preview) {
+        QAiChatThread thread = QAiChatThread.aiChatThread;
+        BooleanExpression latest = thread.lastActivityAt.isNull().or(thread.lastActivityAt.loe(at));
+        Expression<String> newPreview = preview != null ? Expressions.constant(preview) : Expressions.nullExpression(String.class);
+
+        // MySQL은 SET 절을 왼쪽부터 평가하므로 미리보기를 마지막 활동 시각보다 먼저 바꿔야 갱신 전 값과 비교함
+        return queryFactory
+                .update(thread)
+                .set(thread.messageCount, thread.messageCount.add(1L))
+                .set(thread.lastMessagePreview, new CaseBuilder().when(latest).then(newPreview)
+                        .otherwise(thread.lastMessagePreview))
+                .set(thread.lastActivityAt, new CaseBuilder().when(latest).then(at)
+                        .otherwise(thread.lastActivityAt))
+                .where(thread.threadId.eq(threadId))
+                .execute();
+    }
+
+    /**
+     * 요약이 비어 있는 쓰레드를 쓰기 잠금으로 골라 쓰레드별 메시지 수와 마지막 historyId를 한 번에 집계하고,
+     * 마지막 메시지를 한 번 더 조회하여 요약을 채웁니다. 변경은 더티 체킹으로 반영됩니다.
+     * <p>
+     * 잠금을 잡은 뒤에 메시지 수를 세므로 그 전에 저장된 메시지는 집계에 포함되고,
+     * 그 사이 저장되는 메시지의 {@link #recordMessage}는 잠금이 풀릴 때까지 기다렸다가 채워진 값에 더해집니다.
+     * 다른 인스턴스가 먼저 채운 쓰레드는 잠금을 얻은 시점의 조건 검사에서 빠집니다.
+     * </p>
+     *
+     * @param batchSize 한 번에 채울 최대 쓰레드 수
+     * @return 요약을 채운 쓰레드 수
+     */
+    @Override
+    public int backfillSummaries(int batchSize) {
+        QAiChatThread thread = QAiChatThread.aiChatThread;
+        QAiChatHistory history = QAiChatHistory.aiChatHistory;
+
+        List<AiChatThread> threads = queryFactory
+                .selectFrom(thread)
+                .where(thread.messageCount.isNull())
+                .orderBy(thread.threadId.asc())
+                .limit(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+        if (threads.isEmpty()) {
+            return 0;
+        }
+
+        List<Tuple> stats = queryFactory
+                .select(history.thread.threadId, history.count(), history.historyId.max())
+                .from(history)
+                .where(history.thread.threadId.in(threads.stream().map(AiChatThread::getThreadId).toList()))
+                .groupBy(history.thread.threadId)
+                .fetch();
+        Map<Long, Long> counts = new HashMap<>();
+        Map<Long, Long> lastHistoryIds = new HashMap<>();
+        for (Tuple row : stats) {
+            counts.put(row.get(history.thread.threadId), row.get(history.count()));
+            lastHistoryIds.put(row.get(history.thread.threadId), row.get(history.historyId.max()));
+        }
+        Map<Long, AiChatHistory> lastHistories = lastHistoryIds.isEmpty() ? Map.of() : queryFactory
+                .selectFrom(history)
+                .where(history.historyId.in(lastHistoryIds.values()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(h -> h.getThread().getThreadId(), Function.identity()));
+
+        for (AiChatThread target : threads) {
+            AiChatHistory last = lastHistories.get(target.getThreadId());
+            target.applySummary(counts.getOrDefault(target.getThreadId(), 0L),
+                    last != null ? last.getCreatedAt() : null,
+                    last != null ? last.getContent() : null);
+        }
+        return threads.size();
+    }
 }
@@ -37,6 +37,17 @@ public interface AiChatService {
      */
     AiChatHistoryDto saveHistory(Long threadId, String role, String content);
 
+    /**
+     * 특정 쓰레드에 대화 히스토리(메시지)를 저장하고, AI 응답이면 해당 응답을 만든 토큰 사용량 기록과 연결합니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @param role     메시지를 보낸 주체 ("user" 또는 "ai")
+     * @param content  메시지 본문 내용
+     * @param usageId  분석 응답에 포함된 토큰 사용량 기록 ID (없으면 null)
+     * @return 저장된 AiChatHistory DTO 객체
+     */
+    AiChatHistoryDto saveHistory(Long threadId, String role, String content, Long usageId);
+
     /**
      * 특정 사원(mbNo)의 전체 대화 쓰레드 목록을 조회합니다.
      *
@@ -45,6 +56,15 @@ public interface AiChatService {
      */
     List<AiChatThreadDto> getThreadsByMember(Long mbNo);
 
+    /**
+     * 특정 사원(mbNo)의 전체 대화 쓰레드 목록을 주어진 기준으로 정렬하여 조회합니다.
+     *
+     * @param mbNo 사원 고유 번호
+     * @param sort 정렬 기준 (생성일 또는 마지막 활동 시각, 모두 내림차순)
+     * @return 해당 사원의 쓰레드 DTO 목록
+     */
+    List<AiChatThreadDto> getThreadsByMember(Long mbNo, ThreadSort sort);
+
     /**
      * 특정 쓰레드에 속한 전체 대화 히스토리를 조회합니다.
      *
@@ -53,6 +73,16 @@ public interface AiChatService {
      */
     List<AiChatHistoryDto> getHistoriesByThread(Long threadId);
 
+    /**
+     * 특정 쓰레드에서 커서(historyId) 이후에 저장된 대화 히스토리만 조회합니다.
+     *
+     * @param threadId       쓰레드 ID
+     * @param afterHistoryId 클라이언트가 마지막으로 받은 historyId (처음이면 0)
+     * @param limit          최대 조회 개수
+     * @return 커서 이후의 히스토리(오래된 순)와 다음 커서
+     */
+    AiChatHistoryDeltaDto getHistoriesAfter(Long threadId, Long afterHistoryId, int limit);
+
     /**
      * 특정 쓰레드를 삭제합니다.
      *
@@ -0,0 +1,35 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+
+/**
+ * 근태 분석 결과를 생성하는 제공자 인터페이스입니다.
+ * <p>
+ * 등록된 제공자는 {@link org.springframework.core.annotation.Order} 순서대로 검사되며,
+ * {@link #supports(AnalysisTask)}가 {@code true}를 반환하는 첫 번째 제공자가 분석을 수행합니다.
+ * 마지막 순서의 제공자는 모든 작업을 처리할 수 있어야 합니다.
+ * </p>
+ */
+public interface AnalysisProvider {
+
+    /**
+     * @return 로그 및 메트릭에 사용할 제공자 이름
+     */
+    String getName();
+
+    /**
+     * 이 제공자가 주어진 작업을 처리할 수 있는지 판단합니다.
+     *
+     * @param task 분석 작업
+     * @return 처리 가능하면 {@code true}
+     */
+    boolean supports(AnalysisTask task);
+
+    /**
+     * 분석을 수행합니다.
+     *
+     * @param task 분석 작업
+     * @return 분석 결과 (마크다운 형식 텍스트 포함)
+     */
+    GeminiAnalysisResponse analyze(AnalysisTask task);
+}
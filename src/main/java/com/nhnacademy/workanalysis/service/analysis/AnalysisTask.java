@@ -0,0 +1,80 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.dto.WorkRecordDto;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * {@link AnalysisProvider}에 전달되는 분석 작업 정보입니다.
+ * 리포트 생성과 사용자 질문 모두 이 형태로 변환되어 분석 제공자를 선택하는 데 사용됩니다.
+ */
+@Value
+@Builder
+public class AnalysisTask {
+
+    /**
+     * 분석 요청 종류
+     */
+    AnalysisType type;
+
+    /**
+     * 분석 대상 사원 번호
+     */
+    Long memberNo;
+
+    /**
+     * 분석 대상 사원 이름 (알 수 없으면 null)
+     */
+    String memberName;
+
+    /**
+     * 분석 대상 연도 (사용자 질문의 경우 null일 수 있음)
+     */
+    Integer year;
+
+    /**
+     * 분석 대상 월 (사용자 질문의 경우 null일 수 있음)
+     */
+    Integer month;
+
+    /**
+     * 분석에 사용할 근무 기록
+     */
+    @Singular
+    List<WorkRecordDto> workRecords;
+
+    /**
+     * Gemini에 전달할 대화 메시지 (이전 대화 이력 + 현재 질문)
+     */
+    @Singular
+    List<MessageDto> messages;
+
+    /**
+     * 요청이 발생한 대화 쓰레드 ID (없으면 null)
+     */
+    Long threadId;
+
+    /**
+     * 사용자가 AI 분석을 명시적으로 요청했는지 여부
+     */
+    boolean aiRequested;
+
+    /**
+     * 마지막 사용자 메시지(현재 질문)를 반환합니다.
+     *
+     * @return 현재 질문, 사용자 메시지가 없으면 빈 문자열
+     */
+    public String lastUserMessage() {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            MessageDto message = messages.get(i);
+            if ("user".equalsIgnoreCase(message.getRole())) {
+                return message.getContent() != null ? message.getContent() : "";
+            }
+        }
+        return "";
+    }
+}
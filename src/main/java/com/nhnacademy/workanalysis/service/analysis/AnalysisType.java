@@ -0,0 +1,42 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+/**
+ * 분석 요청의 종류입니다.
+ */
+public enum AnalysisType {
+
+    /**
+     * 월간 근태 리포트 (/reports)
+     */
+    MONTHLY_REPORT("reports"),
+
+    /**
+     * 사용자가 직접 입력한 질문 (/customs)
+     */
+    CUSTOM_QUESTION("customs"),
+
+    /**
+     * 야간 배치로 미리 생성하는 월간 근태 리포트
+     */
+    PRECOMPUTED_REPORT("precompute");
+
+    private final String endpoint;
+
+    AnalysisType(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return 월간 리포트(실시간 또는 사전 생성)이면 {@code true}
+     */
+    public boolean isMonthlyReport() {
+        return this == MONTHLY_REPORT || this == PRECOMPUTED_REPORT;
+    }
+
+    /**
+     * @return 사용량 집계 및 로그에 사용하는 엔드포인트 구분 값
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import java.util.Map;
+
+/**
+ * 근태 상태 코드와 한글 라벨의 매핑입니다.
+ * 프롬프트 생성과 규칙 기반 분석에서 같은 라벨을 사용하도록 한 곳에서 관리합니다.
+ */
+public final class AttendanceStatusLabels {
+
+    public static final String PRESENT = "1";
+    public static final String LATE = "2";
+    public static final String ABSENT = "3";
+    public static final String OUTSIDE = "4";
+
+    private static final Map<String, String> LABELS = Map.of(
+            "1", "출근", "2", "지각", "3", "결근", "4", "외근",
+            "5", "연차", "6", "질병", "7", "반차", "8", "상"
+    );
+
+    private AttendanceStatusLabels() {
+    }
+
+    /**
+     * 상태 코드를 한글 라벨로 변환합니다.
+     *
+     * @param code 근태 상태 코드
+     * @return 라벨, 알 수 없는 코드는 "기타"
+     */
+    public static String label(String code) {
+        return LABELS.getOrDefault(code, "기타");
+    }
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.entity.AiMonthlyReport;
+import com.nhnacademy.workanalysis.repository.AiMonthlyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Gemini로 생성한 월간 리포트를 저장하고 조회합니다.
+ * <p>
+ * 리포트는 사원/연월 단위로 하나만 저장되며, 생성에 사용한 근무 기록의 해시({@code dataVersion})가
+ * 현재 근무 기록과 같을 때만 저장된 리포트를 반환합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyReportStore {
+
+    private final AiMonthlyReportRepository monthlyReportRepository;
+
+    /**
+     * 현재 근무 기록으로 생성된 리포트가 저장되어 있으면 반환합니다.
+     *
+     * @param task 월간 리포트 분석 작업
+     * @return 저장된 리포트, 없거나 근무 기록이 바뀌었으면 빈 값
+     */
+    @Transactional(readOnly = true)
+    public Optional<GeminiAnalysisResponse> find(AnalysisTask task) {
+        return monthlyReportRepository.findByMbNoAndYearAndMonth(task.getMemberNo(), task.getYear(), task.getMonth())
+                .filter(report -> report.getDataVersion() == dataVersion(task))
+                .map(report -> new GeminiAnalysisResponse(report.getMbNo(), report.getFullText()));
+    }
+
+    /**
+     * 생성된 리포트를 저장합니다. 같은 사원/연월의 리포트가 있으면 갱신합니다.
+     * 분석 요청의 트랜잭션(읽기 전용일 수 있음)과 분리하여 저장합니다.
+     *
+     * @param task     월간 리포트 분석 작업
+     * @param response 생성된 리포트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(AnalysisTask task, GeminiAnalysisResponse response) {
+        int version = dataVersion(task);
+        monthlyReportRepository.findByMbNoAndYearAndMonth(task.getMemberNo(), task.getYear(), task.getMonth())
+                .ifPresentOrElse(
+                        report -> report.update(response.getFullText(), version),
+                        () -> monthlyReportRepository.save(AiMonthlyReport.of(
+                                task.getMemberNo(), task.getYear(), task.getMonth(), response.getFullText(), version)));
+        log.debug("📦 월간 리포트 저장 - mbNo: {}, {}-{}", task.getMemberNo(), task.getYear(), task.getMonth());
+    }
+
+    private int dataVersion(AnalysisTask task) {
+        return task.getWorkRecords().hashCode();
+    }
+}
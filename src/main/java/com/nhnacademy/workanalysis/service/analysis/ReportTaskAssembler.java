@@ -0,0 +1,117 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.dto.WorkRecordDto;
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
+import com.nhnacademy.workanalysis.exception.WorkEntryRecordNotFoundException;
+import com.nhnacademy.workanalysis.logging.LogPayloads;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사원의 월간 출결 데이터를 조회하여 리포트 분석 작업({@link AnalysisTask})을 구성합니다.
+ * 실시간 리포트 요청과 월간 리포트 사전 생성이 같은 프롬프트를 사용하도록 한 곳에서 만듭니다.
+ * 출결 데이터 조회와 프롬프트 구성 시간은 {@link PipelineMetrics}에 단계별로 기록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportTaskAssembler {
+
+    private final WorkEntryClient workEntryClient;
+    private final PipelineMetrics pipelineMetrics;
+
+    /**
+     * 출결 데이터를 조회하여 리포트 분석 작업을 만듭니다.
+     *
+     * @param type        분석 요청 종류 (실시간 리포트 또는 사전 생성)
+     * @param mbNo        사원 번호
+     * @param mbName      사원 이름
+     * @param year        분석 연도
+     * @param month       분석 월
+     * @param aiRequested AI 분석 명시 요청 여부
+     * @return 분석 작업
+     * @throws WorkEntryRecordNotFoundException 해당 월의 출결 데이터가 없을 경우
+     */
+    public AnalysisTask assemble(AnalysisType type, Long mbNo, String mbName, int year, int month, boolean aiRequested) {
+        String pipeline = type.getEndpoint();
+        PageResponse<AttendanceSummaryDto> pageResponse = pipelineMetrics.time(pipeline, "work_entry_fetch",
+                () -> workEntryClient.getRecent30DaySummary(mbNo));
+        List<WorkRecordDto> workRecords = pageResponse.getContent().stream()
+                .filter(s -> s.getYear() == year && s.getMonthValue() == month)
+                .map(summary -> new WorkRecordDto(
+                        LocalDate.of(summary.getYear(), summary.getMonthValue(), summary.getDayOfMonth()).toString(),
+                        getDayOfWeek(summary.getInTime(), summary.getOutTime()),
+                        summary.getCode().toString(),
+                        summary.getInTime() != null ? summary.getInTime().toLocalTime().toString() : null,
+                        summary.getOutTime() != null ? summary.getOutTime().toLocalTime().toString() : null
+                ))
+                .toList();
+
+        if (workRecords.isEmpty()) {
+            log.warn("근무 기록 없음 - mbNo: {}, year: {}, month: {}", mbNo, year, month);
+            throw new WorkEntryRecordNotFoundException("근무기록없음");
+        }
+
+        log.info("분석용 프롬프트 생성 시작 - 데이터 {}건", workRecords.size());
+
+        String prompt = pipelineMetrics.time(pipeline, "prompt_format", () -> formatRecordsToPrompt(workRecords));
+        return AnalysisTask.builder()
+                .type(type)
+                .memberNo(mbNo)
+                .memberName(mbName)
+                .year(year)
+                .month(month)
+                .workRecords(workRecords)
+                .message(new MessageDto("user", String.format("%s 사원의 %d년 %d월 근무 기록 요약을 요청합니다.", mbName, year, month)))
+                .message(new MessageDto("user", prompt))
+                .aiRequested(aiRequested)
+                .build();
+    }
+
+    /**
+     * 출/퇴근 시간 중 유효한 시간으로 요일을 구합니다.
+     *
+     * @param in 출근 시간
+     * @param out 퇴근 시간
+     * @return 요일 문자열, 유효한 시간 없을 시 "정보없음"
+     */
+    private String getDayOfWeek(LocalDateTime in, LocalDateTime out) {
+        LocalDateTime valid = in != null ? in : out;
+        if (valid == null) {
+            log.warn("요일 정보 없음 - inTime, outTime 모두 null");
+            return "정보없음";
+        }
+        return valid.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+    }
+
+    /**
+     * 근무 기록 리스트를 분석용 문자열 프롬프트로 변환합니다.
+     *
+     * @param records 분석할 근무 기록 목록
+     * @return Gemini 프롬프트 문자열
+     */
+    private String formatRecordsToPrompt(List<WorkRecordDto> records) {
+        StringBuilder sb = new StringBuilder();
+        for (WorkRecordDto r : records) {
+            String statusDesc = AttendanceStatusLabels.label(r.getStatusCode());
+            sb.append("- ").append(r.getDate())
+                    .append(" (").append(r.getDayOfWeek()).append("): ").append(statusDesc);
+            if (r.getInTime() != null) sb.append(", 출근 ").append(r.getInTime());
+            if (r.getOutTime() != null) sb.append(", 퇴근 ").append(r.getOutTime());
+            sb.append("\n");
+        }
+        log.debug("Gemini 프롬프트: {}", LogPayloads.preview(sb));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.nhnacademy.workanalysis.service.analysis.cache;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 한국어 질문을 정규화하고 문자 n-gram 집합의 MinHash 서명 및 LSH 밴드 키를 계산합니다.
+ * <p>
+ * 정규화는 NFKC 변환, 소문자화, 공백·문장부호 제거, 자주 쓰이는 동의 표현 치환,
+ * 끝맺음 요청 표현("알려줘", "인가요" 등) 제거 순으로 수행합니다.
+ * 서명은 {@value #NUM_HASHES}개의 해시 함수로 만들며, {@value #BANDS}개 밴드 × {@value #ROWS}행으로 나누어
+ * 자카드 유사도가 높은 질문이 같은 밴드 키를 공유할 확률이 높도록 합니다.
+ * </p>
+ */
+final class MinHasher {
+
+    static final int NUM_HASHES = 64;
+    static final int BANDS = 16;
+    static final int ROWS = NUM_HASHES / BANDS;
+
+    private static final long PRIME = 2_147_483_647L;
+
+    /**
+     * 같은 의미로 쓰이는 표현을 하나로 치환합니다. (정규화 후 공백이 제거된 형태 기준)
+     */
+    private static final Map<String, String> SYNONYMS = Map.of(
+            "횟수", "몇번",
+            "몇회", "몇번",
+            "며칠", "몇일",
+            "일수", "몇일",
+            "금월", "이번달",
+            "저번달", "지난달"
+    );
+
+    /**
+     * 질문 끝에 붙는 요청·의문 표현입니다. 의미에 영향을 주지 않으므로 제거합니다.
+     */
+    private static final List<String> TRAILING_PHRASES = List.of(
+            "알려주세요", "알려줘요", "알려줘", "말해주세요", "말해줘", "보여주세요", "보여줘",
+            "인가요", "이에요", "예요", "이야", "니", "야", "요"
+    );
+
+    private final int ngram;
+    private final long[] a = new long[NUM_HASHES];
+    private final long[] b = new long[NUM_HASHES];
+
+    MinHasher(int ngram) {
+        this.ngram = ngram;
+        // 인스턴스 간 서명이 같도록 고정 시드를 사용합니다.
+        SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            a[i] = 1 + random.nextLong(PRIME - 1);
+            b[i] = random.nextLong(PRIME);
+        }
+    }
+
+    /**
+     * 질문을 비교 가능한 형태로 정규화합니다.
+     *
+     * @param text 원문 질문
+     * @return 정규화된 문자열
+     */
+    static String normalize(String text) {
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        String normalized = sb.toString();
+        for (Map.Entry<String, String> synonym : SYNONYMS.entrySet()) {
+            normalized = normalized.replace(synonym.getKey(), synonym.getValue());
+        }
+        for (String phrase : TRAILING_PHRASES) {
+            if (normalized.length() > phrase.length() && normalized.endsWith(phrase)) {
+                normalized = normalized.substring(0, normalized.length() - phrase.length());
+                break;
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 정규화된 문자열의 문자 n-gram 집합을 만듭니다. n보다 짧은 문자열은 문자열 전체를 하나의 원소로 사용합니다.
+     *
+     * @param normalized 정규화된 문자열
+     * @return n-gram 집합
+     */
+    Set<String> shingles(String normalized) {
+        Set<String> shingles = new HashSet<>();
+        if (normalized.length() < ngram) {
+            shingles.add(normalized);
+            return shingles;
+        }
+        for (int i = 0; i + ngram <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + ngram));
+        }
+        return shingles;
+    }
+
+    /**
+     * n-gram 집합의 MinHash 서명을 계산합니다.
+     *
+     * @param shingles n-gram 집합
+     * @return 길이 {@value #NUM_HASHES}의 서명
+     */
+    int[] signature(Set<String> shingles) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long x = shingle.hashCode() & 0x7fffffffL;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) ((a[i] * x + b[i]) % PRIME);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명을 밴드로 나누어 밴드별 LSH 버킷 키를 계산합니다. 밴드 번호가 키에 포함되어 밴드 간 충돌이 없습니다.
+     *
+     * @param signature MinHash 서명
+     * @return 길이 {@value #BANDS}의 버킷 키
+     */
+    static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long h = band;
+            for (int row = 0; row < ROWS; row++) {
+                h = h * 31 + signature[band * ROWS + row];
+            }
+            keys[band] = (h << 4) | band;
+        }
+        return keys;
+    }
+
+    /**
+     * 두 n-gram 집합의 자카드 유사도를 계산합니다.
+     */
+    static double jaccard(Set<String> x, Set<String> y) {
+        if (x.isEmpty() && y.isEmpty()) {
+            return 1.0;
+        }
+        Set<String> smaller = x.size() <= y.size() ? x : y;
+        Set<String> larger = smaller == x ? y : x;
+        int intersection = 0;
+        for (String s : smaller) {
+            if (larger.contains(s)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (x.size() + y.size() - intersection);
+    }
+}
@@ -0,0 +1,227 @@
+package com.nhnacademy.workanalysis.service.analysis.cache;
+
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 거의 같은 사용자 질문에 대해 이전 Gemini 응답을 재사용하는 근사 일치 캐시입니다.
+ * <p>
+ * 질문은 {@link MinHasher}로 정규화한 뒤 문자 n-gram 집합의 MinHash 서명과 LSH 밴드로 후보를 찾고,
+ * 후보의 실제 자카드 유사도가 {@code gemini.cache.similarity-threshold} 이상이면 캐시된 응답을 반환합니다.
+ * </p>
+ * <p>
+ * 캐시 범위는 사원 번호, 근무 기록 버전(요청에 포함된 근무 기록의 해시), 현재 질문 이전의 대화 이력으로 구분되어
+ * 다른 사원이나 다른 데이터, 다른 대화 맥락의 응답은 재사용되지 않습니다.
+ * 전체 항목 수가 {@code gemini.cache.max-entries}를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SemanticResponseCache {
+
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final MinHasher hasher;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<String, Scope> scopes = new HashMap<>();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long nextId;
+
+    public SemanticResponseCache(@Value("${gemini.cache.enabled:true}") boolean enabled,
+                                 @Value("${gemini.cache.similarity-threshold:0.8}") double similarityThreshold,
+                                 @Value("${gemini.cache.max-entries:1000}") int maxEntries,
+                                 @Value("${gemini.cache.ngram:2}") int ngram,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxEntries = maxEntries;
+        this.hasher = new MinHasher(ngram);
+        this.hits = Counter.builder("gemini.cache.requests")
+                .description("근사 일치 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("gemini.cache.requests")
+                .description("근사 일치 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("gemini.cache.size", this, SemanticResponseCache::size);
+    }
+
+    /**
+     * 현재 질문과 충분히 유사한 이전 질문의 응답을 찾습니다.
+     *
+     * @param task 분석 작업
+     * @return 캐시된 응답, 없으면 빈 값
+     */
+    public Optional<GeminiAnalysisResponse> get(AnalysisTask task) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String normalized = MinHasher.normalize(task.lastUserMessage());
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> shingles = hasher.shingles(normalized);
+        long[] bandKeys = MinHasher.bandKeys(hasher.signature(shingles));
+
+        synchronized (this) {
+            Scope scope = scopes.get(scopeKey(task));
+            Entry best = null;
+            double bestSimilarity = 0;
+            if (scope != null) {
+                for (Long id : scope.candidates(bandKeys)) {
+                    Entry candidate = entries.get(id);
+                    double similarity = MinHasher.jaccard(shingles, candidate.shingles);
+                    if (similarity > bestSimilarity) {
+                        best = candidate;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+            if (best != null && bestSimilarity >= similarityThreshold) {
+                hits.increment();
+                log.debug("🗂️ 근사 일치 캐시 적중 - memberNo: {}, 유사도: {}", task.getMemberNo(), bestSimilarity);
+                return Optional.of(new GeminiAnalysisResponse(task.getMemberNo(), best.fullText));
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 질문에 대한 응답을 캐시에 저장합니다.
+     *
+     * @param task     분석 작업
+     * @param response 저장할 응답
+     */
+    public void put(AnalysisTask task, GeminiAnalysisResponse response) {
+        if (!enabled) {
+            return;
+        }
+        String normalized = MinHasher.normalize(task.lastUserMessage());
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Set<String> shingles = hasher.shingles(normalized);
+        long[] bandKeys = MinHasher.bandKeys(hasher.signature(shingles));
+        String scopeKey = scopeKey(task);
+
+        synchronized (this) {
+            long id = nextId++;
+            entries.put(id, new Entry(id, scopeKey, shingles, bandKeys, response.getFullText()));
+            scopes.computeIfAbsent(scopeKey, k -> new Scope()).add(id, bandKeys);
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * @return 캐시된 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            Scope scope = scopes.get(eldest.scopeKey);
+            if (scope != null && scope.remove(eldest.id, eldest.bandKeys)) {
+                scopes.remove(eldest.scopeKey);
+            }
+        }
+    }
+
+    /**
+     * 사원 번호, 근무 기록 버전, 현재 질문 이전의 대화 맥락으로 캐시 범위를 구분하는 키를 만듭니다.
+     */
+    private static String scopeKey(AnalysisTask task) {
+        List<MessageDto> messages = task.getMessages();
+        int lastUser = -1;
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if ("user".equalsIgnoreCase(messages.get(i).getRole())) {
+                lastUser = i;
+                break;
+            }
+        }
+        int context = 1;
+        for (int i = 0; i < messages.size(); i++) {
+            if (i != lastUser) {
+                context = 31 * context + messages.get(i).hashCode();
+            }
+        }
+        return task.getMemberNo() + ":" + task.getWorkRecords().hashCode() + ":" + context;
+    }
+
+    /**
+     * 캐시 항목 하나입니다. 응답 텍스트와 비교용 n-gram 집합, LSH 밴드 키를 보관합니다.
+     */
+    private record Entry(long id, String scopeKey, Set<String> shingles, long[] bandKeys, String fullText) {
+    }
+
+    /**
+     * 캐시 범위 하나의 LSH 버킷 인덱스입니다.
+     */
+    private static final class Scope {
+
+        private final Map<Long, List<Long>> buckets = new HashMap<>();
+        private int size;
+
+        void add(long id, long[] bandKeys) {
+            for (long key : bandKeys) {
+                buckets.computeIfAbsent(key, k -> new ArrayList<>(2)).add(id);
+            }
+            size++;
+        }
+
+        /**
+         * @return 범위가 비었으면 {@code true}
+         */
+        boolean remove(long id, long[] bandKeys) {
+            for (long key : bandKeys) {
+                List<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(Long.valueOf(id));
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+            return --size == 0;
+        }
+
+        /**
+         * 밴드 키를 하나 이상 공유하는 항목 ID를 반환합니다.
+         */
+        Set<Long> candidates(long[] bandKeys) {
+            Set<Long> candidates = new HashSet<>();
+            for (long key : bandKeys) {
+                List<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.workanalysis.service.analysis.impl;
+
+import com.nhnacademy.workanalysis.dto.WorkRecordDto;
+import com.nhnacademy.workanalysis.service.analysis.AttendanceStatusLabels;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+/**
+ * 근무 기록 목록으로부터 계산한 월간 근태 통계입니다.
+ * 모든 값은 기록을 한 번 순회하여 계산됩니다.
+ */
+@Getter(AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class AttendanceStatistics {
+
+    private final int recordedDays;
+    /**
+     * 상태 코드 순으로 정렬된 상태별 일수
+     */
+    private final Map<String, Integer> statusCounts;
+    private final List<String> lateDates;
+    private final List<String> absentDates;
+    private final OptionalInt averageArrivalMinutes;
+    private final OptionalInt averageDepartureMinutes;
+    private final int longestStreak;
+    private final String streakStart;
+    private final String streakEnd;
+
+    /**
+     * 근무 기록으로부터 통계를 계산합니다.
+     * 최장 연속 정상 출근은 날짜순으로 정렬한 기록 중 지각·결근 없이 출근 또는 외근한 기록이 이어진 최대 길이입니다.
+     *
+     * @param records 근무 기록 목록
+     * @return 계산된 통계
+     */
+    static AttendanceStatistics of(List<WorkRecordDto> records) {
+        List<WorkRecordDto> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparing(WorkRecordDto::getDate));
+
+        Map<String, Integer> statusCounts = new TreeMap<>();
+        List<String> lateDates = new ArrayList<>();
+        List<String> absentDates = new ArrayList<>();
+        long arrivalSum = 0;
+        int arrivalCount = 0;
+        long departureSum = 0;
+        int departureCount = 0;
+        int streak = 0;
+        int longest = 0;
+        String currentStart = null;
+        String longestStart = null;
+        String longestEnd = null;
+
+        for (WorkRecordDto r : sorted) {
+            String code = r.getStatusCode();
+            statusCounts.merge(code, 1, Integer::sum);
+            if (AttendanceStatusLabels.LATE.equals(code)) {
+                lateDates.add(r.getDate());
+            } else if (AttendanceStatusLabels.ABSENT.equals(code)) {
+                absentDates.add(r.getDate());
+            }
+
+            int in = toMinutes(r.getInTime());
+            if (in >= 0) {
+                arrivalSum += in;
+                arrivalCount++;
+            }
+            int out = toMinutes(r.getOutTime());
+            if (out >= 0) {
+                departureSum += out;
+                departureCount++;
+            }
+
+            if (AttendanceStatusLabels.PRESENT.equals(code) || AttendanceStatusLabels.OUTSIDE.equals(code)) {
+                if (streak++ == 0) {
+                    currentStart = r.getDate();
+                }
+                if (streak > longest) {
+                    longest = streak;
+                    longestStart = currentStart;
+                    longestEnd = r.getDate();
+                }
+            } else {
+                streak = 0;
+            }
+        }
+
+        return new AttendanceStatistics(sorted.size(), statusCounts, lateDates, absentDates,
+                arrivalCount > 0 ? OptionalInt.of((int) (arrivalSum / arrivalCount)) : OptionalInt.empty(),
+                departureCount > 0 ? OptionalInt.of((int) (departureSum / departureCount)) : OptionalInt.empty(),
+                longest, longestStart, longestEnd);
+    }
+
+    /**
+     * "HH:mm" 또는 "HH:mm:ss" 형식의 시간을 자정 기준 분으로 변환합니다.
+     *
+     * @return 분, 값이 없거나 형식이 올바르지 않으면 -1
+     */
+    private static int toMinutes(String time) {
+        if (time == null || time.isBlank()) {
+            return -1;
+        }
+        try {
+            LocalTime t = LocalTime.parse(time);
+            return t.getHour() * 60 + t.getMinute();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 분 단위 시간을 "HH:mm" 형식으로 변환합니다.
+     */
+    static String formatMinutes(int minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,143 @@
+package com.nhnacademy.workanalysis.service.analysis.impl;
+
+import com.nhnacademy.workanalysis.adaptor.AiChatApiClient;
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisProvider;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.MonthlyReportStore;
+import com.nhnacademy.workanalysis.service.analysis.cache.SemanticResponseCache;
+import com.nhnacademy.workanalysis.service.cluster.DistributedSingleFlight;
+import com.nhnacademy.workanalysis.service.usage.TokenUsageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gemini API를 호출하여 분석하는 제공자입니다. 다른 제공자가 처리하지 못한 모든 작업을 처리합니다.
+ * <p>
+ * 호출 전에 사원의 일일 토큰 예산을 확인하고, 응답의 토큰 사용량을 기록합니다.
+ * 월간 리포트는 멱등하므로 헤징 요청을 허용합니다.
+ * 사용자 질문은 {@link SemanticResponseCache}에서 거의 같은 이전 질문의 응답을 먼저 찾고,
+ * 없을 때만 Gemini를 호출한 뒤 성공한 응답을 캐시에 저장합니다.
+ * 월간 리포트는 {@link MonthlyReportStore}에 저장된 리포트(야간 사전 생성 포함)를 먼저 사용하고,
+ * 새로 생성한 리포트를 저장합니다. 같은 사원/연월 리포트 생성은 {@link DistributedSingleFlight}로
+ * 모든 인스턴스를 통틀어 한 번만 실행됩니다. 사전 생성 작업은 사원의 일일 토큰 예산을 차감하지 않으며 헤징하지 않습니다.
+ * Gemini 호출 시간과 프롬프트/응답 크기는 {@link PipelineMetrics}에 기록됩니다.
+ * 새로 생성한 응답에는 토큰 사용량 기록 ID를 담아 반환하며, 캐시나 저장소에는 ID 없이 저장합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class GeminiAnalysisProvider implements AnalysisProvider {
+
+    private final AiChatApiClient aiChatApiClient;
+    private final TokenUsageService tokenUsageService;
+    private final SemanticResponseCache responseCache;
+    private final MonthlyReportStore monthlyReportStore;
+    private final DistributedSingleFlight singleFlight;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Override
+    public String getName() {
+        return "gemini";
+    }
+
+    @Override
+    public boolean supports(AnalysisTask task) {
+        return true;
+    }
+
+    @Override
+    public GeminiAnalysisResponse analyze(AnalysisTask task) {
+        if (task.getType() == AnalysisType.CUSTOM_QUESTION) {
+            Optional<GeminiAnalysisResponse> cached = responseCache.get(task);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        if (task.getType() == AnalysisType.MONTHLY_REPORT) {
+            Optional<GeminiAnalysisResponse> stored = monthlyReportStore.find(task);
+            if (stored.isPresent()) {
+                log.info("📦 저장된 월간 리포트 사용 - memberNo: {}, {}-{}", task.getMemberNo(), task.getYear(), task.getMonth());
+                return stored.get();
+            }
+        }
+
+        if (task.getType() != AnalysisType.PRECOMPUTED_REPORT) {
+            tokenUsageService.checkBudget(task.getMemberNo(), task.getType().getEndpoint());
+        }
+
+        if (task.getType().isMonthlyReport()) {
+            // 다른 인스턴스(또는 요청)가 같은 리포트를 생성 중이면 Gemini를 다시 호출하지 않고 저장 결과를 기다립니다.
+            String key = String.format("report:%d:%d-%02d", task.getMemberNo(), task.getYear(), task.getMonth());
+            return singleFlight.execute(key, () -> monthlyReportStore.find(task), () -> generate(task));
+        }
+        return generate(task);
+    }
+
+    /**
+     * Gemini를 호출하고, 정상 완료된 응답을 작업 종류에 따라 캐시 또는 리포트 저장소에 저장합니다.
+     *
+     * @param task 분석 작업
+     * @return 분석 결과
+     */
+    private GeminiAnalysisResponse generate(AnalysisTask task) {
+        Long memberNo = task.getMemberNo();
+        String endpoint = task.getType().getEndpoint();
+        pipelineMetrics.recordPromptChars(endpoint, task.getMessages().stream().mapToLong(m -> m.getContent().length()).sum());
+
+        // 사용량 리스너는 Gemini 응답을 정상 수신한 경우에만 호출되므로, 실패 메시지나 잘린 응답은 캐시하지 않습니다.
+        AtomicBoolean completed = new AtomicBoolean();
+        AtomicReference<Long> usageId = new AtomicReference<>();
+        long start = System.nanoTime();
+        String outcome = PipelineMetrics.ERROR;
+        GeminiAnalysisResponse response;
+        try {
+            response = aiChatApiClient.call(task.getMessages(), memberNo,
+                    task.getType() == AnalysisType.MONTHLY_REPORT,
+                    completion -> {
+                        completed.set(completion.getFinishReason() == null || "STOP".equals(completion.getFinishReason()));
+                        usageId.set(tokenUsageService.record(memberNo, task.getThreadId(), endpoint, completion));
+                    });
+            // 호출 실패 시에도 실패 메시지를 반환하므로, 응답 정상 수신 여부로 결과를 판정합니다.
+            outcome = completed.get() ? PipelineMetrics.SUCCESS : PipelineMetrics.ERROR;
+        } catch (DeadlineExceededException e) {
+            outcome = PipelineMetrics.TIMEOUT;
+            throw e;
+        } finally {
+            pipelineMetrics.record(endpoint, "gemini", outcome, System.nanoTime() - start);
+        }
+        if (response.getFullText() != null) {
+            pipelineMetrics.recordResponseChars(endpoint, response.getFullText().length());
+        }
+        if (task.getType() == AnalysisType.CUSTOM_QUESTION && completed.get()) {
+            responseCache.put(task, response);
+        }
+        if (task.getType().isMonthlyReport() && completed.get()) {
+            storeReport(task, response);
+        }
+        // 사용량 기록 ID는 이번 호출에만 해당하므로, 캐시·저장소에 넣은 응답이 아닌 반환 값에만 담습니다.
+        return response.withUsageId(usageId.get());
+    }
+
+    private void storeReport(AnalysisTask task, GeminiAnalysisResponse response) {
+        try {
+            monthlyReportStore.save(task, response);
+        } catch (Exception e) {
+            // 동시에 같은 리포트가 저장된 경우 등 저장 실패는 응답에 영향을 주지 않습니다.
+            log.warn("월간 리포트 저장 실패 - memberNo: {}, 원인: {}", task.getMemberNo(), e.getMessage());
+        }
+    }
+}
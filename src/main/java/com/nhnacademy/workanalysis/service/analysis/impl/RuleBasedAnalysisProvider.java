@@ -0,0 +1,179 @@
+package com.nhnacademy.workanalysis.service.analysis.impl;
+
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisProvider;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.AttendanceStatusLabels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 근무 기록만으로 계산 가능한 분석을 Gemini 호출 없이 규칙/템플릿으로 생성하는 분석 제공자입니다.
+ * <p>
+ * 다음 작업을 처리합니다.
+ * <ul>
+ *     <li>AI 분석을 명시적으로 요청하지 않은 월간 리포트 - 표준 월간 요약</li>
+ *     <li>근무 기록이 함께 전달된 짧은 정형 질문 - 지각, 결근, 평균 출퇴근 시간, 연속 출근, 요약</li>
+ * </ul>
+ * 원인·조언 등 해석이 필요한 질문은 처리하지 않고 다음 제공자(Gemini)로 넘깁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RuleBasedAnalysisProvider implements AnalysisProvider {
+
+    /**
+     * 정형 질문으로 판단할 최대 질문 길이입니다. 이보다 긴 질문은 자유 질문으로 간주합니다.
+     */
+    private static final int MAX_ROUTINE_QUESTION_LENGTH = 40;
+
+    /**
+     * 해석이나 조언이 필요한 자유 질문임을 나타내는 표현입니다.
+     */
+    private static final List<String> FREE_FORM_MARKERS = List.of(
+            "왜", "원인", "이유", "조언", "개선", "추천", "어떻게", "방법", "예측", "비교", "평가", "분석해"
+    );
+
+    /**
+     * 규칙으로 답할 수 있는 질문 의도입니다.
+     */
+    enum Intent {
+        LATE("지각"),
+        ABSENCE("결근"),
+        ARRIVAL("출근 시간", "출근시간", "몇 시에 출근", "평균 출근"),
+        DEPARTURE("퇴근 시간", "퇴근시간", "몇 시에 퇴근", "평균 퇴근"),
+        STREAK("연속"),
+        SUMMARY("요약", "통계", "현황");
+
+        private final List<String> keywords;
+
+        Intent(String... keywords) {
+            this.keywords = List.of(keywords);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "rule";
+    }
+
+    @Override
+    public boolean supports(AnalysisTask task) {
+        if (task.isAiRequested() || task.getWorkRecords().isEmpty()) {
+            return false;
+        }
+        if (task.getType() == AnalysisType.MONTHLY_REPORT) {
+            return true;
+        }
+        return detectIntent(task.lastUserMessage()).isPresent();
+    }
+
+    @Override
+    public GeminiAnalysisResponse analyze(AnalysisTask task) {
+        AttendanceStatistics stats = AttendanceStatistics.of(task.getWorkRecords());
+        String text = task.getType() == AnalysisType.MONTHLY_REPORT
+                ? monthlySummary(task, stats)
+                : answer(detectIntent(task.lastUserMessage()).orElse(Intent.SUMMARY), task, stats);
+        log.debug("규칙 기반 분석 완료 - memberNo: {}, type: {}", task.getMemberNo(), task.getType());
+        return new GeminiAnalysisResponse(task.getMemberNo(), text);
+    }
+
+    /**
+     * 질문에서 규칙으로 답할 수 있는 의도를 찾습니다.
+     *
+     * @param question 사용자 질문
+     * @return 찾은 의도, 자유 질문이거나 해당 의도가 없으면 빈 값
+     */
+    static Optional<Intent> detectIntent(String question) {
+        String q = question.strip();
+        if (q.isEmpty() || q.length() > MAX_ROUTINE_QUESTION_LENGTH) {
+            return Optional.empty();
+        }
+        for (String marker : FREE_FORM_MARKERS) {
+            if (q.contains(marker)) {
+                return Optional.empty();
+            }
+        }
+        for (Intent intent : Intent.values()) {
+            for (String keyword : intent.keywords) {
+                if (q.contains(keyword)) {
+                    return Optional.of(intent);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String monthlySummary(AnalysisTask task, AttendanceStatistics stats) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("## ");
+        if (task.getMemberName() != null) {
+            sb.append(task.getMemberName()).append(" 사원의 ");
+        }
+        if (task.getYear() != null && task.getMonth() != null) {
+            sb.append(task.getYear()).append("년 ").append(task.getMonth()).append("월 ");
+        }
+        sb.append("근무 기록 요약\n\n");
+
+        sb.append("| 항목 | 값 |\n|---|---|\n");
+        sb.append("| 기록 일수 | ").append(stats.getRecordedDays()).append("일 |\n");
+        sb.append("| 지각 | ").append(stats.getLateDates().size()).append("일 |\n");
+        sb.append("| 결근 | ").append(stats.getAbsentDates().size()).append("일 |\n");
+        sb.append("| 평균 출근 시간 | ").append(formatAverage(stats.getAverageArrivalMinutes())).append(" |\n");
+        sb.append("| 평균 퇴근 시간 | ").append(formatAverage(stats.getAverageDepartureMinutes())).append(" |\n");
+        sb.append("| 최장 연속 정상 출근 | ").append(stats.getLongestStreak()).append("일 |\n\n");
+
+        sb.append("### 상태별 일수\n");
+        stats.getStatusCounts().forEach((code, count) ->
+                sb.append("- ").append(AttendanceStatusLabels.label(code)).append(": ").append(count).append("일\n"));
+
+        if (!stats.getLateDates().isEmpty() || !stats.getAbsentDates().isEmpty()) {
+            sb.append("\n### 확인이 필요한 날짜\n");
+            appendDates(sb, "지각", stats.getLateDates());
+            appendDates(sb, "결근", stats.getAbsentDates());
+        }
+        return sb.toString();
+    }
+
+    private String answer(Intent intent, AnalysisTask task, AttendanceStatistics stats) {
+        return switch (intent) {
+            case LATE -> stats.getLateDates().isEmpty()
+                    ? "기록된 기간 동안 지각한 날은 없습니다."
+                    : String.format("기록된 기간 동안 지각은 **%d일**입니다. (%s)",
+                    stats.getLateDates().size(), String.join(", ", stats.getLateDates()));
+            case ABSENCE -> stats.getAbsentDates().isEmpty()
+                    ? "기록된 기간 동안 결근한 날은 없습니다."
+                    : String.format("기록된 기간 동안 결근은 **%d일**입니다. (%s)",
+                    stats.getAbsentDates().size(), String.join(", ", stats.getAbsentDates()));
+            case ARRIVAL -> stats.getAverageArrivalMinutes().isPresent()
+                    ? "평균 출근 시간은 **" + AttendanceStatistics.formatMinutes(stats.getAverageArrivalMinutes().getAsInt()) + "**입니다."
+                    : "출근 시간이 기록된 날이 없습니다.";
+            case DEPARTURE -> stats.getAverageDepartureMinutes().isPresent()
+                    ? "평균 퇴근 시간은 **" + AttendanceStatistics.formatMinutes(stats.getAverageDepartureMinutes().getAsInt()) + "**입니다."
+                    : "퇴근 시간이 기록된 날이 없습니다.";
+            case STREAK -> stats.getLongestStreak() == 0
+                    ? "지각·결근 없이 연속으로 출근한 기록이 없습니다."
+                    : String.format("최장 연속 정상 출근은 **%d일**입니다. (%s ~ %s)",
+                    stats.getLongestStreak(), stats.getStreakStart(), stats.getStreakEnd());
+            case SUMMARY -> monthlySummary(task, stats);
+        };
+    }
+
+    private static String formatAverage(OptionalInt minutes) {
+        return minutes.isPresent() ? AttendanceStatistics.formatMinutes(minutes.getAsInt()) : "-";
+    }
+
+    private static void appendDates(StringBuilder sb, String label, List<String> dates) {
+        if (!dates.isEmpty()) {
+            sb.append("- ").append(label).append(": ").append(String.join(", ", dates)).append('\n');
+        }
+    }
+}
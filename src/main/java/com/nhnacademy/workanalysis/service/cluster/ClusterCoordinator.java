@@ -0,0 +1,145 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.entity.ClusterNode;
+import com.nhnacademy.workanalysis.repository.ClusterNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 analysis-service 인스턴스의 백그라운드 작업을 조정합니다.
+ * <ul>
+ *     <li>주기적으로 {@code cluster_node} 테이블에 하트비트를 기록합니다.</li>
+ *     <li>{@link LeaseManager}의 {@value #LEADER_LEASE} 임대로 리더를 선출합니다.
+ *     리더는 한 인스턴스에서만 실행되어야 하는 작업과 오래된 노드 정리를 담당합니다.</li>
+ *     <li>하트비트가 유효한 노드를 식별자 순으로 정렬해 각 인스턴스의 사원 샤드({@link ShardAssignment})를 배정합니다.
+ *     노드가 장애로 하트비트를 멈추면 TTL 이후 나머지 노드가 샤드를 다시 나눠 맡습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ClusterCoordinator {
+
+    static final String LEADER_LEASE = "scheduler-leader";
+
+    private final LeaseManager leaseManager;
+    private final ClusterNodeRepository nodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final Duration nodeTtl;
+
+    private volatile long leaderUntil;
+
+    public ClusterCoordinator(LeaseManager leaseManager,
+                              ClusterNodeRepository nodeRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${scheduler.cluster.node-id:}") String nodeId,
+                              @Value("${spring.application.name:analysis-service}") String applicationName,
+                              @Value("${scheduler.cluster.node-ttl-ms:30000}") long nodeTtlMs) {
+        this.leaseManager = leaseManager;
+        this.nodeRepository = nodeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? applicationName + ":" + UUID.randomUUID() : nodeId;
+        this.nodeTtl = Duration.ofMillis(nodeTtlMs);
+        log.info("🛰️ 클러스터 노드 식별자 - {}", this.nodeId);
+    }
+
+    /**
+     * 하트비트를 기록하고 리더 임대를 획득(또는 연장)합니다.
+     * 리더는 TTL의 두 배 이상 하트비트가 없는 노드 기록과 하루 이상 지난 만료 임대를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (nodeRepository.touch(nodeId, now) == 0) {
+                nodeRepository.save(ClusterNode.of(nodeId, now));
+            }
+        });
+
+        boolean wasLeader = isLeader();
+        long acquiredAt = System.currentTimeMillis();
+        boolean acquired = leaseManager.tryAcquire(LEADER_LEASE, nodeId, nodeTtl);
+        leaderUntil = acquired ? acquiredAt + nodeTtl.toMillis() : 0;
+        if (acquired != wasLeader) {
+            log.info(acquired ? "👑 스케줄러 리더 획득 - node: {}" : "스케줄러 리더 상실 - node: {}", nodeId);
+        }
+
+        if (acquired) {
+            Integer removed = transactionTemplate.execute(status ->
+                    nodeRepository.deleteByHeartbeatAtBefore(now.minus(nodeTtl.multipliedBy(2))));
+            if (removed != null && removed > 0) {
+                log.info("🧹 응답 없는 클러스터 노드 정리 - {}개", removed);
+            }
+            int purged = leaseManager.purgeExpired(now.minusDays(1));
+            if (purged > 0) {
+                log.debug("만료된 임대 정리 - {}개", purged);
+            }
+        }
+    }
+
+    /**
+     * 이 인스턴스가 현재 리더인지 확인합니다. 임대가 로컬 기준으로 만료되었으면 리더가 아닌 것으로 봅니다.
+     *
+     * @return 리더이면 {@code true}
+     */
+    public boolean isLeader() {
+        return System.currentTimeMillis() < leaderUntil;
+    }
+
+    /**
+     * 현재 살아 있는 노드 기준으로 이 인스턴스의 샤드를 계산합니다.
+     * 자신의 하트비트가 아직 없거나 만료되었으면 먼저 하트비트를 기록합니다.
+     *
+     * @return 이 인스턴스의 샤드
+     */
+    public ShardAssignment currentShard() {
+        List<String> live = liveNodeIds();
+        if (!live.contains(nodeId)) {
+            heartbeat();
+            live = liveNodeIds();
+        }
+        return new ShardAssignment(live.indexOf(nodeId), live.size());
+    }
+
+    /**
+     * @return 이 인스턴스의 노드 식별자
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 종료 시 노드 기록을 삭제하고 리더 임대를 해제하여 다른 인스턴스가 TTL을 기다리지 않고 인계받도록 합니다.
+     */
+    @PreDestroy
+    public void leave() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> nodeRepository.deleteById(nodeId));
+            if (isLeader()) {
+                leaseManager.release(LEADER_LEASE, nodeId);
+            }
+            leaderUntil = 0;
+            log.info("클러스터 노드 종료 - node: {}", nodeId);
+        } catch (Exception e) {
+            log.warn("클러스터 노드 종료 처리 실패 - node: {}, 원인: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private List<String> liveNodeIds() {
+        return nodeRepository.findByHeartbeatAtAfterOrderByNodeIdAsc(LocalDateTime.now().minus(nodeTtl)).stream()
+                .map(ClusterNode::getNodeId)
+                .toList();
+    }
+}
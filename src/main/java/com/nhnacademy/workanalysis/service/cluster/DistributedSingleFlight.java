@@ -0,0 +1,127 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 인스턴스에 걸쳐 같은 키의 고비용 작업이 한 번만 실행되도록 조정합니다.
+ * <p>
+ * 작업 키 이름의 임대({@link LeaseManager})를 획득한 호출만 작업을 실행하고 결과를 저장합니다.
+ * 임대를 얻지 못한 호출은 저장된 결과가 나타날 때까지 주기적으로 조회하며 기다립니다.
+ * 임대 보유자가 장애로 사라지면 임대 만료 후 대기 중인 호출이 임대를 넘겨받고,
+ * 최대 대기 시간이 지나도 결과가 없으면 임대 없이 직접 실행하며, 요청 처리 시한이 먼저 지나면 대기를 중단합니다.
+ * </p>
+ * <p>
+ * 같은 인스턴스 안의 동시 요청도 호출마다 다른 보유자 식별자를 사용하므로 똑같이 한 번만 실행됩니다.
+ * </p>
+ * <p>
+ * 트랜잭션 밖에서 호출해야 하며, 결과 조회 함수는 호출마다 새 트랜잭션을 열어야 합니다.
+ * 하나의 트랜잭션 안에서 대기하면 REPEATABLE READ(MySQL 기본값)에서는 다른 인스턴스가 커밋한 결과가 보이지 않아
+ * 항상 대기 시간 초과 후 다시 실행하게 되고, 대기하는 동안 커넥션을 점유합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DistributedSingleFlight {
+
+    private final LeaseManager leaseManager;
+    private final ClusterCoordinator clusterCoordinator;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration leaseTtl;
+    private final Duration waitTimeout;
+    private final long pollIntervalMs;
+
+    public DistributedSingleFlight(LeaseManager leaseManager,
+                                   ClusterCoordinator clusterCoordinator,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${report.single-flight.enabled:true}") boolean enabled,
+                                   @Value("${report.single-flight.lease-ttl-ms:90000}") long leaseTtlMs,
+                                   @Value("${report.single-flight.wait-timeout-ms:60000}") long waitTimeoutMs,
+                                   @Value("${report.single-flight.poll-interval-ms:500}") long pollIntervalMs) {
+        this.leaseManager = leaseManager;
+        this.clusterCoordinator = clusterCoordinator;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * 키에 대한 작업을 클러스터 전체에서 한 번만 실행하고, 다른 호출은 저장된 결과를 반환합니다.
+     *
+     * @param key     작업 키 (임대 이름으로 사용)
+     * @param lookup  저장된 결과 조회 함수
+     * @param compute 작업 실행 함수 (결과 저장 포함)
+     * @param <T>     결과 타입
+     * @return 직접 실행했거나 다른 호출이 저장한 결과
+     */
+    public <T> T execute(String key, Supplier<Optional<T>> lookup, Supplier<T> compute) {
+        if (!enabled) {
+            return compute.get();
+        }
+        String ownerId = clusterCoordinator.getNodeId() + ":" + UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+        boolean waited = false;
+
+        while (true) {
+            if (leaseManager.tryAcquire(key, ownerId, leaseTtl)) {
+                try {
+                    // 이전 보유자가 결과를 저장하고 임대를 해제한 직후일 수 있으므로 다시 확인합니다.
+                    Optional<T> done = waited ? lookup.get() : Optional.empty();
+                    if (done.isPresent()) {
+                        count("follower");
+                        return done.get();
+                    }
+                    count("leader");
+                    return compute.get();
+                } finally {
+                    leaseManager.release(key, ownerId);
+                }
+            }
+
+            Optional<T> done = lookup.get();
+            if (done.isPresent()) {
+                log.info("🤝 다른 요청이 생성한 결과 사용 - key: {}", key);
+                count("follower");
+                return done.get();
+            }
+            // 요청 처리 시한이 지났으면 더 기다리거나 직접 실행하지 않습니다.
+            RequestDeadline.check("리포트 생성 대기");
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("⌛ 진행 중인 작업 대기 시간 초과, 직접 실행 - key: {}", key);
+                count("timeout");
+                return compute.get();
+            }
+            waited = true;
+            sleep();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("진행 중인 작업 대기가 중단되었습니다.", e);
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("report.single-flight")
+                .description("분산 단일 실행 결과 (leader: 직접 실행, follower: 다른 요청 결과 사용, timeout: 대기 초과 후 실행)")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.entity.DistributedLease;
+import com.nhnacademy.workanalysis.repository.DistributedLeaseRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * {@code distributed_lease} 테이블을 이용해 여러 인스턴스 간 임대를 획득/해제합니다.
+ * <p>
+ * 획득은 "보유자가 자신이거나 만료된 경우에만 갱신"하는 조건부 UPDATE로 수행하고,
+ * 처음 사용하는 임대는 INSERT로 생성합니다. 동시에 INSERT한 인스턴스 중 하나만 기본 키 제약을 통과합니다.
+ * 모든 작업은 호출자의 트랜잭션과 분리된 새 트랜잭션에서 즉시 커밋되어 다른 인스턴스에 바로 보입니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LeaseManager {
+
+    private final DistributedLeaseRepository leaseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public LeaseManager(DistributedLeaseRepository leaseRepository,
+                        EntityManager entityManager,
+                        PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 임대를 획득하거나, 이미 보유 중이면 만료 시각을 연장합니다.
+     *
+     * @param leaseName 임대 이름
+     * @param ownerId   획득하려는 인스턴스 식별자
+     * @param ttl       임대 유지 시간
+     * @return 획득(또는 연장) 성공 여부
+     */
+    public boolean tryAcquire(String leaseName, String ownerId, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        Integer updated = transactionTemplate.execute(status ->
+                leaseRepository.tryAcquire(leaseName, ownerId, now, expiresAt));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(leaseName)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    entityManager.persist(DistributedLease.of(leaseName, ownerId, expiresAt)));
+            return true;
+        } catch (DataAccessException e) {
+            log.debug("임대 생성 경합 - lease: {}, owner: {}", leaseName, ownerId);
+            return false;
+        }
+    }
+
+    /**
+     * 보유 중인 임대를 즉시 만료시켜 다른 인스턴스가 바로 획득할 수 있도록 합니다.
+     *
+     * @param leaseName 임대 이름
+     * @param ownerId   보유 인스턴스 식별자
+     */
+    public void release(String leaseName, String ownerId) {
+        transactionTemplate.executeWithoutResult(status ->
+                leaseRepository.release(leaseName, ownerId, LocalDateTime.now()));
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 임대 기록을 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 임대 수
+     */
+    public int purgeExpired(LocalDateTime before) {
+        Integer removed = transactionTemplate.execute(status -> leaseRepository.deleteByExpiresAtBefore(before));
+        return removed != null ? removed : 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import lombok.Value;
+
+/**
+ * 살아 있는 인스턴스 사이에서 이 인스턴스가 맡은 사원 샤드입니다.
+ * 사원 번호를 샤드 수로 나눈 나머지가 샤드 번호와 같은 사원을 처리합니다.
+ */
+@Value
+public class ShardAssignment {
+
+    /**
+     * 이 인스턴스의 샤드 번호 (0부터 시작)
+     */
+    int index;
+
+    /**
+     * 전체 샤드 수 (살아 있는 인스턴스 수)
+     */
+    int count;
+
+    /**
+     * @param mbNo 사원 번호
+     * @return 이 샤드가 처리할 사원이면 {@code true}
+     */
+    public boolean owns(Long mbNo) {
+        return Math.floorMod(mbNo, count) == index;
+    }
+
+    /**
+     * @return 체크포인트 등에 사용하는 샤드 식별 문자열 (예: {@code 0-of-2})
+     */
+    public String key() {
+        return index + "-of-" + count;
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.workanalysis.service.history;
+
+import com.nhnacademy.workanalysis.dto.AiChatHistoryDeltaDto;
+import com.nhnacademy.workanalysis.executor.WorkloadExecutors;
+import com.nhnacademy.workanalysis.service.AiChatService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 커서 이후의 새 메시지를 조회하고, 없으면 정해진 시간 동안 새 메시지를 기다렸다가 돌려주는 롱 폴링 처리기입니다.
+ * <p>
+ * 대기는 스레드를 점유하지 않습니다. 이 인스턴스에서 메시지가 저장되면 {@link HistoryUpdateNotifier} 신호로 즉시 다시 조회하고,
+ * 다른 인스턴스에서 저장된 메시지를 놓치지 않도록 {@code history.delta.recheck-ms}(기본 5초)마다도 다시 조회합니다.
+ * 재조회는 I/O 풀에서 실행되며, 대기 시간이 끝날 때까지 새 메시지가 없으면 빈 목록과 원래 커서를 돌려줍니다.
+ * </p>
+ */
+@Component
+public class HistoryLongPoller {
+
+    /**
+     * 한 번에 돌려줄 수 있는 최대 메시지 수 (기존 히스토리 조회와 같은 한도)
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private final AiChatService aiChatService;
+    private final HistoryUpdateNotifier notifier;
+    private final WorkloadExecutors workloadExecutors;
+    private final int maxWaitSeconds;
+    private final long recheckNanos;
+
+    public HistoryLongPoller(AiChatService aiChatService, HistoryUpdateNotifier notifier,
+                             WorkloadExecutors workloadExecutors,
+                             @Value("${history.delta.max-wait-seconds:25}") int maxWaitSeconds,
+                             @Value("${history.delta.recheck-ms:5000}") long recheckMs) {
+        this.aiChatService = aiChatService;
+        this.notifier = notifier;
+        this.workloadExecutors = workloadExecutors;
+        this.maxWaitSeconds = maxWaitSeconds;
+        this.recheckNanos = TimeUnit.MILLISECONDS.toNanos(recheckMs);
+    }
+
+    /**
+     * 커서 이후의 메시지를 조회합니다. 새 메시지가 없고 {@code waitSeconds}가 0보다 크면 그동안 새 메시지를 기다립니다.
+     *
+     * @param threadId       쓰레드 ID
+     * @param afterHistoryId 클라이언트가 마지막으로 받은 historyId
+     * @param limit          최대 조회 개수 (1~{@value #MAX_LIMIT})
+     * @param waitSeconds    새 메시지를 기다릴 최대 시간(초), {@code history.delta.max-wait-seconds}로 제한
+     * @return 새 메시지가 있거나 대기 시간이 끝나면 완료되는 조회 결과
+     */
+    public CompletableFuture<AiChatHistoryDeltaDto> poll(Long threadId, Long afterHistoryId, int limit, int waitSeconds) {
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        long after = afterHistoryId != null ? Math.max(afterHistoryId, 0) : 0;
+        int wait = Math.clamp(waitSeconds, 0, maxWaitSeconds);
+        if (wait == 0) {
+            return CompletableFuture.completedFuture(aiChatService.getHistoriesAfter(threadId, after, size));
+        }
+        return new Poll(threadId, after, size, System.nanoTime() + TimeUnit.SECONDS.toNanos(wait)).attempt();
+    }
+
+    /**
+     * 대기 중인 폴링 한 건입니다.
+     * <p>
+     * 재조회는 저장 신호를 완료한 스레드(다른 요청의 워커 스레드일 수 있음)에서 이어서 제출되므로,
+     * 그 스레드의 처리 시한이나 작업 묶음이 아니라 이 요청의 컨텍스트로 실행되도록 폴링을 시작한 스레드에서 재조회 제출을 미리 준비합니다.
+     * </p>
+     */
+    private final class Poll {
+
+        private final Long threadId;
+        private final long after;
+        private final int size;
+        private final long deadlineNanos;
+        private final Supplier<CompletableFuture<CompletableFuture<AiChatHistoryDeltaDto>>> recheck;
+
+        private Poll(Long threadId, long after, int size, long deadlineNanos) {
+            this.threadId = threadId;
+            this.after = after;
+            this.size = size;
+            this.deadlineNanos = deadlineNanos;
+            this.recheck = workloadExecutors.prepareIo(this::attempt);
+        }
+
+        /**
+         * 신호를 먼저 구독한 뒤 조회합니다. 조회와 대기 시작 사이에 저장된 메시지도 신호로 알 수 있도록 순서를 지킵니다.
+         */
+        private CompletableFuture<AiChatHistoryDeltaDto> attempt() {
+            CompletableFuture<Void> signal = notifier.subscribe(threadId);
+            AiChatHistoryDeltaDto delta;
+            try {
+                delta = aiChatService.getHistoriesAfter(threadId, after, size);
+            } catch (RuntimeException e) {
+                notifier.unsubscribe(threadId, signal);
+                throw e;
+            }
+            long remaining = deadlineNanos - System.nanoTime();
+            if (!delta.getHistories().isEmpty() || remaining <= 0) {
+                notifier.unsubscribe(threadId, signal);
+                return CompletableFuture.completedFuture(delta);
+            }
+            return signal.copy()
+                    .completeOnTimeout(null, Math.min(remaining, recheckNanos), TimeUnit.NANOSECONDS)
+                    .whenComplete((ignored, ex) -> notifier.unsubscribe(threadId, signal))
+                    .thenCompose(ignored -> recheck.get())
+                    .thenCompose(Function.identity());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nhnacademy.workanalysis.service.history;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰레드에 새 메시지가 저장되었음을 이 인스턴스에서 기다리는 롱 폴링 요청에 알리는 신호판입니다.
+ * <p>
+ * 같은 쓰레드를 기다리는 요청들은 하나의 신호({@link CompletableFuture})를 공유하며, 신호가 울리면 지도에서 제거되므로
+ * 다음 대기자는 새 신호를 받습니다. 기다리는 동안 스레드를 점유하지 않습니다.
+ * 다른 인스턴스에서 저장된 메시지는 알 수 없으므로 대기 측에서 주기적으로 다시 조회해야 합니다.
+ * </p>
+ */
+@Component
+public class HistoryUpdateNotifier {
+
+    private final Map<Long, Signal> signals = new ConcurrentHashMap<>();
+
+    public HistoryUpdateNotifier(MeterRegistry meterRegistry) {
+        Gauge.builder("analysis.history.delta.waiting", signals,
+                        s -> s.values().stream().mapToInt(signal -> signal.waiters).sum())
+                .description("Long-poll requests waiting for new chat messages on this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쓰레드의 다음 변경 신호를 구독합니다. 기다림이 끝나면 반드시 {@link #unsubscribe(Long, CompletableFuture)}를 호출해야 합니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @return 새 메시지가 저장되거나 쓰레드가 삭제되면 완료되는 신호
+     */
+    public CompletableFuture<Void> subscribe(Long threadId) {
+        return signals.compute(threadId, (id, signal) -> {
+            Signal current = signal != null ? signal : new Signal();
+            current.waiters++;
+            return current;
+        }).future;
+    }
+
+    /**
+     * 구독을 해제합니다. 마지막 대기자가 떠나면 신호를 지도에서 제거합니다.
+     *
+     * @param threadId 쓰레드 ID
+     * @param future   {@link #subscribe(Long)}로 받은 신호
+     */
+    public void unsubscribe(Long threadId, CompletableFuture<Void> future) {
+        signals.computeIfPresent(threadId, (id, signal) -> {
+            if (signal.future != future) {
+                return signal;
+            }
+            return --signal.waiters == 0 ? null : signal;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 쓰레드의 대기자를 깨웁니다. 트랜잭션이 없으면 바로 깨웁니다.
+     * 커밋 전에 깨우면 대기자가 아직 보이지 않는 메시지를 조회하게 되므로 커밋 이후로 미룹니다.
+     *
+     * @param threadId 변경된 쓰레드 ID
+     */
+    public void publishAfterCommit(Long threadId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(threadId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(threadId);
+            }
+        });
+    }
+
+    /**
+     * 쓰레드의 대기자를 깨웁니다.
+     *
+     * @param threadId 변경된 쓰레드 ID
+     */
+    public void publish(Long threadId) {
+        Signal signal = signals.remove(threadId);
+        if (signal != null) {
+            signal.future.complete(null);
+        }
+    }
+
+    /**
+     * 한 쓰레드의 변경 신호와 대기자 수입니다. 대기자 수는 {@link ConcurrentHashMap#compute} 안에서만 바뀝니다.
+     */
+    private static final class Signal {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile int waiters;
+    }
+}
@@ -0,0 +1,87 @@
+package com.nhnacademy.workanalysis.service.history;
+
+import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
+import com.nhnacademy.workanalysis.service.cluster.ClusterCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 요약 컬럼(메시지 수, 마지막 활동 시각, 미리보기)이 추가되기 전에 만들어진 쓰레드의 요약을 채우는 러너입니다.
+ * <p>
+ * 요약이 비어 있는 쓰레드를 {@code thread-summary.backfill.batch-size}개씩 나누어 배치마다 별도 트랜잭션으로 채우므로
+ * 쓰레드가 많아도 긴 트랜잭션을 만들지 않습니다. 대상 쓰레드는 잠근 뒤 다시 확인하므로 여러 인스턴스가 동시에 실행해도 결과는 같습니다.
+ * 준비 상태는 모든 러너가 끝난 뒤 바뀌므로 기동 시 채우는 동안에는 트래픽을 받지 않습니다.
+ * </p>
+ * <p>
+ * 순차 배포 중에는 아직 교체되지 않은 이전 버전 인스턴스가 요약 없이 쓰레드를 만들 수 있으므로,
+ * 기동 이후에도 {@code thread-summary.backfill.interval-ms}마다 리더 인스턴스에서 다시 채웁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "thread-summary.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ThreadSummaryBackfillRunner implements ApplicationRunner {
+
+    private final AiChatThreadRepository aiChatThreadRepository;
+    private final ClusterCoordinator clusterCoordinator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ThreadSummaryBackfillRunner(AiChatThreadRepository aiChatThreadRepository,
+                                       ClusterCoordinator clusterCoordinator,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${thread-summary.backfill.batch-size:500}") int batchSize) {
+        this.aiChatThreadRepository = aiChatThreadRepository;
+        this.clusterCoordinator = clusterCoordinator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * 기동 이후 이전 버전 인스턴스가 만든 쓰레드의 요약을 채웁니다. 리더 인스턴스에서만 실행합니다.
+     */
+    @Scheduled(initialDelayString = "${thread-summary.backfill.interval-ms:300000}",
+            fixedDelayString = "${thread-summary.backfill.interval-ms:300000}")
+    public void backfillPeriodically() {
+        if (clusterCoordinator.isLeader()) {
+            backfill();
+        }
+    }
+
+    /**
+     * 요약이 비어 있는 쓰레드가 없을 때까지 배치 단위로 채웁니다.
+     *
+     * @return 요약을 채운 쓰레드 수
+     */
+    int backfill() {
+        long startNanos = System.nanoTime();
+        int total = 0;
+        try {
+            int filled;
+            do {
+                filled = transactionTemplate.execute(status -> aiChatThreadRepository.backfillSummaries(batchSize));
+                total += filled;
+            } while (filled == batchSize);
+        } catch (RuntimeException e) {
+            // 요약이 비어 있는 쓰레드는 메시지 없음으로 보일 뿐이므로 기동을 막지 않음
+            log.warn("⚠️ 쓰레드 요약 채우기 중 오류 발생 - 채운 쓰레드={}: {}", total, e.getMessage(), e);
+            return total;
+        }
+        if (total > 0) {
+            log.info("🧾 쓰레드 요약 채우기 완료 - 쓰레드={}, 소요={}ms", total, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return total;
+    }
+}
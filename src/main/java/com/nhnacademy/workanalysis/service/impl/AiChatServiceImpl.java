@@ -1,29 +1,32 @@
 package com.nhnacademy.workanalysis.service.impl;
 
-import com.nhnacademy.workanalysis.adaptor.AiChatApiClient;
 import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
-import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
 import com.nhnacademy.workanalysis.dto.*;
-import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
 import com.nhnacademy.workanalysis.dto.attendance.MemberInfoResponse;
-import com.nhnacademy.workanalysis.dto.attendance.MemberPageResponse;
-import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
 import com.nhnacademy.workanalysis.entity.AiChatHistory;
 import com.nhnacademy.workanalysis.entity.AiChatThread;
 import com.nhnacademy.workanalysis.exception.AiChatThreadNotFoundException;
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
 import com.nhnacademy.workanalysis.exception.MemberNotFoundException;
+import com.nhnacademy.workanalysis.exception.TokenBudgetExceededException;
 import com.nhnacademy.workanalysis.exception.WorkEntryRecordNotFoundException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
 import com.nhnacademy.workanalysis.repository.AiChatHistoryRepository;
 import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
 import com.nhnacademy.workanalysis.service.AiChatService;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisProvider;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import com.nhnacademy.workanalysis.service.history.HistoryUpdateNotifier;
+import com.nhnacademy.workanalysis.service.usage.TokenUsageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.TextStyle;
 import java.util.*;
 
 /**
@@ -32,9 +35,10 @@ import java.util.*;
  * <ul>
  *     <li>쓰레드 생성/수정/삭제</li>
  *     <li>메시지 저장 및 유효성 검증</li>
- *     <li>Gemini API 호출 및 리포트 분석</li>
- *     <li>근무 기록 프롬프트 변환</li>
+ *     <li>분석 제공자({@link AnalysisProvider}) 선택 및 리포트 분석</li>
  * </ul>
+ * 분석 요청은 등록된 제공자 중 처리 가능한 첫 번째 제공자가 수행합니다.
+ * 근무 기록으로 계산 가능한 정형 분석은 규칙 기반 제공자가, 자유 질문이나 AI 분석을 명시적으로 요청한 경우는 Gemini 제공자가 처리합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -42,25 +46,32 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class AiChatServiceImpl implements AiChatService {
 
-    private final AiChatApiClient aiChatApiClient;
+    private final List<AnalysisProvider> analysisProviders;
     private final AiChatThreadRepository aiChatThreadRepository;
     private final AiChatHistoryRepository aiChatHistoryRepository;
-    private final WorkEntryClient workEntryClient;
+    private final ReportTaskAssembler reportTaskAssembler;
     private final MemberServiceClient memberServiceClient;
-
-    private static final Map<String, String> STATUS_CODE_MAP = Map.of(
-            "1", "출근", "2", "지각", "3", "결근", "4", "외근",
-            "5", "연차", "6", "질병", "7", "반차", "8", "상"
-    );
+    private final TokenUsageService tokenUsageService;
+    private final PipelineMetrics pipelineMetrics;
+    private final HistoryUpdateNotifier historyUpdateNotifier;
 
     /**
-     * 사원의 월별 출결 데이터를 Gemini에 분석 요청합니다.
+     * 사원의 월별 출결 데이터를 분석합니다.
+     * AI 분석을 명시적으로 요청하지 않으면 표준 월간 요약을 규칙 기반으로 생성합니다.
+     * <p>
+     * Gemini 호출이나 같은 리포트를 생성 중인 다른 요청을 기다리는 동안 커넥션을 점유하지 않고,
+     * 대기 중 조회가 매번 최신 커밋을 보도록 트랜잭션 없이 실행합니다.
+     * 저장소 조회와 저장은 각자 짧은 트랜잭션에서 수행됩니다.
+     * </p>
      *
      * @param request 분석할 사원의 출결 요청 정보
      * @return GeminiAnalysisResponse 분석 결과
      * @throws WorkEntryRecordNotFoundException 출결 데이터가 존재하지 않을 경우 예외 발생
+     * @throws TokenBudgetExceededException     사원의 일일 토큰 예산을 모두 사용한 경우
+     * @throws DeadlineExceededException        요청 처리 시한이 지난 경우
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GeminiAnalysisResponse generateReport(ReportRequestDto request) {
         Long mbNo = request.getMbNo();
         Integer year = request.getYear();
@@ -71,89 +82,59 @@ public class AiChatServiceImpl implements AiChatService {
         // [수정] 사원 이름 단건 조회 (summary view)
         String mbName;
         try {
-            MemberInfoResponse member = memberServiceClient.getMemberByNo(mbNo, "summary");
+            MemberInfoResponse member = pipelineMetrics.time(AnalysisType.MONTHLY_REPORT.getEndpoint(), "member_lookup",
+                    () -> memberServiceClient.getMemberByNo(mbNo, "summary"));
             mbName = member.getName();
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("해당 사원을 찾을 수 없습니다 - mbNo: {}", mbNo);
             throw new MemberNotFoundException("해당 사원을 찾을 수 없습니다.");
         }
 
-        // 출결 데이터 조회
-        PageResponse<AttendanceSummaryDto> pageResponse = workEntryClient.getRecent30DaySummary(mbNo);
-        List<WorkRecordDto> workRecords = pageResponse.getContent().stream()
-                .filter(s -> s.getYear() == year && s.getMonthValue() == month)
-                .map(summary -> new WorkRecordDto(
-                        LocalDate.of(summary.getYear(), summary.getMonthValue(), summary.getDayOfMonth()).toString(),
-                        getDayOfWeek(summary.getInTime(), summary.getOutTime()),
-                        summary.getCode().toString(),
-                        summary.getInTime() != null ? summary.getInTime().toLocalTime().toString() : null,
-                        summary.getOutTime() != null ? summary.getOutTime().toLocalTime().toString() : null
-                ))
-                .toList();
-
-        if (workRecords.isEmpty()) {
-            log.warn("근무 기록 없음 - mbNo: {}, year: {}, month: {}", mbNo, year, month);
-            throw new WorkEntryRecordNotFoundException("근무기록없음");
-        }
-
-        log.info("Gemini 분석용 프롬프트 생성 시작 - 데이터 {}건", workRecords.size());
-
-        List<MessageDto> messages = List.of(
-                new MessageDto("user", String.format("%s 사원의 %d년 %d월 근무 기록 요약을 요청합니다.", mbName, year, month)),
-                new MessageDto("user", formatRecordsToPrompt(workRecords))
-        );
-
-        GeminiAnalysisRequest analysisRequest = new GeminiAnalysisRequest(mbNo, messages, workRecords);
-        return analyze(analysisRequest);
+        log.info("리포트 분석 요청 시작 - memberNo: {}", mbNo);
+        return dispatch(reportTaskAssembler.assemble(AnalysisType.MONTHLY_REPORT, mbNo, mbName, year, month,
+                Boolean.TRUE.equals(request.getUseAi())));
     }
 
-
     /**
-     * 출/퇴근 시간 중 유효한 시간으로 요일을 구합니다.
+     * 작업을 처리할 수 있는 첫 번째 분석 제공자에게 분석을 위임합니다.
      *
-     * @param in 출근 시간
-     * @param out 퇴근 시간
-     * @return 요일 문자열, 유효한 시간 없을 시 "정보없음"
+     * @param task 분석 작업
+     * @return 분석 결과
      */
-    private String getDayOfWeek(LocalDateTime in, LocalDateTime out) {
-        LocalDateTime valid = in != null ? in : out;
-        if (valid == null) {
-            log.warn("요일 정보 없음 - inTime, outTime 모두 null");
-            return "정보없음";
+    private GeminiAnalysisResponse dispatch(AnalysisTask task) {
+        RequestDeadline.check("분석");
+        for (AnalysisProvider provider : analysisProviders) {
+            if (provider.supports(task)) {
+                log.info("분석 제공자 선택 - provider: {}, type: {}, memberNo: {}",
+                        provider.getName(), task.getType(), task.getMemberNo());
+                return pipelineMetrics.time(task.getType().getEndpoint(), "analyze", () -> provider.analyze(task));
+            }
         }
-        return valid.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+        throw new IllegalStateException("분석을 처리할 수 있는 제공자가 없습니다. type=" + task.getType());
     }
 
-    /**
-     * 근무 기록 리스트를 분석용 문자열 프롬프트로 변환합니다.
-     *
-     * @param records 분석할 근무 기록 목록
-     * @return Gemini 프롬프트 문자열
-     */
-    private String formatRecordsToPrompt(List<WorkRecordDto> records) {
-        StringBuilder sb = new StringBuilder();
-        for (WorkRecordDto r : records) {
-            String statusDesc = STATUS_CODE_MAP.getOrDefault(r.getStatusCode(), "기타");
-            sb.append("- ").append(r.getDate())
-                    .append(" (").append(r.getDayOfWeek()).append("): ").append(statusDesc);
-            if (r.getInTime() != null) sb.append(", 출근 ").append(r.getInTime());
-            if (r.getOutTime() != null) sb.append(", 퇴근 ").append(r.getOutTime());
-            sb.append("\n");
-        }
-        log.debug("Gemini 프롬프트: {}", sb);
-        return sb.toString();
-    }
 
     /**
-     * Gemini API를 호출하여 분석 결과를 반환합니다.
+     * 사용자 질문을 분석하여 결과를 반환합니다.
+     * 근무 기록이 함께 전달된 정형 질문은 규칙 기반으로, 그 외 자유 질문은 Gemini로 분석합니다.
      *
      * @param request Gemini 분석 요청 객체
      * @return 분석 결과 DTO
+     * @throws TokenBudgetExceededException 사원의 일일 토큰 예산을 모두 사용한 경우
      */
     @Override
     public GeminiAnalysisResponse analyze(GeminiAnalysisRequest request) {
         log.info("분석 요청 시작 - memberNo: {}", request.getMemberNo());
-        return aiChatApiClient.call(request.getMessages(), request.getMemberNo());
+        return dispatch(AnalysisTask.builder()
+                .type(AnalysisType.CUSTOM_QUESTION)
+                .memberNo(request.getMemberNo())
+                .workRecords(Objects.requireNonNullElse(request.getWorkRecords(), List.of()))
+                .messages(request.getMessages())
+                .threadId(request.getThreadId())
+                .aiRequested(Boolean.TRUE.equals(request.getUseAi()))
+                .build());
     }
 
     /**
@@ -201,10 +182,16 @@ public class AiChatServiceImpl implements AiChatService {
             throw new AiChatThreadNotFoundException();
         }
         aiChatThreadRepository.deleteById(threadId);
+        historyUpdateNotifier.publishAfterCommit(threadId);
     }
 
     /**
      * 쓰레드에 메시지를 저장합니다.
+     * <p>
+     * 메시지를 넣기 전에 쓰레드 행에 쓰기 잠금을 잡으므로 같은 쓰레드의 저장은 한 번에 하나씩 커밋됩니다.
+     * 따라서 한 쓰레드 안에서는 historyId가 커밋 순서대로 커지며, 커서 이후를 조회하는
+     * {@link #getHistoriesAfter}가 아직 커밋되지 않은 더 작은 historyId를 건너뛰는 일이 없습니다.
+     * </p>
      *
      * @param threadId 대상 쓰레드 ID
      * @param role 발신자 역할
@@ -214,10 +201,35 @@ public class AiChatServiceImpl implements AiChatService {
     @Override
     @Transactional
     public AiChatHistoryDto saveHistory(Long threadId, String role, String content) {
+        return saveHistory(threadId, role, content, null);
+    }
+
+    /**
+     * 쓰레드에 메시지를 저장하고, AI 응답이면 전달받은 토큰 사용량 기록과 연결합니다.
+     * <p>
+     * 사용량 기록은 분석 응답이 돌려준 ID로만 찾으므로, 같은 쓰레드에서 여러 질문이 동시에 진행되어도
+     * 응답과 사용량 기록이 뒤바뀌지 않습니다.
+     * </p>
+     *
+     * @param threadId 대상 쓰레드 ID
+     * @param role 발신자 역할
+     * @param content 메시지 내용
+     * @param usageId 토큰 사용량 기록 ID (없으면 null)
+     * @return 저장된 메시지 DTO
+     */
+    @Override
+    @Transactional
+    public AiChatHistoryDto saveHistory(Long threadId, String role, String content, Long usageId) {
         log.debug("히스토리 저장 - threadId: {}, role: {}", threadId, role);
         AiChatThread thread = getThreadOrThrow(threadId);
         AiChatHistory history = AiChatHistory.of(thread, role, content);
-        return toHistoryDto(aiChatHistoryRepository.save(history));
+        AiChatHistory saved = aiChatHistoryRepository.save(history);
+        aiChatThreadRepository.recordMessage(threadId, saved.getCreatedAt(), AiChatThread.preview(content));
+        if (usageId != null && !"user".equalsIgnoreCase(role)) {
+            tokenUsageService.linkHistory(usageId, threadId, saved.getHistoryId());
+        }
+        historyUpdateNotifier.publishAfterCommit(threadId);
+        return toHistoryDto(saved);
     }
 
     /**
@@ -228,8 +240,24 @@ public class AiChatServiceImpl implements AiChatService {
      */
     @Override
     public List<AiChatThreadDto> getThreadsByMember(Long mbNo) {
-        return aiChatThreadRepository.findByMbNoOrderByCreatedAtDesc(mbNo)
-                .stream().map(this::toThreadDto).toList();
+        return getThreadsByMember(mbNo, ThreadSort.CREATED_AT);
+    }
+
+    /**
+     * 사원별 쓰레드 목록을 정렬 기준에 따라 조회합니다.
+     * 메시지 수, 마지막 활동 시각, 미리보기는 쓰레드 행에 저장된 요약 컬럼에서 읽으므로 쿼리는 한 번입니다.
+     *
+     * @param mbNo 사원 번호
+     * @param sort 정렬 기준
+     * @return 쓰레드 DTO 목록
+     */
+    @Override
+    public List<AiChatThreadDto> getThreadsByMember(Long mbNo, ThreadSort sort) {
+        List<AiChatThread> threads = switch (sort) {
+            case CREATED_AT -> aiChatThreadRepository.findByMbNoOrderByCreatedAtDesc(mbNo);
+            case LAST_ACTIVITY -> aiChatThreadRepository.findThreadsByMbNoOrderByLastActivity(mbNo);
+        };
+        return threads.stream().map(this::toThreadDto).toList();
     }
 
     /**
@@ -244,6 +272,30 @@ public class AiChatServiceImpl implements AiChatService {
                 .stream().map(this::toHistoryDto).toList();
     }
 
+    /**
+     * 커서 이후에 저장된 메시지를 최대 {@code limit}개 조회합니다.
+     * 한 개를 더 조회하여 남은 메시지가 있는지 판단합니다.
+     * 같은 쓰레드의 메시지는 {@link #saveHistory}가 쓰레드 잠금으로 차례로 커밋하므로,
+     * 커서보다 작은 historyId가 나중에 커밋되어 누락되지 않습니다.
+     *
+     * @param threadId       대상 쓰레드 ID
+     * @param afterHistoryId 클라이언트가 마지막으로 받은 historyId
+     * @param limit          최대 조회 개수
+     * @return 커서 이후의 메시지와 다음 커서
+     * @throws AiChatThreadNotFoundException 쓰레드가 존재하지 않을 경우
+     */
+    @Override
+    public AiChatHistoryDeltaDto getHistoriesAfter(Long threadId, Long afterHistoryId, int limit) {
+        if (!aiChatThreadRepository.existsById(threadId)) {
+            throw new AiChatThreadNotFoundException("존재하지 않는 쓰레드입니다. threadId=" + threadId);
+        }
+        List<AiChatHistory> fetched = aiChatHistoryRepository.findHistoriesAfter(threadId, afterHistoryId, limit + 1);
+        boolean hasMore = fetched.size() > limit;
+        List<AiChatHistoryDto> histories = fetched.stream().limit(limit).map(this::toHistoryDto).toList();
+        Long cursor = histories.isEmpty() ? afterHistoryId : histories.getLast().getHistoryId();
+        return new AiChatHistoryDeltaDto(threadId, histories, cursor, hasMore);
+    }
+
     /**
      * 히스토리 조회 래퍼 메서드입니다.
      *
@@ -268,7 +320,7 @@ public class AiChatServiceImpl implements AiChatService {
             log.error("빈 메시지 저장 시도 - threadId: {}", request.getThreadId());
             throw new IllegalArgumentException("메시지 내용은 비어 있을 수 없습니다.");
         }
-        return saveHistory(request.getThreadId(), request.getRole(), request.getContent());
+        return saveHistory(request.getThreadId(), request.getRole(), request.getContent(), request.getUsageId());
     }
 
 
@@ -279,7 +331,11 @@ public class AiChatServiceImpl implements AiChatService {
      * @return 변환된 쓰레드 DTO
      */
     private AiChatThreadDto toThreadDto(AiChatThread thread) {
-        return new AiChatThreadDto(thread.getThreadId(), thread.getMbNo(), thread.getTitle(), thread.getCreatedAt());
+        // 요약이 아직 채워지지 않은 기존 쓰레드는 메시지 없음으로 보여줍니다.
+        return new AiChatThreadDto(thread.getThreadId(), thread.getMbNo(), thread.getTitle(), thread.getCreatedAt(),
+                thread.getMessageCount() != null ? thread.getMessageCount() : 0L,
+                thread.getLastActivityAt() != null ? thread.getLastActivityAt() : thread.getCreatedAt(),
+                thread.getLastMessagePreview());
     }
 
     /**
@@ -292,14 +348,15 @@ public class AiChatServiceImpl implements AiChatService {
         return new AiChatHistoryDto(history.getHistoryId(), history.getRole(), history.getContent(), history.getCreatedAt());
     }
     /**
-     * 쓰레드 ID로 쓰레드를 조회하거나 존재하지 않으면 예외를 발생시킵니다.
+     * 쓰레드 ID로 쓰레드를 쓰기 잠금으로 조회하거나 존재하지 않으면 예외를 발생시킵니다.
+     * 잠금은 호출한 트랜잭션이 끝날 때까지 유지되어 같은 쓰레드에 대한 변경을 차례로 실행합니다.
      *
      * @param threadId 조회할 쓰레드 ID
      * @return 조회된 쓰레드 엔티티
      * @throws AiChatThreadNotFoundException 쓰레드가 존재하지 않을 경우 발생
      */
     private AiChatThread getThreadOrThrow(Long threadId) {
-        return aiChatThreadRepository.findById(threadId)
+        return aiChatThreadRepository.findWithLockByThreadId(threadId)
                 .orElseThrow(() -> new AiChatThreadNotFoundException("존재하지 않는 쓰레드입니다. threadId=" + threadId));
     }
 }
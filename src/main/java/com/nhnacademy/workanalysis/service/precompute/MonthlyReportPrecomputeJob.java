@@ -0,0 +1,250 @@
+package com.nhnacademy.workanalysis.service.precompute;
+
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.dto.attendance.MemberInfoResponse;
+import com.nhnacademy.workanalysis.dto.attendance.MemberPageResponse;
+import com.nhnacademy.workanalysis.entity.ReportPrecomputeCheckpoint;
+import com.nhnacademy.workanalysis.exception.WorkEntryRecordNotFoundException;
+import com.nhnacademy.workanalysis.repository.ReportPrecomputeCheckpointRepository;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.MonthlyReportStore;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import com.nhnacademy.workanalysis.service.analysis.impl.GeminiAnalysisProvider;
+import com.nhnacademy.workanalysis.service.cluster.ClusterCoordinator;
+import com.nhnacademy.workanalysis.service.cluster.ShardAssignment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지난달 월간 리포트를 모든 사원에 대해 미리 생성하는 야간 작업입니다.
+ * <p>
+ * 매월 초에는 대부분의 사원이 같은 시간대에 지난달 리포트를 조회하므로,
+ * 새벽 시간에 회원 목록을 페이지 단위로 순회하며 Gemini 리포트를 생성해 {@link MonthlyReportStore}에 저장해 둡니다.
+ * 이후 실시간 리포트 요청은 저장된 리포트를 그대로 반환합니다.
+ * </p>
+ * <ul>
+ *     <li>Gemini 호출은 {@code report.precompute.max-per-minute} 이하로 간격을 두어 실시간 요청의 쿼터를 남겨 둡니다.</li>
+ *     <li>한 페이지를 마칠 때마다 체크포인트를 저장하여, 시간 창({@code max-duration-minutes})이 끝나거나
+ *     연속 실패로 중단되어도 다음 실행에서 이어서 처리합니다.</li>
+ *     <li>이미 현재 근무 기록으로 생성된 리포트가 있거나 근무 기록이 없는 사원은 건너뜁니다.</li>
+ *     <li>생성에 실패한 사원은 체크포인트에 기록해 두고, 다음 실행에서 페이지를 이어 가기 전에 먼저 재시도합니다.
+ *     모든 페이지를 마친 뒤에도 실패한 사원이 남아 있으면 이후 실행에서 그 사원만 재시도합니다.</li>
+ *     <li>인스턴스가 여러 대이면 {@link ClusterCoordinator}가 배정한 샤드의 사원만 처리하며,
+ *     체크포인트도 샤드별로 저장합니다. 노드 수가 바뀌면 새 샤드 구성으로 처음부터 다시 순회하되
+ *     이미 생성된 리포트는 건너뛰므로 장애 노드의 남은 사원만 추가로 생성됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "report.precompute.enabled", havingValue = "true", matchIfMissing = true)
+public class MonthlyReportPrecomputeJob {
+
+    private final MemberServiceClient memberServiceClient;
+    private final ReportTaskAssembler reportTaskAssembler;
+    private final GeminiAnalysisProvider geminiAnalysisProvider;
+    private final MonthlyReportStore monthlyReportStore;
+    private final ReportPrecomputeCheckpointRepository checkpointRepository;
+    private final ClusterCoordinator clusterCoordinator;
+    private final int pageSize;
+    private final long minIntervalMs;
+    private final Duration maxDuration;
+    private final int maxConsecutiveFailures;
+
+    private long lastCallAt;
+
+    public MonthlyReportPrecomputeJob(MemberServiceClient memberServiceClient,
+                                      ReportTaskAssembler reportTaskAssembler,
+                                      GeminiAnalysisProvider geminiAnalysisProvider,
+                                      MonthlyReportStore monthlyReportStore,
+                                      ReportPrecomputeCheckpointRepository checkpointRepository,
+                                      ClusterCoordinator clusterCoordinator,
+                                      @Value("${report.precompute.page-size:50}") int pageSize,
+                                      @Value("${report.precompute.max-per-minute:10}") int maxPerMinute,
+                                      @Value("${report.precompute.max-duration-minutes:55}") long maxDurationMinutes,
+                                      @Value("${report.precompute.max-consecutive-failures:5}") int maxConsecutiveFailures) {
+        this.memberServiceClient = memberServiceClient;
+        this.reportTaskAssembler = reportTaskAssembler;
+        this.geminiAnalysisProvider = geminiAnalysisProvider;
+        this.monthlyReportStore = monthlyReportStore;
+        this.checkpointRepository = checkpointRepository;
+        this.clusterCoordinator = clusterCoordinator;
+        this.pageSize = pageSize;
+        this.minIntervalMs = maxPerMinute > 0 ? Duration.ofMinutes(1).toMillis() / maxPerMinute : 0;
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+    }
+
+    /**
+     * 지난달 리포트 사전 생성을 시작하거나 이어서 진행합니다.
+     * 기본 설정은 새벽 1시부터 6시까지 매시 정각에 실행되며, 완료된 달은 즉시 종료합니다.
+     */
+    @Scheduled(cron = "${report.precompute.cron:0 0 1-6 * * *}")
+    public void run() {
+        precompute(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * 지정한 연월의 리포트 중 이 인스턴스의 샤드에 속한 사원의 리포트를 체크포인트부터 이어서 생성합니다.
+     *
+     * @param target 리포트 대상 연월
+     * @return 실행 후 체크포인트
+     */
+    public synchronized ReportPrecomputeCheckpoint precompute(YearMonth target) {
+        ShardAssignment shard = clusterCoordinator.currentShard();
+        String jobKey = "monthly-report:" + target + ":" + shard.key();
+        ReportPrecomputeCheckpoint checkpoint = checkpointRepository.findById(jobKey)
+                .orElseGet(() -> ReportPrecomputeCheckpoint.start(jobKey));
+        if (checkpoint.isCompleted() && !checkpoint.hasFailedMembers()) {
+            log.debug("월간 리포트 사전 생성 완료된 작업 - jobKey: {}", jobKey);
+            return checkpoint;
+        }
+
+        log.info("🌙 월간 리포트 사전 생성 시작 - jobKey: {}, 시작 페이지: {}, 재시도 대상: {}명",
+                jobKey, checkpoint.getNextPage(), checkpoint.getFailedMemberNos().size());
+        long deadline = System.currentTimeMillis() + maxDuration.toMillis();
+        int consecutiveFailures = 0;
+
+        if (checkpoint.hasFailedMembers()) {
+            boolean resolved = false;
+            for (Long mbNo : checkpoint.getFailedMemberNos()) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.info("⏸️ 월간 리포트 사전 생성 시간 종료 - jobKey: {}, 실패 사원 재시도 중", jobKey);
+                    return resolved ? checkpointRepository.save(checkpoint) : checkpoint;
+                }
+                Outcome outcome = retryMember(mbNo, target);
+                if (outcome == Outcome.FAILED) {
+                    if (++consecutiveFailures >= maxConsecutiveFailures) {
+                        log.warn("⛔ 월간 리포트 사전 생성 중단 - 연속 실패 {}회, jobKey: {}, 실패 사원 재시도 중",
+                                consecutiveFailures, jobKey);
+                        return resolved ? checkpointRepository.save(checkpoint) : checkpoint;
+                    }
+                    continue;
+                }
+                if (outcome == Outcome.GENERATED) {
+                    consecutiveFailures = 0;
+                }
+                checkpoint.resolveFailed(mbNo, outcome == Outcome.GENERATED);
+                resolved = true;
+            }
+            if (resolved) {
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+        }
+
+        while (!checkpoint.isCompleted()) {
+            MemberPageResponse page = memberServiceClient.getMemberInfoList(checkpoint.getNextPage(), pageSize);
+            int processed = 0;
+            int skipped = 0;
+            List<Long> failed = new ArrayList<>();
+
+            for (MemberInfoResponse member : page.getContent()) {
+                if (!shard.owns(member.getMbNo())) {
+                    continue;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    log.info("⏸️ 월간 리포트 사전 생성 시간 종료 - jobKey: {}, 다음 실행에서 페이지 {}부터 재개",
+                            jobKey, checkpoint.getNextPage());
+                    return checkpoint;
+                }
+                switch (precomputeMember(member, target)) {
+                    case GENERATED -> {
+                        processed++;
+                        consecutiveFailures = 0;
+                    }
+                    case SKIPPED -> skipped++;
+                    case FAILED -> {
+                        failed.add(member.getMbNo());
+                        if (++consecutiveFailures >= maxConsecutiveFailures) {
+                            log.warn("⛔ 월간 리포트 사전 생성 중단 - 연속 실패 {}회, jobKey: {}, 다음 실행에서 페이지 {}부터 재개",
+                                    consecutiveFailures, jobKey, checkpoint.getNextPage());
+                            return checkpoint;
+                        }
+                    }
+                }
+            }
+
+            checkpoint.advance(processed, skipped, failed);
+            if (checkpoint.getNextPage() >= page.getTotalPages()) {
+                checkpoint.complete();
+            }
+            checkpoint = checkpointRepository.save(checkpoint);
+            log.info("📄 월간 리포트 사전 생성 페이지 완료 - jobKey: {}, 생성: {}, 생략: {}, 실패: {}",
+                    jobKey, processed, skipped, failed.size());
+        }
+
+        log.info("✅ 월간 리포트 사전 생성 완료 - jobKey: {}, 생성: {}, 생략: {}, 실패: {}",
+                jobKey, checkpoint.getProcessed(), checkpoint.getSkipped(), checkpoint.getFailed());
+        return checkpoint;
+    }
+
+    /**
+     * 사원 한 명의 리포트를 생성합니다.
+     *
+     * @param member 사원 정보
+     * @param target 리포트 대상 연월
+     * @return 처리 결과
+     */
+    private Outcome precomputeMember(MemberInfoResponse member, YearMonth target) {
+        try {
+            AnalysisTask task = reportTaskAssembler.assemble(AnalysisType.PRECOMPUTED_REPORT, member.getMbNo(),
+                    member.getName(), target.getYear(), target.getMonthValue(), true);
+            if (monthlyReportStore.find(task).isPresent()) {
+                return Outcome.SKIPPED;
+            }
+            pace();
+            geminiAnalysisProvider.analyze(task);
+            // Gemini 호출 실패 시에도 안내 메시지가 반환되므로, 저장 여부로 성공을 판단합니다.
+            return monthlyReportStore.find(task).isPresent() ? Outcome.GENERATED : Outcome.FAILED;
+        } catch (WorkEntryRecordNotFoundException e) {
+            return Outcome.SKIPPED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("월간 리포트 사전 생성이 중단되었습니다.", e);
+        } catch (Exception e) {
+            log.warn("월간 리포트 사전 생성 실패 - mbNo: {}, 원인: {}", member.getMbNo(), e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * 이전 실행에서 실패한 사원 한 명의 리포트를 다시 생성합니다.
+     *
+     * @param mbNo   사원 번호
+     * @param target 리포트 대상 연월
+     * @return 처리 결과
+     */
+    private Outcome retryMember(Long mbNo, YearMonth target) {
+        MemberInfoResponse member;
+        try {
+            member = memberServiceClient.getMemberByNo(mbNo, "summary");
+        } catch (Exception e) {
+            log.warn("월간 리포트 사전 생성 재시도 실패 - mbNo: {}, 원인: {}", mbNo, e.getMessage());
+            return Outcome.FAILED;
+        }
+        return precomputeMember(member, target);
+    }
+
+    /**
+     * 직전 Gemini 호출 이후 최소 간격이 지날 때까지 대기합니다.
+     */
+    private void pace() throws InterruptedException {
+        long wait = lastCallAt + minIntervalMs - System.currentTimeMillis();
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+        lastCallAt = System.currentTimeMillis();
+    }
+
+    private enum Outcome {
+        GENERATED, SKIPPED, FAILED
+    }
+}
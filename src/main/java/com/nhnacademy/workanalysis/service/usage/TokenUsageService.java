@@ -0,0 +1,49 @@
+package com.nhnacademy.workanalysis.service.usage;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.exception.TokenBudgetExceededException;
+
+/**
+ * Gemini 토큰 사용량 기록 및 사원별 일일 예산 관리를 정의하는 서비스 인터페이스입니다.
+ */
+public interface TokenUsageService {
+
+    /**
+     * 분석 요청 전에 사원의 오늘 토큰 사용량이 일일 예산 이내인지 확인합니다.
+     *
+     * @param mbNo     사원 번호
+     * @param endpoint 호출 경로 구분 (customs, reports)
+     * @throws TokenBudgetExceededException 일일 예산을 모두 사용한 경우
+     */
+    void checkBudget(Long mbNo, String endpoint);
+
+    /**
+     * Gemini 응답의 토큰 사용량을 저장하고 메트릭으로 기록합니다.
+     *
+     * @param mbNo       사원 번호
+     * @param threadId   호출이 발생한 쓰레드 ID (없으면 null)
+     * @param endpoint   호출 경로 구분 (customs, reports)
+     * @param completion Gemini 응답
+     * @return 저장된 사용량 기록 ID, 응답에 사용량 정보가 없어 저장하지 않았으면 null
+     */
+    Long record(Long mbNo, Long threadId, String endpoint, GeminiCompletion completion);
+
+    /**
+     * 쓰레드에 저장된 AI 응답 히스토리를, 그 응답을 만든 사용량 기록과 연결합니다.
+     * 사용량 기록이 없거나 다른 쓰레드의 기록이거나 이미 연결된 경우에는 아무것도 하지 않습니다.
+     *
+     * @param usageId   분석 응답에 포함된 사용량 기록 ID
+     * @param threadId  쓰레드 ID
+     * @param historyId AI 응답 히스토리 ID
+     */
+    void linkHistory(Long usageId, Long threadId, Long historyId);
+
+    /**
+     * 사원이 오늘 사용한 전체 토큰 수를 조회합니다.
+     * 야간 리포트 사전 생성처럼 사원이 요청하지 않은 호출의 사용량은 예산에 포함하지 않습니다.
+     *
+     * @param mbNo 사원 번호
+     * @return 오늘 사용한 토큰 수
+     */
+    long getTodayUsage(Long mbNo);
+}
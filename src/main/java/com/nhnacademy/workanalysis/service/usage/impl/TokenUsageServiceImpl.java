@@ -0,0 +1,110 @@
+package com.nhnacademy.workanalysis.service.usage.impl;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.entity.AiTokenUsage;
+import com.nhnacademy.workanalysis.exception.TokenBudgetExceededException;
+import com.nhnacademy.workanalysis.repository.AiTokenUsageRepository;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.usage.TokenUsageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Gemini 토큰 사용량 서비스 구현체입니다.
+ * <p>
+ * 호출마다 사용량을 {@code ai_token_usage} 테이블에 저장하고,
+ * 엔드포인트/모델/토큰 종류별 Micrometer 카운터({@code gemini.tokens})를 증가시킵니다.
+ * {@code gemini.budget.daily-tokens-per-member}가 0보다 크면 호출 전에 사원의 오늘 사용량을 확인하여
+ * 예산을 모두 사용한 경우 호출을 거절합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TokenUsageServiceImpl implements TokenUsageService {
+
+    private final AiTokenUsageRepository tokenUsageRepository;
+    private final MeterRegistry meterRegistry;
+    private final long dailyTokensPerMember;
+
+    public TokenUsageServiceImpl(AiTokenUsageRepository tokenUsageRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${gemini.budget.daily-tokens-per-member:0}") long dailyTokensPerMember) {
+        this.tokenUsageRepository = tokenUsageRepository;
+        this.meterRegistry = meterRegistry;
+        this.dailyTokensPerMember = dailyTokensPerMember;
+    }
+
+    @Override
+    public void checkBudget(Long mbNo, String endpoint) {
+        if (dailyTokensPerMember <= 0) {
+            return;
+        }
+        long used = getTodayUsage(mbNo);
+        if (used >= dailyTokensPerMember) {
+            log.warn("🚫 일일 토큰 예산 초과 - mbNo: {}, endpoint: {}, 사용량: {}/{}", mbNo, endpoint, used, dailyTokensPerMember);
+            Counter.builder("gemini.budget.rejected")
+                    .description("일일 토큰 예산 초과로 거절된 Gemini 호출 수")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            throw new TokenBudgetExceededException(
+                    String.format("오늘 사용 가능한 AI 분석 토큰(%d)을 모두 사용했습니다.", dailyTokensPerMember));
+        }
+    }
+
+    /**
+     * 분석 요청의 트랜잭션(읽기 전용일 수 있음)과 분리하여 사용량을 저장합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long record(Long mbNo, Long threadId, String endpoint, GeminiCompletion completion) {
+        if (completion.getTotalTokenCount() == null) {
+            log.debug("usageMetadata 없음 - 사용량 기록 생략 (mbNo: {}, endpoint: {})", mbNo, endpoint);
+            return null;
+        }
+        int prompt = Objects.requireNonNullElse(completion.getPromptTokenCount(), 0);
+        int candidates = Objects.requireNonNullElse(completion.getCandidatesTokenCount(), 0);
+        int total = completion.getTotalTokenCount();
+
+        AiTokenUsage saved = tokenUsageRepository.save(
+                AiTokenUsage.of(mbNo, threadId, endpoint, completion.getModel(), prompt, candidates, total));
+        increment(endpoint, completion.getModel(), "prompt", prompt);
+        increment(endpoint, completion.getModel(), "candidates", candidates);
+        log.debug("🧮 토큰 사용량 기록 - mbNo: {}, endpoint: {}, total: {}", mbNo, endpoint, total);
+        return saved.getUsageId();
+    }
+
+    @Override
+    @Transactional
+    public void linkHistory(Long usageId, Long threadId, Long historyId) {
+        tokenUsageRepository.findById(usageId)
+                .filter(usage -> Objects.equals(usage.getThreadId(), threadId) && usage.getHistoryId() == null)
+                .ifPresentOrElse(usage -> usage.linkHistory(historyId),
+                        () -> log.warn("토큰 사용량 연결 생략 - usageId: {}, threadId: {}, historyId: {}", usageId, threadId, historyId));
+    }
+
+    @Override
+    public long getTodayUsage(Long mbNo) {
+        return tokenUsageRepository.sumTotalTokensSince(mbNo, LocalDate.now().atStartOfDay(),
+                AnalysisType.PRECOMPUTED_REPORT.getEndpoint());
+    }
+
+    private void increment(String endpoint, String model, String type, int amount) {
+        Counter.builder("gemini.tokens")
+                .description("Gemini 호출에 사용된 토큰 수")
+                .tag("endpoint", endpoint)
+                .tag("model", model)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+}
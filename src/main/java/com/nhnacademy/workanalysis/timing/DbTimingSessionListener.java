@@ -0,0 +1,51 @@
+package com.nhnacademy.workanalysis.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 문장 실행 시간을 {@link RequestTimings}의 {@code db} 항목으로,
+ * 커넥션 풀에서 커넥션을 얻는 시간을 {@code db-pool} 항목으로 기록합니다.
+ * <p>
+ * {@code hibernate.session.events.auto} 설정으로 세션마다 새 인스턴스가 만들어지며,
+ * 세션은 한 스레드에서만 사용되므로 시작 시각을 필드에 보관합니다.
+ * </p>
+ */
+public class DbTimingSessionListener implements SessionEventListener {
+
+    private static final String NAME = "db";
+    private static final String POOL_NAME = "db-pool";
+
+    private long connectionStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.record(POOL_NAME, System.nanoTime() - connectionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.record(NAME, System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.record(NAME, System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,154 @@
+package com.nhnacademy.workanalysis.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 한 건 동안 원격 호출, DB, 렌더링에 사용한 시간을 모으는 요청 단위 타이밍 컨텍스트입니다.
+ * <p>
+ * {@link ServerTimingFilter}가 요청 시작 시 컨텍스트를 열고, Feign/RestTemplate/JPA/PDF 생성기가
+ * {@link #record(String, long)}로 소요 시간을 보고합니다. 컨텍스트가 없는 스레드(기능 비활성화, 배치 작업 등)에서는
+ * 아무것도 기록하지 않으므로 ThreadLocal 조회 한 번 외의 비용이 없습니다.
+ * 모인 값은 {@code Server-Timing} 헤더 형식으로 응답에 실립니다.
+ * </p>
+ */
+public final class RequestTimings {
+
+    /**
+     * 응답 헤더 이름
+     */
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    private RequestTimings() {
+    }
+
+    /**
+     * 현재 스레드에서 새 타이밍 컨텍스트를 시작합니다.
+     */
+    public static void start() {
+        CONTEXT.set(new Context(System.nanoTime()));
+    }
+
+    /**
+     * 현재 스레드의 타이밍 컨텍스트를 제거합니다.
+     */
+    public static void clear() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * 현재 스레드의 타이밍 컨텍스트를 반환합니다. 비동기 요청이 다른 스레드에서 재개될 때 이어 쓰기 위해 사용합니다.
+     *
+     * @return 타이밍 컨텍스트, 없으면 {@code null}
+     */
+    static Context current() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * 이전에 {@link #current()}로 얻은 컨텍스트를 현재 스레드에 다시 연결합니다.
+     *
+     * @param context 이어 쓸 타이밍 컨텍스트
+     */
+    static void resume(Context context) {
+        CONTEXT.set(context);
+    }
+
+    /**
+     * @return 현재 스레드에 타이밍 컨텍스트가 있으면 {@code true}
+     */
+    public static boolean isActive() {
+        return CONTEXT.get() != null;
+    }
+
+    /**
+     * 현재 요청의 항목에 소요 시간을 더합니다. 컨텍스트가 없으면 무시합니다.
+     *
+     * @param name         항목 이름 (예: member-service, gemini, db, render)
+     * @param elapsedNanos 소요 시간(나노초)
+     */
+    public static void record(String name, long elapsedNanos) {
+        Context context = CONTEXT.get();
+        if (context != null) {
+            context.add(name, elapsedNanos);
+        }
+    }
+
+    /**
+     * 지금까지 모은 항목과 요청 전체 경과 시간({@code total})을 {@code Server-Timing} 헤더 값으로 만듭니다.
+     *
+     * @return 헤더 값, 컨텍스트가 없으면 {@code null}
+     */
+    public static String header() {
+        Context context = CONTEXT.get();
+        return context != null ? context.format() : null;
+    }
+
+    /**
+     * 현재 스레드의 타이밍 컨텍스트를 다른 스레드에서 실행될 작업에 전달합니다.
+     * 두 스레드가 같은 컨텍스트에 기록하므로 병렬 호출(헤징 등)의 시간은 합산됩니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @param <T>  결과 타입
+     * @return 실행 동안 같은 컨텍스트에 기록하는 작업
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Context context = CONTEXT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Context previous = CONTEXT.get();
+            CONTEXT.set(context);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CONTEXT.remove();
+                } else {
+                    CONTEXT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 요청 한 건의 항목별 누적 시간과 호출 횟수입니다. 헤징 호출 등 다른 스레드에서도 기록되므로 동기화합니다.
+     */
+    static final class Context {
+
+        private final long startNanos;
+        private final Map<String, long[]> entries = new LinkedHashMap<>();
+
+        private Context(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        synchronized void add(String name, long elapsedNanos) {
+            long[] entry = entries.computeIfAbsent(name, k -> new long[2]);
+            entry[0] += elapsedNanos;
+            entry[1]++;
+        }
+
+        synchronized String format() {
+            StringJoiner joiner = new StringJoiner(", ");
+            for (Map.Entry<String, long[]> entry : entries.entrySet()) {
+                long count = entry.getValue()[1];
+                joiner.add(String.format(Locale.ROOT, "%s;dur=%s;desc=\"%d %s\"", entry.getKey(),
+                        millis(entry.getValue()[0]), count, count == 1 ? "call" : "calls"));
+            }
+            joiner.add("total;dur=" + millis(System.nanoTime() - startNanos));
+            return joiner.toString();
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
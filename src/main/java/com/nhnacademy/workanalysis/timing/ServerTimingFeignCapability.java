@@ -0,0 +1,33 @@
+package com.nhnacademy.workanalysis.timing;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+
+/**
+ * Feign 호출 시간을 대상 서비스 이름(예: member-service, work-entry-service)으로 {@link RequestTimings}에 기록하는 Capability입니다.
+ * 응답을 받기까지의 시간을 기록하며 본문 디코딩 시간은 포함하지 않습니다. 타이밍 컨텍스트가 없는 호출은 그대로 위임합니다.
+ */
+public class ServerTimingFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            if (!RequestTimings.isActive()) {
+                return client.execute(request, options);
+            }
+            long start = System.nanoTime();
+            try {
+                return client.execute(request, options);
+            } finally {
+                RequestTimings.record(targetName(request), System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static String targetName(Request request) {
+        return request.requestTemplate() != null && request.requestTemplate().feignTarget() != null
+                ? request.requestTemplate().feignTarget().name()
+                : "feign";
+    }
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.workanalysis.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * {@code /api/v1/analysis/**} 요청마다 {@link RequestTimings} 컨텍스트를 여는 필터입니다.
+ * <p>
+ * 응답 본문이 있는 경우 헤더는 본문을 쓰기 직전 {@link ServerTimingResponseAdvice}가 추가하며,
+ * 본문 없이 끝난 응답은 필터가 요청 처리 후 아직 커밋되지 않았다면 추가합니다.
+ * 처리 시한 필터보다 먼저 실행되어 {@code total}에 요청 전체 시간이 포함됩니다.
+ * 비동기로 처리되는 요청은 컨텍스트를 요청 속성에 보관했다가 결과를 쓰는 비동기 디스패치에서 다시 연결합니다.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/v1/analysis/";
+    private static final String CONTEXT_ATTRIBUTE = ServerTimingFilter.class.getName() + ".CONTEXT";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + PATH_PREFIX);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Object saved = request.getAttribute(CONTEXT_ATTRIBUTE);
+        if (isAsyncDispatch(request) && saved instanceof RequestTimings.Context context) {
+            RequestTimings.resume(context);
+        } else {
+            RequestTimings.start();
+        }
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.setAttribute(CONTEXT_ATTRIBUTE, RequestTimings.current());
+            } else if (!response.isCommitted() && !response.containsHeader(RequestTimings.HEADER)) {
+                response.setHeader(RequestTimings.HEADER, RequestTimings.header());
+            }
+        } finally {
+            RequestTimings.clear();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nhnacademy.workanalysis.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 {@code Server-Timing} 헤더를 추가합니다.
+ * <p>
+ * 본문을 쓰기 시작하면 응답이 커밋되어 필터에서는 헤더를 추가할 수 없으므로,
+ * 컨트롤러와 예외 처리기의 반환 값이 변환되기 직전 시점의 타이밍을 헤더로 보냅니다.
+ * </p>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestTimings.isActive();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        String header = RequestTimings.header();
+        if (header != null) {
+            response.getHeaders().set(RequestTimings.HEADER, header);
+        }
+        return body;
+    }
+}
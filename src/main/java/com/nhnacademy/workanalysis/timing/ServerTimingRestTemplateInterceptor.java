@@ -0,0 +1,94 @@
+package com.nhnacademy.workanalysis.timing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * RestTemplate 호출 시간을 {@link RequestTimings}에 기록하는 인터셉터입니다.
+ * <p>
+ * Gemini 응답은 본문 스트림에서 바로 파싱되므로, 응답 헤더 수신 시점이 아니라
+ * RestTemplate이 응답을 닫는 시점(본문 수신 및 파싱 완료)까지를 한 번의 호출 시간으로 기록합니다.
+ * </p>
+ */
+public class ServerTimingRestTemplateInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String name;
+
+    /**
+     * @param name {@code Server-Timing} 항목 이름 (예: gemini)
+     */
+    public ServerTimingRestTemplateInterceptor(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!RequestTimings.isActive()) {
+            return execution.execute(request, body);
+        }
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            RequestTimings.record(name, System.nanoTime() - start);
+            throw e;
+        }
+        return new TimedResponse(response, start);
+    }
+
+    /**
+     * 닫힐 때 호출 시작부터의 경과 시간을 기록하는 응답 래퍼입니다.
+     */
+    private final class TimedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final long startNanos;
+        private boolean recorded;
+
+        private TimedResponse(ClientHttpResponse delegate, long startNanos) {
+            this.delegate = delegate;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    RequestTimings.record(name, System.nanoTime() - startNanos);
+                }
+            }
+        }
+    }
+}
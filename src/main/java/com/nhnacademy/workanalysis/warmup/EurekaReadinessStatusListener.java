@@ -0,0 +1,42 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션의 준비 상태를 Eureka 인스턴스 상태로 옮기는 리스너입니다.
+ * <p>
+ * 인스턴스는 {@code eureka.instance.initial-status=STARTING}으로 등록되므로, 자동 등록 시점에는 다른 서비스가 호출하지 않습니다.
+ * Spring Boot는 {@link JitWarmupRunner}를 포함한 모든 {@code ApplicationRunner}가 끝난 뒤 준비 상태를
+ * {@code ACCEPTING_TRAFFIC}으로 바꾸며, 이때 {@code UP}으로 바꿉니다. 워밍업을 끈 경우에도 기동이 끝나면 {@code UP}이 됩니다.
+ * 종료 등으로 {@code REFUSING_TRAFFIC}이 되면 {@code OUT_OF_SERVICE}로 바꿉니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EurekaReadinessStatusListener {
+
+    private final ObjectProvider<ApplicationInfoManager> eurekaInfoManager;
+
+    public EurekaReadinessStatusListener(ObjectProvider<ApplicationInfoManager> eurekaInfoManager) {
+        this.eurekaInfoManager = eurekaInfoManager;
+    }
+
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        ApplicationInfoManager eureka = eurekaInfoManager.getIfAvailable();
+        if (eureka == null) {
+            return;
+        }
+        InstanceInfo.InstanceStatus status = event.getState() == ReadinessState.ACCEPTING_TRAFFIC
+                ? InstanceInfo.InstanceStatus.UP : InstanceInfo.InstanceStatus.OUT_OF_SERVICE;
+        log.info("📡 Eureka 인스턴스 상태 변경 - readiness={}, status={}", event.getState(), status);
+        eureka.setInstanceStatus(status);
+    }
+}
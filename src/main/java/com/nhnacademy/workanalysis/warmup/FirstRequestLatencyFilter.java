@@ -0,0 +1,125 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 준비 상태가 된 뒤 처음 들어온 API 요청 {@code warmup.first-requests}건(기본 20)의 지연을 기록하는 필터입니다.
+ * <p>
+ * 각 요청은(비동기 요청은 응답이 끝난 시점까지) 로그와 {@code app.warmup.first.requests} 지표({@code method}, {@code uri} 태그)에 남으므로,
+ * 워밍업 유무나 설정에 따라 배포 직후 요청이 얼마나 느린지 비교할 수 있습니다. 정해진 건수를 채운 뒤에는(또는 0으로 설정하면) 아무 일도 하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class FirstRequestLatencyFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/";
+
+    private final MeterRegistry meterRegistry;
+    private final int limit;
+    private final AtomicInteger seen = new AtomicInteger();
+    private volatile boolean tracking;
+
+    public FirstRequestLatencyFilter(MeterRegistry meterRegistry, @Value("${warmup.first-requests:20}") int limit) {
+        this.meterRegistry = meterRegistry;
+        this.limit = limit;
+    }
+
+    /**
+     * 애플리케이션이 준비된 시점부터 집계를 시작합니다. 워밍업 중 들어온 요청은 포함되지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTracking() {
+        tracking = true;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tracking || seen.get() >= limit
+                || !request.getRequestURI().startsWith(request.getContextPath() + PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int ordinal = seen.incrementAndGet();
+        if (ordinal > limit) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnCompletion(this, request, response, ordinal, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                record(request, response, ordinal, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, int ordinal, long elapsed) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Timer.builder("app.warmup.first.requests")
+                .description("Latency of the first API requests after the application became ready")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("🔥 준비 후 첫 요청 #{}/{} - {} {} status={} {}ms", ordinal, limit, request.getMethod(), uri,
+                response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * 비동기로 처리되는 요청은 응답이 끝난 시점까지를 지연으로 기록합니다.
+     */
+    private record RecordOnCompletion(FirstRequestLatencyFilter filter, HttpServletRequest request,
+                                      HttpServletResponse response, int ordinal, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            filter.record(request, response, ordinal, System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // 시간 초과 후에도 오류 응답이 완료되면 onComplete에서 기록됨
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // 오류 응답이 완료되면 onComplete에서 기록됨
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
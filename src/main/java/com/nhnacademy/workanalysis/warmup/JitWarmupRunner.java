@@ -0,0 +1,204 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.generator.PdfReportGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트래픽을 받기 전에 {@link WarmupWorkload}를 반복 실행하여 PDF/프롬프트/JSON 경로의 클래스 로딩과 JIT 컴파일을 끝내는 러너입니다.
+ * <p>
+ * Spring Boot는 모든 {@link ApplicationRunner}가 끝난 뒤 준비 상태를 {@code ACCEPTING_TRAFFIC}으로 바꾸므로,
+ * 워밍업이 진행되는 동안 {@code /actuator/health/readiness}는 {@code OUT_OF_SERVICE}를 응답합니다.
+ * Eureka에는 {@code STARTING}으로 등록되어 있다가 준비 상태가 바뀔 때 {@link EurekaReadinessStatusListener}가 {@code UP}으로 바꿉니다.
+ * </p>
+ * <p>
+ * 라운드마다 모든 작업을 한 번씩 실행하고, 최근 {@code warmup.stable-rounds}개 라운드의 비용 편차가
+ * {@code warmup.tolerance} 이내이면서 그 구간의 JIT 컴파일 시간이 라운드 비용 합의 {@code warmup.max-compile-ratio} 이하이면
+ * 안정화된 것으로 보고 종료합니다. 라운드 비용은 CPU 할당량 제한이나 선점의 영향을 받지 않도록 워밍업 스레드의 CPU 시간으로 재며,
+ * 스레드 CPU 시간을 지원하지 않는 JVM에서는 벽시계 시간을 사용합니다.
+ * {@code warmup.budget-seconds}를 넘기면 안정화 여부와 관계없이 종료합니다.
+ * 웹 서버 없이 실행되는 경우(datagen 프로필, 모의 MVC 테스트)에는 실행하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class JitWarmupRunner implements ApplicationRunner {
+
+    static final String STABLE = "stable";
+    static final String BUDGET_EXHAUSTED = "budget_exhausted";
+
+    private final ApplicationContext applicationContext;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PdfReportGenerator pdfReportGenerator;
+
+    @Value("${warmup.budget-seconds:20}")
+    private long budgetSeconds;
+
+    @Value("${warmup.min-rounds:10}")
+    private int minRounds;
+
+    @Value("${warmup.stable-rounds:5}")
+    private int stableRounds;
+
+    @Value("${warmup.tolerance:0.15}")
+    private double tolerance;
+
+    @Value("${warmup.max-compile-ratio:0.1}")
+    private double maxCompileRatio;
+
+    public JitWarmupRunner(ApplicationContext applicationContext, ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry, PdfReportGenerator pdfReportGenerator) {
+        this.applicationContext = applicationContext;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.pdfReportGenerator = pdfReportGenerator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            log.debug("웹 서버 없이 실행되어 JIT 워밍업을 건너뜁니다.");
+            return;
+        }
+        try {
+            Result result = warmUp(new WarmupWorkload(pdfReportGenerator, objectMapper).tasks(fontAvailable()));
+            Timer.builder("app.warmup.duration")
+                    .description("기동 직후 JIT 워밍업 소요 시간")
+                    .tag("outcome", result.outcome())
+                    .register(meterRegistry)
+                    .record(result.elapsedNanos(), TimeUnit.NANOSECONDS);
+            log.info("🔥 JIT 워밍업 완료 - 결과={}, 라운드={}, 소요={}ms, JIT 컴파일={}ms, 첫 라운드={}ms → 마지막 라운드={}ms, 작업별 마지막 소요(ms)={}",
+                    result.outcome(), result.rounds(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                    result.compileMillis(), TimeUnit.NANOSECONDS.toMillis(result.firstRoundNanos()), TimeUnit.NANOSECONDS.toMillis(result.lastRoundNanos()),
+                    result.lastTaskMillis());
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동을 막지는 않음
+            log.warn("⚠️ JIT 워밍업 중 오류 발생, 워밍업 없이 트래픽을 받습니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 안정화되거나 예산을 다 쓸 때까지 작업 라운드를 반복합니다.
+     *
+     * @param tasks 라운드마다 실행할 작업
+     * @return 워밍업 결과
+     */
+    Result warmUp(List<WarmupWorkload.Task> tasks) {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        boolean compileTimeSupported = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compileStart = compileTimeSupported ? compiler.getTotalCompilationTime() : 0;
+
+        Deque<long[]> window = new ArrayDeque<>(); // {라운드 비용 ns, 라운드 종료 시점 누적 컴파일 ms}
+        Map<String, Double> lastTaskMillis = new LinkedHashMap<>();
+        long budgetNanos = TimeUnit.SECONDS.toNanos(budgetSeconds);
+        long start = System.nanoTime();
+        long firstRound = 0;
+        int rounds = 0;
+        String outcome = BUDGET_EXHAUSTED;
+
+        while (System.nanoTime() - start < budgetNanos) {
+            long roundStart = cpuTimeSupported ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+            for (WarmupWorkload.Task task : tasks) {
+                long taskStart = System.nanoTime();
+                try {
+                    task.body().call();
+                } catch (Exception e) {
+                    throw new IllegalStateException("워밍업 작업 실패: " + task.name(), e);
+                }
+                lastTaskMillis.put(task.name(), Math.round(millis(System.nanoTime() - taskStart) * 100) / 100.0);
+            }
+            long roundNanos = (cpuTimeSupported ? threads.getCurrentThreadCpuTime() : System.nanoTime()) - roundStart;
+            if (rounds++ == 0) {
+                firstRound = roundNanos;
+            }
+            window.addLast(new long[]{roundNanos, compileTimeSupported ? compiler.getTotalCompilationTime() : 0});
+            if (window.size() > stableRounds) {
+                window.removeFirst();
+            }
+            if (rounds >= minRounds && window.size() == stableRounds && isStable(window, compileTimeSupported)) {
+                outcome = STABLE;
+                break;
+            }
+        }
+
+        long compileMillis = compileTimeSupported ? compiler.getTotalCompilationTime() - compileStart : -1;
+        long lastRound = window.isEmpty() ? 0 : window.peekLast()[0];
+        return new Result(outcome, rounds, System.nanoTime() - start, compileMillis, firstRound, lastRound, lastTaskMillis);
+    }
+
+    /**
+     * 창 안의 라운드 비용이 중앙값 대비 {@code tolerance} 이내로 모여 있고,
+     * 창 구간 동안의 JIT 컴파일 시간이 라운드 비용 합의 {@code maxCompileRatio} 이하인지 확인합니다.
+     */
+    private boolean isStable(Deque<long[]> window, boolean compileTimeSupported) {
+        long[] durations = window.stream().mapToLong(w -> w[0]).sorted().toArray();
+        long median = durations[durations.length / 2];
+        if (median == 0 || (double) (durations[durations.length - 1] - durations[0]) / median > tolerance) {
+            return false;
+        }
+        if (!compileTimeSupported) {
+            return true;
+        }
+        // 창의 첫 라운드 동안의 컴파일은 이전 라운드 종료 시점을 알 수 없어 제외
+        long compiledMillis = window.peekLast()[1] - window.peekFirst()[1];
+        double windowMillis = millis(Arrays.stream(durations).sum());
+        return compiledMillis <= windowMillis * maxCompileRatio;
+    }
+
+    private boolean fontAvailable() {
+        if (resourceLoader.getResource(WarmupWorkload.FONT_PATH).exists()) {
+            return true;
+        }
+        log.warn("⚠️ 한글 폰트({})가 없어 PDF 워밍업을 건너뜁니다.", WarmupWorkload.FONT_PATH);
+        return false;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 워밍업 결과입니다.
+     *
+     * @param outcome         {@code stable} 또는 {@code budget_exhausted}
+     * @param rounds          실행한 라운드 수
+     * @param elapsedNanos    전체 소요 시간
+     * @param compileMillis   워밍업 동안의 JIT 컴파일 시간(ms), 측정 불가 시 -1
+     * @param firstRoundNanos 첫 라운드 비용 (CPU 시간)
+     * @param lastRoundNanos  마지막 라운드 비용 (CPU 시간)
+     * @param lastTaskMillis  마지막 라운드의 작업별 소요 시간(ms)
+     */
+    record Result(String outcome, int rounds, long elapsedNanos, long compileMillis,
+                  long firstRoundNanos, long lastRoundNanos, Map<String, Double> lastTaskMillis) {
+    }
+}
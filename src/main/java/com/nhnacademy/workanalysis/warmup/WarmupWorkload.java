@@ -0,0 +1,158 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiResponseParser;
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.dto.ReportRequestDto;
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
+import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
+import com.nhnacademy.workanalysis.generator.PdfReportGenerator;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import com.nhnacademy.workanalysis.service.analysis.impl.RuleBasedAnalysisProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * 기동 직후 JIT 워밍업에 사용할 작업 묶음입니다.
+ * <p>
+ * 실제 요청과 같은 코드 경로(PDF 렌더링, 리포트 프롬프트 구성, 규칙 기반 분석, Gemini 응답 파싱, 요청/응답 JSON 변환)를
+ * 고정 시드로 만든 출결 데이터로 실행합니다. 외부 호출과 DB 접근은 하지 않으며,
+ * 프롬프트 구성 지표가 운영 지표에 섞이지 않도록 별도의 {@link PipelineMetrics}를 사용합니다.
+ * PDF 렌더링은 실제 요청이 쓰는 {@link PdfReportGenerator} 빈으로 실행하여 빈의 폰트 캐시까지 채워 두므로,
+ * 첫 PDF 요청이 폰트를 읽지 않습니다(PDF 단계 지표에는 워밍업 실행도 기록됩니다).
+ * </p>
+ */
+@Slf4j
+class WarmupWorkload {
+
+    static final String FONT_PATH = "classpath:font/NotoSansKR-Regular.ttf";
+
+    private static final long MB_NO = 0L;
+    private static final String MB_NAME = "워밍업";
+    private static final long[] WEIGHTED_CODES = {1, 1, 1, 1, 1, 1, 1, 1, 2, 2, 3, 4, 5, 6, 7, 8};
+
+    private final YearMonth month = YearMonth.now().minusMonths(1);
+    private final List<AttendanceSummaryDto> summaries = summaries(month);
+    private final PipelineMetrics metrics = new PipelineMetrics(new SimpleMeterRegistry());
+    private final ReportTaskAssembler assembler;
+    private final RuleBasedAnalysisProvider ruleProvider = new RuleBasedAnalysisProvider();
+    private final PdfReportGenerator pdfGenerator;
+    private final GeminiResponseParser responseParser;
+    private final ObjectMapper objectMapper;
+    private final byte[] geminiResponse;
+    private final byte[] reportRequest;
+
+    /**
+     * 워밍업 작업 하나입니다.
+     *
+     * @param name 로그/지표에 표시할 이름
+     * @param body 한 번 실행할 작업 (결과는 버림)
+     */
+    record Task(String name, Callable<?> body) {
+    }
+
+    WarmupWorkload(PdfReportGenerator pdfGenerator, ObjectMapper objectMapper) {
+        PageResponse<AttendanceSummaryDto> page = new PageResponse<>(summaries, 1, summaries.size(), summaries.size(), 0);
+        this.assembler = new ReportTaskAssembler(mbNo -> page, metrics);
+        this.pdfGenerator = pdfGenerator;
+        this.responseParser = new GeminiResponseParser(objectMapper);
+        this.objectMapper = objectMapper;
+        this.geminiResponse = geminiResponse(objectMapper, summaries);
+        this.reportRequest = reportRequest(objectMapper, month);
+    }
+
+    /**
+     * @param includePdf 한글 폰트가 있어 PDF 생성을 포함할지 여부
+     * @return 한 라운드에 차례로 실행할 작업 목록
+     */
+    List<Task> tasks(boolean includePdf) {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("prompt", () -> assembler.assemble(AnalysisType.MONTHLY_REPORT, MB_NO, MB_NAME,
+                month.getYear(), month.getMonthValue(), true)));
+        tasks.add(new Task("rule-analysis", () -> ruleProvider.analyze(assembler.assemble(AnalysisType.MONTHLY_REPORT,
+                MB_NO, MB_NAME, month.getYear(), month.getMonthValue(), false))));
+        tasks.add(new Task("gemini-parse", () -> responseParser.parse(new ByteArrayInputStream(geminiResponse))));
+        tasks.add(new Task("json", () -> {
+            ReportRequestDto request = objectMapper.readValue(reportRequest, ReportRequestDto.class);
+            return objectMapper.writeValueAsBytes(new GeminiAnalysisResponse(request.getMbNo(), "## 근태 분석 요약"));
+        }));
+        if (includePdf) {
+            tasks.add(new Task("pdf", this::renderPdf));
+        }
+        return tasks;
+    }
+
+    private byte[] renderPdf() {
+        AnalysisTask task = assembler.assemble(AnalysisType.MONTHLY_REPORT, MB_NO, MB_NAME,
+                month.getYear(), month.getMonthValue(), false);
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        summaries.forEach(s -> counts.merge(s.getCode(), 1L, Long::sum));
+        AttendanceReportDto report = new AttendanceReportDto(counts, ruleProvider.analyze(task).getFullText(),
+                month.getYear(), month.getMonthValue());
+        return pdfGenerator.generateAttendancePdf(report, MB_NAME, month.getYear(), month.getMonthValue());
+    }
+
+    private static List<AttendanceSummaryDto> summaries(YearMonth month) {
+        Random random = new Random(month.hashCode());
+        List<AttendanceSummaryDto> summaries = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            long code = day <= 8 ? day : WEIGHTED_CODES[random.nextInt(WEIGHTED_CODES.length)];
+            boolean worked = code == 1 || code == 2 || code == 4 || code == 7;
+            summaries.add(new AttendanceSummaryDto(date.getYear(), date.getMonthValue(), day, worked ? 9 : 0,
+                    worked ? date.atTime(code == 2 ? 9 : 8, random.nextInt(60)) : null,
+                    worked ? date.atTime(18, random.nextInt(60)) : null,
+                    code));
+        }
+        return summaries;
+    }
+
+    private static byte[] geminiResponse(ObjectMapper objectMapper, List<AttendanceSummaryDto> summaries) {
+        List<Map<String, Object>> parts = new ArrayList<>();
+        parts.add(Map.of("text", "## 근태 분석 요약\n\n"));
+        for (AttendanceSummaryDto s : summaries) {
+            parts.add(Map.of("text", String.format("- %d일: 상태 코드 %d, 근무 %d시간. 특이 사항은 없습니다.%n",
+                    s.getDayOfMonth(), s.getCode(), s.getHoursWorked())));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", parts),
+                "finishReason", "STOP",
+                "index", 0)));
+        body.put("usageMetadata", Map.of("promptTokenCount", 800, "candidatesTokenCount", 1200, "totalTokenCount", 2000));
+        body.put("modelVersion", "gemini-2.0-flash");
+        return write(objectMapper, body);
+    }
+
+    private static byte[] reportRequest(ObjectMapper objectMapper, YearMonth month) {
+        return write(objectMapper, Map.of(
+                "mbNo", MB_NO,
+                "year", month.getYear(),
+                "month", month.getMonthValue(),
+                "statusCodes", List.of("1", "2", "3", "4", "5", "6", "7", "8"),
+                "useAi", false));
+    }
+
+    private static byte[] write(ObjectMapper objectMapper, Object body) {
+        try {
+            return objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IllegalStateException("워밍업 데이터 생성 실패", e);
+        }
+    }
+}
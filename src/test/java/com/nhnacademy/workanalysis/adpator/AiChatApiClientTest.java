@@ -2,44 +2,83 @@ package com.nhnacademy.workanalysis.adpator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.workanalysis.adaptor.AiChatApiClient;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiApiKeyPool;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCallExecutor;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiHedgeBudget;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiLatencyTracker;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiResponseParser;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiRetryPolicy;
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
 import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
 import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.*;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
  * AiChatApiClient 클래스의 Gemini API 호출 로직에 대한 단위 테스트입니다.
+ * 응답 본문이 실제로 스트리밍 파서를 거치도록 {@link MockRestServiceServer}를 사용합니다.
  */
-@ExtendWith(MockitoExtension.class)
 class AiChatApiClientTest {
 
-    @InjectMocks
+    private static final String ENDPOINT = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
+
     private AiChatApiClient aiChatApiClient;
 
-    @Mock
     private RestTemplate restTemplate;
+    private MockRestServiceServer server;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GeminiLatencyTracker latencyTracker;
+    private GeminiCallExecutor callExecutor;
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(aiChatApiClient, "apiKey", "fake-api-key");
-        ReflectionTestUtils.setField(aiChatApiClient, "restTemplate", restTemplate);
-        ReflectionTestUtils.setField(aiChatApiClient, "objectMapper", objectMapper);
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        latencyTracker = new GeminiLatencyTracker(3000, 30000, 2.0, 20);
+        callExecutor = new GeminiCallExecutor(4);
+        aiChatApiClient = newClient(new GeminiApiKeyPool("fake-api-key", "", 0, 3, 30000));
+    }
+
+    private AiChatApiClient newClient(GeminiApiKeyPool apiKeyPool) {
+        GeminiRetryPolicy retryPolicy = new GeminiRetryPolicy(3, 10, 50, 2000, 1.0, 10);
+        AiChatApiClient client = new AiChatApiClient(restTemplate, latencyTracker, new GeminiHedgeBudget(1.0, 5),
+                callExecutor, apiKeyPool, retryPolicy, new GeminiResponseParser(new ObjectMapper()),
+                new PipelineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "baseUrl", "https://generativelanguage.googleapis.com/v1beta");
+        ReflectionTestUtils.setField(client, "model", "gemini-2.0-flash");
+        ReflectionTestUtils.setField(client, "hedgingEnabled", true);
+        return client;
+    }
+
+    @AfterEach
+    void tearDown() {
+        callExecutor.shutdown();
     }
 
     @Test
@@ -65,9 +104,9 @@ class AiChatApiClientTest {
             }
             """;
 
-        ResponseEntity<String> responseEntity = new ResponseEntity<>(apiResponseJson, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
-                .thenReturn(responseEntity);
+        server.expect(requestTo(startsWith(ENDPOINT)))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(apiResponseJson, MediaType.APPLICATION_JSON));
 
         // when
         GeminiAnalysisResponse response = aiChatApiClient.call(messages, 1001L);
@@ -75,6 +114,7 @@ class AiChatApiClientTest {
         // then
         assertThat(response.getMemberNo()).isEqualTo(1001L);
         assertThat(response.getFullText()).isEqualTo("분석 결과입니다.");
+        server.verify();
     }
 
     @Test
@@ -84,8 +124,8 @@ class AiChatApiClientTest {
         MessageDto message = new MessageDto("user", "지각 상태 분석");
         List<MessageDto> messages = List.of(message);
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
-                .thenThrow(new RuntimeException("Connection refused"));
+        server.expect(requestTo(startsWith(ENDPOINT)))
+                .andRespond(withException(new IOException("Connection refused")));
 
         // when
         GeminiAnalysisResponse response = aiChatApiClient.call(messages, 2002L);
@@ -114,9 +154,8 @@ class AiChatApiClientTest {
             }
             """;
 
-        ResponseEntity<String> responseEntity = new ResponseEntity<>(invalidJson, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
-                .thenReturn(responseEntity);
+        server.expect(requestTo(startsWith(ENDPOINT)))
+                .andRespond(withSuccess(invalidJson, MediaType.APPLICATION_JSON));
 
         // when
         GeminiAnalysisResponse response = aiChatApiClient.call(messages, 3003L);
@@ -125,4 +164,186 @@ class AiChatApiClientTest {
         assertThat(response.getMemberNo()).isEqualTo(3003L);
         assertThat(response.getFullText()).contains("❌ 분석 결과를 찾을 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("여러 후보와 파트의 텍스트를 모두 이어 붙여 반환")
+    void testCall_whenMultipleParts_shouldConcatenateText() {
+        // given
+        String json = """
+            {"candidates":[
+              {"content":{"parts":[{"text":"첫 번째 "},{"text":"두 번째 "}],"role":"model"},"finishReason":"STOP"},
+              {"content":{"parts":[{"text":"세 번째"}]}}
+            ],"usageMetadata":{"promptTokenCount":12,"candidatesTokenCount":7,"totalTokenCount":19}}
+            """;
+        server.expect(requestTo(startsWith(ENDPOINT)))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        // when
+        GeminiAnalysisResponse response = aiChatApiClient.call(List.of(new MessageDto("user", "분석")), 1111L);
+
+        // then
+        assertThat(response.getFullText()).isEqualTo("첫 번째 두 번째 세 번째");
+    }
+
+    @Test
+    @DisplayName("리포트 호출이 p95 지연을 넘기면 헤징 요청의 응답을 사용")
+    void testCall_whenPrimaryIsSlow_shouldUseHedgedResponse() {
+        // given - 빠른 응답(100ms) 표본으로 p95 지연을 학습시킴
+        MessageDto message = new MessageDto("user", "월간 리포트");
+        for (int i = 0; i < 50; i++) {
+            latencyTracker.record("gemini-2.0-flash", message.getContent().length(), 100);
+        }
+
+        AtomicInteger invocations = new AtomicInteger();
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(ENDPOINT)))
+                .andRespond(request -> {
+                    if (invocations.incrementAndGet() == 1) {
+                        sleep(2000);
+                        return withSuccess(textResponse("느린 응답"), MediaType.APPLICATION_JSON).createResponse(request);
+                    }
+                    return withSuccess(textResponse("헤징 응답"), MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // when
+        GeminiAnalysisResponse response = aiChatApiClient.call(List.of(message), 4004L, true);
+
+        // then
+        assertThat(response.getFullText()).isEqualTo("헤징 응답");
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("채팅 호출은 지연되더라도 헤징 요청을 보내지 않음")
+    void testCall_whenNotHedgeable_shouldCallOnce() {
+        // given
+        MessageDto message = new MessageDto("user", "자유 질문");
+        for (int i = 0; i < 50; i++) {
+            latencyTracker.record("gemini-2.0-flash", message.getContent().length(), 100);
+        }
+        server.expect(ExpectedCount.once(), requestTo(startsWith(ENDPOINT)))
+                .andRespond(request -> {
+                    sleep(300);
+                    return withSuccess(textResponse("단일 응답"), MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // when
+        GeminiAnalysisResponse response = aiChatApiClient.call(List.of(message), 5005L);
+
+        // then
+        assertThat(response.getFullText()).isEqualTo("단일 응답");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("503 응답은 지터 백오프 후 재시도하여 성공")
+    void testCall_whenServerError_shouldRetry() {
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(ENDPOINT)))
+                .andRespond(request -> invocations.incrementAndGet() == 1
+                        ? withStatus(HttpStatus.SERVICE_UNAVAILABLE).createResponse(request)
+                        : withSuccess(textResponse("재시도 성공"), MediaType.APPLICATION_JSON).createResponse(request));
+
+        // when
+        GeminiAnalysisResponse response = aiChatApiClient.call(List.of(new MessageDto("user", "분석")), 6006L);
+
+        // then
+        assertThat(response.getFullText()).isEqualTo("재시도 성공");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("429 응답을 받은 키는 쿨다운되고 다른 키로 즉시 재시도")
+    void testCall_whenRateLimited_shouldSwitchKey() {
+        // given
+        AiChatApiClient pooledClient = newClient(new GeminiApiKeyPool("unused", "key-aaaa,key-bbbb", 0, 3, 30000));
+        HttpHeaders retryAfter = new HttpHeaders();
+        retryAfter.set(HttpHeaders.RETRY_AFTER, "30");
+        List<String> urls = Collections.synchronizedList(new ArrayList<>());
+        server.expect(ExpectedCount.times(2), requestTo(startsWith(ENDPOINT)))
+                .andRespond(request -> {
+                    urls.add(request.getURI().toString());
+                    if (urls.size() == 1) {
+                        return withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(retryAfter).createResponse(request);
+                    }
+                    return withSuccess(textResponse("다른 키 성공"), MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // when
+        long start = System.nanoTime();
+        GeminiAnalysisResponse response = pooledClient.call(List.of(new MessageDto("user", "분석")), 7007L);
+
+        // then
+        assertThat(response.getFullText()).isEqualTo("다른 키 성공");
+        assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+        assertThat(urls).hasSize(2);
+        assertThat(urls.get(0)).isNotEqualTo(urls.get(1));
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대 대기 시간을 넘으면 재시도 없이 실패 메시지 반환")
+    void testCall_whenRetryAfterTooLong_shouldFailFast() {
+        // given
+        HttpHeaders retryAfter = new HttpHeaders();
+        retryAfter.set(HttpHeaders.RETRY_AFTER, "120");
+        server.expect(ExpectedCount.once(), requestTo(startsWith(ENDPOINT)))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(retryAfter));
+
+        // when
+        GeminiAnalysisResponse response = aiChatApiClient.call(List.of(new MessageDto("user", "분석")), 8008L);
+
+        // then
+        assertThat(response.getFullText()).contains("❌ Gemini 호출 실패", "429");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("요청 처리 시한이 지났으면 Gemini를 호출하지 않고 예외 발생")
+    void testCall_whenDeadlinePassed_shouldThrowWithoutCalling() {
+        RequestDeadline.start(Duration.ZERO);
+        try {
+            assertThatThrownBy(() -> aiChatApiClient.call(List.of(new MessageDto("user", "분석")), 9009L))
+                    .isInstanceOf(DeadlineExceededException.class);
+            server.verify();
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간이 남은 처리 시간을 넘으면 재시도하지 않음")
+    void testCall_whenRetryWaitExceedsDeadline_shouldNotRetry() {
+        // given
+        HttpHeaders retryAfter = new HttpHeaders();
+        retryAfter.set(HttpHeaders.RETRY_AFTER, "2");
+        server.expect(ExpectedCount.once(), requestTo(startsWith(ENDPOINT)))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE).headers(retryAfter));
+        RequestDeadline.start(Duration.ofSeconds(1));
+
+        // when
+        GeminiAnalysisResponse response;
+        try {
+            response = aiChatApiClient.call(List.of(new MessageDto("user", "분석")), 9010L);
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // then
+        assertThat(response.getFullText()).contains("❌ Gemini 호출 실패", "503");
+        server.verify();
+    }
+
+    private static String textResponse(String text) {
+        return """
+            {"candidates":[{"content":{"parts":[{"text":"%s"}]}}]}
+            """.formatted(text);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.nhnacademy.workanalysis.adpator;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiApiKeyPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GeminiApiKeyPool}의 분당 쿼터 차감과 반환을 검증합니다.
+ */
+class GeminiApiKeyPoolTest {
+
+    @Test
+    @DisplayName("요청을 보내지 않고 반납한 임대는 쿼터를 되돌리고, 보낸 임대만 쿼터를 사용")
+    void chargesQuotaOnlyForSentRequests() {
+        GeminiApiKeyPool pool = new GeminiApiKeyPool("key-1", "", 1, 3, 30_000);
+
+        try (GeminiApiKeyPool.Lease unused = pool.acquire()) {
+            assertThat(unused.availableIn()).isEqualTo(Duration.ZERO);
+        }
+        try (GeminiApiKeyPool.Lease sent = pool.acquire()) {
+            assertThat(sent.availableIn()).isEqualTo(Duration.ZERO);
+            sent.markSent();
+        }
+        try (GeminiApiKeyPool.Lease exhausted = pool.acquire()) {
+            assertThat(exhausted.availableIn()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 임대의 쿼터는 동시에 선택하는 다른 호출에 보임")
+    void reservesQuotaWhileLeased() {
+        GeminiApiKeyPool pool = new GeminiApiKeyPool("key-1", "", 1, 3, 30_000);
+
+        try (GeminiApiKeyPool.Lease first = pool.acquire();
+             GeminiApiKeyPool.Lease second = pool.acquire()) {
+            assertThat(first.availableIn()).isEqualTo(Duration.ZERO);
+            assertThat(second.availableIn()).isPositive();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.workanalysis.adpator;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiHedgeBudget;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiLatencyTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GeminiLatencyTracker}의 타임아웃/헤징 지연 도출 로직과 {@link GeminiHedgeBudget}의 예산 제한을 검증합니다.
+ */
+class GeminiLatencyTrackerTest {
+
+    private static final String MODEL = "gemini-2.0-flash";
+
+    private GeminiLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new GeminiLatencyTracker(1000, 30000, 2.0, 20);
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 최대 타임아웃을 사용하고 헤징하지 않음")
+    void readTimeout_withoutSamples_shouldUseMax() {
+        tracker.record(MODEL, 500, 800);
+
+        assertThat(tracker.readTimeout(MODEL, 500)).isEqualTo(Duration.ofMillis(30000));
+        assertThat(tracker.hedgeDelay(MODEL, 500)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관측 지연의 p99 × 배수로 타임아웃을 도출")
+    void readTimeout_withSamples_shouldDeriveFromP99() {
+        for (int i = 0; i < 100; i++) {
+            tracker.record(MODEL, 500, 2000);
+        }
+
+        Duration timeout = tracker.readTimeout(MODEL, 500);
+
+        assertThat(timeout).isBetween(Duration.ofMillis(4000), Duration.ofMillis(5500));
+        assertThat(tracker.hedgeDelay(MODEL, 500)).hasValueSatisfying(delay ->
+                assertThat(delay).isBetween(Duration.ofMillis(2000), Duration.ofMillis(2600)));
+    }
+
+    @Test
+    @DisplayName("프롬프트 크기 구간별로 분포를 분리해서 추적")
+    void readTimeout_shouldBeTrackedPerPromptSizeBucket() {
+        for (int i = 0; i < 100; i++) {
+            tracker.record(MODEL, 500, 200);
+            tracker.record(MODEL, 20_000, 9000);
+        }
+
+        assertThat(tracker.readTimeout(MODEL, 500)).isEqualTo(Duration.ofMillis(1000));
+        assertThat(tracker.readTimeout(MODEL, 20_000)).isGreaterThan(Duration.ofMillis(18000));
+    }
+
+    @Test
+    @DisplayName("헤징 예산은 요청 수 × 비율 + burst를 넘지 않음")
+    void hedgeBudget_shouldBoundHedges() {
+        GeminiHedgeBudget budget = new GeminiHedgeBudget(0.1, 2);
+
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+            if (budget.tryAcquire()) {
+                hedges++;
+            }
+        }
+
+        // 처음 burst(2)만큼은 바로 쓰고, 이후 10건마다 1건씩 적립
+        assertThat(hedges).isBetween(10, 12);
+    }
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.workanalysis.adpator;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiRequestBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GeminiRequestBudget}의 초기 예산과 적립 비율을 검증합니다.
+ */
+class GeminiRequestBudgetTest {
+
+    @Test
+    @DisplayName("새 예산은 가득 찬 상태로 시작해 기본 비율(0.2)에서도 첫 호출부터 burst만큼 추가 요청 허용")
+    void freshBudgetAllowsBurstImmediately() {
+        GeminiRequestBudget budget = new GeminiRequestBudget(0.2, 10);
+
+        budget.onRequest();
+        for (int i = 0; i < 10; i++) {
+            assertThat(budget.tryAcquire()).isTrue();
+        }
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("소진된 뒤에는 대상 호출 5건마다 추가 요청 1건만 허용")
+    void refillsByRatioAfterBurst() {
+        GeminiRequestBudget budget = new GeminiRequestBudget(0.2, 2);
+        budget.tryAcquire();
+        budget.tryAcquire();
+
+        for (int i = 0; i < 4; i++) {
+            budget.onRequest();
+        }
+        assertThat(budget.tryAcquire()).isFalse();
+
+        budget.onRequest();
+        assertThat(budget.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.workanalysis.adpator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiResponseParser;
+import com.nhnacademy.workanalysis.exception.TextNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GeminiResponseParser}의 스트리밍 파싱 결과를 검증합니다.
+ */
+class GeminiResponseParserTest {
+
+    private final GeminiResponseParser parser = new GeminiResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("텍스트, 종료 사유, 토큰 사용량을 한 번에 추출하고 알 수 없는 필드는 건너뜀")
+    void parse_shouldExtractTextFinishReasonAndUsage() throws IOException {
+        String json = """
+            {
+              "candidates": [
+                {
+                  "content": {"parts": [{"text": "출근 "}, {"inlineData": {"data": "AAAA"}}, {"text": "분석"}], "role": "model"},
+                  "finishReason": "MAX_TOKENS",
+                  "safetyRatings": [{"category": "HARM", "probability": "NEGLIGIBLE"}]
+                },
+                {"content": {"parts": [{"text": " 완료"}]}, "finishReason": "STOP"}
+              ],
+              "usageMetadata": {"promptTokenCount": 120, "candidatesTokenCount": 30, "totalTokenCount": 150,
+                                "promptTokensDetails": [{"modality": "TEXT", "tokenCount": 120}]},
+              "modelVersion": "gemini-2.0-flash"
+            }
+            """;
+
+        GeminiCompletion completion = parser.parse(stream(json));
+
+        assertThat(completion.getText()).isEqualTo("출근 분석 완료");
+        assertThat(completion.getFinishReason()).isEqualTo("MAX_TOKENS");
+        assertThat(completion.getPromptTokenCount()).isEqualTo(120);
+        assertThat(completion.getCandidatesTokenCount()).isEqualTo(30);
+        assertThat(completion.getTotalTokenCount()).isEqualTo(150);
+        assertThat(completion.getModel()).isEqualTo("gemini-2.0-flash");
+    }
+
+    @Test
+    @DisplayName("usageMetadata가 없으면 토큰 수는 null")
+    void parse_withoutUsage_shouldLeaveCountsNull() throws IOException {
+        GeminiCompletion completion = parser.parse(stream("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"결과\"}]}}]}"));
+
+        assertThat(completion.getText()).isEqualTo("결과");
+        assertThat(completion.getFinishReason()).isNull();
+        assertThat(completion.getTotalTokenCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("텍스트 파트가 없으면 TextNotFoundException 발생")
+    void parse_withoutText_shouldThrow() {
+        String json = "{\"promptFeedback\":{\"blockReason\":\"SAFETY\"},\"usageMetadata\":{\"promptTokenCount\":5}}";
+
+        assertThatThrownBy(() -> parser.parse(stream(json)))
+                .isInstanceOf(TextNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON은 JsonProcessingException 발생")
+    void parse_withMalformedJson_shouldThrow() {
+        assertThatThrownBy(() -> parser.parse(stream("{\"candidates\":[{\"content\":")))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
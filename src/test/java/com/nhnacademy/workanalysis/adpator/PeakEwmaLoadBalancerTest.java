@@ -0,0 +1,139 @@
+package com.nhnacademy.workanalysis.adpator;
+
+import com.nhnacademy.workanalysis.adaptor.loadbalancer.InstanceLatencyTracker;
+import com.nhnacademy.workanalysis.adaptor.loadbalancer.PeakEwmaLoadBalancer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 인스턴스 목록으로 {@link PeakEwmaLoadBalancer}의 인스턴스 선택과
+ * {@link InstanceLatencyTracker}의 지연/진행 중 요청 추적을 검증합니다.
+ */
+class PeakEwmaLoadBalancerTest {
+
+    private static final String SERVICE_ID = "work-entry-service";
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", SERVICE_ID, "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", SERVICE_ID, "10.0.0.2", 8080, false);
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstanceLatencyTracker tracker;
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new InstanceLatencyTracker(meterRegistry, 10_000, 5_000, 600_000);
+        loadBalancer = new PeakEwmaLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast, slow),
+                SERVICE_ID, tracker);
+    }
+
+    @Test
+    @DisplayName("지연이 짧은 인스턴스를 선택하고 선택 횟수를 메트릭으로 기록")
+    void choose_shouldPreferFastInstance() {
+        for (int i = 0; i < 5; i++) {
+            complete(fast, 10, CompletionContext.Status.SUCCESS);
+            complete(slow, 200, CompletionContext.Status.SUCCESS);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose()).isEqualTo(fast);
+        }
+        assertThat(meterRegistry.get("loadbalancer.choices").tag("instance", "10.0.0.1:8080").counter().count())
+                .isEqualTo(50.0);
+        assertThat(meterRegistry.get("loadbalancer.instance.latency.ewma").tag("instance", "10.0.0.2:8080").gauge().value())
+                .isGreaterThan(100.0);
+    }
+
+    @Test
+    @DisplayName("빠른 인스턴스라도 진행 중 요청이 많으면 다른 인스턴스를 선택")
+    void choose_shouldAvoidOverloadedInstance() {
+        complete(fast, 10, CompletionContext.Status.SUCCESS);
+        complete(slow, 200, CompletionContext.Status.SUCCESS);
+        for (int i = 0; i < 30; i++) {
+            tracker.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(fast));
+        }
+
+        assertThat(choose()).isEqualTo(slow);
+        assertThat(meterRegistry.get("loadbalancer.instance.inflight").tag("instance", "10.0.0.1:8080").gauge().value())
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("평균보다 느린 응답은 즉시 반영(peak)되고, 실패는 패널티 지연으로 기록")
+    void tracker_shouldReactToPeaksAndFailures() {
+        for (int i = 0; i < 5; i++) {
+            complete(fast, 10, CompletionContext.Status.SUCCESS);
+        }
+        complete(fast, 300, CompletionContext.Status.SUCCESS);
+        assertThat(tracker.cost(fast)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(290));
+
+        complete(slow, 10, CompletionContext.Status.FAILED);
+        assertThat(tracker.cost(slow)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(4_900));
+    }
+
+    @Test
+    @DisplayName("현재 인스턴스 목록에서 빠진 인스턴스는 통계와 메트릭을 제거하고, 늦게 끝난 요청으로 다시 만들지 않음")
+    void choose_shouldEvictInstancesMissingFromList() {
+        complete(fast, 10, CompletionContext.Status.SUCCESS);
+        RequestDataContext context = new RequestDataContext();
+        DefaultRequest<Object> request = new DefaultRequest<>(context);
+        Response<ServiceInstance> response = new DefaultResponse(slow);
+        tracker.onStartRequest(request, response);
+        PeakEwmaLoadBalancer scaledIn = new PeakEwmaLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast),
+                SERVICE_ID, tracker);
+
+        assertThat(scaledIn.choose(new DefaultRequest<>(new RequestDataContext())).block().getServer()).isEqualTo(fast);
+        tracker.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+
+        assertThat(meterRegistry.find("loadbalancer.instance.latency.ewma").tag("instance", "10.0.0.2:8080").gauge()).isNull();
+        assertThat(meterRegistry.find("loadbalancer.instance.inflight").tag("instance", "10.0.0.2:8080").gauge()).isNull();
+        assertThat(meterRegistry.find("loadbalancer.instance.latency.ewma").tag("instance", "10.0.0.1:8080").gauge()).isNotNull();
+        assertThat(meterRegistry.get("loadbalancer.choices").tag("instance", "10.0.0.1:8080").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("진행 중 요청 없이 유휴 기간을 넘긴 인스턴스는 목록에 있어도 제거")
+    void retain_shouldEvictIdleInstances() throws InterruptedException {
+        InstanceLatencyTracker shortTtl = new InstanceLatencyTracker(meterRegistry, 10_000, 5_000, 1);
+        RequestDataContext context = new RequestDataContext();
+        shortTtl.onStartRequest(new DefaultRequest<>(context), new DefaultResponse(fast));
+        shortTtl.recordChoice(slow);
+        Thread.sleep(20);
+
+        shortTtl.retain(SERVICE_ID, List.of(fast, slow));
+
+        assertThat(meterRegistry.find("loadbalancer.choices").tag("instance", "10.0.0.2:8080").counter()).isNull();
+        assertThat(meterRegistry.find("loadbalancer.instance.latency.ewma").tag("instance", "10.0.0.2:8080").gauge()).isNull();
+        assertThat(meterRegistry.get("loadbalancer.instance.inflight").tag("instance", "10.0.0.1:8080").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    private ServiceInstance choose() {
+        Response<ServiceInstance> response = loadBalancer.choose(new DefaultRequest<>(new RequestDataContext())).block();
+        return response.getServer();
+    }
+
+    /**
+     * Feign 로드밸런서 클라이언트와 같은 순서로 라이프사이클을 호출하여 지정한 지연의 요청 한 건을 기록합니다.
+     */
+    private void complete(ServiceInstance instance, long latencyMs, CompletionContext.Status status) {
+        RequestDataContext context = new RequestDataContext();
+        DefaultRequest<Object> request = new DefaultRequest<>(context);
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        tracker.onStartRequest(request, response);
+        context.setRequestStartTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(latencyMs));
+        tracker.onComplete(new CompletionContext<>(status, request, response));
+    }
+}
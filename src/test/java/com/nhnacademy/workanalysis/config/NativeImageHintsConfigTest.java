@@ -0,0 +1,51 @@
+package com.nhnacademy.workanalysis.config;
+
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.dto.AiChatHistorySaveRequest;
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.entity.AiChatThread;
+import com.nhnacademy.workanalysis.entity.QAiChatHistory;
+import com.nhnacademy.workanalysis.timing.DbTimingSessionListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NativeImageHintsConfig.AnalysisRuntimeHints}가 native-image에 필요한 힌트를 등록하는지 검증합니다.
+ */
+class NativeImageHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("DTO, Q-타입과 엔티티, Feign 프록시, 세션 리스너, PDF 폰트 리소스, AWT JNI 힌트 등록")
+    void registerHints() {
+        new NativeImageHintsConfig.AnalysisRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(AiChatHistorySaveRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AttendanceSummaryDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(QAiChatHistory.class)
+                .withMemberCategory(MemberCategory.PUBLIC_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AiChatThread.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(MemberServiceClient.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(WorkEntryClient.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DbTimingSessionListener.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("font/NotoSansKR-Regular.ttf")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("com/lowagie/text/pdf/fonts/Helvetica.afm")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(MemberServiceClient.class, "getMemberInfoList")).accepts(hints);
+        assertThat(hints.jni().getTypeHint(TypeReference.of("java.awt.image.BufferedImage"))).isNotNull();
+        assertThat(hints.jni().getTypeHint(TypeReference.of("sun.font.FreetypeFontScaler"))).isNotNull();
+        assertThat(hints.jni().getTypeHint(TypeReference.of("sun.java2d.loops.GraphicsPrimitiveMgr"))
+                .getMemberCategories()).contains(MemberCategory.INVOKE_DECLARED_METHODS);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("sun.java2d.marlin.DMarlinRenderingEngine"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhnacademy.workanalysis.datagen;
+
+import com.nhnacademy.workanalysis.entity.AiChatThread;
+import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ChatDatasetGenerator}의 H2 적재와 {@link ChatQueryBenchmark}의 조회 측정을 작은 데이터로 검증합니다.
+ * <p>
+ * 적재 후 IDENTITY 재설정(DDL)이 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("datagen")
+@Import({ChatDatasetGenerator.class, ChatQueryBenchmark.class, ChatDatasetGeneratorTest.QueryDslTestConfig.class})
+@TestPropertySource(properties = {
+        "datagen.members=40",
+        "datagen.histories.max=150",
+        "datagen.ai-message.median-chars=300",
+        "datagen.batch-size=200",
+        "datagen.bench.samples=5",
+        "datagen.bench.measure-rounds=1"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatDatasetGeneratorTest {
+
+    @Autowired
+    private ChatDatasetGenerator generator;
+
+    @Autowired
+    private ChatQueryBenchmark benchmark;
+
+    @Autowired
+    private AiChatThreadRepository threadRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("합성 데이터를 적재하고 조회 경로별 측정 결과를 반환")
+    void generateAndBenchmark() {
+        ChatDatasetGenerator.Result result = generator.generate();
+
+        assertThat(result.threads()).isGreaterThanOrEqualTo(40);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ai_chat_thread", Long.class))
+                .isEqualTo(result.threads());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ai_chat_history", Long.class))
+                .isEqualTo(result.histories());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ai_chat_thread t WHERE t.message_count <> "
+                + "(SELECT COUNT(*) FROM ai_chat_history h WHERE h.thread_id = t.thread_id)", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT role FROM ai_chat_history", String.class))
+                .containsExactlyInAnyOrder("user", "ai");
+
+        // 식별자를 직접 넣은 뒤에도 JPA 저장이 충돌 없이 다음 ID를 받는지 확인
+        AiChatThread saved = threadRepository.save(AiChatThread.create(999L, "적재 후 생성"));
+        assertThat(saved.getThreadId()).isEqualTo(result.threads() + 1);
+
+        List<ChatQueryBenchmark.QueryStats> stats = benchmark.run();
+        assertThat(stats).hasSize(12);
+        assertThat(stats).allSatisfy(s -> assertThat(s.getCalls()).isPositive());
+        assertThat(stats)
+                .filteredOn(s -> s.getQuery().startsWith("history.findTop100"))
+                .allSatisfy(s -> assertThat(s.getAvgRows()).isBetween(1.0, 100.0));
+    }
+
+    @Test
+    @DisplayName("같은 난수 상태에서는 같은 분포와 본문을 생성하며 사원별 쓰레드 수가 편중됨")
+    void syntheticContent_isRepeatableAndSkewed() {
+        SyntheticChatContent content = new SyntheticChatContent(1.2, 2000, 8, 1.0, 600, 1200, 8000);
+
+        assertThat(content.aiMessage(new Random(7))).isEqualTo(content.aiMessage(new Random(7)));
+
+        Random random = new Random(1);
+        int[] counts = new int[10_000];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = content.threadCount(random);
+            total += counts[i];
+        }
+        long top1Percent = Arrays.stream(counts).boxed()
+                .sorted(Comparator.reverseOrder()).limit(100).mapToLong(Integer::longValue).sum();
+        assertThat(Arrays.stream(counts).min().orElseThrow()).isEqualTo(1);
+        assertThat((double) top1Percent / total).isGreaterThan(0.1);
+    }
+
+    @TestConfiguration
+    static class QueryDslTestConfig {
+
+        @PersistenceContext
+        private EntityManager em;
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory() {
+            return new JPAQueryFactory(em);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.nhnacademy.workanalysis.deadline;
+
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 처리 시한 결정({@link RequestDeadlineFilter})과 Feign 전파({@link DeadlineFeignInterceptor},
+ * {@link DeadlineFeignCapability})를 검증합니다.
+ */
+class RequestDeadlineTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(20_000, 25_000, 0, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("헤더 값을 우선 사용하되 최대값으로 제한하고, 없으면 엔드포인트 기본값 사용")
+    void resolveBudget() {
+        MockHttpServletRequest withHeader = new MockHttpServletRequest("POST", "/api/v1/analysis/reports");
+        withHeader.addHeader(RequestDeadline.HEADER, "5000");
+        MockHttpServletRequest tooLong = new MockHttpServletRequest("POST", "/api/v1/analysis/customs");
+        tooLong.addHeader(RequestDeadline.HEADER, "600000");
+
+        assertThat(filter.resolveBudget(withHeader)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(filter.resolveBudget(tooLong)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(filter.resolveBudget(new MockHttpServletRequest("POST", "/api/v1/analysis/reports")))
+                .isEqualTo(Duration.ofSeconds(20));
+        assertThat(filter.resolveBudget(new MockHttpServletRequest("GET", "/api/v1/analysis/histories/1")))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("헤더 값이 0 이하이면 시한 없음으로 처리하지 않고 바로 504로 거절, 헤더가 없을 때만 기본값 사용")
+    void nonPositiveHeader_shouldRejectImmediately() throws Exception {
+        for (String value : new String[]{"0", "-5"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/analysis/histories/1");
+            request.addHeader(RequestDeadline.HEADER, value);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, response, chain);
+
+            assertThat(response.getStatus()).as(value).isEqualTo(504);
+            assertThat(chain.getRequest()).as(value).isNull();
+        }
+
+        MockHttpServletRequest withoutHeader = new MockHttpServletRequest("GET", "/api/v1/analysis/histories/1");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(withoutHeader, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Feign 호출 타임아웃을 남은 시간 이하로 줄이고 남은 시간을 헤더로 전달")
+    void feign_shouldUseRemainingBudget() throws Exception {
+        RequestDeadline.start(Duration.ofMillis(800));
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        Client client = enrich((request, options) -> {
+            used.set(options);
+            return ok(request);
+        });
+
+        client.execute(request(), new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true));
+        RequestTemplate template = new RequestTemplate();
+        new DeadlineFeignInterceptor().apply(template);
+
+        assertThat(used.get().readTimeoutMillis()).isBetween(1, 800);
+        assertThat(used.get().connectTimeoutMillis()).isBetween(1, 800);
+        assertThat(Long.parseLong(template.headers().get(RequestDeadline.HEADER).iterator().next())).isBetween(1L, 800L);
+    }
+
+    @Test
+    @DisplayName("처리 시한이 지났으면 Feign 호출을 하지 않고, 호출 중 시한이 지나면 504 예외로 변환")
+    void feign_whenDeadlinePassed_shouldThrow() {
+        RequestDeadline.start(Duration.ZERO);
+        AtomicReference<Boolean> called = new AtomicReference<>(false);
+        Client client = enrich((request, options) -> {
+            called.set(true);
+            return ok(request);
+        });
+
+        assertThatThrownBy(() -> client.execute(request(), new Request.Options()))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(called.get()).isFalse();
+
+        RequestDeadline.start(Duration.ofMillis(50));
+        Client timingOut = enrich((request, options) -> {
+            sleep(100);
+            throw new SocketTimeoutException("Read timed out");
+        });
+        assertThatThrownBy(() -> timingOut.execute(request(), new Request.Options()))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("처리 시한이 없으면 타임아웃을 변경하지 않음")
+    void feign_withoutDeadline_shouldKeepOptions() throws Exception {
+        Request.Options original = new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        enrich((request, options) -> {
+            used.set(options);
+            return ok(request);
+        }).execute(request(), original);
+
+        assertThat(used.get()).isSameAs(original);
+    }
+
+    private static Client enrich(Client delegate) {
+        return new DeadlineFeignCapability().enrich(delegate);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://work-entry-service/api/v1/attendances/1/summary/recent",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Response ok(Request request) {
+        return Response.builder().status(200).request(request).headers(Map.of()).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nhnacademy.workanalysis.executor;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AsyncTimeoutInterceptor}의 시간 초과 계산과, 시간 초과 시 요청이 제출한 풀 작업의 취소를 검증합니다.
+ */
+class AsyncTimeoutInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WorkloadExecutors executors = new WorkloadExecutors(registry, 1, 4, 1, 4);
+    private final AsyncTimeoutInterceptor interceptor = new AsyncTimeoutInterceptor(Duration.ofSeconds(5), registry);
+
+    private MockHttpServletRequest request;
+    private StandardServletAsyncWebRequest asyncWebRequest;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("POST", "/api/v1/analysis/customs");
+        request.setAsyncSupported(true);
+        asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("처리 시한이 있으면 남은 시간에 여유 시간을 더한 만큼 기다리고, 없으면 기본 시간 초과를 유지")
+    void timeoutFollowsDeadline() {
+        RequestDeadline.start(Duration.ofSeconds(40));
+        interceptor.beforeConcurrentHandling(asyncWebRequest, new DeferredResult<>());
+        asyncWebRequest.startAsync();
+
+        assertThat(request.getAsyncContext().getTimeout()).isBetween(44_000L, 45_000L);
+
+        RequestDeadline.clear();
+        MockHttpServletRequest plain = new MockHttpServletRequest();
+        plain.setAsyncSupported(true);
+        StandardServletAsyncWebRequest plainAsync = new StandardServletAsyncWebRequest(plain, new MockHttpServletResponse());
+        plainAsync.setTimeout(120_000L);
+        interceptor.beforeConcurrentHandling(plainAsync, new DeferredResult<>());
+        plainAsync.startAsync();
+
+        assertThat(plain.getAsyncContext().getTimeout()).isEqualTo(120_000L);
+    }
+
+    @Test
+    @DisplayName("시간 초과되면 실행 중인 작업은 인터럽트하고 대기 중이거나 이후에 제출되는 작업은 실행하지 않음")
+    void timeoutCancelsRequestTasks() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        AtomicBoolean nestedRan = new AtomicBoolean();
+        CompletableFuture<Object> gemini = executors.supplyIo(() -> {
+            running.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            // 취소된 요청 안에서 이어서 제출하는 작업도 실행되지 않아야 함
+            return executors.supplyCpu(() -> nestedRan.getAndSet(true));
+        });
+        CompletableFuture<Boolean> queued = executors.supplyIo(() -> queuedRan.getAndSet(true));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(interceptor.handleTimeout(asyncWebRequest, new DeferredResult<>())).isTrue();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(gemini).isCancelled();
+        assertThat(queued).isCancelled();
+        Thread.sleep(200);
+        assertThat(queuedRan).isFalse();
+        assertThat(nestedRan).isFalse();
+        assertThat(registry.get("analysis.async.timeouts").counter().count()).isEqualTo(1.0);
+    }
+}
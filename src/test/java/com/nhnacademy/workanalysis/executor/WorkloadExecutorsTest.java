@@ -0,0 +1,102 @@
+package com.nhnacademy.workanalysis.executor;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import com.nhnacademy.workanalysis.timing.RequestTimings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link WorkloadExecutors}의 풀 분리, 요청 컨텍스트 전달, 포화 시 거절과 지표를 검증합니다.
+ */
+class WorkloadExecutorsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WorkloadExecutors executors = new WorkloadExecutors(registry, 1, 1, 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdown();
+        RequestDeadline.clear();
+        RequestTimings.clear();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("작업은 풀별 스레드에서 실행되고 제출한 요청의 처리 시한과 타이밍 컨텍스트를 이어받음")
+    void runsOnDedicatedPoolsWithRequestContext() {
+        RequestDeadline.start(Duration.ofSeconds(30));
+        RequestTimings.start();
+
+        String ioThread = executors.supplyIo(() -> {
+            assertThat(RequestDeadline.remaining()).isPresent();
+            RequestTimings.record("gemini", 2_000_000);
+            return Thread.currentThread().getName();
+        }).join();
+        String cpuThread = executors.supplyCpu(() -> {
+            RequestTimings.record("render", 3_000_000);
+            return Thread.currentThread().getName();
+        }).join();
+
+        assertThat(ioThread).startsWith(WorkloadExecutors.IO);
+        assertThat(cpuThread).startsWith(WorkloadExecutors.CPU);
+        assertThat(RequestTimings.header()).startsWith("gemini;dur=2.0;desc=\"1 call\", render;dur=3.0;desc=\"1 call\"");
+    }
+
+    @Test
+    @DisplayName("풀 스레드 작업은 제출한 요청의 MDC를 보고, 끝나면 풀 스레드의 MDC를 비움")
+    void propagatesMdcToPooledTask() {
+        MDC.put("traceId", "trace-123");
+
+        String seen = executors.supplyIo(() -> MDC.get("traceId")).join();
+        MDC.clear();
+        String leftover = executors.supplyIo(() -> MDC.get("traceId")).join();
+
+        assertThat(seen).isEqualTo("trace-123");
+        assertThat(leftover).isNull();
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 호출 스레드에서 실행하지 않고 거절")
+    void rejectsWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> busy = executors.supplyCpu(() -> {
+            running.countDown();
+            await(release);
+            return null;
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> queued = executors.supplyCpu(() -> null);
+
+        assertThatThrownBy(() -> executors.supplyCpu(() -> null)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(registry.get("executor.queued").tag("name", WorkloadExecutors.CPU).gauge().value()).isEqualTo(1);
+        assertThat(registry.get("analysis.executor.utilization").tag("pool", WorkloadExecutors.CPU).gauge().value())
+                .isEqualTo(1.0);
+        assertThat(registry.get("analysis.executor.utilization").tag("pool", WorkloadExecutors.IO).gauge().value())
+                .isZero();
+
+        release.countDown();
+        CompletableFuture.allOf(busy, queued).get(5, TimeUnit.SECONDS);
+        assertThat(registry.get("executor").tag("name", WorkloadExecutors.CPU).timer().count()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhnacademy.workanalysis.generator;
+
+import com.lowagie.text.pdf.BaseFont;
+import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link PdfReportGenerator}가 폰트를 한 번만 읽어 재사용하고 렌더링마다 임시 폰트 파일을 남기지 않는지 검증합니다.
+ * <p>
+ * 저장소에는 한글 폰트가 없으므로 시스템에 설치된 TrueType 폰트를 사용하며, 없으면 건너뜁니다.
+ * </p>
+ */
+class PdfReportGeneratorFontCacheTest {
+
+    private static final Path SYSTEM_FONT = Path.of("/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf");
+
+    @Test
+    @DisplayName("여러 번 생성해도 폰트는 한 번만 읽고 임시 폰트 파일을 만들지 않음")
+    void fontsLoadedOnce() throws Exception {
+        assumeTrue(Files.isReadable(SYSTEM_FONT), "시스템 TrueType 폰트가 없어 건너뜁니다.");
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.getResource(anyString())).thenReturn(new FileSystemResource(SYSTEM_FONT));
+        PdfReportGenerator generator = new PdfReportGenerator(resourceLoader, new PipelineMetrics(new SimpleMeterRegistry()));
+        AttendanceReportDto report = new AttendanceReportDto(Map.of(1L, 5L, 2L, 1L), "요약", 2025, 6);
+        long tempFontsBefore = countTempFonts();
+
+        BaseFont first = generator.loadFonts();
+        for (int i = 0; i < 3; i++) {
+            assertThat(generator.generateAttendancePdf(report, "홍길동", 2025, 6)).isNotEmpty();
+        }
+
+        assertThat(generator.loadFonts()).isSameAs(first);
+        verify(resourceLoader, times(1)).getResource(anyString());
+        assertThat(countTempFonts()).isEqualTo(tempFontsBefore);
+    }
+
+    private static long countTempFonts() throws Exception {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.map(Path::getFileName).map(Path::toString)
+                    .filter(name -> name.startsWith("tempFont") && name.endsWith(".ttf"))
+                    .count();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.nhnacademy.workanalysis.generator;
 
 import com.nhnacademy.workanalysis.dto.report.AttendanceReportDto;
 import com.nhnacademy.workanalysis.exception.PdfReportGenerationException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +24,7 @@ class PdfReportGeneratorTest {
     private ResourceLoader resourceLoader;
     @BeforeEach
     void setUp() {
-        generator = new PdfReportGenerator(resourceLoader);
+        generator = new PdfReportGenerator(resourceLoader, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
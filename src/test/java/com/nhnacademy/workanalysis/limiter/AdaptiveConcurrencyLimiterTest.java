@@ -0,0 +1,76 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter}의 한도 초과 거절, 우선순위 양보, 지표를 검증합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("한도만큼만 받고 초과 요청은 거절, 반납하면 다시 받음")
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1000);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, EndpointGroup.REPORT, 4);
+
+        assertThat(permits).doesNotContainNull();
+        assertThat(limiter.tryAcquire(EndpointGroup.REPORT)).isNull();
+        assertThat(registry.get("analysis.concurrency.inflight").tag("group", "report").gauge().value()).isEqualTo(4);
+
+        permits.get(0).release();
+        permits.get(0).release();
+        assertThat(limiter.tryAcquire(EndpointGroup.REPORT)).isNotNull();
+        assertThat(rejected("report", AdaptiveConcurrencyLimiter.REASON_LIMIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대화가 한도에 도달하면 PDF는 양보 비율만큼만 받고, 반대로 PDF 포화는 대화에 영향 없음")
+    void lowerPriorityYieldsWhileChatIsSaturated() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 50);
+        acquire(limiter, EndpointGroup.PDF, 4);
+        assertThat(limiter.tryAcquire(EndpointGroup.CHAT)).isNotNull();
+
+        AdaptiveConcurrencyLimiter fresh = limiter(4, 50);
+        List<AdaptiveConcurrencyLimiter.Permit> chats = acquire(fresh, EndpointGroup.CHAT, 4);
+        assertThat(fresh.tryAcquire(EndpointGroup.PDF)).isNotNull();
+        assertThat(fresh.tryAcquire(EndpointGroup.PDF)).isNull();
+        assertThat(rejected("pdf", AdaptiveConcurrencyLimiter.REASON_PRIORITY)).isEqualTo(1);
+
+        chats.forEach(AdaptiveConcurrencyLimiter.Permit::release);
+        Thread.sleep(60);
+        assertThat(fresh.tryAcquire(EndpointGroup.PDF)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Retry-After는 평균 응답 시간을 올림하되 최소 1초")
+    void retryAfterFollowsLatency() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1000);
+        assertThat(limiter.retryAfterSeconds(EndpointGroup.CHAT)).isEqualTo(1);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, long saturationHoldMs) {
+        return new AdaptiveConcurrencyLimiter(registry, initialLimit, 1, 100, 1000, 10, saturationHoldMs,
+                0.5, 0.25, 1, 30);
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(AdaptiveConcurrencyLimiter limiter, EndpointGroup group, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire(group));
+        }
+        return permits;
+    }
+
+    private double rejected(String group, String reason) {
+        return registry.get("analysis.concurrency.rejected").tag("group", group).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ConcurrencyLimitFilter}의 거절 응답과 비동기 요청의 자리 반납 시점을 검증합니다.
+ */
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(),
+            1, 1, 10, 1000, 10, 1000, 0.5, 0.25, 1, 30);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter);
+
+    @Test
+    @DisplayName("자리가 없으면 컨트롤러를 거치지 않고 503과 Retry-After로 응답")
+    void shedsWith503AndRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire(EndpointGroup.PDF);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/analysis/reports/pdf"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+
+        held.release();
+        MockHttpServletResponse ok = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/analysis/reports/pdf"), ok, new MockFilterChain());
+        assertThat(ok.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("한도 대상이 아닌 요청은 그대로 통과")
+    void ignoresOtherEndpoints() throws Exception {
+        limiter.tryAcquire(EndpointGroup.REPORT);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/analysis/histories/1"), response, new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/analysis/reports"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 비동기 처리가 끝날 때 자리를 반납")
+    void releasesAsyncRequestsOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/analysis/customs");
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.startAsync();
+            }
+        }));
+
+        assertThat(limiter.tryAcquire(EndpointGroup.CHAT)).isNull();
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(limiter.tryAcquire(EndpointGroup.CHAT)).isNotNull();
+    }
+}
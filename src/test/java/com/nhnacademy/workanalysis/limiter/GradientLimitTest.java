@@ -0,0 +1,83 @@
+package com.nhnacademy.workanalysis.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GradientLimit}의 한도 조정 방향을 검증합니다. 구간은 표본 1건으로 두어 표본마다 갱신되게 합니다.
+ */
+class GradientLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    private long now = System.nanoTime();
+
+    @Test
+    @DisplayName("응답 시간이 일정하고 한도 가까이 사용 중이면 한도 증가")
+    void growsWhileLatencyIsStable() {
+        GradientLimit limit = new GradientLimit(20, 2, 200, 0, 1);
+        feed(limit, 30, 100 * MS, 20);
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 장기 평균보다 크게 늘면 한도 감소")
+    void shrinksWhenLatencyRises() {
+        GradientLimit limit = new GradientLimit(20, 2, 200, 0, 1);
+        feed(limit, 10, 100 * MS, 20);
+        int before = limit.getLimit();
+
+        feed(limit, 3, 400 * MS, before);
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("동시 처리 수가 한도의 절반에 못 미치면 한도를 올리지 않음")
+    void doesNotGrowWhenUnderused() {
+        GradientLimit limit = new GradientLimit(20, 2, 200, 0, 1);
+        feed(limit, 30, 100 * MS, 3);
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("빠른 요청이 섞여 있어도 나머지 요청이 대기로 느려지면 구간 평균이 늘어 한도 감소")
+    void fastSamplesDoNotHideQueueing() {
+        GradientLimit limit = new GradientLimit(20, 2, 200, 0, 5);
+        for (int window = 0; window < 10; window++) {
+            feed(limit, 3, 5 * MS, 20);
+            feed(limit, 2, 100 * MS, 20);
+        }
+        int before = limit.getLimit();
+
+        // 캐시 적중처럼 빠른 요청은 그대로이고 Gemini를 거치는 요청만 대기열 때문에 4배 느려짐
+        for (int window = 0; window < 3; window++) {
+            feed(limit, 3, 5 * MS, before);
+            feed(limit, 2, 400 * MS, before);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("최소/최대 한도를 벗어나지 않음")
+    void staysWithinBounds() {
+        GradientLimit limit = new GradientLimit(10, 8, 12, 0, 1);
+        feed(limit, 50, 100 * MS, 12);
+        assertThat(limit.getLimit()).isEqualTo(12);
+
+        feed(limit, 12, 5_000 * MS, 12);
+        assertThat(limit.getLimit()).isEqualTo(8);
+    }
+
+    private void feed(GradientLimit limit, int samples, long rttNanos, int inflight) {
+        for (int i = 0; i < samples; i++) {
+            now += 10 * MS;
+            limit.onSample(rttNanos, inflight, now);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 서비스가 호출하는 외부 의존성(member-service, work-entry-service, Gemini API)의 로컬 스텁 묶음입니다.
+ * <p>
+ * 응답 본문은 사원 번호를 시드로 만든 결정적인 데이터이므로 같은 설정이면 매번 같은 입력으로 부하를 줍니다.
+ * 출결 요약은 {@link LoadTestSettings#targetMonth}의 평일마다 한 건씩이며, 대부분 출근이고 지각/외근/연차 등이 섞입니다.
+ * </p>
+ */
+final class DependencyStubs implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Pattern MEMBER_PATH = Pattern.compile("^/api/v1/members/(\\d+)(\\?.*)?$");
+    private static final Pattern SUMMARY_PATH = Pattern.compile("^/api/v1/attendances/(\\d+)/summary/recent(\\?.*)?$");
+    private static final Pattern GEMINI_PATH = Pattern.compile("^/v1beta/models/[^/:]+:generateContent(\\?.*)?$");
+    private static final long[] WEIGHTED_CODES = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 2, 2, 4, 4, 5, 6, 7, 3};
+
+    final StubDependency memberService;
+    final StubDependency workEntryService;
+    final StubDependency gemini;
+
+    private DependencyStubs(LoadTestSettings settings) {
+        this.memberService = new StubDependency("member-service", settings.memberLatency,
+                settings.memberErrorRate, 500, DependencyStubs::member);
+        this.workEntryService = new StubDependency("work-entry-service", settings.workEntryLatency,
+                settings.workEntryErrorRate, 500, request -> attendanceSummary(request, settings.targetMonth));
+        this.gemini = new StubDependency("gemini", settings.geminiLatency,
+                settings.geminiErrorRate, 503, DependencyStubs::geminiCompletion);
+    }
+
+    /**
+     * 세 스텁을 모두 시작합니다.
+     *
+     * @param settings 부하 테스트 설정
+     * @return 시작된 스텁 묶음
+     * @throws IOException 포트 바인딩 실패 시
+     */
+    static DependencyStubs start(LoadTestSettings settings) throws IOException {
+        DependencyStubs stubs = new DependencyStubs(settings);
+        stubs.memberService.start();
+        stubs.workEntryService.start();
+        stubs.gemini.start();
+        return stubs;
+    }
+
+    /**
+     * @return Gemini 클라이언트가 사용할 베이스 URL ({@code gemini.api.base-url})
+     */
+    String geminiBaseUrl() {
+        return gemini.baseUrl() + "/v1beta";
+    }
+
+    List<StubDependency> all() {
+        return List.of(memberService, workEntryService, gemini);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (StubDependency stub : all()) {
+            stub.close();
+        }
+    }
+
+    private static MockResponse member(RecordedRequest request) {
+        Matcher matcher = MEMBER_PATH.matcher(request.getPath());
+        if (!"GET".equals(request.getMethod()) || !matcher.matches()) {
+            return null;
+        }
+        long mbNo = Long.parseLong(matcher.group(1));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mbNo", mbNo);
+        body.put("name", "사원" + mbNo);
+        body.put("email", "member" + mbNo + "@example.com");
+        body.put("phoneNumber", String.format("010-%04d-%04d", mbNo % 10000, (mbNo * 7) % 10000));
+        body.put("roleName", mbNo % 20 == 0 ? "ROLE_ADMIN" : "ROLE_USER");
+        return json(body);
+    }
+
+    private static MockResponse attendanceSummary(RecordedRequest request, YearMonth month) {
+        Matcher matcher = SUMMARY_PATH.matcher(request.getPath());
+        if (!"GET".equals(request.getMethod()) || !matcher.matches()) {
+            return null;
+        }
+        long mbNo = Long.parseLong(matcher.group(1));
+        Random random = new Random(mbNo * 31 + month.hashCode());
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            content.add(summary(date, WEIGHTED_CODES[random.nextInt(WEIGHTED_CODES.length)], random));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("content", content);
+        body.put("totalPages", 1);
+        body.put("totalElements", content.size());
+        body.put("size", content.size());
+        body.put("number", 0);
+        return json(body);
+    }
+
+    private static Map<String, Object> summary(LocalDate date, long code, Random random) {
+        String in = null;
+        String out = null;
+        int hours = 0;
+        if (code == 1 || code == 2 || code == 4 || code == 7) {
+            int inHour = code == 7 ? 13 : code == 2 ? 9 : 8;
+            int inMinute = code == 2 ? 5 + random.nextInt(50) : 30 + random.nextInt(25);
+            in = date.atTime(inHour, inMinute).format(DATE_TIME);
+            out = date.atTime(18, random.nextInt(60)).format(DATE_TIME);
+            hours = 18 - inHour;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("year", date.getYear());
+        summary.put("monthValue", date.getMonthValue());
+        summary.put("dayOfMonth", date.getDayOfMonth());
+        summary.put("hoursWorked", hours);
+        summary.put("inTime", in);
+        summary.put("outTime", out);
+        summary.put("code", code);
+        return summary;
+    }
+
+    /**
+     * 프롬프트 길이에 비례하는 분석 텍스트와 토큰 사용량을 담은 generateContent 응답을 만듭니다.
+     */
+    private static MockResponse geminiCompletion(RecordedRequest request) {
+        if (!"POST".equals(request.getMethod()) || !GEMINI_PATH.matcher(request.getPath()).matches()) {
+            return null;
+        }
+        int promptChars = (int) request.getBodySize();
+        int paragraphs = Math.max(3, Math.min(40, promptChars / 200));
+        StringBuilder text = new StringBuilder("## 근태 분석 요약\n\n");
+        for (int i = 1; i <= paragraphs; i++) {
+            text.append("- 항목 ").append(i)
+                    .append(": 출퇴근 패턴이 이전 기간과 비교해 안정적이며 특이 사항은 없습니다.\n");
+        }
+        text.append("\n### 종합 의견\n지각과 결근 빈도를 고려할 때 전반적인 근태는 양호합니다.\n");
+
+        int promptTokens = Math.max(1, promptChars / 4);
+        int candidateTokens = text.length() / 2;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", text.toString()))),
+                "finishReason", "STOP",
+                "index", 0)));
+        body.put("usageMetadata", Map.of(
+                "promptTokenCount", promptTokens,
+                "candidatesTokenCount", candidateTokens,
+                "totalTokenCount", promptTokens + candidateTokens));
+        body.put("modelVersion", "gemini-2.0-flash");
+        return json(body);
+    }
+
+    private static MockResponse json(Object body) {
+        try {
+            return new MockResponse()
+                    .addHeader("Content-Type", "application/json; charset=utf-8")
+                    .setBody(MAPPER.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스텁 응답 직렬화 실패", e);
+        }
+    }
+}
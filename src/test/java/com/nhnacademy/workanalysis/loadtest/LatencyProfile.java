@@ -0,0 +1,61 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import java.util.Random;
+
+/**
+ * 스텁 의존성의 응답 지연 분포입니다.
+ * <p>
+ * 실제 원격 호출 지연처럼 오른쪽 꼬리가 긴 로그정규분포를 사용하며, 중앙값과 p99 두 값으로 분포를 정합니다.
+ * 극단값이 테스트 전체를 멈추지 않도록 샘플은 p99의 5배에서 자릅니다.
+ * </p>
+ */
+final class LatencyProfile {
+
+    /**
+     * 표준정규분포의 99백분위수 (z<sub>0.99</sub>)
+     */
+    private static final double Z_99 = 2.3263;
+
+    private final double medianMs;
+    private final double p99Ms;
+    private final double sigma;
+
+    LatencyProfile(double medianMs, double p99Ms) {
+        if (medianMs < 0 || p99Ms < medianMs) {
+            throw new IllegalArgumentException("지연 분포는 0 <= median <= p99 이어야 합니다: " + medianMs + "/" + p99Ms);
+        }
+        this.medianMs = medianMs;
+        this.p99Ms = p99Ms;
+        this.sigma = medianMs == 0 || p99Ms == medianMs ? 0 : Math.log(p99Ms / medianMs) / Z_99;
+    }
+
+    /**
+     * {@code "중앙값/p99"} 형식(밀리초)의 문자열을 해석합니다. 예: {@code "40/250"}
+     *
+     * @param spec 지연 분포 문자열
+     * @return 지연 분포
+     */
+    static LatencyProfile parse(String spec) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("지연 분포는 '중앙값/p99' 형식이어야 합니다: " + spec);
+        }
+        return new LatencyProfile(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+    }
+
+    /**
+     * 분포에서 지연 시간 하나를 뽑습니다.
+     *
+     * @param random 난수 생성기
+     * @return 지연 시간(ms)
+     */
+    long sampleMillis(Random random) {
+        double sample = medianMs * Math.exp(sigma * random.nextGaussian());
+        return Math.round(Math.min(sample, p99Ms * 5));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50=%.0fms p99=%.0fms", medianMs, p99Ms);
+    }
+}
@@ -0,0 +1,207 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * 목표 RPS로 혼합 작업을 보내는 개방형(open-loop) 부하 생성기입니다.
+ * <p>
+ * 요청은 응답을 기다리지 않고 {@code 1 / rps} 간격의 예정 시각마다 비동기로 보내며, 지연은 예정 시각부터 잰다.
+ * 응답이 느려져도 요청 속도가 떨어지지 않으므로 닫힌 루프 측정에서 생기는 조정된 누락(coordinated omission)이 없습니다.
+ * 작업은 {@link LoadTestSettings#mix} 가중치에 따라 고정 시드 난수로 고르므로 같은 설정이면 같은 요청 순서가 재현됩니다.
+ * </p>
+ */
+@Slf4j
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(90);
+    private static final long SEED = 20250531L;
+    private static final String[] QUESTIONS = {
+            "이번 달 지각이 잦은 요일이 있나요?",
+            "최근 근무 시간이 평균보다 많은지 알려주세요.",
+            "연차 사용 패턴을 요약해 주세요.",
+            "외근이 많은 주는 언제였나요?",
+            "출근 시간이 가장 늦었던 날과 이유를 추정해 주세요.",
+            "다음 달 근태 관리를 위한 조언을 해주세요.",
+    };
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(executor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, BiFunction<Random, Long, HttpRequest>> operations = new LinkedHashMap<>();
+    private final long[] threadIds;
+
+    LoadDriver(String baseUrl, LoadTestSettings settings) {
+        this.baseUrl = baseUrl + "/api/v1/analysis";
+        this.settings = settings;
+        this.threadIds = new long[settings.members + 1];
+
+        YearMonth month = settings.targetMonth;
+        operations.put("chat", (random, mbNo) -> post("/customs", Map.of(
+                "memberNo", mbNo,
+                "threadId", threadIds[mbNo.intValue()],
+                "useAi", true,
+                "messages", List.of(Map.of("role", "user", "content", question(random, mbNo))))));
+        operations.put("report", (random, mbNo) -> post("/reports", Map.of(
+                "mbNo", mbNo,
+                "year", month.getYear(),
+                "month", month.getMonthValue(),
+                "statusCodes", List.of("1", "2", "3", "4", "5", "6", "7", "8"),
+                "useAi", random.nextBoolean())));
+        operations.put("pdf", (random, mbNo) -> get(String.format("/reports/pdf?mbNo=%d&year=%d&month=%d",
+                mbNo, month.getYear(), month.getMonthValue())));
+        operations.put("history-read", (random, mbNo) -> get("/histories/" + threadIds[mbNo.intValue()]));
+        operations.put("history-write", (random, mbNo) -> post("/histories", Map.of(
+                "threadId", threadIds[mbNo.intValue()],
+                "role", random.nextBoolean() ? "user" : "model",
+                "content", question(random, mbNo))));
+        operations.put("thread-list", (random, mbNo) -> get("/members/" + mbNo + "/threads"));
+        operations.put("thread-update", (random, mbNo) -> request("/threads/" + threadIds[mbNo.intValue()])
+                .PUT(body(Map.of("title", "부하 테스트 대화 " + random.nextInt(1000))))
+                .build());
+
+        for (String name : settings.mix.keySet()) {
+            if (!operations.containsKey(name)) {
+                throw new IllegalArgumentException("알 수 없는 작업: " + name + " (가능: " + operations.keySet() + ")");
+            }
+        }
+    }
+
+    /**
+     * 사원마다 대화 쓰레드를 하나씩 만들어 히스토리/쓰레드 작업이 사용할 수 있게 합니다.
+     *
+     * @throws IOException 쓰레드 생성 요청 실패 시
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    void prepare() throws IOException, InterruptedException {
+        for (long mbNo = 1; mbNo <= settings.members; mbNo++) {
+            HttpResponse<String> response = client.send(
+                    post("/threads", Map.of("mbNo", mbNo, "title", "부하 테스트 대화")),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("쓰레드 생성 실패: status=" + response.statusCode() + " body=" + response.body());
+            }
+            JsonNode thread = mapper.readTree(response.body());
+            threadIds[(int) mbNo] = thread.path("threadId").asLong();
+        }
+        log.info("🧪 부하 테스트 준비 완료 - 사원 {}명의 쓰레드 생성", settings.members);
+    }
+
+    /**
+     * 워밍업 구간을 포함해 부하를 보내고, 워밍업 이후 예정된 요청만 결과에 기록합니다.
+     * 측정 구간이 끝나면 남은 응답을 요청 타임아웃까지 기다립니다.
+     *
+     * @return 측정 결과
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    LoadReport run() throws InterruptedException {
+        LoadReport report = new LoadReport();
+        Random random = new Random(SEED);
+        String[] weighted = weightedOperations();
+        long intervalNanos = (long) (1_000_000_000L / settings.rps);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long endNanos = warmupNanos + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long offset = i * intervalNanos;
+            if (offset >= endNanos) {
+                break;
+            }
+            long intended = start + offset;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            String operation = weighted[random.nextInt(weighted.length)];
+            long mbNo = 1 + random.nextInt(settings.members);
+            HttpRequest request = operations.get(operation).apply(random, mbNo);
+            boolean measured = offset >= warmupNanos;
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (measured) {
+                            report.record(operation, System.nanoTime() - intended,
+                                    error == null ? response.statusCode() : 0);
+                        }
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .get(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("⚠️ 제한 시간 내에 끝나지 않은 요청이 있습니다: {}", e.toString());
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private String[] weightedOperations() {
+        List<String> weighted = new ArrayList<>();
+        settings.mix.forEach((name, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(name);
+            }
+        });
+        return weighted.toArray(String[]::new);
+    }
+
+    private static String question(Random random, long mbNo) {
+        String question = QUESTIONS[random.nextInt(QUESTIONS.length)];
+        // 절반은 사원별로 달라지는 질문이라 응답 캐시에 걸리지 않습니다.
+        return random.nextBoolean() ? question : "사원 " + mbNo + " 기준으로, " + question;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object payload) {
+        return request(path).POST(body(payload)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("요청 본문 직렬화 실패", e);
+        }
+    }
+}
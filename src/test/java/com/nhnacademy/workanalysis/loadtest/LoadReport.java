@@ -0,0 +1,109 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업별 응답 지연과 결과 상태를 모아 처리량, 백분위 지연, 오류율을 계산합니다.
+ * <p>
+ * 지연은 요청을 보내기로 예정했던 시각부터 응답을 받은 시각까지이므로(개방형 부하),
+ * 서버가 밀려 요청이 늦게 나간 시간도 지연에 포함됩니다. 백분위는 원본 샘플을 정렬해 nearest-rank 방식으로 구합니다.
+ * </p>
+ */
+final class LoadReport {
+
+    /**
+     * 전체 합계 행 이름
+     */
+    static final String TOTAL = "TOTAL";
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * 응답 하나를 기록합니다.
+     *
+     * @param operation 작업 이름
+     * @param latencyNanos 예정 시각 기준 지연(ns)
+     * @param status HTTP 상태 코드, 연결 실패나 타임아웃은 0
+     */
+    void record(String operation, long latencyNanos, int status) {
+        samples.computeIfAbsent(operation, k -> new Samples()).add(latencyNanos, status);
+        samples.computeIfAbsent(TOTAL, k -> new Samples()).add(latencyNanos, status);
+    }
+
+    /**
+     * 측정 구간 길이로 나눈 처리량을 포함해 표 형식으로 결과를 만듭니다.
+     *
+     * @param measuredSeconds 측정 구간 길이(초)
+     * @return 작업별 결과 표
+     */
+    String format(double measuredSeconds) {
+        StringBuilder out = new StringBuilder(String.format("%-14s %8s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "rps", "error%", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "status"));
+        new TreeMap<>(samples).forEach((operation, s) -> {
+            if (!TOTAL.equals(operation)) {
+                out.append(s.format(operation, measuredSeconds));
+            }
+        });
+        Samples total = samples.get(TOTAL);
+        if (total != null) {
+            out.append(total.format(TOTAL, measuredSeconds));
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param operation 작업 이름
+     * @return 기록된 응답 수
+     */
+    long count(String operation) {
+        Samples s = samples.get(operation);
+        return s == null ? 0 : s.snapshot().length;
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        synchronized void add(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(latencies, size);
+        }
+
+        synchronized String format(String operation, double measuredSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return String.format("%-14s %8d %9.2f %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    operation, size, size / measuredSeconds, size == 0 ? 0 : errors * 100.0 / size,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 99)),
+                    millis(percentile(sorted, 99.9)), millis(size == 0 ? 0 : sorted[size - 1]), statuses);
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. 모든 값은 {@code -Dloadtest.*} 시스템 속성으로 바꿀 수 있습니다.
+ *
+ * <pre>
+ * loadtest.rps                  목표 초당 요청 수 (기본 20)
+ * loadtest.duration-seconds     측정 구간 길이 (기본 60)
+ * loadtest.warmup-seconds       측정에서 제외할 앞부분 (기본 10)
+ * loadtest.members              요청에 사용할 사원 수 (기본 200)
+ * loadtest.mix                  작업별 가중치 (기본 chat:30,report:15,pdf:5,history-read:20,history-write:15,thread-list:10,thread-update:5)
+ * loadtest.member.latency       member-service 지연 "중앙값/p99"(ms) (기본 15/80)
+ * loadtest.member.error-rate    member-service 오류율 (기본 0)
+ * loadtest.work-entry.latency   work-entry-service 지연 (기본 40/250)
+ * loadtest.work-entry.error-rate work-entry-service 오류율 (기본 0)
+ * loadtest.gemini.latency       Gemini 지연 (기본 1200/6000)
+ * loadtest.gemini.error-rate    Gemini 오류율 (기본 0.02, 503 응답)
+ * loadtest.report-dir           결과 파일 디렉터리 (기본 target/loadtest)
+ * </pre>
+ */
+final class LoadTestSettings {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String DEFAULT_MIX =
+            "chat:30,report:15,pdf:5,history-read:20,history-write:15,thread-list:10,thread-update:5";
+
+    final double rps = doubleProp("rps", 20);
+    final int durationSeconds = intProp("duration-seconds", 60);
+    final int warmupSeconds = intProp("warmup-seconds", 10);
+    final int members = intProp("members", 200);
+    final Map<String, Integer> mix = parseMix(prop("mix", DEFAULT_MIX));
+    final LatencyProfile memberLatency = LatencyProfile.parse(prop("member.latency", "15/80"));
+    final double memberErrorRate = doubleProp("member.error-rate", 0);
+    final LatencyProfile workEntryLatency = LatencyProfile.parse(prop("work-entry.latency", "40/250"));
+    final double workEntryErrorRate = doubleProp("work-entry.error-rate", 0);
+    final LatencyProfile geminiLatency = LatencyProfile.parse(prop("gemini.latency", "1200/6000"));
+    final double geminiErrorRate = doubleProp("gemini.error-rate", 0.02);
+    final String reportDir = prop("report-dir", "target/loadtest");
+
+    /**
+     * 스텁이 출결 데이터를 돌려주고 리포트/PDF 요청이 조회하는 연월 (지난달)
+     */
+    final YearMonth targetMonth = YearMonth.now().minusMonths(1);
+
+    private static String prop(String key, String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static int intProp(String key, int defaultValue) {
+        return Integer.parseInt(prop(key, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProp(String key, double defaultValue) {
+        return Double.parseDouble(prop(key, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] kv = entry.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("작업 비율은 '이름:가중치' 목록이어야 합니다: " + spec);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                weights.put(kv[0].trim(), weight);
+            }
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rps=%.1f duration=%ds warmup=%ds members=%d month=%s mix=%s%n"
+                        + "member-service(%s, error=%.3f) work-entry-service(%s, error=%.3f) gemini(%s, error=%.3f)",
+                rps, durationSeconds, warmupSeconds, members, targetMonth, mix,
+                memberLatency, memberErrorRate, workEntryLatency, workEntryErrorRate, geminiLatency, geminiErrorRate);
+    }
+}
@@ -0,0 +1,183 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.startup.ApplicationProcess;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * native-image 바이너리(또는 비교용 JVM jar)를 로컬 스텁과 함께 띄우고 주요 API를 한 번씩 호출하는 스모크 테스트입니다.
+ * <p>
+ * 리플렉션/프록시/리소스 힌트가 빠지면 JVM에서는 통과하고 native에서만 실패하므로,
+ * Jackson 바인딩, Feign 호출, QueryDSL 조회, Gemini 응답 파싱, PDF 생성 경로를 모두 거치도록 구성했습니다.
+ * 일반 빌드에서는 실행되지 않습니다.
+ * </p>
+ * <pre>
+ * ./mvnw -Pnative native:compile
+ * ./mvnw test -Dtest=NativeSmokeTest -Dsmoke=true                  # target/work-analysis
+ * ./mvnw test -Dtest=NativeSmokeTest -Dsmoke=true -Dsmoke.target=jvm -Dsmoke.jar=target/work-analysis-0.0.1-SNAPSHOT.jar
+ * </pre>
+ * 스텁 지연/오류율은 {@link LoadTestSettings}의 {@code loadtest.*} 속성을 따르되, 기본값은 지연 없이 오류 0으로 둡니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "smoke", matches = "true")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeSmokeTest {
+
+    static {
+        for (String stub : List.of("member", "work-entry", "gemini")) {
+            System.getProperties().putIfAbsent("loadtest." + stub + ".latency", "1/5");
+            System.getProperties().putIfAbsent("loadtest." + stub + ".error-rate", "0");
+        }
+    }
+
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings();
+    private static final long MB_NO = 7L;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private static DependencyStubs stubs;
+    private static ApplicationProcess app;
+    private static long threadId;
+
+    @BeforeAll
+    static void start() throws Exception {
+        stubs = DependencyStubs.start(SETTINGS);
+        String target = System.getProperty("smoke.target", "native");
+        List<String> launcher = "jvm".equals(target)
+                ? ApplicationProcess.jvm(Path.of(System.getProperty("smoke.jar",
+                "target/work-analysis-0.0.1-SNAPSHOT.jar")), List.of())
+                : List.of(System.getProperty("smoke.native-binary", "target/work-analysis"),
+                "--spring.profiles.active=native");
+        app = ApplicationProcess.start(target, launcher, List.of(
+                "--spring.cloud.discovery.client.simple.instances.member-service[0].uri=" + stubs.memberService.baseUrl(),
+                "--spring.cloud.discovery.client.simple.instances.work-entry-service[0].uri=" + stubs.workEntryService.baseUrl(),
+                "--gemini.api.base-url=" + stubs.geminiBaseUrl(),
+                "--gemini.api.key=smoke-test-key"), Duration.ofSeconds(120));
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (app != null) {
+            log.info("📊 스모크 테스트 후 RSS {}KB (준비 {}ms)", app.rssKb(), String.format("%.0f", app.readyMillis()));
+            app.close();
+        }
+        if (stubs != null) {
+            stubs.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("쓰레드 생성, 제목 변경, 사원별 목록 조회")
+    void threads() throws Exception {
+        HttpResponse<String> created = send("POST", "/api/v1/analysis/threads", Map.of("mbNo", MB_NO, "title", "스모크 테스트"));
+        assertThat(created.statusCode()).isEqualTo(200);
+        threadId = MAPPER.readTree(created.body()).path("threadId").asLong();
+        assertThat(threadId).isPositive();
+
+        assertThat(send("PUT", "/api/v1/analysis/threads/" + threadId, Map.of("title", "스모크 테스트 (수정)")).statusCode())
+                .isEqualTo(200);
+
+        JsonNode threads = MAPPER.readTree(send("GET", "/api/v1/analysis/members/" + MB_NO + "/threads", null).body());
+        assertThat(threads.findValuesAsText("title")).contains("스모크 테스트 (수정)");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("히스토리 저장 후 한글 본문 그대로 조회")
+    void histories() throws Exception {
+        HttpResponse<String> saved = send("POST", "/api/v1/analysis/histories",
+                Map.of("threadId", threadId, "role", "user", "content", "지난달 지각 횟수를 알려줘"));
+        assertThat(saved.statusCode()).isEqualTo(200);
+
+        JsonNode histories = MAPPER.readTree(send("GET", "/api/v1/analysis/histories/" + threadId, null).body());
+        assertThat(histories.findValuesAsText("content")).contains("지난달 지각 횟수를 알려줘");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("AI 대화: member-service, work-entry-service, Gemini 스텁 호출 후 응답 파싱")
+    void chat() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/v1/analysis/customs", Map.of(
+                "memberNo", MB_NO,
+                "threadId", threadId,
+                "useAi", true,
+                "messages", List.of(Map.of("role", "user", "content", "이번 달 근태를 요약해줘"))));
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(MAPPER.readTree(response.body()).path("fullText").asText()).contains("근태 분석 요약");
+        assertThat(stubs.gemini.served()).isPositive();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("월간 리포트 생성")
+    void report() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/v1/analysis/reports", Map.of(
+                "mbNo", MB_NO,
+                "year", SETTINGS.targetMonth.getYear(),
+                "month", SETTINGS.targetMonth.getMonthValue(),
+                "statusCodes", List.of("1", "2", "3", "4", "5", "6", "7", "8"),
+                "useAi", true));
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(MAPPER.readTree(response.body()).path("fullText").asText()).isNotBlank();
+        assertThat(stubs.workEntryService.served()).isPositive();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("PDF 리포트: 한글 폰트와 AWT 차트 렌더링")
+    void pdf() throws Exception {
+        assumeTrue(Files.exists(Path.of("src/main/resources/font/NotoSansKR-Regular.ttf")),
+                "한글 폰트가 없어 PDF 생성을 건너뜀");
+        HttpResponse<byte[]> response = HTTP.send(request("GET", String.format("/api/v1/analysis/reports/pdf?mbNo=%d&year=%d&month=%d",
+                        MB_NO, SETTINGS.targetMonth.getYear(), SETTINGS.targetMonth.getMonthValue()), null),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(new String(response.body(), 0, 5)).isEqualTo("%PDF-");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("쓰레드 삭제 및 health 확인")
+    void cleanup() throws Exception {
+        assertThat(send("DELETE", "/api/v1/analysis/threads/" + threadId, null).statusCode()).isEqualTo(204);
+        assertThat(send("GET", "/actuator/health", null).body()).contains("\"status\":\"UP\"");
+    }
+
+    private static HttpResponse<String> send(String method, String path, Object payload) throws Exception {
+        return HTTP.send(request(method, path, payload), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest request(String method, String path, Object payload) throws Exception {
+        HttpRequest.BodyPublisher body = payload == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(payload));
+        return HttpRequest.newBuilder(URI.create(app.baseUrl() + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, body)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 외부 의존성을 모두 로컬 스텁으로 대체한 상태에서 서비스 전체에 혼합 부하를 주는 종단 간 부하 테스트입니다.
+ * <p>
+ * 일반 빌드에서는 실행되지 않으며 {@code -Dloadtest=true}일 때만 실행됩니다. 설정 항목은 {@link LoadTestSettings}를 참고하세요.
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=ServiceLoadTest -Dloadtest=true -Dloadtest.rps=50 -Dloadtest.duration-seconds=120
+ * </pre>
+ * 결과 표는 로그에 출력되고 {@code target/loadtest/}에 파일로도 저장됩니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServiceLoadTest {
+
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings();
+    private static DependencyStubs stubs;
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void dependencies(DynamicPropertyRegistry registry) throws IOException {
+        stubs = DependencyStubs.start(SETTINGS);
+
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.cloud.discovery.client.simple.instances.member-service[0].uri",
+                stubs.memberService::baseUrl);
+        registry.add("spring.cloud.discovery.client.simple.instances.work-entry-service[0].uri",
+                stubs.workEntryService::baseUrl);
+        registry.add("gemini.api.base-url", stubs::geminiBaseUrl);
+        registry.add("gemini.api.key", () -> "load-test-key");
+        registry.add("report.precompute.enabled", () -> "false");
+        registry.add("logging.level.com.nhnacademy.workanalysis", () -> "WARN");
+        registry.add("logging.level.com.nhnacademy.workanalysis.loadtest", () -> "INFO");
+    }
+
+    @AfterAll
+    static void stopStubs() throws IOException {
+        if (stubs != null) {
+            stubs.close();
+        }
+    }
+
+    @Test
+    @DisplayName("혼합 작업 부하에서 처리량, 백분위 지연, 오류율 측정")
+    void mixedWorkload() throws Exception {
+        log.info("🧪 부하 테스트 설정\n{}", SETTINGS);
+        LoadDriver driver = new LoadDriver("http://localhost:" + port, SETTINGS);
+        driver.prepare();
+        LoadReport report = driver.run();
+
+        StringBuilder result = new StringBuilder()
+                .append(SETTINGS).append(System.lineSeparator()).append(System.lineSeparator())
+                .append(report.format(SETTINGS.durationSeconds)).append(System.lineSeparator());
+        for (StubDependency stub : stubs.all()) {
+            result.append(String.format("stub %-20s served=%d injected-errors=%d%n",
+                    stub.name(), stub.served(), stub.injectedErrors()));
+        }
+        log.info("📊 부하 테스트 결과\n{}", result);
+
+        Path dir = Path.of(SETTINGS.reportDir);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        Files.writeString(file, result, StandardCharsets.UTF_8);
+        log.info("📁 결과 저장: {}", file.toAbsolutePath());
+
+        assertThat(report.count(LoadReport.TOTAL)).isPositive();
+    }
+}
@@ -0,0 +1,106 @@
+package com.nhnacademy.workanalysis.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 지연 분포와 오류율을 가진 로컬 의존성 스텁 하나입니다.
+ * <p>
+ * {@link MockWebServer}의 {@link Dispatcher}로 요청마다 응답을 만들고, 헤더 전송을 분포에서 뽑은 시간만큼 늦춥니다.
+ * 오류로 뽑힌 요청은 같은 지연 뒤에 {@code errorStatus} 상태로 응답합니다.
+ * 핸들러가 {@code null}을 돌려주면 404로 응답합니다.
+ * </p>
+ */
+@Slf4j
+final class StubDependency implements AutoCloseable {
+
+    private final String name;
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final MockWebServer server = new MockWebServer();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    StubDependency(String name, LatencyProfile latency, double errorRate, int errorStatus,
+                   Function<RecordedRequest, MockResponse> handler) {
+        this.name = name;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request, handler);
+            }
+        });
+    }
+
+    /**
+     * 임의 포트로 스텁 서버를 시작합니다.
+     *
+     * @return 자기 자신
+     * @throws IOException 포트 바인딩 실패 시
+     */
+    StubDependency start() throws IOException {
+        server.start();
+        log.info("🧪 스텁 시작: {} → {} ({}, error={})", name, baseUrl(), latency, errorRate);
+        return this;
+    }
+
+    /**
+     * @return 스텁 서버 루트 URL (끝의 {@code /} 제외)
+     */
+    String baseUrl() {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    String name() {
+        return name;
+    }
+
+    long served() {
+        return served.sum();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse respond(RecordedRequest request, Function<RecordedRequest, MockResponse> handler) {
+        served.increment();
+        Random random = ThreadLocalRandom.current();
+        long delayMs = latency.sampleMillis(random);
+
+        MockResponse response;
+        if (random.nextDouble() < errorRate) {
+            injectedErrors.increment();
+            response = new MockResponse()
+                    .setResponseCode(errorStatus)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody("{\"error\":\"injected by load-test stub\"}");
+        } else {
+            response = handler.apply(request);
+            if (response == null) {
+                response = new MockResponse().setResponseCode(404);
+            }
+        }
+        return response.setHeadersDelay(delayMs, TimeUnit.MILLISECONDS);
+    }
+}
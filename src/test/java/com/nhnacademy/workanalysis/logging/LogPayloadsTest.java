@@ -0,0 +1,43 @@
+package com.nhnacademy.workanalysis.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link LogPayloads}의 본문 축약과 표본 출력을 검증합니다.
+ */
+class LogPayloadsTest {
+
+    @AfterEach
+    void tearDown() {
+        LogPayloads.configure(200, 100);
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 그대로, 긴 본문은 표본 간격마다 앞부분만 출력하고 나머지는 길이만 출력")
+    void preview() {
+        LogPayloads.configure(5, 2);
+
+        assertThat(LogPayloads.preview("근태")).hasToString("근태");
+        assertThat(LogPayloads.preview(null)).hasToString("null");
+
+        String[] outputs = {
+                LogPayloads.preview("가나다라마바사").toString(),
+                LogPayloads.preview("가나다라마바사").toString()
+        };
+        assertThat(outputs).containsExactlyInAnyOrder("가나다라마…(총 7자)", "(7자 생략)");
+    }
+
+    @Test
+    @DisplayName("toString 호출 시점의 내용을 사용하므로 로그가 출력되지 않으면 문자열을 만들지 않음")
+    void preview_isLazy() {
+        StringBuilder prompt = new StringBuilder("초기");
+        Object preview = LogPayloads.preview(prompt);
+        prompt.append(" 추가");
+
+        assertThat(preview).hasToString("초기 추가");
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.workanalysis.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link LoggerRateLimitFilter}의 로거별 속도 제한과 {@link AsyncLoggingInitializer}의 어펜더 교체를 검증합니다.
+ */
+class LoggerRateLimitFilterTest {
+
+    @Test
+    @DisplayName("버스트를 넘는 INFO 이벤트는 버리고 WARN 이상과 다른 로거는 제한하지 않음")
+    void rateLimitsPerLogger() {
+        LoggerContext context = new LoggerContext();
+        LoggerRateLimitFilter filter = new LoggerRateLimitFilter(0.001, 3);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        Logger noisy = context.getLogger("noisy");
+        for (int i = 0; i < 10; i++) {
+            noisy.info("message {}", i);
+        }
+        noisy.warn("warn");
+        context.getLogger("quiet").info("quiet");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("message 0", "message 1", "message 2", "warn", "quiet");
+    }
+
+    @Test
+    @DisplayName("동기 어펜더를 비동기 어펜더로 교체하고, 다시 실행해도 중복으로 감싸지 않음")
+    void wrapAppenders() throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.setName("LIST");
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+
+        AsyncLoggingInitializer.wrapAppenders(context, 64, 0, true, false);
+        AsyncLoggingInitializer.wrapAppenders(context, 64, 0, true, false);
+
+        assertThat(root.getAppender("LIST")).isNull();
+        AsyncAppender async = (AsyncAppender) root.getAppender(AsyncLoggingInitializer.ASYNC_PREFIX + "LIST");
+        assertThat(async.getQueueSize()).isEqualTo(64);
+        assertThat(async.isNeverBlock()).isTrue();
+
+        root.info("비동기 기록");
+        for (int i = 0; i < 100 && appender.list.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("비동기 기록");
+    }
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.workanalysis.metrics;
+
+import com.nhnacademy.workanalysis.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link PipelineMetrics}의 단계 결과 태그와 페이로드 크기 기록을 검증합니다.
+ */
+class PipelineMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineMetrics pipelineMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipelineMetrics = new PipelineMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("단계 성공/실패/시한 초과를 결과 태그로 구분하여 기록")
+    void time_recordsOutcome() {
+        assertThat(pipelineMetrics.time("reports", "member_lookup", () -> "홍길동")).isEqualTo("홍길동");
+        assertThatThrownBy(() -> pipelineMetrics.time("reports", "member_lookup", () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> pipelineMetrics.time("reports", "member_lookup", () -> {
+            throw new DeadlineExceededException("시한 초과");
+        })).isInstanceOf(DeadlineExceededException.class);
+
+        assertThat(stageTimer("success").count()).isEqualTo(1);
+        assertThat(stageTimer("error").count()).isEqualTo(1);
+        assertThat(stageTimer("timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검사 예외는 감싸지 않고 그대로 전파")
+    void time_propagatesCheckedException() {
+        assertThatThrownBy(() -> pipelineMetrics.time("pdf", "font_load", () -> {
+            throw new IOException("폰트 없음");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.get("analysis.pipeline.stage")
+                .tags("pipeline", "pdf", "stage", "font_load", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프롬프트/응답 문자 수와 PDF 바이트 수를 분포 요약으로 기록")
+    void recordSizes() {
+        pipelineMetrics.recordPromptChars("reports", 1200);
+        pipelineMetrics.recordPromptChars("reports", 800);
+        pipelineMetrics.recordResponseChars("reports", 3000);
+        pipelineMetrics.recordPdfBytes(54_321);
+
+        assertThat(meterRegistry.get("analysis.prompt.size").tag("pipeline", "reports").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("analysis.prompt.size").tag("pipeline", "reports").summary().max()).isEqualTo(1200);
+        assertThat(meterRegistry.get("analysis.response.size").summary().totalAmount()).isEqualTo(3000);
+        assertThat(meterRegistry.get("report.pdf.size").summary().totalAmount()).isEqualTo(54_321);
+    }
+
+    private Timer stageTimer(String outcome) {
+        return meterRegistry.get("analysis.pipeline.stage")
+                .tags("pipeline", "reports", "stage", "member_lookup", "outcome", outcome)
+                .timer();
+    }
+}
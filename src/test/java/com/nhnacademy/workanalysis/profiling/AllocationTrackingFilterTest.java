@@ -0,0 +1,94 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import com.nhnacademy.workanalysis.executor.WorkloadExecutors;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AllocationTrackingFilter}의 요청별 할당량 기록을 검증합니다.
+ */
+class AllocationTrackingFilterTest {
+
+    private static final String PATTERN = "/api/v1/analysis/reports/pdf";
+
+    @Test
+    @DisplayName("요청 스레드의 할당 바이트를 매칭된 URI 패턴 태그로 기록")
+    void recordsAllocatedBytesPerEndpoint() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(registry, new GcPauseAttribution(registry));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATTERN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+                req.setAttribute("payload", new byte[2 * 1024 * 1024]);
+            }
+        }));
+
+        DistributionSummary summary = registry.get("http.server.requests.allocated")
+                .tag("uri", PATTERN).tag("method", "GET").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isGreaterThanOrEqualTo(2 * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 실행기 풀에서 실행된 작업의 할당까지 합산하여 응답 완료 시점에 기록")
+    void includesPoolTaskAllocationsForAsyncRequests() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(registry, new GcPauseAttribution(registry));
+        WorkloadExecutors executors = new WorkloadExecutors(registry, 1, 4, 1, 4);
+        AtomicReference<CompletableFuture<Integer>> task = new AtomicReference<>();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATTERN);
+        request.setAsyncSupported(true);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse res) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+                    req.startAsync();
+                    task.set(executors.supplyCpu(() -> new byte[4 * 1024 * 1024].length));
+                }
+            }));
+            task.get().get(5, TimeUnit.SECONDS);
+
+            assertThat(registry.find("http.server.requests.allocated").summary()).isNull();
+            request.getAsyncContext().complete();
+        } finally {
+            executors.shutdown();
+        }
+
+        DistributionSummary summary = registry.get("http.server.requests.allocated")
+                .tag("uri", PATTERN).tag("method", "POST").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isGreaterThanOrEqualTo(4 * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("API 외 경로는 측정하지 않음")
+    void skipsNonApiPaths() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(registry, new GcPauseAttribution(registry));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(registry.find("http.server.requests.allocated").summary()).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link GcPauseAttribution}의 엔드포인트별 GC 정지 시간 배분을 검증합니다.
+ */
+class GcPauseAttributionTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GcPauseAttribution attribution = new GcPauseAttribution(registry);
+
+    @Test
+    @DisplayName("정지 시간을 할당 비율로 나누고 요청 밖의 할당은 other로 집계")
+    void attributeByAllocationShare() {
+        attribution.recordAllocation("/api/v1/analysis/reports/pdf", 300);
+        attribution.recordAllocation("/api/v1/analysis/histories", 100);
+
+        attribution.attribute(100, 800);
+
+        assertThat(attributed("/api/v1/analysis/reports/pdf")).isCloseTo(0.0375, within(1e-9));
+        assertThat(attributed("/api/v1/analysis/histories")).isCloseTo(0.0125, within(1e-9));
+        assertThat(attributed(GcPauseAttribution.OTHER)).isCloseTo(0.05, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("GC마다 누적 할당량을 초기화하며, 추정 전체 할당량이 더 작으면 요청 할당량만으로 배분")
+    void resetsAfterEachGc() {
+        attribution.recordAllocation("/api/v1/analysis/reports", 500);
+        attribution.attribute(10, 100);
+        attribution.attribute(10, 100);
+
+        assertThat(attributed("/api/v1/analysis/reports")).isCloseTo(0.01, within(1e-9));
+        assertThat(attributed(GcPauseAttribution.OTHER)).isCloseTo(0.01, within(1e-9));
+    }
+
+    private double attributed(String uri) {
+        return registry.get("jvm.gc.pause.attributed").tag("uri", uri).counter().count();
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhnacademy.workanalysis.profiling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JfrRecordingEndpoint}의 기록 시작/중지/다운로드를 검증합니다.
+ */
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록 시간과 크기를 상한으로 제한하고, 중지 후 파일을 내려받을 수 있음")
+    void startStopDownload() throws Exception {
+        JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(directory.toString(), 30, 10, 3);
+
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start(600, 500, "default");
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody()).containsEntry("durationSeconds", 30L)
+                .containsEntry("maxSizeBytes", 10L * 1024 * 1024);
+
+        String file = (String) started.getBody().get("name");
+        assertThat(endpoint.start(null, null, null).getStatus()).isEqualTo(JfrRecordingEndpoint.STATUS_CONFLICT);
+        assertThat(endpoint.download(file).getStatus()).isEqualTo(JfrRecordingEndpoint.STATUS_CONFLICT);
+
+        assertThat(endpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        WebEndpointResponse<Resource> download = endpoint.download(file);
+        assertThat(download.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(download.getBody().contentLength()).isPositive();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> files = (List<Map<String, Object>>) endpoint.status().get("files");
+        assertThat(files).extracting(f -> f.get("name")).containsExactly(file);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정 이름은 400, 진행 중인 기록이 없을 때 중지나 잘못된 파일 이름은 404")
+    void rejectsInvalidRequests() {
+        JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(directory.toString(), 30, 10, 3);
+
+        assertThat(endpoint.start(5, 5, "custom").getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.download("../application.properties").getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
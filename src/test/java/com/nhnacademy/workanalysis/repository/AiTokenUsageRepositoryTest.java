@@ -0,0 +1,63 @@
+package com.nhnacademy.workanalysis.repository;
+
+import com.nhnacademy.workanalysis.entity.AiTokenUsage;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiTokenUsageRepository의 사용량 합산 및 히스토리 연결 대상 조회를 검증합니다.
+ */
+@DataJpaTest
+@Import(AiTokenUsageRepositoryTest.QueryDslTestConfig.class)
+@TestPropertySource(properties = {
+        "member.service.url=http://localhost:8080",
+        "work.entry.service.url=http://localhost:8081"
+})
+class AiTokenUsageRepositoryTest {
+
+    @Autowired
+    private AiTokenUsageRepository tokenUsageRepository;
+
+    @Test
+    @DisplayName("사원별 기준 시각 이후 전체 토큰 수 합산, 사전 생성 사용량은 제외")
+    void sumTotalTokensSince_success() {
+        tokenUsageRepository.saveAll(List.of(
+                AiTokenUsage.of(1L, null, "reports", "gemini-2.0-flash", 100, 50, 150),
+                AiTokenUsage.of(1L, 10L, "customs", "gemini-2.0-flash", 20, 10, 30),
+                AiTokenUsage.of(2L, null, "customs", "gemini-2.0-flash", 500, 500, 1000),
+                AiTokenUsage.of(1L, null, "precompute", "gemini-2.0-flash", 4000, 1000, 5000)
+        ));
+
+        assertThat(tokenUsageRepository.sumTotalTokensSince(1L, LocalDateTime.now().minusHours(1), "precompute")).isEqualTo(180L);
+        assertThat(tokenUsageRepository.sumTotalTokensSince(1L, LocalDateTime.now().plusHours(1), "precompute")).isZero();
+        assertThat(tokenUsageRepository.sumTotalTokensSince(3L, LocalDateTime.now().minusHours(1), "precompute")).isZero();
+    }
+
+    /**
+     * @DataJpaTest 슬라이스에서 커스텀 리포지토리 구현체가 사용하는 JPAQueryFactory를 등록합니다.
+     */
+    @TestConfiguration
+    static class QueryDslTestConfig {
+        @PersistenceContext
+        private EntityManager em;
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory() {
+            return new JPAQueryFactory(em);
+        }
+    }
+}
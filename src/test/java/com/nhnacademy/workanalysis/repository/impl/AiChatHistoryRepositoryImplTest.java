@@ -46,6 +46,28 @@ class AiChatHistoryRepositoryImplTest {
         assertThat(result.getFirst().getRole()).isIn("ai", "user");
     }
 
+    @Test
+    @DisplayName("QueryDSL - 커서 이후 히스토리만 오래된 순으로 조회")
+    void findHistoriesAfter_success() {
+        AiChatThread thread = AiChatThread.create(1L, "대화");
+        AiChatThread other = AiChatThread.create(1L, "다른 대화");
+        threadRepository.saveAll(List.of(thread, other));
+
+        List<AiChatHistory> saved = historyRepository.saveAll(List.of(
+                AiChatHistory.of(thread, "user", "질문1"),
+                AiChatHistory.of(thread, "ai", "응답1"),
+                AiChatHistory.of(other, "user", "다른 질문"),
+                AiChatHistory.of(thread, "user", "질문2"),
+                AiChatHistory.of(thread, "ai", "응답2")));
+        Long cursor = saved.getFirst().getHistoryId();
+
+        List<AiChatHistory> result = historyRepository.findHistoriesAfter(thread.getThreadId(), cursor, 2);
+
+        assertThat(result).extracting(AiChatHistory::getContent).containsExactly("응답1", "질문2");
+        assertThat(historyRepository.findHistoriesAfter(thread.getThreadId(), saved.getLast().getHistoryId(), 2))
+                .isEmpty();
+    }
+
     /**
      * 테스트 환경에서 QueryDSL의 JPAQueryFactory 빈을 수동 등록합니다.
      */
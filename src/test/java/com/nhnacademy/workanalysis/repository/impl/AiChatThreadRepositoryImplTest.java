@@ -1,6 +1,8 @@
 package com.nhnacademy.workanalysis.repository.impl;
 
+import com.nhnacademy.workanalysis.entity.AiChatHistory;
 import com.nhnacademy.workanalysis.entity.AiChatThread;
+import com.nhnacademy.workanalysis.repository.AiChatHistoryRepository;
 import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -9,10 +11,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +33,12 @@ class AiChatThreadRepositoryImplTest {
     @Autowired
     private AiChatThreadRepository threadRepository;
 
+    @Autowired
+    private AiChatHistoryRepository historyRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
     @TestConfiguration
     static class QueryDslTestConfig {
         @PersistenceContext
@@ -56,4 +67,91 @@ class AiChatThreadRepositoryImplTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getMbNo()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("QueryDSL - 메시지 저장 시 요약 컬럼을 한 번의 UPDATE로 갱신")
+    void recordMessage_success() {
+        // given
+        AiChatThread thread = threadRepository.save(AiChatThread.create(1L, "a"));
+        LocalDateTime at = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+
+        // when
+        threadRepository.recordMessage(thread.getThreadId(), at.minusMinutes(1), "질문");
+        threadRepository.recordMessage(thread.getThreadId(), at, "응답");
+        em.clear();
+
+        // then
+        AiChatThread result = threadRepository.findById(thread.getThreadId()).orElseThrow();
+        assertThat(result.getMessageCount()).isEqualTo(2L);
+        assertThat(result.getLastActivityAt()).isEqualTo(at);
+        assertThat(result.getLastMessagePreview()).isEqualTo("응답");
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 먼저 저장된 메시지의 갱신이 늦게 도착하면 개수만 늘리고 미리보기는 유지")
+    void recordMessage_outOfOrder_keepsLatestPreview() {
+        // given
+        AiChatThread thread = threadRepository.save(AiChatThread.create(1L, "a"));
+        LocalDateTime at = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+        threadRepository.recordMessage(thread.getThreadId(), at, "응답");
+
+        // when
+        threadRepository.recordMessage(thread.getThreadId(), at.minusSeconds(1), "질문");
+        em.clear();
+
+        // then
+        AiChatThread result = threadRepository.findById(thread.getThreadId()).orElseThrow();
+        assertThat(result.getMessageCount()).isEqualTo(2L);
+        assertThat(result.getLastActivityAt()).isEqualTo(at);
+        assertThat(result.getLastMessagePreview()).isEqualTo("응답");
+    }
+
+    @Test
+    @DisplayName("QueryDSL - mbNo 기준 최근 활동순 조회 테스트")
+    void findThreadsByMbNoOrderByLastActivity_success() {
+        // given
+        AiChatThread older = threadRepository.save(AiChatThread.create(1L, "먼저 만든 쓰레드"));
+        AiChatThread newer = threadRepository.save(AiChatThread.create(1L, "나중에 만든 쓰레드"));
+        threadRepository.save(AiChatThread.create(2L, "다른 사원"));
+        threadRepository.recordMessage(older.getThreadId(), LocalDateTime.now().plusDays(1), "새 메시지");
+        em.clear();
+
+        // when
+        List<AiChatThread> result = threadRepository.findThreadsByMbNoOrderByLastActivity(1L);
+
+        // then
+        assertThat(result).extracting(AiChatThread::getThreadId)
+                .containsExactly(older.getThreadId(), newer.getThreadId());
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 요약이 비어 있는 기존 쓰레드만 히스토리로부터 채움")
+    void backfillSummaries_success() {
+        // given
+        AiChatThread withHistory = threadRepository.save(AiChatThread.create(1L, "a"));
+        AiChatThread empty = threadRepository.save(AiChatThread.create(1L, "b"));
+        historyRepository.save(AiChatHistory.of(withHistory, "user", "질문"));
+        AiChatHistory last = historyRepository.save(AiChatHistory.of(withHistory, "ai", "응답\n두 번째 줄"));
+        em.flush();
+        em.getEntityManager().createQuery("update AiChatThread t set t.messageCount = null, t.lastActivityAt = null")
+                .executeUpdate();
+        em.clear();
+
+        // when
+        int filled = threadRepository.backfillSummaries(10);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(filled).isEqualTo(2);
+        AiChatThread result = threadRepository.findById(withHistory.getThreadId()).orElseThrow();
+        assertThat(result.getMessageCount()).isEqualTo(2L);
+        assertThat(result.getLastActivityAt())
+                .isEqualTo(historyRepository.findById(last.getHistoryId()).orElseThrow().getCreatedAt());
+        assertThat(result.getLastMessagePreview()).isEqualTo("응답 두 번째 줄");
+        AiChatThread emptyResult = threadRepository.findById(empty.getThreadId()).orElseThrow();
+        assertThat(emptyResult.getMessageCount()).isZero();
+        assertThat(emptyResult.getLastActivityAt()).isEqualTo(emptyResult.getCreatedAt());
+        assertThat(threadRepository.backfillSummaries(10)).isZero();
+    }
 }
@@ -1,23 +1,41 @@
 package com.nhnacademy.workanalysis.service;
 
 import com.nhnacademy.workanalysis.adaptor.AiChatApiClient;
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
 import com.nhnacademy.workanalysis.dto.*;
 import com.nhnacademy.workanalysis.entity.AiChatHistory;
 import com.nhnacademy.workanalysis.entity.AiChatThread;
 import com.nhnacademy.workanalysis.exception.AiChatThreadNotFoundException;
+import com.nhnacademy.workanalysis.exception.TokenBudgetExceededException;
+import com.nhnacademy.workanalysis.metrics.PipelineMetrics;
 import com.nhnacademy.workanalysis.repository.AiChatHistoryRepository;
 import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
+import com.nhnacademy.workanalysis.service.analysis.MonthlyReportStore;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import com.nhnacademy.workanalysis.service.analysis.cache.SemanticResponseCache;
+import com.nhnacademy.workanalysis.service.analysis.impl.GeminiAnalysisProvider;
+import com.nhnacademy.workanalysis.service.analysis.impl.RuleBasedAnalysisProvider;
+import com.nhnacademy.workanalysis.service.cluster.DistributedSingleFlight;
+import com.nhnacademy.workanalysis.service.history.HistoryUpdateNotifier;
 import com.nhnacademy.workanalysis.service.impl.AiChatServiceImpl;
+import com.nhnacademy.workanalysis.service.usage.TokenUsageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,9 +53,40 @@ class AiChatServiceImplTest {
     @Mock
     private AiChatHistoryRepository aiChatHistoryRepository;
 
-    @InjectMocks
+    @Mock
+    private TokenUsageService tokenUsageService;
+
+    @Mock
+    private WorkEntryClient workEntryClient;
+
+    @Mock
+    private MemberServiceClient memberServiceClient;
+
+    @Mock
+    private MonthlyReportStore monthlyReportStore;
+
+    @Mock
+    private DistributedSingleFlight singleFlight;
+
     private AiChatServiceImpl aiChatService;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private HistoryUpdateNotifier historyUpdateNotifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry);
+        historyUpdateNotifier = new HistoryUpdateNotifier(meterRegistry);
+        aiChatService = new AiChatServiceImpl(
+                List.of(new RuleBasedAnalysisProvider(), new GeminiAnalysisProvider(aiChatApiClient, tokenUsageService,
+                        new SemanticResponseCache(true, 0.8, 100, 2, new SimpleMeterRegistry()), monthlyReportStore, singleFlight,
+                        pipelineMetrics)),
+                aiChatThreadRepository, aiChatHistoryRepository, new ReportTaskAssembler(workEntryClient, pipelineMetrics),
+                memberServiceClient, tokenUsageService, pipelineMetrics, historyUpdateNotifier);
+    }
+
     @Test
     @DisplayName("analyze: Gemini API 호출 성공")
     void testAnalyze() {
@@ -47,12 +96,95 @@ class AiChatServiceImplTest {
 
         GeminiAnalysisResponse expected = new GeminiAnalysisResponse(1L, "응답");
 
-        when(aiChatApiClient.call(any(), anyLong())).thenReturn(expected);
+        when(aiChatApiClient.call(any(), anyLong(), anyBoolean(), any())).thenReturn(expected);
 
         GeminiAnalysisResponse result = aiChatService.analyze(request);
 
         assertThat(result.getFullText()).isEqualTo("응답");
-        verify(aiChatApiClient, atLeastOnce()).call(any(), eq(1L));
+        verify(tokenUsageService).checkBudget(1L, "customs");
+        verify(aiChatApiClient, atLeastOnce()).call(any(), eq(1L), eq(false), any());
+        assertThat(meterRegistry.get("analysis.pipeline.stage")
+                .tags("pipeline", "customs", "stage", "analyze", "outcome", "success").timer().count()).isEqualTo(1);
+        // 사용량 리스너가 호출되지 않은 응답은 정상 수신으로 보지 않습니다.
+        assertThat(meterRegistry.get("analysis.pipeline.stage")
+                .tags("pipeline", "customs", "stage", "gemini", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("analysis.prompt.size").tag("pipeline", "customs").summary().totalAmount())
+                .isEqualTo("출근이 몇 시야?".length());
+        assertThat(meterRegistry.get("analysis.response.size").tag("pipeline", "customs").summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("analyze: 새로 생성한 응답에만 토큰 사용량 기록 ID를 담고, 캐시된 응답에는 담지 않음")
+    void testAnalyze_returnsUsageIdOnlyForFreshResponse() {
+        GeminiAnalysisRequest request = new GeminiAnalysisRequest();
+        request.setMemberNo(1L);
+        request.setThreadId(10L);
+        request.setMessages(List.of(new MessageDto("user", "이번 달 지각 패턴을 분석해줘")));
+
+        GeminiCompletion completion = new GeminiCompletion("응답", "STOP", 10, 5, 15, "gemini-2.0-flash");
+        when(tokenUsageService.record(1L, 10L, "customs", completion)).thenReturn(7L);
+        when(aiChatApiClient.call(any(), anyLong(), anyBoolean(), any())).thenAnswer(invocation -> {
+            Consumer<GeminiCompletion> listener = invocation.getArgument(3);
+            listener.accept(completion);
+            return new GeminiAnalysisResponse(1L, "응답");
+        });
+
+        GeminiAnalysisResponse fresh = aiChatService.analyze(request);
+        GeminiAnalysisResponse cached = aiChatService.analyze(request);
+
+        assertThat(fresh.getUsageId()).isEqualTo(7L);
+        assertThat(cached.getFullText()).isEqualTo("응답");
+        assertThat(cached.getUsageId()).isNull();
+        verify(aiChatApiClient, times(1)).call(any(), anyLong(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("analyze: 일일 토큰 예산 초과 시 Gemini를 호출하지 않음")
+    void testAnalyze_whenBudgetExceeded() {
+        GeminiAnalysisRequest request = new GeminiAnalysisRequest();
+        request.setMemberNo(1L);
+        request.setMessages(List.of(new MessageDto("user", "출근이 몇 시야?")));
+
+        doThrow(new TokenBudgetExceededException("예산 초과"))
+                .when(tokenUsageService).checkBudget(1L, "customs");
+
+        assertThatThrownBy(() -> aiChatService.analyze(request))
+                .isInstanceOf(TokenBudgetExceededException.class);
+        verifyNoInteractions(aiChatApiClient);
+    }
+
+    @Test
+    @DisplayName("analyze: 근무 기록이 있는 정형 질문은 Gemini 없이 규칙 기반으로 응답")
+    void testAnalyze_whenRoutineQuestion_shouldNotCallGemini() {
+        GeminiAnalysisRequest request = new GeminiAnalysisRequest();
+        request.setMemberNo(1L);
+        request.setMessages(List.of(new MessageDto("user", "이번 달 지각 며칠이야?")));
+        request.setWorkRecords(List.of(
+                new WorkRecordDto("2025-05-01", "목", "1", "08:50", "18:00"),
+                new WorkRecordDto("2025-05-02", "금", "2", "09:20", "18:10")
+        ));
+
+        GeminiAnalysisResponse result = aiChatService.analyze(request);
+
+        assertThat(result.getFullText()).contains("1일", "2025-05-02");
+        verifyNoInteractions(aiChatApiClient, tokenUsageService);
+    }
+
+    @Test
+    @DisplayName("analyze: AI 분석을 명시적으로 요청하면 정형 질문도 Gemini로 분석")
+    void testAnalyze_whenAiRequested_shouldCallGemini() {
+        GeminiAnalysisRequest request = new GeminiAnalysisRequest();
+        request.setMemberNo(1L);
+        request.setMessages(List.of(new MessageDto("user", "이번 달 지각 며칠이야?")));
+        request.setWorkRecords(List.of(new WorkRecordDto("2025-05-02", "금", "2", "09:20", "18:10")));
+        request.setUseAi(true);
+        when(aiChatApiClient.call(any(), anyLong(), anyBoolean(), any()))
+                .thenReturn(new GeminiAnalysisResponse(1L, "AI 응답"));
+
+        GeminiAnalysisResponse result = aiChatService.analyze(request);
+
+        assertThat(result.getFullText()).isEqualTo("AI 응답");
     }
 
     @Test
@@ -74,7 +206,7 @@ class AiChatServiceImplTest {
     @DisplayName("updateThreadTitle: 제목 변경 성공")
     void testUpdateThreadTitle() {
         AiChatThread thread = AiChatThread.create(1L, "old");
-        when(aiChatThreadRepository.findById(1L)).thenReturn(Optional.of(thread));
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
 
         aiChatService.updateThreadTitle(1L, "new title");
 
@@ -85,7 +217,7 @@ class AiChatServiceImplTest {
     @Test
     @DisplayName("updateThreadTitle: 존재하지 않는 쓰레드")
     void testUpdateThreadTitleNotFound() {
-        when(aiChatThreadRepository.findById(999L)).thenReturn(Optional.empty());
+        when(aiChatThreadRepository.findWithLockByThreadId(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> aiChatService.updateThreadTitle(999L, "any"))
                 .isInstanceOf(AiChatThreadNotFoundException.class);
@@ -107,12 +239,115 @@ class AiChatServiceImplTest {
         AiChatHistory history = AiChatHistory.of(thread, "user", "내용");
         setField(history, "historyId", 99L);
 
-        when(aiChatThreadRepository.findById(1L)).thenReturn(Optional.of(thread));
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
         when(aiChatHistoryRepository.save(any())).thenReturn(history);
 
         AiChatHistoryDto result = aiChatService.saveHistory(1L, "user", "내용");
 
         assertThat(result.getHistoryId()).isEqualTo(99L);
+        verify(tokenUsageService, never()).linkHistory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("saveHistory: 쓰레드 행에 쓰기 잠금을 잡은 뒤 히스토리를 넣어 같은 쓰레드의 historyId가 커밋 순서를 따름")
+    void testSaveHistory_locksThreadBeforeInsert() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "질문");
+        AiChatHistory history = AiChatHistory.of(thread, "user", "내용");
+        setField(history, "historyId", 99L);
+
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
+        when(aiChatHistoryRepository.save(any())).thenReturn(history);
+
+        aiChatService.saveHistory(1L, "user", "내용");
+
+        InOrder inOrder = inOrder(aiChatThreadRepository, aiChatHistoryRepository);
+        inOrder.verify(aiChatThreadRepository).findWithLockByThreadId(1L);
+        inOrder.verify(aiChatHistoryRepository).save(any());
+        verify(aiChatThreadRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("saveHistory: AI 응답 저장 시 분석 응답이 돌려준 사용량 기록 ID로 연결")
+    void testSaveHistory_whenAiResponse_shouldLinkUsage() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "질문");
+        AiChatHistory history = AiChatHistory.of(thread, "ai", "응답");
+        setField(history, "historyId", 100L);
+
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
+        when(aiChatHistoryRepository.save(any())).thenReturn(history);
+
+        aiChatService.saveValidatedMessage(new AiChatHistorySaveRequest(1L, "ai", "응답", 7L));
+
+        verify(tokenUsageService).linkHistory(7L, 1L, 100L);
+    }
+
+    @Test
+    @DisplayName("saveHistory: 사용량 기록 ID가 없으면 AI 응답이어도 연결하지 않음")
+    void testSaveHistory_whenAiResponseWithoutUsageId_shouldNotLink() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "질문");
+        AiChatHistory history = AiChatHistory.of(thread, "ai", "응답");
+        setField(history, "historyId", 100L);
+
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
+        when(aiChatHistoryRepository.save(any())).thenReturn(history);
+
+        aiChatService.saveHistory(1L, "ai", "응답");
+
+        verifyNoInteractions(tokenUsageService);
+    }
+
+    @Test
+    @DisplayName("saveHistory: 저장 후 해당 쓰레드의 롱 폴링 대기자를 깨움")
+    void testSaveHistory_wakesWaiters() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "질문");
+        AiChatHistory history = AiChatHistory.of(thread, "user", "내용");
+        setField(history, "historyId", 101L);
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
+        when(aiChatHistoryRepository.save(any())).thenReturn(history);
+
+        CompletableFuture<Void> sameThread = historyUpdateNotifier.subscribe(1L);
+        CompletableFuture<Void> otherThread = historyUpdateNotifier.subscribe(2L);
+        aiChatService.saveHistory(1L, "user", "내용");
+
+        assertThat(sameThread).isCompleted();
+        assertThat(otherThread).isNotDone();
+    }
+
+    @Test
+    @DisplayName("getHistoriesAfter: 한도만큼 반환하고 남은 메시지 여부와 다음 커서를 계산")
+    void testGetHistoriesAfter() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "세션");
+        List<AiChatHistory> fetched = List.of(AiChatHistory.of(thread, "user", "질문"),
+                AiChatHistory.of(thread, "ai", "응답"), AiChatHistory.of(thread, "user", "추가 질문"));
+        for (int i = 0; i < fetched.size(); i++) {
+            setField(fetched.get(i), "historyId", 11L + i);
+        }
+        when(aiChatThreadRepository.existsById(1L)).thenReturn(true);
+        when(aiChatHistoryRepository.findHistoriesAfter(1L, 10L, 3)).thenReturn(fetched);
+        when(aiChatHistoryRepository.findHistoriesAfter(1L, 12L, 3)).thenReturn(fetched.subList(2, 3));
+        when(aiChatHistoryRepository.findHistoriesAfter(1L, 13L, 3)).thenReturn(List.of());
+
+        AiChatHistoryDeltaDto first = aiChatService.getHistoriesAfter(1L, 10L, 2);
+        assertThat(first.getHistories()).extracting(AiChatHistoryDto::getHistoryId).containsExactly(11L, 12L);
+        assertThat(first.getCursor()).isEqualTo(12L);
+        assertThat(first.isHasMore()).isTrue();
+
+        AiChatHistoryDeltaDto second = aiChatService.getHistoriesAfter(1L, first.getCursor(), 2);
+        assertThat(second.getHistories()).extracting(AiChatHistoryDto::getContent).containsExactly("추가 질문");
+        assertThat(second.isHasMore()).isFalse();
+
+        AiChatHistoryDeltaDto empty = aiChatService.getHistoriesAfter(1L, second.getCursor(), 2);
+        assertThat(empty.getHistories()).isEmpty();
+        assertThat(empty.getCursor()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("getHistoriesAfter: 존재하지 않는 쓰레드")
+    void testGetHistoriesAfter_NotFound() {
+        when(aiChatThreadRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> aiChatService.getHistoriesAfter(999L, 0L, 100))
+                .isInstanceOf(AiChatThreadNotFoundException.class);
     }
 
     @Test
@@ -125,6 +360,51 @@ class AiChatServiceImplTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    @DisplayName("saveHistory: 쓰레드 요약에 메시지 수, 마지막 활동 시각, 한 줄로 줄인 미리보기를 반영")
+    void testSaveHistory_recordsThreadSummary() throws Exception {
+        AiChatThread thread = AiChatThread.create(1L, "질문");
+        String content = "첫 줄\n\n  둘째 줄 " + "가".repeat(150);
+        AiChatHistory history = AiChatHistory.of(thread, "user", content);
+        LocalDateTime savedAt = LocalDateTime.of(2025, 5, 22, 13, 35);
+        setField(history, "createdAt", savedAt);
+        when(aiChatThreadRepository.findWithLockByThreadId(1L)).thenReturn(Optional.of(thread));
+        when(aiChatHistoryRepository.save(any())).thenReturn(history);
+
+        aiChatService.saveHistory(1L, "user", content);
+
+        String expected = ("첫 줄 둘째 줄 " + "가".repeat(150)).substring(0, AiChatThread.PREVIEW_LENGTH) + "…";
+        verify(aiChatThreadRepository).recordMessage(1L, savedAt, expected);
+    }
+
+    @Test
+    @DisplayName("getThreadsByMember: 최근 활동순 정렬 시 요약 컬럼을 그대로 반환하고, 요약이 없는 쓰레드는 메시지 없음으로 표시")
+    void testGetThreadsByMember_lastActivity() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 9, 0);
+        AiChatThread active = AiChatThread.create(123L, "최근 대화");
+        setField(active, "createdAt", createdAt);
+        active.applySummary(4, LocalDateTime.of(2025, 5, 22, 13, 35), "마지막 메시지");
+        AiChatThread legacy = AiChatThread.create(123L, "예전 대화");
+        setField(legacy, "createdAt", createdAt);
+        setField(legacy, "messageCount", null);
+        when(aiChatThreadRepository.findThreadsByMbNoOrderByLastActivity(123L)).thenReturn(List.of(active, legacy));
+
+        List<AiChatThreadDto> result = aiChatService.getThreadsByMember(123L, ThreadSort.LAST_ACTIVITY);
+
+        assertThat(result).extracting(AiChatThreadDto::getMessageCount).containsExactly(4L, 0L);
+        assertThat(result).extracting(AiChatThreadDto::getLastActivityAt)
+                .containsExactly(LocalDateTime.of(2025, 5, 22, 13, 35), createdAt);
+        assertThat(result).extracting(AiChatThreadDto::getLastMessagePreview).containsExactly("마지막 메시지", null);
+        verify(aiChatThreadRepository, never()).findByMbNoOrderByCreatedAtDesc(any());
+    }
+
+    @Test
+    @DisplayName("ThreadSort: 지원하지 않는 정렬 기준은 예외")
+    void testThreadSort_unknown() {
+        assertThat(ThreadSort.from("lastActivity")).isEqualTo(ThreadSort.LAST_ACTIVITY);
+        assertThatThrownBy(() -> ThreadSort.from("title")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("getHistoriesByThread: 히스토리 목록 반환")
     void testGetHistoriesByThread() {
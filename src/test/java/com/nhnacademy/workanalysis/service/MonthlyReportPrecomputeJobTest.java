@@ -0,0 +1,218 @@
+package com.nhnacademy.workanalysis.service;
+
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.dto.attendance.MemberInfoResponse;
+import com.nhnacademy.workanalysis.dto.attendance.MemberPageResponse;
+import com.nhnacademy.workanalysis.entity.ReportPrecomputeCheckpoint;
+import com.nhnacademy.workanalysis.exception.WorkEntryRecordNotFoundException;
+import com.nhnacademy.workanalysis.repository.ReportPrecomputeCheckpointRepository;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisTask;
+import com.nhnacademy.workanalysis.service.analysis.AnalysisType;
+import com.nhnacademy.workanalysis.service.analysis.MonthlyReportStore;
+import com.nhnacademy.workanalysis.service.analysis.ReportTaskAssembler;
+import com.nhnacademy.workanalysis.service.analysis.impl.GeminiAnalysisProvider;
+import com.nhnacademy.workanalysis.service.cluster.ClusterCoordinator;
+import com.nhnacademy.workanalysis.service.cluster.ShardAssignment;
+import com.nhnacademy.workanalysis.service.precompute.MonthlyReportPrecomputeJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MonthlyReportPrecomputeJobTest {
+
+    private static final YearMonth TARGET = YearMonth.of(2025, 5);
+
+    @Mock
+    private MemberServiceClient memberServiceClient;
+
+    @Mock
+    private ReportTaskAssembler reportTaskAssembler;
+
+    @Mock
+    private GeminiAnalysisProvider geminiAnalysisProvider;
+
+    @Mock
+    private MonthlyReportStore monthlyReportStore;
+
+    @Mock
+    private ReportPrecomputeCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    private MonthlyReportPrecomputeJob job;
+
+    /**
+     * 리포트가 저장된 사원 번호 (Gemini 호출 성공 시 추가)
+     */
+    private final Set<Long> stored = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        job = new MonthlyReportPrecomputeJob(memberServiceClient, reportTaskAssembler, geminiAnalysisProvider,
+                monthlyReportStore, checkpointRepository, clusterCoordinator, 2, 0, 60, 2);
+
+        when(clusterCoordinator.currentShard()).thenReturn(new ShardAssignment(0, 1));
+        when(checkpointRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(reportTaskAssembler.assemble(eq(AnalysisType.PRECOMPUTED_REPORT), anyLong(), anyString(), eq(2025), eq(5), eq(true)))
+                .thenAnswer(inv -> AnalysisTask.builder()
+                        .type(AnalysisType.PRECOMPUTED_REPORT)
+                        .memberNo(inv.getArgument(1))
+                        .year(2025)
+                        .month(5)
+                        .aiRequested(true)
+                        .build());
+        when(monthlyReportStore.find(any())).thenAnswer(inv -> {
+            Long mbNo = inv.<AnalysisTask>getArgument(0).getMemberNo();
+            return stored.contains(mbNo) ? Optional.of(new GeminiAnalysisResponse(mbNo, "리포트")) : Optional.empty();
+        });
+    }
+
+    @Test
+    @DisplayName("모든 페이지를 처리하고, 저장된 리포트가 있거나 근무 기록이 없는 사원은 건너뜀")
+    void precompute_allPages() {
+        when(checkpointRepository.findById("monthly-report:2025-05:0-of-1")).thenReturn(Optional.empty());
+        when(memberServiceClient.getMemberInfoList(0, 2)).thenReturn(page(2, 0, 1L, 2L));
+        when(memberServiceClient.getMemberInfoList(1, 2)).thenReturn(page(2, 1, 3L));
+        stored.add(2L);
+        when(reportTaskAssembler.assemble(any(), eq(3L), anyString(), anyInt(), anyInt(), anyBoolean()))
+                .thenThrow(new WorkEntryRecordNotFoundException("근무기록없음"));
+        succeedGemini();
+
+        ReportPrecomputeCheckpoint result = job.precompute(TARGET);
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getNextPage()).isEqualTo(2);
+        assertThat(result.getProcessed()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        verify(geminiAnalysisProvider, times(1)).analyze(any());
+        verify(checkpointRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("연속 실패 시 현재 페이지를 진행하지 않고 중단하며, 다음 실행에서 같은 페이지부터 재개")
+    void precompute_consecutiveFailures_shouldStopAndResume() {
+        ReportPrecomputeCheckpoint checkpoint = ReportPrecomputeCheckpoint.start("monthly-report:2025-05:0-of-1");
+        checkpoint.advance(0, 0, List.of());
+        when(checkpointRepository.findById("monthly-report:2025-05:0-of-1")).thenReturn(Optional.of(checkpoint));
+        when(memberServiceClient.getMemberInfoList(1, 2)).thenReturn(page(2, 1, 3L, 4L));
+
+        ReportPrecomputeCheckpoint stopped = job.precompute(TARGET);
+
+        assertThat(stopped.isCompleted()).isFalse();
+        assertThat(stopped.getNextPage()).isEqualTo(1);
+        verify(checkpointRepository, never()).save(any());
+
+        succeedGemini();
+        ReportPrecomputeCheckpoint resumed = job.precompute(TARGET);
+
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getProcessed()).isEqualTo(2);
+        verify(memberServiceClient, never()).getMemberInfoList(eq(0), anyInt());
+    }
+
+    @Test
+    @DisplayName("실패한 사원은 체크포인트에 남겨 두고 다음 실행에서 먼저 재시도하며, 성공하면 생성 수로 옮김")
+    void precompute_failedMember_shouldBeRetriedOnNextRun() {
+        List<ReportPrecomputeCheckpoint> saved = new ArrayList<>();
+        when(checkpointRepository.save(any())).thenAnswer(inv -> {
+            saved.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(checkpointRepository.findById("monthly-report:2025-05:0-of-1"))
+                .thenAnswer(inv -> saved.isEmpty() ? Optional.empty() : Optional.of(saved.get(saved.size() - 1)));
+        when(memberServiceClient.getMemberInfoList(0, 2)).thenReturn(page(1, 0, 1L, 2L));
+        AtomicBoolean member1Failing = new AtomicBoolean(true);
+        when(geminiAnalysisProvider.analyze(any())).thenAnswer(inv -> {
+            Long mbNo = inv.<AnalysisTask>getArgument(0).getMemberNo();
+            if (mbNo == 1L && member1Failing.get()) {
+                throw new IllegalStateException("Gemini 오류");
+            }
+            stored.add(mbNo);
+            return new GeminiAnalysisResponse(mbNo, "리포트");
+        });
+
+        ReportPrecomputeCheckpoint first = job.precompute(TARGET);
+
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(first.getFailed()).isEqualTo(1);
+        assertThat(first.getFailedMemberNos()).containsExactly(1L);
+
+        member1Failing.set(false);
+        when(memberServiceClient.getMemberByNo(1L, "summary"))
+                .thenReturn(new MemberInfoResponse(1L, "사원1", "m1@test.com", "010", "ROLE_USER"));
+        ReportPrecomputeCheckpoint second = job.precompute(TARGET);
+
+        assertThat(second.getFailed()).isZero();
+        assertThat(second.getProcessed()).isEqualTo(2);
+        assertThat(second.hasFailedMembers()).isFalse();
+        assertThat(stored).containsExactlyInAnyOrder(1L, 2L);
+        verify(memberServiceClient, times(1)).getMemberInfoList(0, 2);
+
+        job.precompute(TARGET);
+        verify(geminiAnalysisProvider, times(3)).analyze(any());
+    }
+
+    @Test
+    @DisplayName("완료된 달은 회원 목록을 조회하지 않음")
+    void precompute_completed_shouldDoNothing() {
+        ReportPrecomputeCheckpoint checkpoint = ReportPrecomputeCheckpoint.start("monthly-report:2025-05:0-of-1");
+        checkpoint.complete();
+        when(checkpointRepository.findById("monthly-report:2025-05:0-of-1")).thenReturn(Optional.of(checkpoint));
+
+        job.precompute(TARGET);
+
+        verifyNoInteractions(memberServiceClient, geminiAnalysisProvider);
+    }
+
+    @Test
+    @DisplayName("다중 인스턴스에서는 자신의 샤드에 속한 사원만 처리하고 샤드별 체크포인트를 사용")
+    void precompute_shouldProcessOwnShardOnly() {
+        when(clusterCoordinator.currentShard()).thenReturn(new ShardAssignment(1, 2));
+        when(checkpointRepository.findById("monthly-report:2025-05:1-of-2")).thenReturn(Optional.empty());
+        when(memberServiceClient.getMemberInfoList(0, 2)).thenReturn(page(1, 0, 1L, 2L, 3L, 4L));
+        succeedGemini();
+
+        ReportPrecomputeCheckpoint result = job.precompute(TARGET);
+
+        assertThat(result.getJobKey()).isEqualTo("monthly-report:2025-05:1-of-2");
+        assertThat(result.getProcessed()).isEqualTo(2);
+        assertThat(stored).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private void succeedGemini() {
+        when(geminiAnalysisProvider.analyze(any())).thenAnswer(inv -> {
+            Long mbNo = inv.<AnalysisTask>getArgument(0).getMemberNo();
+            stored.add(mbNo);
+            return new GeminiAnalysisResponse(mbNo, "리포트");
+        });
+    }
+
+    private MemberPageResponse page(int totalPages, int pageNumber, Long... mbNos) {
+        List<MemberInfoResponse> members = Arrays.stream(mbNos)
+                .map(no -> new MemberInfoResponse(no, "사원" + no, "m" + no + "@test.com", "010", "ROLE_USER"))
+                .toList();
+        return new MemberPageResponse(members, totalPages, members.size(), pageNumber);
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.workanalysis.service;
+
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.entity.AiTokenUsage;
+import com.nhnacademy.workanalysis.exception.TokenBudgetExceededException;
+import com.nhnacademy.workanalysis.repository.AiTokenUsageRepository;
+import com.nhnacademy.workanalysis.service.usage.impl.TokenUsageServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenUsageServiceImplTest {
+
+    @Mock
+    private AiTokenUsageRepository tokenUsageRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("checkBudget: 오늘 사용량이 예산 이상이면 거절")
+    void testCheckBudget_whenExceeded() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 1000);
+        when(tokenUsageRepository.sumTotalTokensSince(eq(1L), any(), eq("precompute"))).thenReturn(1000L);
+
+        assertThatThrownBy(() -> service.checkBudget(1L, "customs"))
+                .isInstanceOf(TokenBudgetExceededException.class);
+        assertThat(meterRegistry.get("gemini.budget.rejected").tag("endpoint", "customs").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("checkBudget: 사전 생성 사용량은 제외하고 합산하므로 남은 예산이 줄지 않음")
+    void testCheckBudget_excludesPrecompute() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 1000);
+        when(tokenUsageRepository.sumTotalTokensSince(eq(1L), any(), eq("precompute"))).thenReturn(999L);
+
+        assertThatCode(() -> service.checkBudget(1L, "reports")).doesNotThrowAnyException();
+        assertThat(service.getTodayUsage(1L)).isEqualTo(999L);
+    }
+
+    @Test
+    @DisplayName("checkBudget: 예산이 0이면 사용량을 조회하지 않음")
+    void testCheckBudget_whenUnlimited() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 0);
+
+        assertThatCode(() -> service.checkBudget(1L, "reports")).doesNotThrowAnyException();
+        verifyNoInteractions(tokenUsageRepository);
+    }
+
+    @Test
+    @DisplayName("record: 사용량 저장 및 토큰 카운터 증가")
+    void testRecord() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 0);
+        when(tokenUsageRepository.save(any())).thenAnswer(invocation -> {
+            AiTokenUsage usage = invocation.getArgument(0);
+            ReflectionTestUtils.setField(usage, "usageId", 5L);
+            return usage;
+        });
+
+        Long usageId = service.record(1L, 10L, "customs", new GeminiCompletion("응답", "STOP", 120, 30, 150, "gemini-2.0-flash"));
+
+        assertThat(usageId).isEqualTo(5L);
+        ArgumentCaptor<AiTokenUsage> captor = ArgumentCaptor.forClass(AiTokenUsage.class);
+        verify(tokenUsageRepository).save(captor.capture());
+        assertThat(captor.getValue().getThreadId()).isEqualTo(10L);
+        assertThat(captor.getValue().getTotalTokens()).isEqualTo(150);
+        assertThat(meterRegistry.get("gemini.tokens").tags("endpoint", "customs", "type", "prompt").counter().count())
+                .isEqualTo(120.0);
+        assertThat(meterRegistry.get("gemini.tokens").tags("model", "gemini-2.0-flash", "type", "candidates").counter().count())
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("record: usageMetadata가 없으면 저장하지 않음")
+    void testRecord_withoutUsage() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 0);
+
+        assertThat(service.record(1L, null, "reports", new GeminiCompletion("응답", null, null, null, null, "gemini-2.0-flash")))
+                .isNull();
+        verifyNoInteractions(tokenUsageRepository);
+    }
+
+    @Test
+    @DisplayName("linkHistory: 사용량 기록 ID로 찾은 기록을 히스토리와 연결")
+    void testLinkHistory() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 0);
+        AiTokenUsage usage = AiTokenUsage.of(1L, 10L, "customs", "gemini-2.0-flash", 1, 1, 2);
+        when(tokenUsageRepository.findById(5L)).thenReturn(Optional.of(usage));
+
+        service.linkHistory(5L, 10L, 100L);
+
+        assertThat(usage.getHistoryId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("linkHistory: 다른 쓰레드의 기록이거나 이미 연결된 기록은 연결하지 않음")
+    void testLinkHistory_whenThreadMismatchOrLinked() {
+        TokenUsageServiceImpl service = new TokenUsageServiceImpl(tokenUsageRepository, meterRegistry, 0);
+        AiTokenUsage otherThread = AiTokenUsage.of(1L, 11L, "customs", "gemini-2.0-flash", 1, 1, 2);
+        AiTokenUsage linked = AiTokenUsage.of(1L, 10L, "customs", "gemini-2.0-flash", 1, 1, 2);
+        linked.linkHistory(99L);
+        when(tokenUsageRepository.findById(5L)).thenReturn(Optional.of(otherThread));
+        when(tokenUsageRepository.findById(6L)).thenReturn(Optional.of(linked));
+
+        service.linkHistory(5L, 10L, 100L);
+        service.linkHistory(6L, 10L, 100L);
+
+        assertThat(otherThread.getHistoryId()).isNull();
+        assertThat(linked.getHistoryId()).isEqualTo(99L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.dto.WorkRecordDto;
+import com.nhnacademy.workanalysis.service.analysis.impl.RuleBasedAnalysisProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RuleBasedAnalysisProvider}의 처리 범위 판단과 통계 계산 결과를 검증합니다.
+ */
+class RuleBasedAnalysisProviderTest {
+
+    private final RuleBasedAnalysisProvider provider = new RuleBasedAnalysisProvider();
+
+    private static final List<WorkRecordDto> RECORDS = List.of(
+            new WorkRecordDto("2025-05-05", "월", "1", "08:40", "18:00"),
+            new WorkRecordDto("2025-05-01", "목", "1", "09:00", "18:00"),
+            new WorkRecordDto("2025-05-02", "금", "1", "08:50", "18:30"),
+            new WorkRecordDto("2025-05-06", "화", "2", "09:30", "18:00"),
+            new WorkRecordDto("2025-05-07", "수", "3", null, null),
+            new WorkRecordDto("2025-05-08", "목", "4", "09:10:00", "17:30")
+    );
+
+    @Test
+    @DisplayName("월간 리포트 - 지각/결근/평균 출근 시간/최장 연속 출근 요약")
+    void analyze_monthlyReport() {
+        AnalysisTask task = AnalysisTask.builder()
+                .type(AnalysisType.MONTHLY_REPORT)
+                .memberNo(1L)
+                .memberName("홍길동")
+                .year(2025)
+                .month(5)
+                .workRecords(RECORDS)
+                .build();
+
+        assertThat(provider.supports(task)).isTrue();
+        String text = provider.analyze(task).getFullText();
+
+        assertThat(text)
+                .contains("홍길동 사원의 2025년 5월")
+                .contains("| 기록 일수 | 6일 |")
+                .contains("| 지각 | 1일 |")
+                .contains("| 결근 | 1일 |")
+                // (520 + 540 + 530 + 570 + 550) / 5 = 542분
+                .contains("| 평균 출근 시간 | 09:02 |")
+                .contains("| 최장 연속 정상 출근 | 3일 |")
+                .contains("- 지각: 2025-05-06")
+                .contains("- 결근: 2025-05-07");
+    }
+
+    @Test
+    @DisplayName("AI 분석을 요청한 리포트나 근무 기록이 없는 작업은 처리하지 않음")
+    void supports_whenAiRequestedOrNoRecords() {
+        AnalysisTask aiRequested = AnalysisTask.builder()
+                .type(AnalysisType.MONTHLY_REPORT).memberNo(1L).workRecords(RECORDS).aiRequested(true).build();
+        AnalysisTask noRecords = AnalysisTask.builder()
+                .type(AnalysisType.CUSTOM_QUESTION).memberNo(1L).message(new MessageDto("user", "지각 며칠?")).build();
+
+        assertThat(provider.supports(aiRequested)).isFalse();
+        assertThat(provider.supports(noRecords)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정형 질문만 처리하고 원인·조언 등 자유 질문은 Gemini로 넘김")
+    void supports_customQuestions() {
+        assertThat(provider.supports(question("평균 출근 시간 알려줘"))).isTrue();
+        assertThat(provider.supports(question("연속 출근 최대 며칠?"))).isTrue();
+        assertThat(provider.supports(question("지각이 왜 이렇게 많을까?"))).isFalse();
+        assertThat(provider.supports(question("다음 달 근무 계획을 세워줘"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("정형 질문 - 평균 출근 시간 응답")
+    void analyze_arrivalQuestion() {
+        String text = provider.analyze(question("평균 출근 시간 알려줘")).getFullText();
+
+        assertThat(text).isEqualTo("평균 출근 시간은 **09:02**입니다.");
+    }
+
+    private static AnalysisTask question(String content) {
+        return AnalysisTask.builder()
+                .type(AnalysisType.CUSTOM_QUESTION)
+                .memberNo(1L)
+                .workRecords(RECORDS)
+                .message(new MessageDto("assistant", "이전 응답"))
+                .message(new MessageDto("user", content))
+                .build();
+    }
+}
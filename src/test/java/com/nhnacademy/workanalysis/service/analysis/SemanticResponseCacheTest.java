@@ -0,0 +1,89 @@
+package com.nhnacademy.workanalysis.service.analysis;
+
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.dto.MessageDto;
+import com.nhnacademy.workanalysis.dto.WorkRecordDto;
+import com.nhnacademy.workanalysis.service.analysis.cache.SemanticResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SemanticResponseCache}의 근사 일치 조회, 범위 분리, LRU 제거를 검증합니다.
+ */
+class SemanticResponseCacheTest {
+
+    private static final List<WorkRecordDto> RECORDS = List.of(
+            new WorkRecordDto("2025-05-01", "목", "2", "09:20", "18:00"));
+
+    private SimpleMeterRegistry meterRegistry;
+    private SemanticResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SemanticResponseCache(true, 0.8, 3, 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기·동의 표현만 다른 질문은 캐시된 응답을 반환")
+    void get_nearDuplicateQuestion_shouldHit() {
+        cache.put(task(1L, RECORDS, "이번 달 지각 몇 번?"), new GeminiAnalysisResponse(1L, "지각은 1번입니다."));
+
+        assertThat(cache.get(task(1L, RECORDS, "이번달 지각 횟수")))
+                .hasValueSatisfying(r -> assertThat(r.getFullText()).isEqualTo("지각은 1번입니다."));
+        assertThat(cache.get(task(1L, RECORDS, "이번 달 지각 몇번 알려줘"))).isPresent();
+        assertThat(meterRegistry.get("gemini.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("의미가 다른 질문은 캐시를 사용하지 않음")
+    void get_differentQuestion_shouldMiss() {
+        cache.put(task(1L, RECORDS, "이번 달 지각 몇 번?"), new GeminiAnalysisResponse(1L, "지각은 1번입니다."));
+
+        assertThat(cache.get(task(1L, RECORDS, "이번 달 결근 몇 번?"))).isEmpty();
+        assertThat(cache.get(task(1L, RECORDS, "야근이 많은 요일은?"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사원이나 다른 근무 기록 버전의 응답은 재사용하지 않음")
+    void get_differentScope_shouldMiss() {
+        cache.put(task(1L, RECORDS, "이번 달 지각 몇 번?"), new GeminiAnalysisResponse(1L, "지각은 1번입니다."));
+        List<WorkRecordDto> updated = List.of(
+                new WorkRecordDto("2025-05-01", "목", "2", "09:20", "18:00"),
+                new WorkRecordDto("2025-05-02", "금", "2", "09:40", "18:00"));
+
+        assertThat(cache.get(task(2L, RECORDS, "이번 달 지각 몇 번?"))).isEmpty();
+        assertThat(cache.get(task(1L, updated, "이번 달 지각 몇 번?"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void put_overCapacity_shouldEvictLeastRecentlyUsed() {
+        cache.put(task(1L, RECORDS, "이번 달 지각 몇 번?"), new GeminiAnalysisResponse(1L, "A"));
+        cache.put(task(1L, RECORDS, "이번 달 결근 몇 번?"), new GeminiAnalysisResponse(1L, "B"));
+        cache.put(task(1L, RECORDS, "평균 출근 시간은?"), new GeminiAnalysisResponse(1L, "C"));
+        // 첫 번째 항목을 사용하여 최근 사용 항목으로 만듭니다.
+        assertThat(cache.get(task(1L, RECORDS, "이번 달 지각 몇 번?"))).isPresent();
+
+        cache.put(task(1L, RECORDS, "가장 늦게 퇴근한 날은?"), new GeminiAnalysisResponse(1L, "D"));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(task(1L, RECORDS, "이번 달 지각 몇 번?"))).isPresent();
+        assertThat(cache.get(task(1L, RECORDS, "이번 달 결근 몇 번?"))).isEmpty();
+    }
+
+    private static AnalysisTask task(Long memberNo, List<WorkRecordDto> records, String question) {
+        return AnalysisTask.builder()
+                .type(AnalysisType.CUSTOM_QUESTION)
+                .memberNo(memberNo)
+                .workRecords(records)
+                .message(new MessageDto("user", question))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.repository.ClusterNodeRepository;
+import com.nhnacademy.workanalysis.repository.DistributedLeaseRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB를 공유하는 두 인스턴스의 {@link ClusterCoordinator}로 리더 선출, 샤드 분할, 장애 노드 인계를 검증합니다.
+ * 각 인스턴스의 작업이 서로에게 바로 보여야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ClusterCoordinatorTest.QueryDslTestConfig.class)
+@TestPropertySource(properties = {
+        "member.service.url=http://localhost:8080",
+        "work.entry.service.url=http://localhost:8081"
+})
+class ClusterCoordinatorTest {
+
+    private static final long TTL_MS = 500;
+
+    @Autowired
+    private ClusterNodeRepository nodeRepository;
+
+    @Autowired
+    private DistributedLeaseRepository leaseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ClusterCoordinator nodeA;
+    private ClusterCoordinator nodeB;
+
+    @BeforeEach
+    void setUp() {
+        LeaseManager leaseManager = new LeaseManager(leaseRepository, entityManager, transactionManager);
+        nodeA = new ClusterCoordinator(leaseManager, nodeRepository, transactionManager, "node-a", "analysis-service", TTL_MS);
+        nodeB = new ClusterCoordinator(leaseManager, nodeRepository, transactionManager, "node-b", "analysis-service", TTL_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 인스턴스 중 하나만 리더가 되고, 사원을 겹치지 않게 나눠 맡음")
+    void heartbeat_twoNodes_shouldElectOneLeaderAndSplitShards() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        assertThat(nodeA.isLeader()).isTrue();
+        assertThat(nodeB.isLeader()).isFalse();
+
+        ShardAssignment shardA = nodeA.currentShard();
+        ShardAssignment shardB = nodeB.currentShard();
+        assertThat(shardA.getCount()).isEqualTo(2);
+        assertThat(shardB.getCount()).isEqualTo(2);
+        LongStream.rangeClosed(1, 20).forEach(mbNo ->
+                assertThat(shardA.owns(mbNo) ^ shardB.owns(mbNo)).as("mbNo %d", mbNo).isTrue());
+    }
+
+    @Test
+    @DisplayName("리더 노드의 하트비트가 끊기면 남은 노드가 리더와 전체 샤드를 인계")
+    void heartbeat_whenLeaderStops_shouldTakeOver() throws InterruptedException {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        assertThat(nodeA.isLeader()).isTrue();
+
+        Thread.sleep(TTL_MS + 200);
+        nodeB.heartbeat();
+
+        assertThat(nodeB.isLeader()).isTrue();
+        assertThat(nodeB.currentShard()).isEqualTo(new ShardAssignment(0, 1));
+    }
+
+    @Test
+    @DisplayName("종료한 리더는 임대를 해제하여 TTL을 기다리지 않고 인계")
+    void leave_shouldReleaseLeadershipImmediately() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        nodeA.leave();
+        nodeB.heartbeat();
+
+        assertThat(nodeB.isLeader()).isTrue();
+        assertThat(nodeB.currentShard()).isEqualTo(new ShardAssignment(0, 1));
+    }
+
+    /**
+     * @DataJpaTest 슬라이스에서 커스텀 리포지토리 구현체가 사용하는 JPAQueryFactory를 등록합니다.
+     */
+    @TestConfiguration
+    static class QueryDslTestConfig {
+        @PersistenceContext
+        private EntityManager em;
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory() {
+            return new JPAQueryFactory(em);
+        }
+    }
+}
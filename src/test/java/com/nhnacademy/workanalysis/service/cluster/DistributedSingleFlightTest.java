@@ -0,0 +1,177 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.repository.ClusterNodeRepository;
+import com.nhnacademy.workanalysis.repository.DistributedLeaseRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB를 공유하는 두 인스턴스의 {@link DistributedSingleFlight}가 같은 키의 작업을 한 번만 실행하는지 검증합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DistributedSingleFlightTest.QueryDslTestConfig.class)
+@TestPropertySource(properties = {
+        "member.service.url=http://localhost:8080",
+        "work.entry.service.url=http://localhost:8081"
+})
+class DistributedSingleFlightTest {
+
+    private static final String KEY = "report:1:2025-05";
+
+    @Autowired
+    private ClusterNodeRepository nodeRepository;
+
+    @Autowired
+    private DistributedLeaseRepository leaseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LeaseManager leaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    /**
+     * 두 인스턴스가 공유하는 결과 저장소
+     */
+    private final AtomicReference<String> persisted = new AtomicReference<>();
+    private final AtomicInteger computeCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new LeaseManager(leaseRepository, entityManager, transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 생성 중이면 기다렸다가 저장된 결과를 사용")
+    void execute_concurrentInstances_shouldComputeOnce() throws Exception {
+        DistributedSingleFlight instanceA = singleFlight("node-a", 10_000);
+        DistributedSingleFlight instanceB = singleFlight("node-b", 10_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> instanceA.execute(KEY, this::lookup, () -> {
+            started.countDown();
+            await(release);
+            return compute("A");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = executor.submit(() -> instanceB.execute(KEY, this::lookup, () -> compute("B")));
+
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(computeCount).hasValue(1);
+        assertThat(meterRegistry.get("report.single-flight").tag("result", "follower").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("먼저 실행한 인스턴스가 결과를 저장하지 못하면 대기하던 인스턴스가 임대를 넘겨받아 실행")
+    void execute_whenLeaderFails_shouldTakeOver() throws Exception {
+        DistributedSingleFlight instanceA = singleFlight("node-a", 10_000);
+        DistributedSingleFlight instanceB = singleFlight("node-b", 10_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> instanceA.execute(KEY, this::lookup, () -> {
+            started.countDown();
+            await(release);
+            computeCount.incrementAndGet();
+            return "실패";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = executor.submit(() -> instanceB.execute(KEY, this::lookup, () -> compute("B")));
+
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("실패");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThat(computeCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("임대 보유자가 응답하지 않으면 최대 대기 시간 후 직접 실행")
+    void execute_whenOwnerUnresponsive_shouldComputeAfterTimeout() {
+        leaseManager.tryAcquire(KEY, "crashed-node", Duration.ofMinutes(1));
+        DistributedSingleFlight instanceB = singleFlight("node-b", 300);
+
+        assertThat(instanceB.execute(KEY, this::lookup, () -> compute("B"))).isEqualTo("B");
+        assertThat(meterRegistry.get("report.single-flight").tag("result", "timeout").counter().count()).isEqualTo(1.0);
+    }
+
+    private DistributedSingleFlight singleFlight(String nodeId, long waitTimeoutMs) {
+        ClusterCoordinator coordinator = new ClusterCoordinator(leaseManager, nodeRepository, transactionManager,
+                nodeId, "analysis-service", 30_000);
+        return new DistributedSingleFlight(leaseManager, coordinator, meterRegistry, true, 60_000, waitTimeoutMs, 50);
+    }
+
+    private Optional<String> lookup() {
+        return Optional.ofNullable(persisted.get());
+    }
+
+    private String compute(String result) {
+        computeCount.incrementAndGet();
+        persisted.set(result);
+        return result;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @DataJpaTest 슬라이스에서 커스텀 리포지토리 구현체가 사용하는 JPAQueryFactory를 등록합니다.
+     */
+    @TestConfiguration
+    static class QueryDslTestConfig {
+        @PersistenceContext
+        private EntityManager em;
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory() {
+            return new JPAQueryFactory(em);
+        }
+    }
+}
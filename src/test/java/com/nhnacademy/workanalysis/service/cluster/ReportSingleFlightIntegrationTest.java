@@ -0,0 +1,116 @@
+package com.nhnacademy.workanalysis.service.cluster;
+
+import com.nhnacademy.workanalysis.adaptor.AiChatApiClient;
+import com.nhnacademy.workanalysis.adaptor.MemberServiceClient;
+import com.nhnacademy.workanalysis.adaptor.WorkEntryClient;
+import com.nhnacademy.workanalysis.adaptor.gemini.GeminiCompletion;
+import com.nhnacademy.workanalysis.dto.GeminiAnalysisResponse;
+import com.nhnacademy.workanalysis.dto.ReportRequestDto;
+import com.nhnacademy.workanalysis.dto.attendance.AttendanceSummaryDto;
+import com.nhnacademy.workanalysis.dto.attendance.MemberInfoResponse;
+import com.nhnacademy.workanalysis.dto.attendance.PageResponse;
+import com.nhnacademy.workanalysis.repository.AiMonthlyReportRepository;
+import com.nhnacademy.workanalysis.service.AiChatService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실제 트랜잭션 경계를 가진 {@link AiChatService#generateReport}와 {@code MonthlyReportStore}를 거쳐
+ * 같은 월간 리포트 요청이 동시에 들어와도 Gemini를 한 번만 호출하는지 검증합니다.
+ * <p>
+ * MySQL 기본값과 같은 REPEATABLE READ 격리 수준과 두 개짜리 커넥션 풀을 사용하여,
+ * 대기하는 요청이 트랜잭션을 붙잡고 있으면 생성된 리포트를 보지 못하거나 커넥션이 모자라 실패하도록 구성합니다.
+ * </p>
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "member.service.url=http://localhost:8080",
+        "work.entry.service.url=http://localhost:8081",
+        "gemini.api.key=dummy-key",
+        "eureka.client.enabled=false",
+        "report.precompute.enabled=false",
+        "report.single-flight.poll-interval-ms=50",
+        "report.single-flight.wait-timeout-ms=10000",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ"
+})
+class ReportSingleFlightIntegrationTest {
+
+    private static final long MB_NO = 7L;
+
+    @Autowired
+    private AiChatService aiChatService;
+
+    @Autowired
+    private AiMonthlyReportRepository monthlyReportRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AiChatApiClient aiChatApiClient;
+
+    @MockitoBean
+    private MemberServiceClient memberServiceClient;
+
+    @MockitoBean
+    private WorkEntryClient workEntryClient;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        monthlyReportRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("먼저 들어온 요청이 생성 중이면 다음 요청은 트랜잭션 없이 기다렸다가 커밋된 리포트를 사용")
+    void concurrentReports_shouldCallGeminiOnce() throws Exception {
+        when(memberServiceClient.getMemberByNo(MB_NO, "summary"))
+                .thenReturn(new MemberInfoResponse(MB_NO, "홍길동", "hong@nhn.com", "010", "USER"));
+        when(workEntryClient.getRecent30DaySummary(MB_NO)).thenReturn(new PageResponse<>(List.of(
+                new AttendanceSummaryDto(2025, 5, 2, 8, LocalDateTime.of(2025, 5, 2, 9, 0),
+                        LocalDateTime.of(2025, 5, 2, 18, 0), 1L)), 1, 1, 30, 0));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiChatApiClient.call(anyList(), eq(MB_NO), anyBoolean(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            Consumer<GeminiCompletion> listener = invocation.getArgument(3);
+            listener.accept(new GeminiCompletion("5월 리포트", "STOP", 10, 20, 30, "gemini-test"));
+            return new GeminiAnalysisResponse(MB_NO, "5월 리포트");
+        });
+
+        Future<GeminiAnalysisResponse> leader = executor.submit(() -> aiChatService.generateReport(request()));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<GeminiAnalysisResponse> follower = executor.submit(() -> aiChatService.generateReport(request()));
+        Thread.sleep(300);
+        release.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS).getFullText()).isEqualTo("5월 리포트");
+        assertThat(follower.get(10, TimeUnit.SECONDS).getFullText()).isEqualTo("5월 리포트");
+        verify(aiChatApiClient, times(1)).call(anyList(), eq(MB_NO), anyBoolean(), any());
+        assertThat(meterRegistry.get("report.single-flight").tag("result", "follower").counter().count()).isEqualTo(1.0);
+    }
+
+    private static ReportRequestDto request() {
+        return new ReportRequestDto(MB_NO, 2025, 5, List.of("1"), true);
+    }
+}
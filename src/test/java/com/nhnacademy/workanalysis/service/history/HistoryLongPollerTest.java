@@ -0,0 +1,148 @@
+package com.nhnacademy.workanalysis.service.history;
+
+import com.nhnacademy.workanalysis.deadline.RequestDeadline;
+import com.nhnacademy.workanalysis.dto.AiChatHistoryDeltaDto;
+import com.nhnacademy.workanalysis.dto.AiChatHistoryDto;
+import com.nhnacademy.workanalysis.executor.RequestTaskGroup;
+import com.nhnacademy.workanalysis.executor.WorkloadExecutors;
+import com.nhnacademy.workanalysis.service.AiChatService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link HistoryLongPoller}의 즉시 응답, 저장 신호에 의한 재조회, 주기적 재조회, 대기 시간 만료를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class HistoryLongPollerTest {
+
+    private static final Long THREAD_ID = 1L;
+
+    @Mock
+    private AiChatService aiChatService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HistoryUpdateNotifier notifier = new HistoryUpdateNotifier(registry);
+    private final WorkloadExecutors executors = new WorkloadExecutors(registry, 1, 4, 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdown();
+    }
+
+    @Test
+    @DisplayName("기다리지 않는 요청은 바로 조회 결과를 반환하고 조회 개수를 100개로 제한")
+    void returnsImmediatelyWithoutWait() {
+        when(aiChatService.getHistoriesAfter(THREAD_ID, 5L, 100)).thenReturn(empty(5L));
+
+        CompletableFuture<AiChatHistoryDeltaDto> result = poller(5000).poll(THREAD_ID, 5L, 500, 0);
+
+        assertThat(result).isCompletedWithValue(empty(5L));
+    }
+
+    @Test
+    @DisplayName("새 메시지가 없으면 스레드를 점유하지 않고 기다리다가 저장 신호를 받으면 다시 조회")
+    void wakesUpOnPublish() throws Exception {
+        when(aiChatService.getHistoriesAfter(THREAD_ID, 5L, 100)).thenReturn(empty(5L), delta(6L));
+
+        CompletableFuture<AiChatHistoryDeltaDto> result = poller(60_000).poll(THREAD_ID, 5L, 100, 20);
+        assertThat(result).isNotDone();
+        assertThat(registry.get("analysis.history.delta.waiting").gauge().value()).isEqualTo(1);
+
+        notifier.publish(THREAD_ID);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getCursor()).isEqualTo(6L);
+        assertThat(registry.get("analysis.history.delta.waiting").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 요청의 스레드가 저장 신호를 보내도 재조회는 폴링한 요청의 처리 시한으로 실행되고 그 요청의 작업에 묶이지 않음")
+    void recheckKeepsPollerContext() throws Exception {
+        AtomicReference<Optional<Duration>> recheckDeadline = new AtomicReference<>();
+        when(aiChatService.getHistoriesAfter(THREAD_ID, 5L, 100)).thenReturn(empty(5L)).thenAnswer(invocation -> {
+            recheckDeadline.set(RequestDeadline.remaining());
+            return delta(6L);
+        });
+        RequestDeadline.start(Duration.ofSeconds(30));
+        CompletableFuture<AiChatHistoryDeltaDto> result;
+        try {
+            result = poller(60_000).poll(THREAD_ID, 5L, 100, 20);
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // 저장 요청의 스레드: 짧은 처리 시한과 자신의 요청 속성을 가진 채 신호를 보냄
+        ServletRequestAttributes publisherRequest = new ServletRequestAttributes(new MockHttpServletRequest());
+        Thread publisher = new Thread(() -> {
+            RequestContextHolder.setRequestAttributes(publisherRequest);
+            RequestDeadline.start(Duration.ofMillis(200));
+            try {
+                notifier.publish(THREAD_ID);
+            } finally {
+                RequestDeadline.clear();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+        publisher.start();
+        publisher.join();
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getCursor()).isEqualTo(6L);
+        assertThat(recheckDeadline.get()).hasValueSatisfying(
+                remaining -> assertThat(remaining).isGreaterThan(Duration.ofSeconds(20)));
+        assertThat(RequestTaskGroup.of(publisherRequest)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 저장된 메시지도 주기적 재조회로 전달")
+    void rechecksPeriodically() throws Exception {
+        when(aiChatService.getHistoriesAfter(THREAD_ID, 5L, 100)).thenReturn(empty(5L), empty(5L), delta(7L));
+
+        AiChatHistoryDeltaDto result = poller(50).poll(THREAD_ID, 5L, 100, 20).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getCursor()).isEqualTo(7L);
+        verify(aiChatService, times(3)).getHistoriesAfter(THREAD_ID, 5L, 100);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 새 메시지가 없으면 빈 목록과 원래 커서를 반환")
+    void returnsEmptyAfterWait() throws Exception {
+        when(aiChatService.getHistoriesAfter(THREAD_ID, 5L, 100)).thenReturn(empty(5L));
+
+        AiChatHistoryDeltaDto result = poller(60_000).poll(THREAD_ID, 5L, 100, 1).get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(empty(5L));
+        assertThat(registry.get("analysis.history.delta.waiting").gauge().value()).isZero();
+    }
+
+    private HistoryLongPoller poller(long recheckMs) {
+        return new HistoryLongPoller(aiChatService, notifier, executors, 25, recheckMs);
+    }
+
+    private static AiChatHistoryDeltaDto empty(Long cursor) {
+        return new AiChatHistoryDeltaDto(THREAD_ID, List.of(), cursor, false);
+    }
+
+    private static AiChatHistoryDeltaDto delta(Long historyId) {
+        return new AiChatHistoryDeltaDto(THREAD_ID,
+                List.of(new AiChatHistoryDto(historyId, "user", "새 메시지", LocalDateTime.of(2025, 5, 22, 13, 35))),
+                historyId, false);
+    }
+}
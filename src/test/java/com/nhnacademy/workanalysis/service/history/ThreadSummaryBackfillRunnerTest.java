@@ -0,0 +1,60 @@
+package com.nhnacademy.workanalysis.service.history;
+
+import com.nhnacademy.workanalysis.repository.AiChatThreadRepository;
+import com.nhnacademy.workanalysis.service.cluster.ClusterCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ThreadSummaryBackfillRunner}의 배치 반복과 리더 인스턴스에서만 실행되는 주기적 채우기를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ThreadSummaryBackfillRunnerTest {
+
+    @Mock
+    private AiChatThreadRepository aiChatThreadRepository;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadSummaryBackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new ThreadSummaryBackfillRunner(aiChatThreadRepository, clusterCoordinator, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 찬 동안 반복하고 마지막 배치가 모자라면 멈춤")
+    void backfill_repeatsFullBatches() {
+        when(aiChatThreadRepository.backfillSummaries(2)).thenReturn(2, 2, 1);
+
+        assertThat(runner.backfill()).isEqualTo(5);
+        verify(aiChatThreadRepository, times(3)).backfillSummaries(2);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("주기적 채우기는 리더 인스턴스에서만 실행")
+    void backfillPeriodically_onlyOnLeader() {
+        when(clusterCoordinator.isLeader()).thenReturn(false, true);
+        when(aiChatThreadRepository.backfillSummaries(2)).thenReturn(1);
+
+        runner.backfillPeriodically();
+        verifyNoInteractions(aiChatThreadRepository);
+
+        runner.backfillPeriodically();
+        verify(aiChatThreadRepository).backfillSummaries(2);
+    }
+}
@@ -0,0 +1,207 @@
+package com.nhnacademy.workanalysis.startup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 패키징된 애플리케이션(JVM jar 또는 native 바이너리)을 별도 프로세스로 띄우고 준비될 때까지 기다립니다.
+ * <p>
+ * Config Server와 Eureka는 끄고 내장 H2를 사용하므로 오프라인에서 실행됩니다.
+ * AOT/native 빌드는 Eureka 클라이언트를 포함한 채 빌드되므로 등록과 레지스트리 조회도 실행 인자로 끕니다.
+ * 준비 시간은 프로세스 시작부터 {@code /actuator/health}가 응답할 때까지의 벽시계 시간이며,
+ * 로그에 {@code Started ... in X seconds}가 있으면 Spring이 보고한 시간도 함께 기록합니다.
+ * </p>
+ */
+@Slf4j
+public final class ApplicationProcess implements AutoCloseable {
+
+    /**
+     * 외부 설정/디스커버리 없이 기동하기 위한 공통 인자
+     */
+    public static final List<String> OFFLINE_ARGS = List.of(
+            "--spring.cloud.config.enabled=false",
+            "--eureka.client.enabled=false",
+            "--eureka.client.register-with-eureka=false",
+            "--eureka.client.fetch-registry=false",
+            "--spring.datasource.url=jdbc:h2:mem:startup",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--report.precompute.enabled=false");
+
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private final String name;
+    private final Process process;
+    private final int port;
+    private final Thread reader;
+    private final AtomicReference<Double> reportedSeconds = new AtomicReference<>(0.0);
+    private double readyMillis;
+
+    private ApplicationProcess(String name, Process process, int port) {
+        this.name = name;
+        this.process = process;
+        this.port = port;
+        this.reader = Thread.ofVirtual().start(this::drain);
+    }
+
+    /**
+     * JVM으로 jar를 실행하는 명령의 앞부분을 만듭니다.
+     *
+     * @param jar        실행할 jar
+     * @param jvmOptions {@code -D}, {@code -XX} 등 JVM 옵션
+     * @return {@code java [옵션] -jar <jar>}
+     */
+    public static List<String> jvm(Path jar, List<String> jvmOptions) {
+        List<String> launcher = new ArrayList<>();
+        launcher.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        launcher.addAll(jvmOptions);
+        launcher.addAll(List.of("-jar", jar.toString()));
+        return launcher;
+    }
+
+    /**
+     * 프로세스를 시작하고 준비될 때까지 기다립니다.
+     *
+     * @param name      로그/예외에 표시할 이름
+     * @param launcher  실행 명령 ({@link #jvm} 또는 native 바이너리 경로)
+     * @param arguments {@link #OFFLINE_ARGS} 뒤에 붙일 애플리케이션 인자 (중복 키는 허용되지 않음)
+     * @param timeout   준비 대기 한도
+     * @return 준비된 프로세스
+     * @throws IOException          프로세스를 시작하지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    public static ApplicationProcess start(String name, List<String> launcher, List<String> arguments, Duration timeout)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(OFFLINE_ARGS);
+        command.addAll(arguments);
+        command.add("--server.port=" + port);
+
+        long begin = System.nanoTime();
+        ApplicationProcess app = new ApplicationProcess(name, new ProcessBuilder(command).redirectErrorStream(true).start(), port);
+        try {
+            app.awaitReady(begin, timeout);
+        } catch (InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    /**
+     * @return {@code http://localhost:<port>}
+     */
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * @return 프로세스 시작부터 health 응답까지의 벽시계 시간(ms)
+     */
+    public double readyMillis() {
+        return readyMillis;
+    }
+
+    /**
+     * @return Spring이 로그로 보고한 기동 시간(ms), 로그에 없으면 0
+     */
+    public double reportedMillis() {
+        return reportedSeconds.get() * 1000;
+    }
+
+    /**
+     * 현재 상주 메모리(RSS)를 {@code /proc/<pid>/status}에서 읽습니다.
+     *
+     * @return RSS(KB), Linux가 아니거나 읽지 못하면 -1
+     */
+    public long rssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ignored) {
+            // /proc이 없는 환경
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        reader.join(Duration.ofSeconds(1));
+    }
+
+    private void awaitReady(long begin, Duration timeout) throws InterruptedException {
+        URI health = URI.create(baseUrl() + "/actuator/health");
+        while (!responds(health)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " 기동 실패 (exit=" + process.exitValue() + ")");
+            }
+            if (System.nanoTime() - begin > timeout.toNanos()) {
+                throw new IllegalStateException(name + " 기동 시간 초과 (" + timeout + ")");
+            }
+            Thread.sleep(20);
+        }
+        readyMillis = (System.nanoTime() - begin) / 1_000_000.0;
+        // Started 로그는 웹 서버가 열린 직후에 출력되므로 잠시 기다림
+        for (int i = 0; i < 100 && reportedSeconds.get() == 0; i++) {
+            Thread.sleep(20);
+        }
+        log.info("⏱ {} 준비 {}ms, RSS {}KB", name, String.format("%.0f", readyMillis), rssKb());
+    }
+
+    private static boolean responds(URI uri) throws InterruptedException {
+        try {
+            HTTP.send(HttpRequest.newBuilder(uri).timeout(Duration.ofMillis(500)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void drain() {
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    reportedSeconds.set(Double.parseDouble(matcher.group(1)));
+                }
+            }
+        } catch (IOException ignored) {
+            // 프로세스 종료 시 스트림이 닫힘
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.workanalysis.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 패키징된 애플리케이션을 별도 프로세스로 여러 번 기동하여 구성별 기동 시간과 상주 메모리를 비교합니다.
+ * <p>
+ * 각 기동은 {@link ApplicationProcess}로 오프라인 실행되며, 준비 직후의 RSS를 함께 기록합니다.
+ * 일반 빌드에서는 실행되지 않으며 먼저 {@code scripts/fast-startup.sh}(JVM 구성)나
+ * {@code ./mvnw -Pnative native:compile}(native 구성)로 실행 파일을 만들어야 합니다.
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=StartupTimeBenchmarkTest -Dstartup.benchmark=true -Dstartup.runs=10
+ *
+ * startup.runs          구성별 기동 횟수 (기본 5, 별도로 첫 기동 1회는 디스크 캐시 영향으로 제외)
+ * startup.variants      비교할 구성 (기본 baseline,fast-startup,aot,cds + native 바이너리가 있으면 native)
+ * startup.jar           기동할 jar (기본 target/fast-startup/work-analysis-0.0.1-SNAPSHOT.jar)
+ * startup.archive       AppCDS 아카이브 (기본 target/fast-startup/app.jsa)
+ * startup.native-binary native 실행 파일 (기본 target/work-analysis)
+ * startup.report-dir    결과 파일 디렉터리 (기본 target/startup)
+ * </pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "startup.benchmark", matches = "true")
+class StartupTimeBenchmarkTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+    private final int runs = Integer.getInteger("startup.runs", 5);
+    private final Path jar = Path.of(System.getProperty("startup.jar",
+            "target/fast-startup/work-analysis-0.0.1-SNAPSHOT.jar"));
+    private final Path archive = Path.of(System.getProperty("startup.archive", "target/fast-startup/app.jsa"));
+    private final Path nativeBinary = Path.of(System.getProperty("startup.native-binary", "target/work-analysis"));
+    private final List<String> variants = Arrays.asList(System.getProperty("startup.variants",
+            "baseline,fast-startup,aot,cds" + (Files.isExecutable(nativeBinary) ? ",native" : "")).split(","));
+
+    @Test
+    @DisplayName("구성별 기동 시간(벽시계/Spring 보고)과 RSS 중앙값, 최솟값, 평균 비교")
+    void compareStartupTimes() throws Exception {
+        Map<String, List<double[]>> results = new LinkedHashMap<>();
+        for (String variant : variants) {
+            String name = variant.trim();
+            startOnce(name);
+            List<double[]> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(startOnce(name));
+            }
+            results.put(name, samples);
+        }
+
+        StringBuilder report = new StringBuilder(String.format("%-14s %6s %10s %10s %10s %12s %10s%n",
+                "variant", "runs", "median(ms)", "min(ms)", "mean(ms)", "spring(ms)", "rss(MB)"));
+        results.forEach((name, samples) -> {
+            double[] wall = samples.stream().mapToDouble(s -> s[0]).sorted().toArray();
+            double[] reported = samples.stream().mapToDouble(s -> s[1]).filter(v -> v > 0).sorted().toArray();
+            double[] rss = samples.stream().mapToDouble(s -> s[2]).filter(v -> v > 0).sorted().toArray();
+            report.append(String.format("%-14s %6d %10.0f %10.0f %10.0f %12s %10s%n", name, wall.length,
+                    median(wall), wall[0], Arrays.stream(wall).average().orElse(0),
+                    reported.length == 0 ? "-" : String.format("%.0f", median(reported)),
+                    rss.length == 0 ? "-" : String.format("%.0f", median(rss) / 1024)));
+        });
+        log.info("📊 기동 시간 비교 (jar={}, native={})\n{}", jar, nativeBinary, report);
+
+        Path dir = Path.of(System.getProperty("startup.report-dir", "target/startup"));
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("startup-times.txt"), report, StandardCharsets.UTF_8);
+
+        assertThat(results.values()).allSatisfy(samples -> assertThat(samples).hasSize(runs));
+    }
+
+    /**
+     * 한 번 기동하고 준비될 때까지의 시간과 RSS를 잰 뒤 프로세스를 종료합니다.
+     *
+     * @return {벽시계 ms, Spring 보고 ms(로그에 없으면 0), RSS KB(읽지 못하면 -1)}
+     */
+    private double[] startOnce(String variant) throws Exception {
+        try (ApplicationProcess app = ApplicationProcess.start(variant, launcher(variant),
+                List.of("--gemini.api.key=startup"), TIMEOUT)) {
+            return new double[]{app.readyMillis(), app.reportedMillis(), app.rssKb()};
+        }
+    }
+
+    private List<String> launcher(String variant) {
+        if ("native".equals(variant)) {
+            assertThat(nativeBinary).as("./mvnw -Pnative native:compile로 바이너리를 먼저 만들어야 합니다").isExecutable();
+            return List.of(nativeBinary.toString(), "--spring.profiles.active=native");
+        }
+        assertThat(jar).as("scripts/fast-startup.sh로 jar를 먼저 만들어야 합니다").exists();
+        return switch (variant) {
+            case "baseline" -> ApplicationProcess.jvm(jar, List.of());
+            case "fast-startup" -> ApplicationProcess.jvm(jar, List.of("-Dspring.profiles.active=fast-startup"));
+            case "aot" -> ApplicationProcess.jvm(jar,
+                    List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true"));
+            case "cds" -> {
+                assertThat(archive).as("AppCDS 아카이브가 없습니다: scripts/fast-startup.sh").exists();
+                yield ApplicationProcess.jvm(jar, List.of("-Dspring.profiles.active=fast-startup",
+                        "-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 구성: " + variant);
+        };
+    }
+
+    private static double median(double[] sorted) {
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 0 ? (sorted[mid - 1] + sorted[mid]) / 2 : sorted[mid];
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.workanalysis.timing;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * {@link RequestTimings} 컨텍스트와 {@code Server-Timing} 헤더 생성을 검증합니다.
+ */
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    @DisplayName("컨텍스트가 없으면 기록을 무시하고, 있으면 항목별로 합산하여 헤더 생성")
+    void recordAndFormat() {
+        RequestTimings.record("gemini", 5_000_000);
+        assertThat(RequestTimings.header()).isNull();
+
+        RequestTimings.start();
+        RequestTimings.record("member-service", 12_340_000);
+        RequestTimings.record("db", 1_000_000);
+        RequestTimings.record("db", 2_500_000);
+
+        assertThat(RequestTimings.header())
+                .startsWith("member-service;dur=12.3;desc=\"1 call\", db;dur=3.5;desc=\"2 calls\", total;dur=");
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 실행된 작업도 같은 요청 컨텍스트에 기록")
+    void propagate() {
+        RequestTimings.start();
+        CompletableFuture.supplyAsync(RequestTimings.propagate(() -> {
+            RequestTimings.record("gemini", 7_000_000);
+            return null;
+        })).join();
+
+        assertThat(RequestTimings.header()).startsWith("gemini;dur=7.0;desc=\"1 call\"");
+    }
+
+    @Test
+    @DisplayName("분석 API 응답에만 헤더를 추가하고 요청이 끝나면 컨텍스트를 제거")
+    void filter_addsHeaderToAnalysisResponses() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter();
+
+        MockHttpServletResponse analysis = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/analysis/threads/1"), analysis,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse res) {
+                        RequestTimings.record("db", 1_000_000);
+                    }
+                }));
+        assertThat(analysis.getHeader(RequestTimings.HEADER)).startsWith("db;dur=1.0;desc=\"1 call\", total;dur=");
+        assertThat(RequestTimings.isActive()).isFalse();
+
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), other, new MockFilterChain());
+        assertThat(other.getHeader(RequestTimings.HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 결과를 쓰는 비동기 디스패치에서 같은 컨텍스트를 이어 씀")
+    void filter_resumesContextOnAsyncDispatch() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/analysis/customs");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                RequestTimings.record("member-service", 1_000_000);
+                req.startAsync();
+            }
+        }));
+        assertThat(response.getHeader(RequestTimings.HEADER)).isNull();
+        assertThat(RequestTimings.isActive()).isFalse();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        request.setAsyncStarted(false);
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                RequestTimings.record("gemini", 4_000_000);
+            }
+        }));
+        assertThat(response.getHeader(RequestTimings.HEADER))
+                .startsWith("member-service;dur=1.0;desc=\"1 call\", gemini;dur=4.0;desc=\"1 call\", total;dur=");
+        assertThat(RequestTimings.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("RestTemplate 호출은 응답이 닫힐 때 한 번 기록")
+    void restTemplateInterceptor_recordsOnClose() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new ServerTimingRestTemplateInterceptor("gemini"));
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("https://gemini.test/generate"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        RequestTimings.start();
+        restTemplate.postForObject("https://gemini.test/generate", "{}", String.class);
+
+        server.verify();
+        assertThat(RequestTimings.header()).startsWith("gemini;dur=").contains("desc=\"1 call\"");
+    }
+}
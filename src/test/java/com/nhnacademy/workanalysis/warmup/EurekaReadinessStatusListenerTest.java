@@ -0,0 +1,48 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link EurekaReadinessStatusListener}가 준비 상태에 맞춰 Eureka 인스턴스 상태를 바꾸는지 검증합니다.
+ */
+class EurekaReadinessStatusListenerTest {
+
+    private final ApplicationInfoManager eureka = mock(ApplicationInfoManager.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ApplicationInfoManager> provider = mock(ObjectProvider.class);
+
+    @Test
+    @DisplayName("준비 상태가 ACCEPTING_TRAFFIC이 되면(워밍업 포함 모든 러너 종료 후) UP, REFUSING_TRAFFIC이면 OUT_OF_SERVICE")
+    void mapsReadinessToInstanceStatus() {
+        when(provider.getIfAvailable()).thenReturn(eureka);
+        EurekaReadinessStatusListener listener = new EurekaReadinessStatusListener(provider);
+
+        listener.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        verify(eureka).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+
+        listener.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        verify(eureka).setInstanceStatus(InstanceInfo.InstanceStatus.OUT_OF_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Eureka 클라이언트가 꺼져 있으면 아무 일도 하지 않음")
+    void ignoresWithoutEureka() {
+        EurekaReadinessStatusListener listener = new EurekaReadinessStatusListener(provider);
+
+        listener.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verifyNoInteractions(eureka);
+    }
+}
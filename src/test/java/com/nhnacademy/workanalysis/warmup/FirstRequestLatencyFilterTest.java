@@ -0,0 +1,74 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FirstRequestLatencyFilter}가 준비 이후 첫 요청만 정해진 건수까지 기록하는지 검증합니다.
+ */
+class FirstRequestLatencyFilterTest {
+
+    private static final String PATTERN = "/api/v1/analysis/reports/pdf";
+
+    @Test
+    @DisplayName("준비 전 요청과 한도를 넘은 요청, API 외 경로는 기록하지 않음")
+    void recordsOnlyFirstApiRequestsAfterReady() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FirstRequestLatencyFilter filter = new FirstRequestLatencyFilter(registry, 2);
+
+        send(filter, PATTERN);
+        assertThat(registry.find("app.warmup.first.requests").timer()).isNull();
+
+        filter.startTracking();
+        send(filter, "/actuator/health");
+        for (int i = 0; i < 3; i++) {
+            send(filter, PATTERN);
+        }
+
+        assertThat(registry.get("app.warmup.first.requests").tag("uri", PATTERN).tag("method", "GET").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 비동기 처리가 끝난 시점에 기록")
+    void recordsAsyncRequestsOnCompletion() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FirstRequestLatencyFilter filter = new FirstRequestLatencyFilter(registry, 2);
+        filter.startTracking();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATTERN);
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+                req.startAsync();
+            }
+        }));
+        assertThat(registry.find("app.warmup.first.requests").timer()).isNull();
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(registry.get("app.warmup.first.requests").tag("uri", PATTERN).timer().count()).isEqualTo(1);
+    }
+
+    private static void send(FirstRequestLatencyFilter filter, String path) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", path), new MockHttpServletResponse(),
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse res) {
+                        req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, path);
+                    }
+                }));
+    }
+}
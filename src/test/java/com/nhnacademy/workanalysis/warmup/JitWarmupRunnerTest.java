@@ -0,0 +1,109 @@
+package com.nhnacademy.workanalysis.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workanalysis.generator.PdfReportGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * {@link JitWarmupRunner}의 종료 조건과 {@link WarmupWorkload} 작업 실행을 검증합니다.
+ */
+class JitWarmupRunnerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PdfReportGenerator pdfReportGenerator = mock(PdfReportGenerator.class);
+    private JitWarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new JitWarmupRunner(mock(ApplicationContext.class), new DefaultResourceLoader(), new ObjectMapper(),
+                meterRegistry, pdfReportGenerator);
+        ReflectionTestUtils.setField(runner, "budgetSeconds", 5L);
+        ReflectionTestUtils.setField(runner, "minRounds", 10);
+        ReflectionTestUtils.setField(runner, "stableRounds", 5);
+        ReflectionTestUtils.setField(runner, "tolerance", 0.5);
+        ReflectionTestUtils.setField(runner, "maxCompileRatio", 1000.0);
+    }
+
+    @Test
+    @DisplayName("라운드 비용이 일정해지면 최소 라운드 이후 안정화로 종료")
+    void stopsWhenRoundsStabilize() {
+        JitWarmupRunner.Result result = runner.warmUp(List.of(new WarmupWorkload.Task("work", () -> work(200_000))));
+
+        assertThat(result.outcome()).isEqualTo(JitWarmupRunner.STABLE);
+        assertThat(result.rounds()).isBetween(10, 100);
+        assertThat(result.lastTaskMillis()).containsKey("work");
+    }
+
+    @Test
+    @DisplayName("라운드 비용이 계속 흔들리면 예산 소진으로 종료")
+    void stopsWhenBudgetIsExhausted() {
+        ReflectionTestUtils.setField(runner, "budgetSeconds", 1L);
+        AtomicInteger calls = new AtomicInteger();
+
+        JitWarmupRunner.Result result = runner.warmUp(List.of(
+                new WarmupWorkload.Task("erratic", () -> work(calls.incrementAndGet() % 2 == 0 ? 100_000 : 600_000))));
+
+        assertThat(result.outcome()).isEqualTo(JitWarmupRunner.BUDGET_EXHAUSTED);
+        assertThat(result.elapsedNanos()).isGreaterThanOrEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("워밍업 작업은 외부 호출 없이 실제 프롬프트/분석/파싱/JSON 경로를 실행")
+    void workloadRunsRealCodePaths() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<WarmupWorkload.Task> tasks = new WarmupWorkload(pdfReportGenerator, objectMapper).tasks(false);
+
+        assertThat(tasks).extracting(WarmupWorkload.Task::name)
+                .containsExactly("prompt", "rule-analysis", "gemini-parse", "json");
+        for (WarmupWorkload.Task task : tasks) {
+            assertThat(task.body().call()).as(task.name()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("PDF 워밍업은 실제 요청이 쓰는 PdfReportGenerator 빈으로 렌더링하여 빈의 폰트 캐시를 채움")
+    void pdfTaskUsesGeneratorBean() throws Exception {
+        List<WarmupWorkload.Task> tasks = new WarmupWorkload(pdfReportGenerator, new ObjectMapper()).tasks(true);
+
+        WarmupWorkload.Task pdf = tasks.get(tasks.size() - 1);
+        assertThat(pdf.name()).isEqualTo("pdf");
+        pdf.body().call();
+        verify(pdfReportGenerator).generateAttendancePdf(any(), eq("워밍업"), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("웹 서버 없이 실행되면 워밍업을 하지 않음")
+    void skipsWithoutWebServer() {
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(meterRegistry.find("app.warmup.duration").timer()).isNull();
+        verifyNoInteractions(pdfReportGenerator);
+    }
+
+    private static Object work(int iterations) {
+        long hash = 17;
+        for (int i = 0; i < iterations; i++) {
+            hash = hash * 31 + Long.rotateLeft(hash, i & 63);
+        }
+        return hash;
+    }
+}